@@ -0,0 +1,91 @@
+package com.example.springaiapp.benchmark;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+
+/**
+ * Deterministic stand-in for a table of real embeddings.
+ *
+ * Real text embeddings are not uniformly random: documents about the same
+ * topic point in similar directions. The corpus mimics that with a number of
+ * random topic centers; every vector is a center plus Gaussian noise, scaled
+ * to unit length like the vectors the embedding model returns. Queries are
+ * drawn the same way, so they have genuine near neighbors in the corpus.
+ */
+public final class SyntheticCorpus {
+    public static final int DIMENSIONS = 1536;
+
+    private final Random random;
+    private final float[][] topics;
+    private final float noise;
+
+    /**
+     * @param seed fixed seed so every run benchmarks the same data
+     * @param topicCount number of clusters
+     * @param noise spread of the vectors around their topic center
+     */
+    public SyntheticCorpus(long seed, int topicCount, float noise) {
+        this.random = new Random(seed);
+        this.noise = noise;
+        this.topics = new float[topicCount][];
+        for (int t = 0; t < topicCount; t++) {
+            topics[t] = gaussian(1.0f);
+        }
+    }
+
+    public SyntheticCorpus(long seed) {
+        this(seed, 64, 0.6f);
+    }
+
+    /**
+     * Next unit-length embedding near a random topic.
+     */
+    public float[] nextVector() {
+        float[] topic = topics[random.nextInt(topics.length)];
+        float[] vector = gaussian(noise);
+        for (int i = 0; i < DIMENSIONS; i++) {
+            vector[i] += topic[i];
+        }
+        return normalize(vector);
+    }
+
+    public List<float[]> vectors(int count) {
+        List<float[]> vectors = new ArrayList<>(count);
+        for (int i = 0; i < count; i++) {
+            vectors.add(nextVector());
+        }
+        return vectors;
+    }
+
+    /**
+     * The same vector as the {@code List<Double>} the embedding client returns.
+     */
+    public static List<Double> boxed(float[] vector) {
+        List<Double> boxed = new ArrayList<>(vector.length);
+        for (float value : vector) {
+            boxed.add((double) value);
+        }
+        return boxed;
+    }
+
+    private float[] gaussian(float scale) {
+        float[] vector = new float[DIMENSIONS];
+        for (int i = 0; i < DIMENSIONS; i++) {
+            vector[i] = (float) random.nextGaussian() * scale;
+        }
+        return vector;
+    }
+
+    private static float[] normalize(float[] vector) {
+        double norm = 0.0;
+        for (float v : vector) {
+            norm += (double) v * v;
+        }
+        float scale = (float) (1.0 / Math.sqrt(norm));
+        for (int i = 0; i < vector.length; i++) {
+            vector[i] *= scale;
+        }
+        return vector;
+    }
+}
@@ -0,0 +1,68 @@
+package com.example.springaiapp.model;
+
+import com.example.springaiapp.benchmark.SyntheticCorpus;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import java.util.Arrays;
+import java.util.StringJoiner;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Serializing one 1536-dim embedding to and from its database column.
+ *
+ * {@code encode}/{@code decode} are the binary format used by the row mapper
+ * and the inserts. The {@code json*} benchmarks are the earlier JSON text
+ * column format, kept as the baseline.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(value = 1, jvmArgsAppend = "--add-modules=jdk.incubator.vector")
+@State(Scope.Benchmark)
+public class EmbeddingCodecBenchmark {
+    private float[] embedding;
+    private byte[] encoded;
+    private String json;
+
+    @Setup
+    public void setUp() {
+        embedding = new SyntheticCorpus(42).nextVector();
+        encoded = EmbeddingCodec.encode(embedding);
+        json = jsonFormat();
+    }
+
+    @Benchmark
+    public byte[] encode() {
+        return EmbeddingCodec.encode(embedding);
+    }
+
+    @Benchmark
+    public float[] decode() {
+        return EmbeddingCodec.decode(encoded);
+    }
+
+    @Benchmark
+    public String jsonFormat() {
+        StringJoiner joiner = new StringJoiner(",", "[", "]");
+        for (float value : embedding) {
+            joiner.add(Double.toString(value));
+        }
+        return joiner.toString();
+    }
+
+    @Benchmark
+    public double[] jsonParse() {
+        return Arrays.stream(json.substring(1, json.length() - 1).split(","))
+            .mapToDouble(Double::parseDouble)
+            .toArray();
+    }
+}
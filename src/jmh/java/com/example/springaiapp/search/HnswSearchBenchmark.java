@@ -0,0 +1,54 @@
+package com.example.springaiapp.search;
+
+import com.example.springaiapp.benchmark.SyntheticCorpus;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Approximate top-k with the HNSW graph at the default beam width.
+ * Building the graph happens in the setup and is not measured.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(value = 1, jvmArgsAppend = {"--add-modules=jdk.incubator.vector", "-Xmx4g"})
+@State(Scope.Benchmark)
+public class HnswSearchBenchmark {
+    private static final int K = 5;
+
+    @Param({"1000", "10000"})
+    public int corpusSize;
+
+    @Param({"64"})
+    public int efSearch;
+
+    private HnswIndex index;
+    private float[] query;
+
+    @Setup
+    public void setUp() {
+        SyntheticCorpus corpus = new SyntheticCorpus(42);
+        index = new HnswIndex(16, 200, efSearch, 0);
+        for (int row = 0; row < corpusSize; row++) {
+            index.add(row, corpus.nextVector());
+        }
+        query = corpus.nextVector();
+    }
+
+    @Benchmark
+    public List<SearchHit> search() {
+        return index.search(query, K);
+    }
+}
@@ -0,0 +1,84 @@
+package com.example.springaiapp.search;
+
+import com.example.springaiapp.benchmark.SyntheticCorpus;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Top-k retrieval over the whole corpus on a single thread.
+ *
+ * {@link #sortAll} is the baseline the indexes replaced: score every row,
+ * sort all scores, keep the first k. The other benchmarks are the flat scans
+ * used today (bounded heap instead of a sort, float32 or int8 codes).
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(value = 1, jvmArgsAppend = {"--add-modules=jdk.incubator.vector", "-Xmx4g"})
+@State(Scope.Benchmark)
+public class TopKSearchBenchmark {
+    private static final int K = 5;
+
+    @Param({"1000", "10000", "100000"})
+    public int corpusSize;
+
+    private float[] matrix;
+    private ExactIndex exactIndex;
+    private QuantizedIndex int8Index;
+    private float[] query;
+
+    @Setup
+    public void setUp() throws InterruptedException {
+        SyntheticCorpus corpus = new SyntheticCorpus(42);
+        int dimensions = SyntheticCorpus.DIMENSIONS;
+        matrix = new float[corpusSize * dimensions];
+        // Parallel scans disabled so every variant is measured on one core
+        exactIndex = new ExactIndex(ForkJoinPool.commonPool(), Integer.MAX_VALUE);
+        int8Index = new QuantizedIndex(QuantizedIndex.Mode.INT8, 0, 1000, 1, 1.0);
+        for (int row = 0; row < corpusSize; row++) {
+            float[] vector = corpus.nextVector();
+            System.arraycopy(vector, 0, matrix, row * dimensions, dimensions);
+            exactIndex.add(row, vector);
+            int8Index.add(row, vector);
+        }
+        // The quantizer trains in the background; measure the scan over codes
+        int8Index.awaitTraining();
+        query = corpus.nextVector();
+    }
+
+    @Benchmark
+    public List<SearchHit> sortAll() {
+        int dimensions = SyntheticCorpus.DIMENSIONS;
+        List<SearchHit> hits = new ArrayList<>(corpusSize);
+        for (int row = 0; row < corpusSize; row++) {
+            hits.add(new SearchHit(row, VectorMath.dot(query, 0, matrix, row * dimensions, dimensions)));
+        }
+        hits.sort(Comparator.comparingDouble(SearchHit::score).reversed());
+        return hits.subList(0, Math.min(K, hits.size()));
+    }
+
+    @Benchmark
+    public List<SearchHit> exactHeap() {
+        return exactIndex.search(query, K);
+    }
+
+    @Benchmark
+    public List<SearchHit> int8Heap() {
+        return int8Index.search(query, K);
+    }
+}
@@ -0,0 +1,39 @@
+package com.example.springaiapp.service;
+
+import com.example.springaiapp.benchmark.SyntheticCorpus;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Unboxing the embedding client's {@code List<Double>} into the float[]
+ * the rest of the application works with.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(value = 1, jvmArgsAppend = "--add-modules=jdk.incubator.vector")
+@State(Scope.Benchmark)
+public class EmbeddingConversionBenchmark {
+    private List<Double> boxed;
+
+    @Setup
+    public void setUp() {
+        boxed = SyntheticCorpus.boxed(new SyntheticCorpus(42).nextVector());
+    }
+
+    @Benchmark
+    public float[] toFloatArray() {
+        return EmbeddingService.toFloatArray(boxed);
+    }
+}
@@ -0,0 +1,68 @@
+package com.example.springaiapp.config;
+
+import com.example.springaiapp.search.ExactIndex;
+import com.example.springaiapp.search.HnswIndex;
+import com.example.springaiapp.search.QuantizedIndex;
+import com.example.springaiapp.search.VectorIndex;
+import com.example.springaiapp.search.VectorMath;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import java.util.concurrent.ForkJoinPool;
+
+/**
+ * Chooses the in-process vector index used for similarity search.
+ *
+ * Set {@code rag.search.index} to:
+ * - {@code hnsw} (default) for approximate nearest-neighbor search
+ * - {@code exact} to compare the query against every stored vector
+ * - {@code quantized} to scan int8 or product-quantized codes and re-rank
+ *   the best candidates in full precision. This only reduces memory together
+ *   with vector segments ({@code rag.segments.enabled}): re-ranking reads the
+ *   full-precision vectors, which otherwise stay on the heap as well.
+ */
+@Configuration
+public class SearchConfig {
+    private static final Logger logger = LoggerFactory.getLogger(SearchConfig.class);
+
+    @Bean
+    public VectorIndex vectorIndex(
+            @Value("${rag.search.index:hnsw}") String indexType,
+            @Value("${rag.search.hnsw.m:16}") int m,
+            @Value("${rag.search.hnsw.ef-construction:200}") int efConstruction,
+            @Value("${rag.search.hnsw.ef-search:64}") int efSearch,
+            @Value("${rag.search.hnsw.rebuild-deleted-fraction:0.2}") double rebuildDeletedFraction,
+            @Value("${rag.search.exact-threshold:1000}") int exactThreshold,
+            @Value("${rag.search.exact.parallel-threshold:8192}") int parallelThreshold,
+            @Value("${rag.search.quantized.mode:int8}") String quantizedMode,
+            @Value("${rag.search.quantized.pq-subspaces:192}") int pqSubspaces,
+            @Value("${rag.search.quantized.training-size:1000}") int trainingSize,
+            @Value("${rag.search.quantized.rerank-factor:0}") int rerankFactor,
+            @Value("${rag.search.quantized.retrain-growth:2.0}") double retrainGrowth) {
+        logger.info("Vector scoring uses {} dot products", VectorMath.isSimdEnabled() ? "SIMD" : "scalar");
+        switch (indexType.trim().toLowerCase()) {
+            case "exact":
+                logger.info("Using exact vector index (parallel scan above {} rows)", parallelThreshold);
+                return new ExactIndex(ForkJoinPool.commonPool(), parallelThreshold);
+            case "hnsw":
+                logger.info("Using HNSW vector index (M={}, efConstruction={}, efSearch={}, exact below {} rows, "
+                           + "rebuilt once {}% of nodes are deleted)",
+                           m, efConstruction, efSearch, exactThreshold, Math.round(rebuildDeletedFraction * 100));
+                return new HnswIndex(m, efConstruction, efSearch, exactThreshold, rebuildDeletedFraction);
+            case "quantized":
+                QuantizedIndex.Mode mode = QuantizedIndex.Mode.valueOf(quantizedMode.trim().toUpperCase());
+                QuantizedIndex index = new QuantizedIndex(mode, pqSubspaces, trainingSize, rerankFactor,
+                                                          retrainGrowth);
+                logger.info("Using quantized vector index ({}{}, trained after {} rows and retrained every {}x "
+                           + "growth, re-ranking {}x candidates)",
+                           mode, mode == QuantizedIndex.Mode.PQ ? " with " + pqSubspaces + " subspaces" : "",
+                           trainingSize, retrainGrowth, index.rerankCandidates(1));
+                return index;
+            default:
+                throw new IllegalArgumentException("Unknown rag.search.index: " + indexType
+                    + " (expected 'hnsw', 'exact' or 'quantized')");
+        }
+    }
+}
@@ -0,0 +1,221 @@
+package com.example.springaiapp.context;
+
+import com.example.springaiapp.model.ChatHistory;
+import com.example.springaiapp.model.ScoredChatHistory;
+import com.example.springaiapp.repository.ChatHistoryRepository;
+import com.example.springaiapp.search.VectorMath;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import jakarta.annotation.PostConstruct;
+import java.text.BreakIterator;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Locale;
+import java.util.stream.Collectors;
+
+/**
+ * Builds the prompt context from retrieved Q&A pairs within a token budget.
+ *
+ * Educational Note:
+ * Pasting the top few hits into the prompt in full wastes tokens in two ways:
+ * near-duplicate hits repeat the same information, and long answers carry far
+ * more text than the model needs. Prompt size drives both latency and cost, so:
+ * 1. Diversity: hits are picked with Maximal Marginal Relevance (MMR). Each
+ *    step takes the candidate with the best trade-off between similarity to the
+ *    question and dissimilarity to what was already picked
+ *    ({@code lambda * sim(query, c) - (1 - lambda) * max sim(c, picked)});
+ *    candidates nearly identical to a picked one are skipped outright
+ * 2. Budget: each answer is cut at a sentence boundary to at most
+ *    {@code rag.context.max-entry-tokens}, and entries are added until
+ *    {@code rag.context.max-tokens} is used up
+ *
+ * Token counts come from {@link TokenEstimator}. Every result reports how many
+ * tokens it saved compared with joining the top {@code max-entries} hits in full.
+ */
+@Component
+public class ContextAssembler {
+    private static final Logger logger = LoggerFactory.getLogger(ContextAssembler.class);
+    private static final String SEPARATOR = "\n\n";
+    private static final String ELLIPSIS = " ...";
+    // Entries that would get fewer tokens than this are left out
+    private static final int MIN_ENTRY_TOKENS = 32;
+
+    private final ChatHistoryRepository repository;
+
+    @Value("${rag.context.candidates:8}")
+    private int candidates;
+
+    @Value("${rag.context.max-entries:3}")
+    private int maxEntries;
+
+    @Value("${rag.context.max-tokens:1000}")
+    private int maxTokens;
+
+    @Value("${rag.context.max-entry-tokens:300}")
+    private int maxEntryTokens;
+
+    @Value("${rag.context.mmr-lambda:0.7}")
+    private double lambda;
+
+    @Value("${rag.context.duplicate-threshold:0.95}")
+    private double duplicateThreshold;
+
+    public ContextAssembler(ChatHistoryRepository repository) {
+        this.repository = repository;
+    }
+
+    @PostConstruct
+    private void init() {
+        logger.info("ContextAssembler: {} of {} candidates, {} tokens ({} per entry), MMR lambda {}",
+                   maxEntries, candidates, maxTokens, maxEntryTokens, lambda);
+    }
+
+    /**
+     * How many hits retrieval should return for {@link #assemble} to choose from.
+     */
+    public int candidateCount() {
+        return Math.max(candidates, maxEntries);
+    }
+
+    /**
+     * @param candidates retrieved hits, most similar first
+     */
+    public AssembledContext assemble(List<ScoredChatHistory> candidates) {
+        List<ScoredChatHistory> selected = selectDiverse(candidates);
+
+        List<String> entries = new ArrayList<>();
+        List<Long> ids = new ArrayList<>();
+        int used = 0;
+        for (ScoredChatHistory hit : selected) {
+            ChatHistory history = hit.history();
+            String question = "Q: " + history.getPrompt() + "\nA: ";
+            int separatorTokens = entries.isEmpty() ? 0 : TokenEstimator.count(SEPARATOR);
+            int available = Math.min(maxEntryTokens, maxTokens - used - separatorTokens)
+                - TokenEstimator.count(question);
+            if (available < MIN_ENTRY_TOKENS) {
+                break;
+            }
+            String entry = question + truncate(history.getResponse(), available);
+            entries.add(entry);
+            ids.add(history.getId());
+            used += separatorTokens + TokenEstimator.count(entry);
+        }
+        String context = String.join(SEPARATOR, entries);
+        int tokens = TokenEstimator.count(context);
+        int fullTokens = TokenEstimator.count(fullContext(candidates));
+        return new AssembledContext(context, ids, candidates.size(), tokens,
+                                    Math.max(0, fullTokens - tokens));
+    }
+
+    /**
+     * Greedy MMR selection of up to {@code maxEntries} candidates.
+     */
+    private List<ScoredChatHistory> selectDiverse(List<ScoredChatHistory> candidates) {
+        List<ScoredChatHistory> remaining = new ArrayList<>(candidates);
+        List<float[]> remainingVectors = new ArrayList<>(candidates.size());
+        for (ScoredChatHistory candidate : candidates) {
+            float[] embedding = repository.embeddingOf(candidate.history());
+            remainingVectors.add(embedding != null ? VectorMath.normalize(embedding) : null);
+        }
+
+        List<ScoredChatHistory> selected = new ArrayList<>();
+        List<float[]> selectedVectors = new ArrayList<>();
+        while (selected.size() < maxEntries && !remaining.isEmpty()) {
+            int best = -1;
+            double bestScore = Double.NEGATIVE_INFINITY;
+            for (int i = 0; i < remaining.size(); i++) {
+                double redundancy = maxSimilarity(remainingVectors.get(i), selectedVectors);
+                if (redundancy >= duplicateThreshold) {
+                    continue;
+                }
+                double score = lambda * remaining.get(i).score() - (1 - lambda) * redundancy;
+                if (score > bestScore) {
+                    best = i;
+                    bestScore = score;
+                }
+            }
+            if (best < 0) {
+                break; // Only near-duplicates left
+            }
+            selected.add(remaining.remove(best));
+            selectedVectors.add(remainingVectors.remove(best));
+        }
+        return selected;
+    }
+
+    private static double maxSimilarity(float[] vector, List<float[]> selected) {
+        double max = 0.0;
+        if (vector == null) {
+            return max;
+        }
+        for (float[] other : selected) {
+            if (other != null) {
+                max = Math.max(max, VectorMath.dot(vector, other));
+            }
+        }
+        return max;
+    }
+
+    /**
+     * Cut text to about {@code maxTokens} tokens, preferably after a full sentence.
+     */
+    static String truncate(String text, int maxTokens) {
+        if (TokenEstimator.count(text) <= maxTokens) {
+            return text;
+        }
+        int budget = maxTokens - TokenEstimator.count(ELLIPSIS);
+        BreakIterator sentences = BreakIterator.getSentenceInstance(Locale.ROOT);
+        sentences.setText(text);
+        int end = 0;
+        int used = 0;
+        for (int next = sentences.next(); next != BreakIterator.DONE; next = sentences.next()) {
+            int tokens = TokenEstimator.count(text.substring(end, next));
+            if (used + tokens > budget) {
+                break;
+            }
+            used += tokens;
+            end = next;
+        }
+        if (end == 0) {
+            // Not even the first sentence fits: cut it at a word boundary
+            BreakIterator words = BreakIterator.getWordInstance(Locale.ROOT);
+            words.setText(text);
+            for (int next = words.next(); next != BreakIterator.DONE; next = words.next()) {
+                if (TokenEstimator.count(text.substring(0, next)) > budget) {
+                    break;
+                }
+                end = next;
+            }
+        }
+        return text.substring(0, end).strip() + ELLIPSIS;
+    }
+
+    /**
+     * What the prompt used to contain: the top hits, in full.
+     */
+    private String fullContext(List<ScoredChatHistory> candidates) {
+        return candidates.stream()
+            .limit(maxEntries)
+            .map(ScoredChatHistory::history)
+            .map(ch -> String.format("Q: %s\nA: %s", ch.getPrompt(), ch.getResponse()))
+            .collect(Collectors.joining(SEPARATOR));
+    }
+
+    /**
+     * @param text context to put into the prompt
+     * @param ids rows of the Q&A pairs included
+     * @param candidates Q&A pairs retrieved
+     * @param tokens estimated tokens of {@code text}
+     * @param tokensSaved estimated tokens saved compared with the top hits in full
+     */
+    public record AssembledContext(String text, List<Long> ids, int candidates, int tokens, int tokensSaved) {
+        /**
+         * Q&A pairs included.
+         */
+        public int entries() {
+            return ids.size();
+        }
+    }
+}
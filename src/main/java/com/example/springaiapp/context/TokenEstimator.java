@@ -0,0 +1,46 @@
+package com.example.springaiapp.context;
+
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+/**
+ * Local, dependency-free estimate of how many tokens a text uses.
+ *
+ * Educational Note:
+ * OpenAI models are billed and limited in tokens, not characters. A token is
+ * roughly a common word, a piece of a longer word, a short run of digits or a
+ * punctuation mark. This estimator first splits text the way the cl100k_base
+ * tokenizer (used by GPT-3.5/GPT-4 and the ada-002 embeddings) does, and then
+ * assumes each piece is one token, except long words, which the real tokenizer
+ * splits into several. That is close enough for budgeting prompts without
+ * shipping the tokenizer's 100k-entry vocabulary.
+ */
+public final class TokenEstimator {
+    // The cl100k_base pre-tokenizer pattern
+    private static final Pattern PIECES = Pattern.compile(
+        "'(?i:[sdmt]|ll|ve|re)|[^\\r\\n\\p{L}\\p{N}]?+\\p{L}+|\\p{N}{1,3}"
+        + "| ?[^\\s\\p{L}\\p{N}]++[\\r\\n]*|\\s*[\\r\\n]|\\s+(?!\\S)|\\s+");
+    // Letters per token of a word beyond the ones the vocabulary holds whole
+    private static final int LONG_WORD = 8;
+    private static final int LETTERS_PER_EXTRA_TOKEN = 5;
+
+    private TokenEstimator() {
+    }
+
+    public static int count(String text) {
+        if (text == null || text.isEmpty()) {
+            return 0;
+        }
+        int tokens = 0;
+        Matcher matcher = PIECES.matcher(text);
+        while (matcher.find()) {
+            int length = matcher.end() - matcher.start();
+            if (length > LONG_WORD && Character.isLetter(text.charAt(matcher.end() - 1))) {
+                tokens += 1 + (length - LONG_WORD + LETTERS_PER_EXTRA_TOKEN - 1) / LETTERS_PER_EXTRA_TOKEN;
+            } else {
+                tokens++;
+            }
+        }
+        return tokens;
+    }
+}
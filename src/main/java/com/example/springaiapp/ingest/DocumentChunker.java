@@ -0,0 +1,111 @@
+package com.example.springaiapp.ingest;
+
+import java.io.IOException;
+import java.io.Reader;
+import java.util.function.Consumer;
+
+/**
+ * Splits a text stream into overlapping chunks for embedding.
+ *
+ * Educational Note:
+ * Embedding models work best on passages of a few hundred words, and a
+ * retrieved passage has to fit into the chat prompt. Consecutive chunks
+ * share {@code overlap} characters so a sentence cut at a chunk boundary
+ * still appears whole in one of them.
+ *
+ * Chunks end at a paragraph break, sentence end or whitespace when one is
+ * found in the second half of the chunk. The text is read incrementally, so
+ * only about one chunk plus one read buffer is held in memory regardless of
+ * the file size.
+ */
+public class DocumentChunker {
+    private final int chunkSize;
+    private final int overlap;
+
+    public DocumentChunker(int chunkSize, int overlap) {
+        if (chunkSize <= 0 || overlap < 0 || overlap >= chunkSize) {
+            throw new IllegalArgumentException(String.format(
+                "Invalid chunking: size %d, overlap %d (overlap must be smaller than size)", chunkSize, overlap));
+        }
+        this.chunkSize = chunkSize;
+        this.overlap = overlap;
+    }
+
+    /**
+     * Read the text to the end, passing every chunk to the consumer in order.
+     *
+     * @return number of chunks produced
+     */
+    public int chunk(Reader reader, Consumer<String> consumer) throws IOException {
+        StringBuilder buffer = new StringBuilder(chunkSize + 8192);
+        char[] readBuffer = new char[8192];
+        int chunks = 0;
+        int carried = 0; // leading characters already emitted as part of the previous chunk
+
+        int read;
+        while ((read = reader.read(readBuffer)) != -1) {
+            buffer.append(readBuffer, 0, read);
+            while (buffer.length() > chunkSize) {
+                int end = breakPoint(buffer);
+                chunks += emit(buffer.substring(0, end), consumer);
+                int next = nextStart(buffer, end);
+                carried = end - next;
+                buffer.delete(0, next);
+            }
+        }
+        if (buffer.length() > carried) {
+            chunks += emit(buffer.toString(), consumer);
+        }
+        return chunks;
+    }
+
+    private int emit(String chunk, Consumer<String> consumer) {
+        String text = chunk.strip();
+        if (text.isEmpty()) {
+            return 0;
+        }
+        consumer.accept(text);
+        return 1;
+    }
+
+    /**
+     * End of the next chunk: the last paragraph break, sentence end or
+     * whitespace in the second half of the chunk, else a hard cut.
+     */
+    private int breakPoint(StringBuilder buffer) {
+        int min = chunkSize / 2;
+        int paragraph = buffer.lastIndexOf("\n\n", chunkSize - 2);
+        if (paragraph >= min) {
+            return paragraph + 2;
+        }
+        for (int i = chunkSize - 1; i >= min; i--) {
+            char c = buffer.charAt(i);
+            if ((c == '.' || c == '?' || c == '!') && i + 1 < buffer.length()
+                    && Character.isWhitespace(buffer.charAt(i + 1))) {
+                return i + 1;
+            }
+        }
+        for (int i = chunkSize - 1; i >= min; i--) {
+            if (Character.isWhitespace(buffer.charAt(i))) {
+                return i + 1;
+            }
+        }
+        // Never split a surrogate pair
+        return Character.isHighSurrogate(buffer.charAt(chunkSize - 1)) ? chunkSize - 1 : chunkSize;
+    }
+
+    /**
+     * Start of the following chunk: {@code overlap} characters before the end,
+     * moved forward to a word boundary. Always advances by at least half the
+     * chunk, even when the chunk was cut short at a paragraph break.
+     */
+    private int nextStart(StringBuilder buffer, int end) {
+        int start = Math.max(end - overlap, (end + 1) / 2);
+        for (int i = start; i < end; i++) {
+            if (Character.isWhitespace(buffer.charAt(i - 1))) {
+                return i;
+            }
+        }
+        return end;
+    }
+}
@@ -0,0 +1,32 @@
+package com.example.springaiapp.ingest;
+
+import java.util.regex.Pattern;
+
+/**
+ * Turns HTML into plain text for embedding: drops scripts, styles and tags,
+ * keeps block boundaries as line breaks and decodes the common entities.
+ */
+public final class HtmlText {
+    private static final Pattern SCRIPTS = Pattern.compile("(?is)<(script|style|noscript)[^>]*>.*?</\\1>");
+    private static final Pattern COMMENTS = Pattern.compile("(?s)<!--.*?-->");
+    private static final Pattern BLOCK_TAGS = Pattern.compile(
+        "(?i)</?(p|div|br|li|ul|ol|h[1-6]|tr|table|section|article|pre|blockquote)[^>]*>");
+    private static final Pattern TAGS = Pattern.compile("<[^>]+>");
+    private static final Pattern BLANK_LINES = Pattern.compile("\\n\\s*\\n\\s*(\\n\\s*)+");
+
+    private HtmlText() {}
+
+    public static String toText(String html) {
+        String text = SCRIPTS.matcher(html).replaceAll(" ");
+        text = COMMENTS.matcher(text).replaceAll(" ");
+        text = BLOCK_TAGS.matcher(text).replaceAll("\n");
+        text = TAGS.matcher(text).replaceAll("");
+        text = text.replace("&nbsp;", " ")
+            .replace("&lt;", "<")
+            .replace("&gt;", ">")
+            .replace("&quot;", "\"")
+            .replace("&#39;", "'")
+            .replace("&amp;", "&");
+        return BLANK_LINES.matcher(text).replaceAll("\n\n");
+    }
+}
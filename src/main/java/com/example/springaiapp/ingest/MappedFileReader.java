@@ -0,0 +1,78 @@
+package com.example.springaiapp.ingest;
+
+import java.io.IOException;
+import java.io.Reader;
+import java.nio.ByteBuffer;
+import java.nio.CharBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.CharsetDecoder;
+import java.nio.charset.CoderResult;
+import java.nio.charset.CodingErrorAction;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+
+/**
+ * Reads a UTF-8 file through a memory mapping instead of read() calls.
+ *
+ * The operating system pages the file in on demand, so a large file is
+ * neither copied into a heap byte[] nor read through a stream buffer;
+ * only the decoded characters the caller asks for are materialized.
+ * Files are limited to 2GB (the maximum size of one mapping).
+ */
+public class MappedFileReader extends Reader {
+    private final ByteBuffer bytes;
+    private final CharsetDecoder decoder = StandardCharsets.UTF_8.newDecoder()
+        .onMalformedInput(CodingErrorAction.REPLACE)
+        .onUnmappableCharacter(CodingErrorAction.REPLACE);
+    private boolean decoded = false;
+    private boolean flushed = false;
+    // Second half of a surrogate pair that did not fit into the caller's buffer, or -1
+    private int pendingLowSurrogate = -1;
+
+    public MappedFileReader(Path file) throws IOException {
+        try (FileChannel channel = FileChannel.open(file, StandardOpenOption.READ)) {
+            // The mapping stays valid after the channel is closed
+            this.bytes = channel.map(FileChannel.MapMode.READ_ONLY, 0, channel.size());
+        }
+    }
+
+    @Override
+    public int read(char[] buffer, int offset, int length) {
+        if (length == 0) {
+            return 0;
+        }
+        CharBuffer out = CharBuffer.wrap(buffer, offset, length);
+        int start = out.position();
+        if (pendingLowSurrogate >= 0) {
+            out.put((char) pendingLowSurrogate);
+            pendingLowSurrogate = -1;
+        }
+        if (!decoded && out.hasRemaining()) {
+            // The whole file is mapped, so every call sees the end of the input.
+            // An empty file is decoded once too: the decoder can only be flushed after that.
+            CoderResult result = decoder.decode(bytes, out, true);
+            if (result.isOverflow() && out.position() == start) {
+                // Room for one char, but the next character is a surrogate pair: return its first half
+                CharBuffer pair = CharBuffer.allocate(2);
+                decoder.decode(bytes, pair, true);
+                pair.flip();
+                out.put(pair.get());
+                if (pair.hasRemaining()) {
+                    pendingLowSurrogate = pair.get();
+                }
+            }
+            decoded = !bytes.hasRemaining();
+        }
+        if (decoded && !flushed && pendingLowSurrogate < 0 && decoder.flush(out).isUnderflow()) {
+            flushed = true;
+        }
+        int count = out.position() - start;
+        return count == 0 && flushed ? -1 : count;
+    }
+
+    @Override
+    public void close() {
+        // Nothing to release; the mapping is unmapped when garbage collected
+    }
+}
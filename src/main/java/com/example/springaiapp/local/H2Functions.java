@@ -0,0 +1,18 @@
+package com.example.springaiapp.local;
+
+/**
+ * PostgreSQL functions the repositories call, for the H2 database of the
+ * {@code h2} profile. Registered as aliases by {@code schema-h2.sql}.
+ */
+public final class H2Functions {
+    private H2Functions() {
+    }
+
+    /**
+     * Name of the sequence behind a serial column. {@code schema-h2.sql} names
+     * those sequences the way PostgreSQL does: {@code <table>_<column>_seq}.
+     */
+    public static String serialSequence(String table, String column) {
+        return table + "_" + column + "_seq";
+    }
+}
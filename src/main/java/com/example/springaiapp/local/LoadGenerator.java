@@ -0,0 +1,183 @@
+package com.example.springaiapp.local;
+
+import com.example.springaiapp.metrics.PipelineMetrics;
+import com.example.springaiapp.service.RagService;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.context.annotation.Profile;
+import org.springframework.stereotype.Service;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.Random;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.locks.LockSupport;
+
+/**
+ * Sends questions to {@link RagService#processQuery} at a fixed rate and
+ * measures the latency each one sees.
+ *
+ * Educational Note:
+ * The generator is open-loop: question {@code i} is due at
+ * {@code start + i / qps}, whether or not earlier questions have been
+ * answered, and its latency is measured from that due time. A closed loop
+ * (send the next question when the previous one returns) slows down exactly
+ * when the system does and never sees the queueing delay real users would,
+ * which hides the tail ("coordinated omission"). Questions that would exceed
+ * {@code maxInFlight} at their due time are counted as dropped, not delayed.
+ *
+ * Questions are drawn (with a fixed seed) from {@code distinctQuestions}
+ * generated ones, so fewer distinct questions means more repeats and more
+ * cache hits. Only available with the {@code local} profile, so a load test
+ * can never run against the paid Azure deployments by accident.
+ */
+@Service
+@Profile("local")
+public class LoadGenerator {
+    private static final Logger logger = LoggerFactory.getLogger(LoadGenerator.class);
+    private static final long DRAIN_TIMEOUT_SECONDS = 120;
+    private static final String[] VERBS = {
+        "configure", "test", "monitor", "scale", "secure", "debug", "deploy", "cache"
+    };
+    private static final String[] TOPICS = {
+        "embeddings", "vector search", "chat prompts", "streaming answers", "rate limits", "retries",
+        "connection pools", "token budgets", "RAG pipelines", "blog generation", "HNSW indexes", "batch jobs"
+    };
+    private static final String[] PLATFORMS = {
+        "Spring AI", "Azure OpenAI", "PostgreSQL", "Spring Boot", "Java 21", "Kubernetes"
+    };
+
+    private final RagService ragService;
+    private final PipelineMetrics metrics;
+
+    public LoadGenerator(RagService ragService, PipelineMetrics metrics) {
+        this.ragService = ragService;
+        this.metrics = metrics;
+    }
+
+    /**
+     * @param qps questions started per second
+     * @param duration how long to keep starting questions
+     * @param distinctQuestions size of the question pool
+     * @param maxInFlight questions running at once before new ones are dropped
+     * @param bypassAnswerCache ask every question with the semantic answer cache bypassed
+     */
+    public LoadReport run(double qps, Duration duration, int distinctQuestions, int maxInFlight,
+                          boolean bypassAnswerCache) throws InterruptedException {
+        List<String> questions = questions(distinctQuestions);
+        long intervalNanos = (long) (1_000_000_000L / qps);
+        int total = (int) Math.max(1, duration.toNanos() / intervalNanos);
+        logger.info("Load test: {} questions at {} per second ({} distinct, at most {} in flight)",
+                   total, qps, questions.size(), maxInFlight);
+
+        Random random = new Random(42);
+        long[] latencies = new long[total];
+        Arrays.fill(latencies, -1);
+        AtomicLong dropped = new AtomicLong();
+        Semaphore inFlight = new Semaphore(maxInFlight);
+        long errorsBefore = metrics.totals().errors();
+        ExecutorService workers = Executors.newCachedThreadPool(runnable -> {
+            Thread thread = new Thread(runnable, "load-generator");
+            thread.setDaemon(true);
+            return thread;
+        });
+
+        long start = System.nanoTime();
+        try {
+            for (int i = 0; i < total; i++) {
+                long due = start + i * intervalNanos;
+                for (long wait = due - System.nanoTime(); wait > 0; wait = due - System.nanoTime()) {
+                    LockSupport.parkNanos(wait);
+                    if (Thread.interrupted()) {
+                        throw new InterruptedException("Load test interrupted");
+                    }
+                }
+                if (!inFlight.tryAcquire()) {
+                    dropped.incrementAndGet();
+                    continue;
+                }
+                String question = questions.get(random.nextInt(questions.size()));
+                int slot = i;
+                workers.execute(() -> {
+                    try {
+                        ragService.processQuery(question, bypassAnswerCache);
+                        latencies[slot] = System.nanoTime() - due;
+                    } finally {
+                        inFlight.release();
+                    }
+                });
+            }
+            if (!inFlight.tryAcquire(maxInFlight, DRAIN_TIMEOUT_SECONDS, TimeUnit.SECONDS)) {
+                logger.warn("Load test: questions still running after {} s, reporting without them",
+                           DRAIN_TIMEOUT_SECONDS);
+            }
+        } finally {
+            workers.shutdownNow();
+        }
+        long elapsedNanos = System.nanoTime() - start;
+
+        long[] completed = Arrays.stream(latencies).filter(latency -> latency >= 0).sorted().toArray();
+        List<PipelineMetrics.StageStats> stages = metrics.snapshot().stream()
+            .filter(stage -> stage.pipeline().equals(PipelineMetrics.RAG))
+            .toList();
+        LoadReport report = new LoadReport(qps, total, completed.length, dropped.get(),
+            metrics.totals().errors() - errorsBefore, elapsedNanos / 1_000_000,
+            percentileMs(completed, 0.5), percentileMs(completed, 0.99), percentileMs(completed, 1.0), stages);
+        logger.info("Load test finished: {}", report);
+        return report;
+    }
+
+    /**
+     * Questions like "How do I cache embeddings in Spring AI?", in a fixed pseudo-random order.
+     */
+    static List<String> questions(int count) {
+        List<String> all = new ArrayList<>();
+        for (String verb : VERBS) {
+            for (String topic : TOPICS) {
+                for (String platform : PLATFORMS) {
+                    all.add(String.format("How do I %s %s in %s?", verb, topic, platform));
+                }
+            }
+        }
+        Collections.shuffle(all, new Random(42));
+        return all.subList(0, Math.max(1, Math.min(count, all.size())));
+    }
+
+    private static double percentileMs(long[] sortedNanos, double q) {
+        if (sortedNanos.length == 0) {
+            return 0.0;
+        }
+        int index = (int) Math.ceil(q * sortedNanos.length) - 1;
+        return sortedNanos[Math.max(0, Math.min(sortedNanos.length - 1, index))] / 1e6;
+    }
+
+    /**
+     * @param sent questions due during the run
+     * @param completed questions answered (including error answers)
+     * @param dropped questions not started because {@code maxInFlight} were running
+     * @param failedStages pipeline stages that failed during the run
+     * @param p50Ms end-to-end latency from due time to answer
+     * @param stages per-stage latency of the RAG pipeline over the metrics window
+     */
+    public record LoadReport(double targetQps, int sent, int completed, long dropped, long failedStages,
+                             long elapsedMs, double p50Ms, double p99Ms, double maxMs,
+                             List<PipelineMetrics.StageStats> stages) {
+        public double throughput() {
+            return elapsedMs == 0 ? 0.0 : completed * 1000.0 / elapsedMs;
+        }
+
+        @Override
+        public String toString() {
+            return String.format("%d of %d questions answered in %.1f s (%.1f/s at a target of %.1f/s), "
+                + "%d dropped, %d failed stages, latency p50 %.0f ms, p99 %.0f ms, max %.0f ms",
+                completed, sent, elapsedMs / 1000.0, throughput(), targetQps, dropped, failedStages,
+                p50Ms, p99Ms, maxMs);
+        }
+    }
+}
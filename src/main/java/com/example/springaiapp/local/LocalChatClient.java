@@ -0,0 +1,161 @@
+package com.example.springaiapp.local;
+
+import org.springframework.ai.chat.ChatClient;
+import org.springframework.ai.chat.ChatResponse;
+import org.springframework.ai.chat.Generation;
+import org.springframework.ai.chat.StreamingChatClient;
+import org.springframework.ai.chat.prompt.Prompt;
+import reactor.core.publisher.Flux;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.SplittableRandom;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+/**
+ * Deterministic stand-in for the Azure OpenAI chat deployment.
+ *
+ * Completions are canned text seeded by the prompt, so the same prompt always
+ * gets the same answer. The prompts of the blog writer are recognized, so the
+ * writer/editor loop runs as it would against the real model: drafts have
+ * {@code ## } sections, the editor answers with JSON verdicts (rejecting a
+ * configurable share of sections) and rewrites keep their section's heading.
+ *
+ * A call waits one sampled latency plus {@code token-interval-ms} per word; a
+ * stream waits one sampled latency before the first word (time to first
+ * token) and {@code token-interval-ms} before each further word.
+ */
+public class LocalChatClient implements ChatClient, StreamingChatClient {
+    private static final Pattern REVIEW = Pattern.compile("Evaluate sections ([\\d, ]+) only");
+    private static final Pattern REVISE = Pattern.compile("Improve section (\\d+)");
+    private static final String DRAFT_MARKER = "\"## \" heading";
+    private static final String CURRENT_SECTION = "Current section:";
+    private static final String[] WORDS = {
+        "Spring", "AI", "applications", "embeddings", "vector", "search", "context", "prompt", "model",
+        "latency", "retrieval", "answers", "questions", "Azure", "OpenAI", "deployment", "tokens", "cache",
+        "the", "a", "with", "and", "for", "of", "to", "in", "is", "can", "helps", "every", "your", "when",
+        "uses", "returns", "stores", "improves", "reduces", "faster", "simple", "reliable"
+    };
+
+    private final SimulatedEndpoint endpoint;
+    private final int completionWords;
+    private final long tokenIntervalMs;
+    private final int draftSections;
+    private final double sectionRejectionRate;
+
+    LocalChatClient(SimulatedEndpoint endpoint, int completionWords, long tokenIntervalMs, int draftSections,
+                    double sectionRejectionRate) {
+        this.endpoint = endpoint;
+        this.completionWords = Math.max(1, completionWords);
+        this.tokenIntervalMs = tokenIntervalMs;
+        this.draftSections = Math.max(1, draftSections);
+        this.sectionRejectionRate = sectionRejectionRate;
+    }
+
+    @Override
+    public ChatResponse call(Prompt prompt) {
+        String completion = complete(prompt.getContents());
+        endpoint.call(wordCount(completion) * tokenIntervalMs);
+        return new ChatResponse(List.of(new Generation(completion)));
+    }
+
+    @Override
+    public Flux<ChatResponse> stream(Prompt prompt) {
+        // Deferred so that every subscription (e.g. a retry) samples its own latency and failure
+        return Flux.defer(() -> {
+            endpoint.maybeFail();
+            List<String> tokens = new ArrayList<>();
+            for (String word : complete(prompt.getContents()).split(" ")) {
+                tokens.add(tokens.isEmpty() ? word : " " + word);
+            }
+            Flux<String> words = Flux.fromIterable(tokens);
+            if (tokenIntervalMs > 0) {
+                words = Flux.concat(words.take(1),
+                                    words.skip(1).delayElements(Duration.ofMillis(tokenIntervalMs)));
+            }
+            return words
+                .map(token -> new ChatResponse(List.of(new Generation(token))))
+                .delaySubscription(Duration.ofMillis(endpoint.sampleLatencyMs()));
+        });
+    }
+
+    String complete(String prompt) {
+        SplittableRandom random = new SplittableRandom(LocalEmbeddingClient.seed(prompt));
+        Matcher review = REVIEW.matcher(prompt);
+        if (review.find()) {
+            return verdicts(review.group(1), random);
+        }
+        Matcher revise = REVISE.matcher(prompt);
+        if (revise.find()) {
+            return currentHeading(prompt, revise.group(1)) + "\n\n" + sentences(random, completionWords / draftSections);
+        }
+        if (prompt.contains(DRAFT_MARKER)) {
+            StringBuilder draft = new StringBuilder();
+            for (int i = 1; i <= draftSections; i++) {
+                draft.append("## Section ").append(i).append("\n\n")
+                     .append(sentences(random, completionWords / draftSections)).append("\n\n");
+            }
+            return draft.toString().strip();
+        }
+        return sentences(random, completionWords);
+    }
+
+    private String verdicts(String sectionList, SplittableRandom random) {
+        List<String> verdicts = new ArrayList<>();
+        for (String number : sectionList.split(",")) {
+            if (number.isBlank()) {
+                continue;
+            }
+            boolean rejected = random.nextDouble() < sectionRejectionRate;
+            verdicts.add(String.format("{\"section\": %s, \"verdict\": \"%s\", \"feedback\": \"%s\"}",
+                number.strip(), rejected ? "NEEDS_IMPROVEMENT" : "PASS",
+                rejected ? "Add a concrete example." : ""));
+        }
+        return "[" + String.join(", ", verdicts) + "]";
+    }
+
+    private static String currentHeading(String prompt, String section) {
+        int start = prompt.indexOf(CURRENT_SECTION);
+        if (start >= 0) {
+            for (String line : prompt.substring(start + CURRENT_SECTION.length()).split("\n")) {
+                if (line.strip().startsWith("#")) {
+                    return line.strip();
+                }
+                if (!line.isBlank()) {
+                    break;
+                }
+            }
+        }
+        return "## Section " + section;
+    }
+
+    private static String sentences(SplittableRandom random, int words) {
+        StringBuilder text = new StringBuilder();
+        int count = Math.max(1, words);
+        int sentenceLength = 0;
+        for (int i = 0; i < count; i++) {
+            String word = WORDS[random.nextInt(WORDS.length)];
+            if (sentenceLength == 0) {
+                word = Character.toUpperCase(word.charAt(0)) + word.substring(1);
+            }
+            text.append(word);
+            sentenceLength++;
+            if (sentenceLength >= 8 + random.nextInt(8) || i == count - 1) {
+                text.append('.');
+                sentenceLength = 0;
+            }
+            text.append(' ');
+        }
+        return text.toString().strip();
+    }
+
+    private static int wordCount(String text) {
+        return text.split("\\s+").length;
+    }
+
+    @Override
+    public String toString() {
+        return "LocalChatClient " + endpoint;
+    }
+}
@@ -0,0 +1,106 @@
+package com.example.springaiapp.local;
+
+import org.springframework.ai.document.Document;
+import org.springframework.ai.embedding.Embedding;
+import org.springframework.ai.embedding.EmbeddingClient;
+import org.springframework.ai.embedding.EmbeddingOptions;
+import org.springframework.ai.embedding.EmbeddingRequest;
+import org.springframework.ai.embedding.EmbeddingResponse;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Locale;
+import java.util.SplittableRandom;
+import java.util.regex.Pattern;
+
+/**
+ * Deterministic stand-in for the Azure OpenAI embedding deployment.
+ *
+ * Every word is mapped to a pseudo-random unit vector seeded by the word's
+ * hash, and a text's embedding is the normalized sum of its words' vectors.
+ * The same text always gets the same embedding, texts that share words are
+ * similar, and rephrasings that only change case, punctuation or word order
+ * are identical, which is enough for caches, retrieval and near-duplicate
+ * detection to behave as they would against the real model.
+ */
+public class LocalEmbeddingClient implements EmbeddingClient {
+    public static final int DIMENSIONS = 1536;
+    private static final Pattern WORDS = Pattern.compile("[^\\p{L}\\p{N}]+");
+
+    private final SimulatedEndpoint endpoint;
+
+    LocalEmbeddingClient(SimulatedEndpoint endpoint) {
+        this.endpoint = endpoint;
+    }
+
+    @Override
+    public EmbeddingResponse call(EmbeddingRequest request) {
+        endpoint.call(0);
+        List<Embedding> embeddings = new ArrayList<>(request.getInstructions().size());
+        for (String text : request.getInstructions()) {
+            embeddings.add(new Embedding(embedText(text), embeddings.size()));
+        }
+        return new EmbeddingResponse(embeddings);
+    }
+
+    @Override
+    public List<Double> embed(String text) {
+        return embed(List.of(text)).get(0);
+    }
+
+    @Override
+    public List<Double> embed(Document document) {
+        return embed(document.getContent());
+    }
+
+    @Override
+    public List<List<Double>> embed(List<String> texts) {
+        return call(new EmbeddingRequest(texts, EmbeddingOptions.EMPTY)).getResults().stream()
+            .map(Embedding::getOutput)
+            .toList();
+    }
+
+    @Override
+    public int dimensions() {
+        return DIMENSIONS;
+    }
+
+    static List<Double> embedText(String text) {
+        double[] sum = new double[DIMENSIONS];
+        for (String word : WORDS.split(text.toLowerCase(Locale.ROOT))) {
+            if (word.isEmpty()) {
+                continue;
+            }
+            SplittableRandom random = new SplittableRandom(seed(word));
+            for (int i = 0; i < DIMENSIONS; i++) {
+                sum[i] += random.nextGaussian();
+            }
+        }
+        double norm = 0.0;
+        for (double value : sum) {
+            norm += value * value;
+        }
+        norm = norm == 0.0 ? 1.0 : Math.sqrt(norm);
+        List<Double> embedding = new ArrayList<>(DIMENSIONS);
+        for (double value : sum) {
+            embedding.add(value / norm);
+        }
+        return embedding;
+    }
+
+    /**
+     * 64-bit FNV-1a hash, so seeds do not depend on {@link String#hashCode} collisions.
+     */
+    static long seed(String text) {
+        long hash = 0xcbf29ce484222325L;
+        for (int i = 0; i < text.length(); i++) {
+            hash ^= text.charAt(i);
+            hash *= 0x100000001b3L;
+        }
+        return hash;
+    }
+
+    @Override
+    public String toString() {
+        return "LocalEmbeddingClient " + endpoint;
+    }
+}
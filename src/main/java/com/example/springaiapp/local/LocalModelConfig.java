@@ -0,0 +1,55 @@
+package com.example.springaiapp.local;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Profile;
+
+/**
+ * Replaces the Azure OpenAI clients with local stand-ins under the {@code local} profile.
+ *
+ * The beans take the names of the Azure beans, so every service gets the
+ * stand-ins without code changes; {@code application-local.properties} turns
+ * off the Azure auto-configuration. Latency (median and p99) and failure rates
+ * of each endpoint are set with {@code rag.local.chat.*} and
+ * {@code rag.local.embedding.*}. Combine with the {@code h2} profile to run
+ * without any external service, e.g. for load tests.
+ */
+@Configuration
+@Profile("local")
+public class LocalModelConfig {
+    private static final Logger logger = LoggerFactory.getLogger(LocalModelConfig.class);
+
+    @Bean("azureOpenAiEmbeddingClient")
+    public LocalEmbeddingClient localEmbeddingClient(
+            @Value("${rag.local.embedding.latency-median-ms:30}") long medianMs,
+            @Value("${rag.local.embedding.latency-p99-ms:150}") long p99Ms,
+            @Value("${rag.local.embedding.error-rate:0}") double errorRate,
+            @Value("${rag.local.embedding.rate-limit-rate:0}") double rateLimitRate,
+            @Value("${rag.local.embedding.retry-after-ms:1000}") long retryAfterMs) {
+        LocalEmbeddingClient client = new LocalEmbeddingClient(
+            new SimulatedEndpoint("local embedding", medianMs, p99Ms, errorRate, rateLimitRate, retryAfterMs));
+        logger.info("Using {}", client);
+        return client;
+    }
+
+    @Bean("azureOpenAiChatClient")
+    public LocalChatClient localChatClient(
+            @Value("${rag.local.chat.latency-median-ms:500}") long medianMs,
+            @Value("${rag.local.chat.latency-p99-ms:2500}") long p99Ms,
+            @Value("${rag.local.chat.error-rate:0}") double errorRate,
+            @Value("${rag.local.chat.rate-limit-rate:0}") double rateLimitRate,
+            @Value("${rag.local.chat.retry-after-ms:1000}") long retryAfterMs,
+            @Value("${rag.local.chat.completion-words:150}") int completionWords,
+            @Value("${rag.local.chat.token-interval-ms:10}") long tokenIntervalMs,
+            @Value("${rag.local.chat.draft-sections:5}") int draftSections,
+            @Value("${rag.local.chat.section-rejection-rate:0.3}") double sectionRejectionRate) {
+        LocalChatClient client = new LocalChatClient(
+            new SimulatedEndpoint("local chat", medianMs, p99Ms, errorRate, rateLimitRate, retryAfterMs),
+            completionWords, tokenIntervalMs, draftSections, sectionRejectionRate);
+        logger.info("Using {}", client);
+        return client;
+    }
+}
@@ -0,0 +1,79 @@
+package com.example.springaiapp.local;
+
+import com.example.springaiapp.ratelimit.RateLimitedException;
+import java.time.Duration;
+import java.util.concurrent.ThreadLocalRandom;
+
+/**
+ * Latency and failures of a simulated model endpoint.
+ *
+ * Call latencies are drawn from a log-normal distribution, the usual shape of
+ * service latencies (most calls near the median, a long tail of slow ones),
+ * fitted to the configured median and p99. If the p99 is not above the
+ * median, every call takes exactly the median.
+ *
+ * A configured share of calls fails: with a plain server error, or with a
+ * {@link RateLimitedException} carrying a Retry-After, which the
+ * {@link com.example.springaiapp.ratelimit.CallScheduler} retries like a real 429.
+ */
+final class SimulatedEndpoint {
+    // z-score of the 99th percentile of the standard normal distribution
+    private static final double Z_99 = 2.3263;
+
+    private final String name;
+    private final double medianMs;
+    private final double sigma;
+    private final double errorRate;
+    private final double rateLimitRate;
+    private final long retryAfterMs;
+
+    SimulatedEndpoint(String name, long medianMs, long p99Ms, double errorRate, double rateLimitRate,
+                      long retryAfterMs) {
+        this.name = name;
+        this.medianMs = Math.max(0, medianMs);
+        this.sigma = medianMs > 0 && p99Ms > medianMs ? Math.log((double) p99Ms / medianMs) / Z_99 : 0.0;
+        this.errorRate = errorRate;
+        this.rateLimitRate = rateLimitRate;
+        this.retryAfterMs = retryAfterMs;
+    }
+
+    long sampleLatencyMs() {
+        if (sigma == 0.0) {
+            return Math.round(medianMs);
+        }
+        return Math.round(medianMs * Math.exp(sigma * ThreadLocalRandom.current().nextGaussian()));
+    }
+
+    /**
+     * Fail this call with the configured probabilities.
+     */
+    void maybeFail() {
+        double roll = ThreadLocalRandom.current().nextDouble();
+        if (roll < rateLimitRate) {
+            throw new RateLimitedException("Simulated 429 Too Many Requests from " + name,
+                                           Duration.ofMillis(retryAfterMs));
+        }
+        if (roll < rateLimitRate + errorRate) {
+            throw new IllegalStateException("Simulated server error from " + name);
+        }
+    }
+
+    /**
+     * Block for one sampled latency plus {@code extraMs}, then fail or return.
+     */
+    void call(long extraMs) {
+        try {
+            Thread.sleep(sampleLatencyMs() + extraMs);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException("Interrupted while waiting for " + name, e);
+        }
+        maybeFail();
+    }
+
+    @Override
+    public String toString() {
+        return String.format("%s (median %.0f ms, sigma %.2f, %.1f%% errors, %.1f%% rate limited)",
+            name, medianMs, sigma, errorRate * 100, rateLimitRate * 100);
+    }
+}
@@ -0,0 +1,205 @@
+package com.example.springaiapp.metrics;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import io.micrometer.core.instrument.distribution.HistogramSnapshot;
+import io.micrometer.core.instrument.distribution.ValueAtPercentile;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import java.time.Duration;
+import java.util.Comparator;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Supplier;
+
+/**
+ * Micrometer instrumentation shared by the RAG and blog writer pipelines.
+ *
+ * Educational Note:
+ * An average latency hides the slow requests users complain about. Every stage
+ * (embedding, retrieval, prompt building, chat completion, ...) therefore gets
+ * its own {@link Timer} that keeps a histogram, so we can read p50/p95/p99 per
+ * stage and see which one is responsible for a bad p99.
+ *
+ * All stage timers share the name {@value #STAGE_TIMER} and are told apart by tags:
+ * - {@code pipeline}: {@value #RAG} or {@value #BLOG}
+ * - {@code stage}: the step within the pipeline
+ * - {@code deployment}: the Azure OpenAI deployment the pipeline runs against
+ *   (the embedding deployment for the embedding stage, the chat deployment otherwise)
+ *
+ * Percentiles are computed over a sliding window of {@code rag.metrics.window-seconds},
+ * so they reflect recent traffic rather than everything since startup. Histogram
+ * buckets are published as well, for monitoring systems that aggregate across instances.
+ */
+@Component
+public class PipelineMetrics {
+    public static final String STAGE_TIMER = "rag.stage.duration";
+    public static final String CONTEXT_CHARS = "rag.context.chars";
+    public static final String CONTEXT_TOKENS = "rag.context.tokens";
+    public static final String CONTEXT_TOKENS_SAVED = "rag.context.tokens.saved";
+    public static final String RETRIEVED_HITS = "rag.retrieval.hits";
+    public static final String ERRORS = "rag.errors";
+    public static final String COALESCED = "rag.coalesced";
+
+    public static final String RAG = "rag";
+    public static final String BLOG = "blog";
+    public static final String EMBEDDING_STAGE = "embedding";
+
+    private static final double[] PERCENTILES = {0.5, 0.95, 0.99};
+
+    private final MeterRegistry registry;
+    private final String chatDeploymentName;
+    private final String embeddingDeploymentName;
+    private final Duration window;
+    private final Counter contextChars;
+    private final Counter contextTokens;
+    private final Counter contextTokensSaved;
+    private final Counter retrievedHits;
+    private final Counter coalesced;
+
+    public PipelineMetrics(
+            MeterRegistry registry,
+            @Value("${spring.ai.azure.openai.chat.options.deployment-name}") String chatDeploymentName,
+            @Value("${spring.ai.azure.openai.embedding.options.deployment-name}") String embeddingDeploymentName,
+            @Value("${rag.metrics.window-seconds:120}") long windowSeconds) {
+        this.registry = registry;
+        this.chatDeploymentName = chatDeploymentName;
+        this.embeddingDeploymentName = embeddingDeploymentName;
+        this.window = Duration.ofSeconds(Math.max(1, windowSeconds));
+        this.contextChars = Counter.builder(CONTEXT_CHARS)
+            .description("Characters of retrieved context added to prompts")
+            .tag("deployment", chatDeploymentName)
+            .register(registry);
+        this.contextTokens = Counter.builder(CONTEXT_TOKENS)
+            .description("Estimated tokens of retrieved context added to prompts")
+            .tag("deployment", chatDeploymentName)
+            .register(registry);
+        this.contextTokensSaved = Counter.builder(CONTEXT_TOKENS_SAVED)
+            .description("Estimated prompt tokens saved by diversity selection and truncation")
+            .tag("deployment", chatDeploymentName)
+            .register(registry);
+        this.retrievedHits = Counter.builder(RETRIEVED_HITS)
+            .description("Similar Q&A pairs returned by retrieval")
+            .tag("deployment", chatDeploymentName)
+            .register(registry);
+        this.coalesced = Counter.builder(COALESCED)
+            .description("Queries answered by joining an identical in-flight query")
+            .tag("deployment", chatDeploymentName)
+            .register(registry);
+    }
+
+    /**
+     * Run one stage and record its duration. Exceptions are counted as errors of
+     * the stage and rethrown.
+     */
+    public <T> T time(String pipeline, String stage, Supplier<T> work) {
+        long start = System.nanoTime();
+        try {
+            return work.get();
+        } catch (RuntimeException e) {
+            error(pipeline, stage);
+            throw e;
+        } finally {
+            record(pipeline, stage, System.nanoTime() - start);
+        }
+    }
+
+    public void record(String pipeline, String stage, long nanos) {
+        stageTimer(pipeline, stage).record(nanos, TimeUnit.NANOSECONDS);
+    }
+
+    public void contextChars(int chars) {
+        contextChars.increment(chars);
+    }
+
+    public void contextTokens(int tokens, int saved) {
+        contextTokens.increment(tokens);
+        contextTokensSaved.increment(saved);
+    }
+
+    public void retrievedHits(int hits) {
+        retrievedHits.increment(hits);
+    }
+
+    public void coalesced() {
+        coalesced.increment();
+    }
+
+    public void error(String pipeline, String stage) {
+        Counter.builder(ERRORS)
+            .description("Failed pipeline stages")
+            .tag("pipeline", pipeline)
+            .tag("stage", stage)
+            .tag("deployment", deploymentFor(stage))
+            .register(registry)
+            .increment();
+    }
+
+    /**
+     * Latency percentiles of every stage that has run, ordered by pipeline and stage.
+     */
+    public List<StageStats> snapshot() {
+        return registry.find(STAGE_TIMER).timers().stream()
+            .map(this::statsOf)
+            .sorted(Comparator.comparing(StageStats::pipeline).thenComparing(StageStats::stage))
+            .toList();
+    }
+
+    public Totals totals() {
+        double errors = registry.find(ERRORS).counters().stream().mapToDouble(Counter::count).sum();
+        return new Totals((long) contextChars.count(), (long) contextTokens.count(),
+                          (long) contextTokensSaved.count(), (long) retrievedHits.count(),
+                          (long) coalesced.count(), (long) errors);
+    }
+
+    private Timer stageTimer(String pipeline, String stage) {
+        // Registering an existing name and tag combination returns the existing timer
+        return Timer.builder(STAGE_TIMER)
+            .description("Duration of one pipeline stage")
+            .tag("pipeline", pipeline)
+            .tag("stage", stage)
+            .tag("deployment", deploymentFor(stage))
+            .publishPercentiles(PERCENTILES)
+            .publishPercentileHistogram()
+            .distributionStatisticExpiry(window)
+            .register(registry);
+    }
+
+    private String deploymentFor(String stage) {
+        return EMBEDDING_STAGE.equals(stage) ? embeddingDeploymentName : chatDeploymentName;
+    }
+
+    private StageStats statsOf(Timer timer) {
+        HistogramSnapshot snapshot = timer.takeSnapshot();
+        double[] percentiles = new double[PERCENTILES.length];
+        for (ValueAtPercentile value : snapshot.percentileValues()) {
+            for (int i = 0; i < PERCENTILES.length; i++) {
+                if (value.percentile() == PERCENTILES[i]) {
+                    percentiles[i] = value.value(TimeUnit.MILLISECONDS);
+                }
+            }
+        }
+        return new StageStats(
+            timer.getId().getTag("pipeline"),
+            timer.getId().getTag("stage"),
+            timer.getId().getTag("deployment"),
+            timer.count(),
+            timer.mean(TimeUnit.MILLISECONDS),
+            percentiles[0], percentiles[1], percentiles[2],
+            timer.max(TimeUnit.MILLISECONDS));
+    }
+
+    /**
+     * Latencies of one stage in milliseconds. {@code count} and {@code meanMs} cover
+     * everything since startup; the percentiles and {@code maxMs} cover the recent window.
+     */
+    public record StageStats(String pipeline, String stage, String deployment, long count,
+                             double meanMs, double p50Ms, double p95Ms, double p99Ms, double maxMs) {}
+
+    /**
+     * Pipeline counters since startup.
+     */
+    public record Totals(long contextChars, long contextTokens, long contextTokensSaved, long retrievedHits,
+                         long coalescedQueries, long errors) {}
+}
@@ -0,0 +1,31 @@
+package com.example.springaiapp.metrics;
+
+import org.springframework.boot.actuate.endpoint.annotation.Endpoint;
+import org.springframework.boot.actuate.endpoint.annotation.ReadOperation;
+import org.springframework.stereotype.Component;
+import java.util.List;
+
+/**
+ * Actuator endpoint with per-stage latency percentiles: {@code GET /actuator/pipeline}.
+ *
+ * The raw timers are also available under {@code /actuator/metrics/rag.stage.duration}
+ * (filter with {@code ?tag=stage:retrieval}), but that endpoint does not list the
+ * percentiles of all stages side by side. Like every actuator endpoint, it must be
+ * exposed via {@code management.endpoints.web.exposure.include}.
+ */
+@Component
+@Endpoint(id = "pipeline")
+public class PipelineStatsEndpoint {
+    private final PipelineMetrics metrics;
+
+    public PipelineStatsEndpoint(PipelineMetrics metrics) {
+        this.metrics = metrics;
+    }
+
+    @ReadOperation
+    public PipelineStats stats() {
+        return new PipelineStats(metrics.snapshot(), metrics.totals());
+    }
+
+    public record PipelineStats(List<PipelineMetrics.StageStats> stages, PipelineMetrics.Totals totals) {}
+}
@@ -7,26 +7,29 @@ package com.example.springaiapp.model;
  * - User prompts (questions)
  * - AI responses
  * - Vector embeddings for semantic similarity search
+ * - For ingested documents, the file a chunk came from (null for Q&As)
  * 
- * The embeddings are stored as PostgreSQL vectors (1536 dimensions)
- * which allows for efficient similarity search using the pgvector extension.
+ * The embeddings (1536 dimensions) are held as float32 values, which is
+ * the precision the embedding model returns, and stored in PostgreSQL as a
+ * compact binary blob (see {@link EmbeddingCodec}).
  */
 public class ChatHistory {
     private Long id;
     private String prompt;
     private String response;
-    private double[] embedding;
+    private float[] embedding;
+    private String source;
     
     public ChatHistory() {}
     
-    public ChatHistory(String prompt, String response, double[] embedding) {
+    public ChatHistory(String prompt, String response, float[] embedding) {
         this.prompt = prompt;
         this.response = response;
         this.embedding = embedding;
     }
     
     // Constructor for database results
-    public ChatHistory(Long id, String prompt, String response, double[] embedding) {
+    public ChatHistory(Long id, String prompt, String response, float[] embedding) {
         this.id = id;
         this.prompt = prompt;
         this.response = response;
@@ -42,17 +45,17 @@ public class ChatHistory {
     public String getResponse() { return response; }
     public void setResponse(String response) { this.response = response; }
     
-    public double[] getEmbedding() { return embedding; }
-    public void setEmbedding(double[] embedding) { this.embedding = embedding; }
+    public float[] getEmbedding() { return embedding; }
+    public void setEmbedding(float[] embedding) { this.embedding = embedding; }
+    
+    public String getSource() { return source; }
+    public void setSource(String source) { this.source = source; }
     
     /**
-     * Converts the embedding array to a PostgreSQL vector string.
-     * Example: [1.0, 2.0, 3.0] -> '[1.0,2.0,3.0]'
+     * Converts the embedding array to its binary column format.
+     * Example: [1.0, 2.0] -> 8 bytes, little-endian float32
      */
-    public String getEmbeddingAsString() {
-        if (embedding == null) return null;
-        return "[" + String.join(",", java.util.Arrays.stream(embedding)
-            .mapToObj(String::valueOf)
-            .toArray(String[]::new)) + "]";
+    public byte[] getEmbeddingAsBytes() {
+        return EmbeddingCodec.encode(embedding);
     }
 }
@@ -0,0 +1,36 @@
+package com.example.springaiapp.model;
+
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+
+/**
+ * Binary storage format for embeddings: little-endian float32, 4 bytes per dimension.
+ *
+ * Educational Note:
+ * A 1536-dimension embedding written as a JSON array takes roughly 30KB of text
+ * and needs 1536 number parses to read back. The same vector as raw float32
+ * is exactly 6KB and decodes with a single bulk copy.
+ */
+public final class EmbeddingCodec {
+    private static final ByteOrder ORDER = ByteOrder.LITTLE_ENDIAN;
+
+    private EmbeddingCodec() {}
+
+    public static byte[] encode(float[] embedding) {
+        if (embedding == null) return null;
+        ByteBuffer buffer = ByteBuffer.allocate(embedding.length * Float.BYTES).order(ORDER);
+        buffer.asFloatBuffer().put(embedding);
+        return buffer.array();
+    }
+
+    public static float[] decode(byte[] bytes) {
+        if (bytes == null) return null;
+        if (bytes.length % Float.BYTES != 0) {
+            throw new IllegalArgumentException(
+                "Embedding blob length " + bytes.length + " is not a multiple of " + Float.BYTES);
+        }
+        float[] embedding = new float[bytes.length / Float.BYTES];
+        ByteBuffer.wrap(bytes).order(ORDER).asFloatBuffer().get(embedding);
+        return embedding;
+    }
+}
@@ -0,0 +1,8 @@
+package com.example.springaiapp.model;
+
+/**
+ * A chat history entry returned by similarity search, together with its
+ * cosine similarity to the query (1.0 = same direction, 0.0 = unrelated).
+ */
+public record ScoredChatHistory(ChatHistory history, double score) {
+}
@@ -0,0 +1,12 @@
+package com.example.springaiapp.ratelimit;
+
+/**
+ * Lane a model call waits in. When calls queue up for a deployment's quota,
+ * every waiting {@link #INTERACTIVE} call goes before any {@link #BATCH} call.
+ */
+public enum CallPriority {
+    /** A user is waiting for the answer, e.g. the ask command or endpoint */
+    INTERACTIVE,
+    /** Background or bulk work, e.g. document ingestion and blog generation */
+    BATCH
+}
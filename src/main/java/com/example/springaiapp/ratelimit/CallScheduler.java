@@ -0,0 +1,405 @@
+package com.example.springaiapp.ratelimit;
+
+import com.azure.core.exception.HttpResponseException;
+import com.azure.core.http.HttpResponse;
+import com.example.springaiapp.context.TokenEstimator;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.core.env.Environment;
+import org.springframework.stereotype.Component;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+import reactor.core.scheduler.Schedulers;
+import java.time.Duration;
+import java.time.ZonedDateTime;
+import java.time.format.DateTimeFormatter;
+import java.time.format.DateTimeParseException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.PriorityQueue;
+import java.util.concurrent.CancellationException;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicIntegerArray;
+import java.util.concurrent.locks.Condition;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.function.Function;
+import java.util.function.Supplier;
+
+/**
+ * Paces and retries every chat and embedding call, per Azure OpenAI deployment.
+ *
+ * Educational Note:
+ * Each deployment has a quota of requests per minute (RPM) and tokens per
+ * minute (TPM). Calling it as fast as possible under load gets many requests
+ * rejected with 429, and retrying them right away makes it worse. Instead, each
+ * call goes through this scheduler:
+ * 1. Pacing: two token buckets per deployment, one for requests and one for
+ *    (estimated) tokens, hold calls back until the quota allows them
+ * 2. Priority: waiting calls form a queue per deployment in which every
+ *    {@link CallPriority#INTERACTIVE} call is ahead of every {@link CallPriority#BATCH}
+ *    call, so a user's question does not wait behind a bulk ingestion
+ * 3. Retry: a call rejected with 429 or a 5xx status is retried with exponential
+ *    backoff and random jitter (so retries from many callers do not line up).
+ *    If the server sent Retry-After, that wait is used instead, and the whole
+ *    deployment pauses for it, since every other call would be rejected too
+ *
+ * Limits are read per deployment from
+ * {@code rag.scheduler.deployments.<deployment>.requests-per-minute} and
+ * {@code .tokens-per-minute}, falling back to {@code rag.scheduler.requests-per-minute}
+ * and {@code rag.scheduler.tokens-per-minute}; 0 means unlimited.
+ *
+ * Waiting calls per lane are exported as the {@code rag.scheduler.queue.depth} gauge.
+ *
+ * Blocking calls run on the caller's thread once they are let through.
+ * Interrupting the caller (e.g. when a web request's deadline passes) ends its
+ * wait for quota or for a retry; a call already sent finishes (the HTTP clients
+ * do not reliably react to interrupts), and is then not retried.
+ */
+@Component
+public class CallScheduler {
+    private static final Logger logger = LoggerFactory.getLogger(CallScheduler.class);
+
+    private final Environment environment;
+    private final MeterRegistry registry;
+    private final long defaultRequestsPerMinute;
+    private final long defaultTokensPerMinute;
+    private final int maxAttempts;
+    private final long initialBackoffMs;
+    private final long maxBackoffMs;
+    private final int completionTokenEstimate;
+    private final SchedulerClock clock;
+    private final Map<String, Lane> lanes = new ConcurrentHashMap<>();
+
+    @Autowired
+    public CallScheduler(
+            Environment environment,
+            MeterRegistry registry,
+            @Value("${rag.scheduler.requests-per-minute:0}") long requestsPerMinute,
+            @Value("${rag.scheduler.tokens-per-minute:0}") long tokensPerMinute,
+            @Value("${rag.scheduler.max-attempts:4}") int maxAttempts,
+            @Value("${rag.scheduler.initial-backoff-ms:500}") long initialBackoffMs,
+            @Value("${rag.scheduler.max-backoff-ms:30000}") long maxBackoffMs,
+            @Value("${rag.scheduler.completion-token-estimate:500}") int completionTokenEstimate) {
+        this(environment, registry, requestsPerMinute, tokensPerMinute, maxAttempts, initialBackoffMs,
+             maxBackoffMs, completionTokenEstimate, SchedulerClock.SYSTEM);
+    }
+
+    CallScheduler(Environment environment, MeterRegistry registry, long requestsPerMinute, long tokensPerMinute,
+                  int maxAttempts, long initialBackoffMs, long maxBackoffMs, int completionTokenEstimate,
+                  SchedulerClock clock) {
+        this.environment = environment;
+        this.registry = registry;
+        this.defaultRequestsPerMinute = requestsPerMinute;
+        this.defaultTokensPerMinute = tokensPerMinute;
+        this.maxAttempts = Math.max(1, maxAttempts);
+        this.initialBackoffMs = Math.max(1, initialBackoffMs);
+        this.maxBackoffMs = Math.max(this.initialBackoffMs, maxBackoffMs);
+        this.completionTokenEstimate = Math.max(0, completionTokenEstimate);
+        this.clock = clock;
+        logger.info("CallScheduler initialized: default limits {} requests/min, {} tokens/min (0 = unlimited), "
+                   + "{} attempts per call", requestsPerMinute, tokensPerMinute, this.maxAttempts);
+    }
+
+    /**
+     * Run a blocking model call once the deployment's quota allows it, retrying
+     * rate-limited and server errors.
+     *
+     * @param tokens estimated tokens the call consumes (prompt plus completion)
+     * @throws CancellationException if the thread is interrupted while waiting,
+     *         for the quota or to retry
+     */
+    public <T> T execute(String deployment, CallPriority priority, long tokens, Supplier<T> call) {
+        Lane lane = lane(deployment);
+        for (int attempt = 1; ; attempt++) {
+            lane.acquire(priority, tokens);
+            try {
+                return call.get();
+            } catch (RuntimeException e) {
+                if (Thread.currentThread().isInterrupted()) {
+                    throw e; // Nobody is waiting for a retry
+                }
+                Duration delay = retryDelay(lane, e, attempt);
+                if (delay == null) {
+                    throw e;
+                }
+                sleep(delay);
+            }
+        }
+    }
+
+    /**
+     * Streaming variant of {@link #execute}: the stream is opened once the quota
+     * allows it. A failed stream is retried only if it has not emitted anything
+     * yet, since the caller may already have used the emitted part.
+     */
+    public <T> Flux<T> executeStream(String deployment, CallPriority priority, long tokens,
+                                     Supplier<Flux<T>> call) {
+        Lane lane = lane(deployment);
+        return Flux.defer(() -> attemptStream(lane, priority, tokens, call, 1));
+    }
+
+    /**
+     * Estimated token count of a text, see {@link TokenEstimator}.
+     */
+    public static long estimateTokens(String text) {
+        return TokenEstimator.count(text);
+    }
+
+    /**
+     * Estimated tokens of a chat call: the prompt plus a typical completion.
+     */
+    public long estimateChatTokens(String promptText) {
+        return estimateTokens(promptText) + completionTokenEstimate;
+    }
+
+    /**
+     * Calls waiting per deployment and priority.
+     */
+    public List<QueueStats> queues() {
+        List<QueueStats> stats = new ArrayList<>();
+        for (Lane lane : lanes.values()) {
+            for (CallPriority priority : CallPriority.values()) {
+                stats.add(new QueueStats(lane.deployment, priority, lane.depth.get(priority.ordinal())));
+            }
+        }
+        return stats;
+    }
+
+    private <T> Flux<T> attemptStream(Lane lane, CallPriority priority, long tokens,
+                                      Supplier<Flux<T>> call, int attempt) {
+        lane.acquire(priority, tokens);
+        AtomicBoolean emitted = new AtomicBoolean();
+        return call.get()
+            .doOnNext(item -> emitted.set(true))
+            .onErrorResume(e -> {
+                Duration delay = emitted.get() ? null : retryDelay(lane, e, attempt);
+                if (delay == null) {
+                    return Flux.error(e);
+                }
+                // Waiting for the quota blocks, so it must not run on a parallel scheduler thread
+                return Mono.delay(delay, Schedulers.boundedElastic())
+                    .thenMany(Flux.defer(() -> attemptStream(lane, priority, tokens, call, attempt + 1)));
+            });
+    }
+
+    /**
+     * How long to wait before retrying a failed call, or null if it must not be retried.
+     */
+    private Duration retryDelay(Lane lane, Throwable error, int attempt) {
+        Failure failure = classify(error);
+        if (failure == null || attempt >= maxAttempts) {
+            return null;
+        }
+        Duration delay;
+        if (failure.retryAfter() != null) {
+            // Everyone else would be rejected too, so the whole deployment waits
+            lane.pause(failure.retryAfter());
+            delay = failure.retryAfter().plusMillis(ThreadLocalRandom.current().nextLong(initialBackoffMs));
+        } else {
+            // Exponential backoff, randomized between half and all of it
+            long cap = Math.min(maxBackoffMs, initialBackoffMs << Math.min(attempt - 1, 20));
+            delay = Duration.ofMillis(ThreadLocalRandom.current().nextLong(cap / 2, cap + 1));
+        }
+        Counter.builder("rag.scheduler.retries")
+            .description("Model calls retried after a rate-limit or server error")
+            .tag("deployment", lane.deployment)
+            .tag("status", failure.status())
+            .register(registry)
+            .increment();
+        logger.warn("Call to deployment {} failed with {} (attempt {} of {}), retrying in {} ms",
+                   lane.deployment, failure.status(), attempt, maxAttempts, delay.toMillis());
+        return delay;
+    }
+
+    /**
+     * Retryable failures: 429 and 5xx responses, wherever they are in the cause chain.
+     */
+    private Failure classify(Throwable error) {
+        for (Throwable cause = error; cause != null; cause = cause.getCause()) {
+            if (cause instanceof RateLimitedException rateLimited) {
+                return new Failure("429", rateLimited.getRetryAfter());
+            }
+            if (cause instanceof HttpResponseException httpError && httpError.getResponse() != null) {
+                HttpResponse response = httpError.getResponse();
+                int status = response.getStatusCode();
+                if (status == 429 || status >= 500) {
+                    return new Failure(String.valueOf(status), retryAfterOf(response::getHeaderValue, clock.now()));
+                }
+                return null;
+            }
+        }
+        return null;
+    }
+
+    /**
+     * Azure OpenAI sends {@code retry-after-ms} and {@code retry-after}; the latter
+     * is seconds or an HTTP date.
+     *
+     * @param headers header value by name, null if absent
+     * @return the wait, or null if no header gives one
+     */
+    static Duration retryAfterOf(Function<String, String> headers, ZonedDateTime now) {
+        for (String header : List.of("retry-after-ms", "x-ms-retry-after-ms")) {
+            String value = headers.apply(header);
+            if (value != null) {
+                try {
+                    return Duration.ofMillis(Long.parseLong(value.trim()));
+                } catch (NumberFormatException e) {
+                    // Try the next header
+                }
+            }
+        }
+        String value = headers.apply("retry-after");
+        if (value == null) {
+            return null;
+        }
+        try {
+            return Duration.ofSeconds(Long.parseLong(value.trim()));
+        } catch (NumberFormatException e) {
+            try {
+                Duration until = Duration.between(now,
+                    ZonedDateTime.parse(value.trim(), DateTimeFormatter.RFC_1123_DATE_TIME));
+                return until.isNegative() ? Duration.ZERO : until;
+            } catch (DateTimeParseException ignored) {
+                return null;
+            }
+        }
+    }
+
+    private Lane lane(String deployment) {
+        return lanes.computeIfAbsent(deployment, name -> {
+            String prefix = "rag.scheduler.deployments." + name + ".";
+            long rpm = environment.getProperty(prefix + "requests-per-minute", Long.class, defaultRequestsPerMinute);
+            long tpm = environment.getProperty(prefix + "tokens-per-minute", Long.class, defaultTokensPerMinute);
+            logger.info("Deployment {} limited to {} requests/min and {} tokens/min (0 = unlimited)", name, rpm, tpm);
+            return new Lane(name, rpm, tpm);
+        });
+    }
+
+    private void sleep(Duration delay) {
+        try {
+            clock.sleep(delay);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new CancellationException("Interrupted while waiting to retry");
+        }
+    }
+
+    /**
+     * Quota state and waiting calls of one deployment.
+     */
+    private final class Lane {
+        private final String deployment;
+        private final ReentrantLock lock = new ReentrantLock();
+        private final Condition changed = lock.newCondition();
+        private final PriorityQueue<Ticket> waiting = new PriorityQueue<>();
+        private final AtomicIntegerArray depth = new AtomicIntegerArray(CallPriority.values().length);
+        private final TokenBucket requests;
+        private final TokenBucket tokens;
+        private final Timer[] waitTimers = new Timer[CallPriority.values().length];
+        private long pausedUntil;
+        private long nextSequence;
+
+        Lane(String deployment, long requestsPerMinute, long tokensPerMinute) {
+            long now = clock.nanoTime();
+            this.deployment = deployment;
+            this.requests = new TokenBucket(requestsPerMinute, now);
+            this.tokens = new TokenBucket(tokensPerMinute, now);
+            this.pausedUntil = now;
+            for (CallPriority priority : CallPriority.values()) {
+                int index = priority.ordinal();
+                String lane = priority.name().toLowerCase();
+                Gauge.builder("rag.scheduler.queue.depth", depth, d -> d.get(index))
+                    .description("Model calls waiting for quota")
+                    .tag("deployment", deployment)
+                    .tag("priority", lane)
+                    .register(registry);
+                waitTimers[index] = Timer.builder("rag.scheduler.wait")
+                    .description("Time model calls waited for quota")
+                    .tag("deployment", deployment)
+                    .tag("priority", lane)
+                    .publishPercentiles(0.5, 0.99)
+                    .register(registry);
+            }
+        }
+
+        /**
+         * Block until this call is first in line and both buckets have room, then take its share.
+         */
+        void acquire(CallPriority priority, long tokenCount) {
+            long start = clock.nanoTime();
+            lock.lock();
+            try {
+                Ticket ticket = new Ticket(priority, nextSequence++);
+                waiting.add(ticket);
+                depth.incrementAndGet(priority.ordinal());
+                changed.signalAll(); // The previous head may no longer be first
+                try {
+                    while (true) {
+                        if (waiting.peek() == ticket) {
+                            long now = clock.nanoTime();
+                            long wait = Math.max(pausedUntil - now,
+                                Math.max(requests.waitNanos(1, now), tokens.waitNanos(tokenCount, now)));
+                            if (wait <= 0) {
+                                requests.take(1, now);
+                                tokens.take(tokenCount, now);
+                                break;
+                            }
+                            clock.awaitNanos(changed, wait);
+                        } else {
+                            changed.await();
+                        }
+                    }
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                    throw new CancellationException("Interrupted while waiting for deployment " + deployment);
+                } finally {
+                    waiting.remove(ticket);
+                    depth.decrementAndGet(priority.ordinal());
+                    changed.signalAll();
+                }
+            } finally {
+                lock.unlock();
+            }
+            waitTimers[priority.ordinal()].record(clock.nanoTime() - start, TimeUnit.NANOSECONDS);
+        }
+
+        void pause(Duration duration) {
+            lock.lock();
+            try {
+                long until = clock.nanoTime() + duration.toNanos();
+                if (until - pausedUntil > 0) {
+                    pausedUntil = until;
+                }
+                changed.signalAll();
+            } finally {
+                lock.unlock();
+            }
+        }
+    }
+
+    private record Ticket(CallPriority priority, long sequence) implements Comparable<Ticket> {
+        @Override
+        public int compareTo(Ticket other) {
+            int byPriority = priority.compareTo(other.priority);
+            return byPriority != 0 ? byPriority : Long.compare(sequence, other.sequence);
+        }
+    }
+
+    private record Failure(String status, Duration retryAfter) {}
+
+    /**
+     * @param queued calls currently waiting in this lane
+     */
+    public record QueueStats(String deployment, CallPriority priority, int queued) {}
+}
@@ -0,0 +1,50 @@
+package com.example.springaiapp.ratelimit;
+
+import com.azure.core.exception.HttpResponseException;
+import com.azure.core.http.HttpResponse;
+import java.time.Duration;
+import java.time.ZonedDateTime;
+
+/**
+ * A model call was rejected with 429 Too Many Requests.
+ *
+ * Azure OpenAI reports this as an {@code HttpResponseException}; clients that are
+ * not backed by Azure (such as local stand-ins) throw this instead, so that
+ * {@link CallScheduler} retries them the same way.
+ */
+public class RateLimitedException extends RuntimeException {
+    private final Duration retryAfter;
+
+    /**
+     * @param retryAfter how long the server asked us to wait, or null if it did not say
+     */
+    public RateLimitedException(String message, Duration retryAfter) {
+        super(message);
+        this.retryAfter = retryAfter;
+    }
+
+    public Duration getRetryAfter() {
+        return retryAfter;
+    }
+
+    /**
+     * The 429 rejection anywhere in a failure's cause chain, or null if the failure
+     * was not a rate limit. An Azure 429 response is converted, keeping its Retry-After.
+     */
+    public static RateLimitedException find(Throwable error) {
+        for (Throwable cause = error; cause != null; cause = cause.getCause()) {
+            if (cause instanceof RateLimitedException rateLimited) {
+                return rateLimited;
+            }
+            if (cause instanceof HttpResponseException httpError && httpError.getResponse() != null) {
+                HttpResponse response = httpError.getResponse();
+                if (response.getStatusCode() != 429) {
+                    return null;
+                }
+                return new RateLimitedException(httpError.getMessage(),
+                    CallScheduler.retryAfterOf(response::getHeaderValue, ZonedDateTime.now()));
+            }
+        }
+        return null;
+    }
+}
@@ -0,0 +1,47 @@
+package com.example.springaiapp.ratelimit;
+
+import java.time.Duration;
+import java.time.ZonedDateTime;
+import java.util.concurrent.locks.Condition;
+
+/**
+ * Time as seen by {@link CallScheduler}: pacing, pauses and retry waits all go
+ * through here, so tests can replace real time with a clock they advance by hand.
+ */
+interface SchedulerClock {
+    SchedulerClock SYSTEM = new SchedulerClock() {
+        @Override
+        public long nanoTime() {
+            return System.nanoTime();
+        }
+
+        @Override
+        public ZonedDateTime now() {
+            return ZonedDateTime.now();
+        }
+
+        @Override
+        public void awaitNanos(Condition condition, long nanos) throws InterruptedException {
+            condition.awaitNanos(nanos);
+        }
+
+        @Override
+        public void sleep(Duration duration) throws InterruptedException {
+            Thread.sleep(duration.toMillis());
+        }
+    };
+
+    long nanoTime();
+
+    /**
+     * Wall-clock time, for Retry-After headers that carry an HTTP date.
+     */
+    ZonedDateTime now();
+
+    /**
+     * Wait on a condition (whose lock is held) for at most {@code nanos}, or until signalled.
+     */
+    void awaitNanos(Condition condition, long nanos) throws InterruptedException;
+
+    void sleep(Duration duration) throws InterruptedException;
+}
@@ -0,0 +1,58 @@
+package com.example.springaiapp.ratelimit;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Token bucket for a per-minute quota, refilled continuously.
+ *
+ * The bucket holds at most {@code perMinute / 6} units (ten seconds of quota),
+ * because Azure OpenAI enforces its per-minute limits over short windows: a full
+ * minute's quota sent in one burst is rejected even though the minute total is fine.
+ *
+ * Not thread-safe; {@link CallScheduler} guards each bucket with its lane lock.
+ */
+class TokenBucket {
+    private final double capacity;
+    private final double refillPerNano;
+    private double available;
+    private long lastRefill;
+
+    /**
+     * @param perMinute units per minute; 0 or less means unlimited
+     */
+    TokenBucket(long perMinute, long now) {
+        this.capacity = perMinute <= 0 ? Double.POSITIVE_INFINITY : Math.max(1.0, perMinute / 6.0);
+        this.refillPerNano = perMinute <= 0 ? 0 : perMinute / (double) TimeUnit.MINUTES.toNanos(1);
+        this.available = capacity;
+        this.lastRefill = now;
+    }
+
+    /**
+     * Nanoseconds until {@code amount} units are available (0 if they are now).
+     * Requests larger than the bucket only wait for a full bucket.
+     */
+    long waitNanos(long amount, long now) {
+        refill(now);
+        double needed = Math.min(amount, capacity);
+        if (available >= needed) {
+            return 0;
+        }
+        return (long) Math.ceil((needed - available) / refillPerNano);
+    }
+
+    /**
+     * Take units; the balance may go negative for requests larger than the bucket,
+     * which delays the following requests instead.
+     */
+    void take(long amount, long now) {
+        refill(now);
+        available -= amount;
+    }
+
+    private void refill(long now) {
+        if (refillPerNano > 0) {
+            available = Math.min(capacity, available + (now - lastRefill) * refillPerNano);
+        }
+        lastRefill = now;
+    }
+}
@@ -1,33 +1,155 @@
 package com.example.springaiapp.repository;
 
 import com.example.springaiapp.model.ChatHistory;
+import com.example.springaiapp.model.EmbeddingCodec;
+import com.example.springaiapp.model.ScoredChatHistory;
+import com.example.springaiapp.search.QuantizedIndex;
+import com.example.springaiapp.search.SearchHit;
+import com.example.springaiapp.search.TopK;
+import com.example.springaiapp.search.VectorIndex;
+import com.example.springaiapp.search.VectorMath;
+import com.example.springaiapp.segment.VectorSegmentStore;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.RowCallbackHandler;
 import org.springframework.jdbc.core.RowMapper;
+import org.springframework.jdbc.support.GeneratedKeyHolder;
+import org.springframework.jdbc.support.KeyHolder;
 import org.springframework.stereotype.Repository;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import java.io.IOException;
+import java.nio.file.Path;
+import java.sql.PreparedStatement;
+import java.sql.Timestamp;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.Deque;
+import java.util.HashSet;
 import java.util.List;
+import java.util.Map;
+import java.util.Random;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.Consumer;
 
 /**
  * Repository for storing and retrieving chat history with vector embeddings.
- * Uses PostgreSQL's pgvector extension for vector similarity search.
+ * 
+ * PostgreSQL is the system of record. Similarity search runs against an
+ * in-process mirror of {@code chat_history}: a {@link VectorIndex} plus the
+ * rows by id. The mirror is loaded once on first use, kept up to date on every
+ * {@link #save}, and {@link #refresh}ed periodically with rows other processes
+ * inserted (only rows with a newer id or created_at are transferred).
+ * 
+ * {@link #saveAsync} takes the database write off the request path: the row
+ * gets its id right away, becomes searchable immediately, and is written
+ * later in a batch by a {@link ChatHistoryWriteBehind} queue.
+ * 
+ * With vector segments enabled, embeddings are also kept in memory-mapped
+ * files ({@link VectorSegmentStore}). A restart then only reads the text
+ * columns from PostgreSQL and takes the vectors from the segments; only rows
+ * missing from the segments, or whose segment vector was stored for another
+ * row with the same id (see {@link #fingerprint}), have their embeddings
+ * loaded from the table. Cached rows drop their embedding, which is read
+ * back from the segments when needed. The vector index still keeps its own
+ * copy: normalized floats for the HNSW and exact indexes (and the HNSW graph
+ * is rebuilt from them on every start), codes for the quantized index. Only
+ * with the quantized index do the full-precision vectors stay off the heap.
+ * 
+ * Uses of a row ({@link #recordHits}) are counted in memory and written to
+ * {@code hit_count}/{@code last_hit_at} in one batch by {@link #flushHits},
+ * so retrieval never waits for an UPDATE.
  */
 @Repository
 public class ChatHistoryRepository {
+    private static final Logger logger = LoggerFactory.getLogger(ChatHistoryRepository.class);
+    
     private final JdbcTemplate jdbcTemplate;
+    private final VectorIndex vectorIndex;
+    private final Map<Long, ChatHistory> historyById = new ConcurrentHashMap<>();
+    private volatile boolean indexLoaded = false;
+    
+    // Uses not yet written to the table, and deleted rows whose vectors are still in the index
+    private final Map<Long, LongAdder> pendingHits = new ConcurrentHashMap<>();
+    private final Set<Long> deletedIds = ConcurrentHashMap.newKeySet();
+    
+    @Value("${rag.write-behind.enabled:true}")
+    private boolean writeBehindEnabled;
+    
+    @Value("${rag.write-behind.queue-capacity:1000}")
+    private int writeBehindQueueCapacity;
+    
+    @Value("${rag.write-behind.batch-size:50}")
+    private int writeBehindBatchSize;
+    
+    @Value("${rag.write-behind.flush-interval-ms:200}")
+    private long writeBehindFlushIntervalMs;
+    
+    @Value("${rag.write-behind.enqueue-timeout-ms:100}")
+    private long writeBehindEnqueueTimeoutMs;
+    
+    @Value("${rag.write-behind.max-retries:3}")
+    private int writeBehindMaxRetries;
+    
+    @Value("${rag.write-behind.retry-backoff-ms:200}")
+    private long writeBehindRetryBackoffMs;
+    
+    private ChatHistoryWriteBehind writeBehind;
+    
+    @Value("${rag.segments.enabled:true}")
+    private boolean segmentsEnabled;
+    
+    @Value("${rag.segments.directory:data/vector-segments}")
+    private String segmentsDirectory;
+    
+    @Value("${rag.segments.flush-rows:1000}")
+    private int segmentFlushRows;
+    
+    @Value("${rag.segments.max-segments:8}")
+    private int maxSegments;
+    
+    @Value("${rag.segments.verify-checksums:false}")
+    private boolean verifySegmentChecksums;
+    
+    private VectorSegmentStore segmentStore;
+    
+    // Embeddings missing from the segments are fetched from the table in chunks of this many ids
+    private static final int EMBEDDING_FETCH_SIZE = 1000;
+    
+    @Value("${rag.mirror.page-size:1000}")
+    private int mirrorPageSize;
+    
+    @Value("${rag.mirror.refresh-interval-ms:10000}")
+    private long mirrorRefreshIntervalMs;
+    
+    // A transaction that commits late can insert a row whose created_at is a little
+    // older than rows already seen, so refreshes look back this far
+    private static final Duration CREATED_AT_OVERLAP = Duration.ofSeconds(5);
+    
+    // Highest id and created_at pulled from the table so far
+    private volatile long lastSeenId = 0;
+    private volatile Timestamp lastSeenCreatedAt = new Timestamp(0);
+    private final Object refreshLock = new Object();
+    private ScheduledExecutorService mirrorRefresher;
+    
+    // Ids are reserved from the table's sequence in blocks, so queued rows can be numbered up front
+    private static final int ID_BLOCK_SIZE = 50;
+    private final Deque<Long> reservedIds = new ArrayDeque<>();
     
     private final RowMapper<ChatHistory> rowMapper = (rs, rowNum) -> {
-        String embeddingStr = rs.getString("embedding");
-        double[] embedding = null;
-        if (embeddingStr != null) {
-            // Parse JSON array string to double[]
-            String[] values = embeddingStr
-                .replace("[", "")
-                .replace("]", "")
-                .split(",");
-            embedding = new double[values.length];
-            for (int i = 0; i < values.length; i++) {
-                embedding[i] = Double.parseDouble(values[i].trim());
-            }
-        }
+        // Decode little-endian float32 bytes straight into float[]
+        float[] embedding = EmbeddingCodec.decode(rs.getBytes("embedding"));
             
         return new ChatHistory(
             rs.getLong("id"),
@@ -37,8 +159,75 @@ public class ChatHistoryRepository {
         );
     };
     
-    public ChatHistoryRepository(JdbcTemplate jdbcTemplate) {
+    public ChatHistoryRepository(JdbcTemplate jdbcTemplate, VectorIndex vectorIndex) {
         this.jdbcTemplate = jdbcTemplate;
+        this.vectorIndex = vectorIndex;
+    }
+    
+    @PostConstruct
+    private void init() {
+        if (writeBehindEnabled) {
+            writeBehind = new ChatHistoryWriteBehind(this::insertBatch, this::forgetUnwritten,
+                writeBehindQueueCapacity, writeBehindBatchSize,
+                Duration.ofMillis(writeBehindFlushIntervalMs), Duration.ofMillis(writeBehindEnqueueTimeoutMs),
+                writeBehindMaxRetries, Duration.ofMillis(writeBehindRetryBackoffMs));
+        }
+        logger.info("ChatHistoryRepository write-behind enabled: {} (batch size {}, flush interval {} ms)",
+                   writeBehindEnabled, writeBehindBatchSize, writeBehindFlushIntervalMs);
+        
+        if (segmentsEnabled) {
+            // Vectors of deleted rows are dropped when segments are compacted
+            segmentStore = new VectorSegmentStore(Path.of(segmentsDirectory), segmentFlushRows, maxSegments,
+                verifySegmentChecksums, id -> !indexLoaded || historyById.containsKey(id));
+            try {
+                segmentStore.open();
+            } catch (IOException e) {
+                logger.warn("Vector segments unavailable, embeddings will be loaded from the database: {}",
+                           e.getMessage());
+                segmentStore = null;
+            }
+        }
+        
+        if (vectorIndex instanceof QuantizedIndex quantized) {
+            // Retraining re-encodes every row from its full-precision vector
+            quantized.setVectorSource(id -> {
+                ChatHistory history = historyById.get(id);
+                return history != null ? embeddingOf(history) : null;
+            });
+            if (segmentStore == null) {
+                logger.warn("Quantized index without vector segments: re-ranking needs every full-precision "
+                           + "embedding on the heap, so the codes add memory instead of saving it. "
+                           + "Enable rag.segments.enabled to keep the embeddings off the heap.");
+            }
+        }
+        
+        if (mirrorRefreshIntervalMs > 0) {
+            mirrorRefresher = Executors.newSingleThreadScheduledExecutor(runnable -> {
+                Thread thread = new Thread(runnable, "chat-history-mirror-refresh");
+                thread.setDaemon(true);
+                return thread;
+            });
+            mirrorRefresher.scheduleWithFixedDelay(() -> {
+                try {
+                    refresh();
+                } catch (RuntimeException e) {
+                    logger.warn("Chat history refresh failed: {}", e.getMessage());
+                }
+            }, mirrorRefreshIntervalMs, mirrorRefreshIntervalMs, TimeUnit.MILLISECONDS);
+        }
+    }
+    
+    @PreDestroy
+    private void shutdown() {
+        if (mirrorRefresher != null) {
+            mirrorRefresher.shutdownNow();
+        }
+        if (writeBehind != null) {
+            writeBehind.shutdown(); // Writes any rows still queued
+        }
+        if (segmentStore != null) {
+            segmentStore.close(); // Writes buffered vectors to a final segment
+        }
     }
     
     /**
@@ -48,48 +237,650 @@ public class ChatHistoryRepository {
         String sql = """
             INSERT INTO chat_history (prompt, response, embedding)
             VALUES (?, ?, ?)
-            RETURNING id, prompt, response, embedding
             """;
-            
-        return jdbcTemplate.queryForObject(sql, rowMapper,
+        
+        // Generated keys instead of RETURNING, which H2 (the h2 profile) does not support
+        KeyHolder keyHolder = new GeneratedKeyHolder();
+        jdbcTemplate.update(connection -> {
+            PreparedStatement ps = connection.prepareStatement(sql, new String[] {"id"});
+            ps.setString(1, history.getPrompt());
+            ps.setString(2, history.getResponse());
+            ps.setBytes(3, history.getEmbeddingAsBytes());
+            return ps;
+        }, keyHolder);
+        ChatHistory saved = new ChatHistory(
+            keyHolder.getKey().longValue(), // SERIAL on PostgreSQL, BIGINT on H2
+            history.getPrompt(),
+            history.getResponse(),
+            history.getEmbedding()
+        );
+        
+        // Rows saved before the index is loaded are picked up by the initial load
+        synchronized (this) {
+            if (indexLoaded) {
+                addToIndex(saved);
+            }
+        }
+        return saved;
+    }
+    
+    /**
+     * Save a new chat interaction without waiting for the database.
+     * 
+     * The returned row already has its id and is visible to
+     * {@link #findNearestNeighbors} right away; the insert happens in the
+     * background. Falls back to {@link #save} when write-behind is disabled.
+     */
+    public ChatHistory saveAsync(ChatHistory history) {
+        if (writeBehind == null) {
+            return save(history);
+        }
+        
+        ChatHistory queued = new ChatHistory(
+            reservePendingId(),
             history.getPrompt(),
             history.getResponse(),
-            history.getEmbeddingAsString()
+            history.getEmbedding()
         );
+        ensureIndexLoaded();
+        addToIndex(queued);
+        writeBehind.enqueue(queued);
+        return queued;
+    }
+    
+    /**
+     * Rows waiting in, written by and dropped by the write-behind queue.
+     */
+    public ChatHistoryWriteBehind.Stats getWriteBehindStats() {
+        return writeBehind != null ? writeBehind.stats() : new ChatHistoryWriteBehind.Stats(0, 0, 0);
+    }
+    
+    /**
+     * Save many rows with one batched insert, e.g. chunks of an ingested document.
+     * The rows are searchable once this returns.
+     */
+    public List<ChatHistory> saveAll(List<ChatHistory> histories) {
+        List<Long> ids = reserveIds(histories.size());
+        List<ChatHistory> saved = new ArrayList<>(histories.size());
+        for (int i = 0; i < histories.size(); i++) {
+            ChatHistory history = histories.get(i);
+            ChatHistory row = new ChatHistory(ids.get(i), history.getPrompt(), history.getResponse(), history.getEmbedding());
+            row.setSource(history.getSource());
+            saved.add(row);
+        }
+        insertBatch(saved);
+        
+        ensureIndexLoaded();
+        saved.forEach(this::addToIndex);
+        return saved;
+    }
+    
+    /**
+     * Delete all rows that were ingested from the given source.
+     * 
+     * @return number of rows deleted
+     */
+    public int deleteBySource(String source) {
+        // Ids first, then exactly those rows: DELETE ... RETURNING is PostgreSQL only.
+        // Rows of a source are only added by the ingestion that calls this.
+        List<Long> ids = jdbcTemplate.queryForList(
+            "SELECT id FROM chat_history WHERE source = ?", Long.class, source);
+        if (ids.isEmpty()) {
+            return 0;
+        }
+        int deleted = deleteRows(ids);
+        ids.forEach(historyById::remove);
+        vectorIndex.removeAll(new HashSet<>(ids));
+        return deleted;
+    }
+    
+    /**
+     * Delete rows by id with one statement. They stop showing up in search
+     * results right away; their vectors stay in the index until
+     * {@link #purgeDeletedVectors}, so a run of batches rebuilds it only once.
+     * 
+     * @return number of rows deleted
+     */
+    public int deleteByIds(Collection<Long> ids) {
+        if (ids.isEmpty()) {
+            return 0;
+        }
+        // Keeps a refresh that is running from adding the rows back to the mirror
+        synchronized (refreshLock) {
+            int deleted = deleteRows(ids);
+            // Ids that were already gone are not in the mirror or the index either
+            ids.forEach(historyById::remove);
+            deletedIds.addAll(ids);
+            return deleted;
+        }
+    }
+    
+    private int deleteRows(Collection<Long> ids) {
+        Object[] idArray = ids.toArray();
+        return jdbcTemplate.update("DELETE FROM chat_history WHERE id = ANY(?)",
+            ps -> ps.setArray(1, ps.getConnection().createArrayOf("bigint", idArray)));
+    }
+    
+    /**
+     * Remove the vectors of rows deleted by {@link #deleteByIds} from the index.
+     * 
+     * @return vectors removed
+     */
+    public int purgeDeletedVectors() {
+        Set<Long> ids = new HashSet<>(deletedIds);
+        int removed = vectorIndex.removeAll(ids);
+        deletedIds.removeAll(ids);
+        return removed;
+    }
+    
+    /**
+     * Count a use of each row, e.g. as prompt context or as a cached answer.
+     */
+    public void recordHits(Collection<Long> ids) {
+        for (long id : ids) {
+            pendingHits.computeIfAbsent(id, key -> new LongAdder()).increment();
+        }
+    }
+    
+    /**
+     * Write the uses counted since the last flush with one batched UPDATE.
+     * Uses of rows still waiting in the write-behind queue are lost.
+     * 
+     * @return rows updated
+     */
+    public int flushHits() {
+        List<Object[]> rows = new ArrayList<>();
+        for (Long id : new ArrayList<>(pendingHits.keySet())) {
+            LongAdder hits = pendingHits.remove(id);
+            if (hits != null) {
+                rows.add(new Object[] {hits.sum(), id});
+            }
+        }
+        if (!rows.isEmpty()) {
+            jdbcTemplate.batchUpdate(
+                "UPDATE chat_history SET hit_count = hit_count + ?, last_hit_at = CURRENT_TIMESTAMP WHERE id = ?",
+                rows);
+        }
+        return rows.size();
+    }
+    
+    /**
+     * Add hit counts to rows without marking them as used now, e.g. the hits
+     * of removed duplicates to the entry that replaces them.
+     */
+    public void addHitCounts(Map<Long, Long> hitsById) {
+        List<Object[]> rows = new ArrayList<>(hitsById.size());
+        hitsById.forEach((id, hits) -> rows.add(new Object[] {hits, id}));
+        jdbcTemplate.batchUpdate("UPDATE chat_history SET hit_count = hit_count + ? WHERE id = ?", rows);
+    }
+    
+    /**
+     * Usage of every Q&A row (ingested document chunks are managed by the
+     * ingest command and left out).
+     */
+    public List<RowUsage> findQaRowUsage() {
+        return jdbcTemplate.query(
+            "SELECT id, hit_count, created_at, last_hit_at FROM chat_history WHERE source IS NULL ORDER BY id",
+            (rs, rowNum) -> {
+                Timestamp lastHit = rs.getTimestamp("last_hit_at");
+                Timestamp created = rs.getTimestamp("created_at");
+                return new RowUsage(rs.getLong("id"), rs.getLong("hit_count"),
+                    (lastHit != null ? lastHit : created).toInstant());
+            });
+    }
+    
+    /**
+     * The row as held by the in-memory mirror, or null if it is not there.
+     * With vector segments enabled it carries no embedding; see {@link #embeddingOf}.
+     */
+    public ChatHistory findCached(long id) {
+        ensureIndexLoaded();
+        return historyById.get(id);
+    }
+    
+    /**
+     * Insert rows with pre-assigned ids in one batch. ON CONFLICT makes a
+     * retried batch safe if part of it was already written; the id is the only
+     * unique column, so no conflict target is named (H2 does not accept one).
+     */
+    private void insertBatch(List<ChatHistory> batch) {
+        String sql = """
+            INSERT INTO chat_history (id, prompt, response, embedding, source)
+            VALUES (?, ?, ?, ?, ?)
+            ON CONFLICT DO NOTHING
+            """;
+        
+        List<Object[]> rows = new ArrayList<>(batch.size());
+        for (ChatHistory history : batch) {
+            rows.add(new Object[] {
+                history.getId(),
+                history.getPrompt(),
+                history.getResponse(),
+                history.getEmbeddingAsBytes(),
+                history.getSource()
+            });
+        }
+        jdbcTemplate.batchUpdate(sql, rows);
+    }
+    
+    /**
+     * Drop rows the write-behind queue gave up on from the mirror and the index:
+     * they will never be in the table, so they must not be served as context or
+     * as cached answers either. Their segment vectors are no longer live once
+     * the rows are gone from the mirror, and are dropped when segments merge.
+     */
+    private void forgetUnwritten(List<ChatHistory> rows) {
+        Set<Long> ids = new HashSet<>();
+        for (ChatHistory row : rows) {
+            ids.add(row.getId());
+            historyById.remove(row.getId());
+        }
+        vectorIndex.removeAll(ids);
+        logger.warn("Removed {} unwritten chat history rows from the in-memory mirror", ids.size());
+    }
+    
+    private long reserveId() {
+        return reserveIds(1).get(0);
+    }
+    
+    /**
+     * Reserve an id for a queued row and register it with the write-behind queue
+     * in the same step, so {@link #lowestUnwrittenId} never misses it.
+     */
+    private synchronized long reservePendingId() {
+        long id = reserveId();
+        writeBehind.register(id);
+        return id;
+    }
+    
+    /**
+     * Lowest id a row may still be inserted with: ids reserved for the
+     * write-behind queue but not yet written, or the next id of the reserved
+     * block. Every row with a lower id (from this instance) is already in the
+     * table, so readers walking the table in id order must not move past it.
+     */
+    public synchronized long lowestUnwrittenId() {
+        long lowest = Long.MAX_VALUE;
+        if (writeBehind != null) {
+            lowest = writeBehind.lowestPendingId().orElse(Long.MAX_VALUE);
+        }
+        if (!reservedIds.isEmpty()) {
+            lowest = Math.min(lowest, reservedIds.peekFirst());
+        }
+        return lowest;
+    }
+    
+    /**
+     * Reserve ids from the table's sequence. Single ids are served from a
+     * block reserved in advance; large requests go straight to the sequence.
+     */
+    private synchronized List<Long> reserveIds(int count) {
+        if (count > ID_BLOCK_SIZE) {
+            return nextSequenceValues(count);
+        }
+        if (reservedIds.size() < count) {
+            reservedIds.addAll(nextSequenceValues(ID_BLOCK_SIZE));
+        }
+        List<Long> ids = new ArrayList<>(count);
+        for (int i = 0; i < count; i++) {
+            ids.add(reservedIds.removeFirst());
+        }
+        return ids;
+    }
+    
+    private List<Long> nextSequenceValues(int count) {
+        return jdbcTemplate.queryForList(
+            "SELECT nextval(pg_get_serial_sequence('chat_history', 'id')) FROM generate_series(1, ?)",
+            Long.class, count);
     }
     
     /**
      * Find similar chat interactions using vector similarity search.
-     * Uses L2 distance (Euclidean) to find nearest neighbors.
+     * Ranks rows by cosine similarity using the configured {@link VectorIndex}.
      * 
-     * @param embedding Query vector
+     * @param queryEmbedding Query vector
      * @param k Number of results to return
-     * @return List of similar chat interactions
+     * @return List of similar chat interactions, most similar first
      */
-    public List<ChatHistory> findNearestNeighbors(double[] queryEmbedding, int k) {
-        // Fetch all records and compute similarity in memory since we can't use pgvector
-        String sql = "SELECT id, prompt, response, embedding FROM chat_history";
-        List<ChatHistory> allHistory = jdbcTemplate.query(sql, rowMapper);
-        
-        // Sort by cosine similarity
-        return allHistory.stream()
-            .filter(h -> h.getEmbedding() != null) // Filter out any null embeddings
-            .sorted((a, b) -> Double.compare(
-                cosineSimilarity(b.getEmbedding(), queryEmbedding),
-                cosineSimilarity(a.getEmbedding(), queryEmbedding)))
-            .limit(k)
+    public List<ChatHistory> findNearestNeighbors(float[] queryEmbedding, int k) {
+        return findNearestNeighborsWithScores(queryEmbedding, k).stream()
+            .map(ScoredChatHistory::history)
             .collect(java.util.stream.Collectors.toList());
     }
     
-    private double cosineSimilarity(double[] a, double[] b) {
-        double dotProduct = 0.0;
-        double normA = 0.0;
-        double normB = 0.0;
-        for (int i = 0; i < a.length; i++) {
-            dotProduct += a[i] * b[i];
-            normA += a[i] * a[i];
-            normB += b[i] * b[i];
+    /**
+     * Same as {@link #findNearestNeighbors}, but keeps the cosine similarity of each hit.
+     */
+    public List<ScoredChatHistory> findNearestNeighborsWithScores(float[] queryEmbedding, int k) {
+        ensureIndexLoaded();
+        
+        // Indexes with approximate scores return extra candidates that are re-ranked exactly
+        int candidates = vectorIndex.rerankCandidates(k);
+        List<SearchHit> hits = candidates > 0
+            ? rerank(queryEmbedding, vectorIndex.search(queryEmbedding, candidates), k)
+            : vectorIndex.search(queryEmbedding, k);
+        List<ScoredChatHistory> results = new ArrayList<>(hits.size());
+        for (SearchHit hit : hits) {
+            ChatHistory history = historyById.get(hit.id());
+            if (history != null) {
+                results.add(new ScoredChatHistory(history, hit.score()));
+            }
+        }
+        return results;
+    }
+    
+    /**
+     * Re-score candidates by exact cosine similarity against the full-precision
+     * embeddings of the rows and keep the best {@code k}.
+     */
+    private List<SearchHit> rerank(float[] queryEmbedding, List<SearchHit> candidates, int k) {
+        float[] query = VectorMath.normalize(queryEmbedding);
+        TopK topK = new TopK(k);
+        for (SearchHit candidate : candidates) {
+            ChatHistory history = historyById.get(candidate.id());
+            float[] embedding = history != null ? embeddingOf(history) : null;
+            if (embedding != null) {
+                topK.offer(candidate.id(), cosineSimilarity(query, embedding));
+            }
+        }
+        return topK.toSortedList();
+    }
+    
+    private static double cosineSimilarity(float[] normalizedQuery, float[] embedding) {
+        if (embedding == null) {
+            return 0.0;
+        }
+        double norm = Math.sqrt(VectorMath.dot(embedding, embedding));
+        return norm == 0.0 ? 0.0 : VectorMath.dot(normalizedQuery, embedding) / norm;
+    }
+    
+    /**
+     * Compare search results with the exact top-k computed by brute-force
+     * cosine similarity over every row.
+     * 
+     * Stored embeddings are used as queries; each query's own row is left out
+     * of both result lists so it does not count as a trivial hit.
+     * 
+     * @param k results per query
+     * @param sampleSize number of stored rows to use as queries
+     */
+    public RecallReport measureRecall(int k, int sampleSize) {
+        ensureIndexLoaded();
+        List<ChatHistory> rows = new ArrayList<>(historyById.values());
+        Collections.shuffle(rows, new Random(42));
+        List<ChatHistory> queries = rows.subList(0, Math.min(sampleSize, rows.size()));
+        List<float[]> embeddings = rows.stream().map(this::embeddingOf).toList();
+        
+        double indexRecall = 0.0;
+        double searchRecall = 0.0;
+        long exactNanos = 0;
+        long searchNanos = 0;
+        for (int q = 0; q < queries.size(); q++) {
+            ChatHistory queryRow = queries.get(q);
+            float[] query = embeddings.get(q);
+            
+            long start = System.nanoTime();
+            float[] normalized = VectorMath.normalize(query);
+            TopK exactTopK = new TopK(k + 1);
+            for (int i = 0; i < rows.size(); i++) {
+                exactTopK.offer(rows.get(i).getId(), cosineSimilarity(normalized, embeddings.get(i)));
+            }
+            Set<Long> exact = withoutQuery(exactTopK.toSortedList().stream().map(SearchHit::id).toList(),
+                                           queryRow.getId(), k);
+            exactNanos += System.nanoTime() - start;
+            
+            Set<Long> fromIndex = withoutQuery(vectorIndex.search(query, k + 1).stream().map(SearchHit::id).toList(),
+                                               queryRow.getId(), k);
+            
+            start = System.nanoTime();
+            List<Long> found = findNearestNeighborsWithScores(query, k + 1).stream()
+                .map(scored -> scored.history().getId())
+                .toList();
+            searchNanos += System.nanoTime() - start;
+            
+            indexRecall += recall(exact, fromIndex);
+            searchRecall += recall(exact, withoutQuery(found, queryRow.getId(), k));
+        }
+        
+        int n = Math.max(queries.size(), 1);
+        return new RecallReport(k, queries.size(), rows.size(), indexRecall / n, searchRecall / n,
+                                exactNanos / n / 1000, searchNanos / n / 1000);
+    }
+    
+    private static Set<Long> withoutQuery(List<Long> ids, long queryId, int k) {
+        Set<Long> result = new HashSet<>();
+        for (long id : ids) {
+            if (id != queryId && result.size() < k) {
+                result.add(id);
+            }
+        }
+        return result;
+    }
+    
+    private static double recall(Set<Long> exact, Set<Long> found) {
+        if (exact.isEmpty()) {
+            return 1.0;
+        }
+        long matches = found.stream().filter(exact::contains).count();
+        return (double) matches / exact.size();
+    }
+    
+    /**
+     * Pull rows inserted by other processes since the last load or refresh:
+     * rows with an id above the highest one seen, or a created_at after the
+     * latest one seen. Only rows not in memory yet (e.g. not saved through
+     * this repository) are transferred in full. Does nothing until the mirror
+     * has been loaded.
+     * 
+     * @return rows added
+     */
+    public int refresh() {
+        if (!indexLoaded) {
+            return 0;
+        }
+        synchronized (refreshLock) {
+            // Ids first: the look-back window re-reads recent ids, but only unknown rows are transferred in full
+            Timestamp since = new Timestamp(lastSeenCreatedAt.getTime() - CREATED_AT_OVERLAP.toMillis());
+            List<Long> newIds = new ArrayList<>();
+            jdbcTemplate.query("SELECT id, created_at FROM chat_history WHERE id > ? OR created_at > ?",
+                (RowCallbackHandler) rs -> {
+                    long id = rs.getLong("id");
+                    trackLastSeen(id, rs.getTimestamp("created_at"));
+                    if (!historyById.containsKey(id)) {
+                        newIds.add(id);
+                    }
+                }, lastSeenId, since);
+            
+            for (int from = 0; from < newIds.size(); from += EMBEDDING_FETCH_SIZE) {
+                Object[] ids = newIds.subList(from, Math.min(from + EMBEDDING_FETCH_SIZE, newIds.size())).toArray();
+                jdbcTemplate.query(
+                    "SELECT id, prompt, response, source, embedding FROM chat_history WHERE id = ANY(?)",
+                    ps -> ps.setArray(1, ps.getConnection().createArrayOf("bigint", ids)),
+                    (RowCallbackHandler) rs -> {
+                        ChatHistory history = rowMapper.mapRow(rs, 0);
+                        history.setSource(rs.getString("source"));
+                        addToIndex(history);
+                    });
+            }
+            if (!newIds.isEmpty()) {
+                logger.info("Refreshed chat history mirror: {} new rows", newIds.size());
+            }
+            return newIds.size();
+        }
+    }
+    
+    private void trackLastSeen(long id, Timestamp createdAt) {
+        if (createdAt != null && createdAt.after(lastSeenCreatedAt)) {
+            lastSeenCreatedAt = createdAt;
+        }
+        lastSeenId = Math.max(lastSeenId, id);
+    }
+    
+    /**
+     * Stream the rows matching {@code condition} in id order, one page at a
+     * time (keyset pagination: each page starts after the last id of the
+     * previous one). Rows are handed to the consumer as they are read with a
+     * JDBC fetch size, so neither the driver nor this code holds the result set.
+     * 
+     * @return rows read
+     */
+    private int streamRows(String condition, Object[] args, boolean withEmbedding, Consumer<ChatHistory> consumer) {
+        String sql = "SELECT id, prompt, response, source, created_at" + (withEmbedding ? ", embedding" : "")
+            + " FROM chat_history WHERE (" + condition + ") AND id > ? ORDER BY id LIMIT ?";
+        long[] afterId = {0};
+        int total = 0;
+        while (true) {
+            int[] pageRows = {0};
+            jdbcTemplate.query(connection -> {
+                PreparedStatement ps = connection.prepareStatement(sql);
+                ps.setFetchSize(mirrorPageSize);
+                int index = 1;
+                for (Object arg : args) {
+                    ps.setObject(index++, arg);
+                }
+                ps.setLong(index++, afterId[0]);
+                ps.setInt(index, mirrorPageSize);
+                return ps;
+            }, (RowCallbackHandler) rs -> {
+                ChatHistory history = new ChatHistory(
+                    rs.getLong("id"),
+                    rs.getString("prompt"),
+                    rs.getString("response"),
+                    withEmbedding ? EmbeddingCodec.decode(rs.getBytes("embedding")) : null
+                );
+                history.setSource(rs.getString("source"));
+                trackLastSeen(history.getId(), rs.getTimestamp("created_at"));
+                afterId[0] = history.getId();
+                pageRows[0]++;
+                consumer.accept(history);
+            });
+            total += pageRows[0];
+            if (pageRows[0] < mirrorPageSize) {
+                return total;
+            }
         }
-        return dotProduct / (Math.sqrt(normA) * Math.sqrt(normB));
     }
+    
+    /**
+     * Build the index from the table once; later rows arrive through {@link #save}
+     * and {@link #refresh}.
+     */
+    private void ensureIndexLoaded() {
+        if (indexLoaded) {
+            return;
+        }
+        synchronized (this) {
+            if (indexLoaded) {
+                return;
+            }
+            long start = System.currentTimeMillis();
+            if (segmentStore != null) {
+                loadFromSegments();
+            } else {
+                streamRows("TRUE", new Object[0], true, this::addToIndex);
+            }
+            indexLoaded = true;
+            logger.info("Loaded {} chat history rows into the vector index in {} ms",
+                       vectorIndex.size(), System.currentTimeMillis() - start);
+        }
+    }
+    
+    /**
+     * Load the text columns from the table and the vectors from the segments.
+     * Embeddings of rows the segments do not have yet (new since the last
+     * flush, or first start) are read from the table and appended to the segments.
+     */
+    private void loadFromSegments() {
+        streamRows("TRUE", new Object[0], false, history -> historyById.put(history.getId(), history));
+        
+        Set<Long> indexed = new HashSet<>();
+        int[] stale = {0};
+        segmentStore.forEach((id, fingerprint, vector) -> {
+            ChatHistory history = historyById.get(id);
+            if (history == null) {
+                return;
+            }
+            if (fingerprint(history) == fingerprint) {
+                vectorIndex.add(id, vector);
+                indexed.add(id);
+            } else {
+                stale[0]++; // Loaded from the table below, which supersedes the segment copy
+            }
+        });
+        if (stale[0] > 0) {
+            logger.warn("{} vectors in the segments were stored for other rows with the same id "
+                       + "(table truncated or re-created, or another database?); reloading them from the table",
+                       stale[0]);
+        }
+        
+        List<Long> missing = historyById.keySet().stream().filter(id -> !indexed.contains(id)).toList();
+        for (int from = 0; from < missing.size(); from += EMBEDDING_FETCH_SIZE) {
+            Object[] ids = missing.subList(from, Math.min(from + EMBEDDING_FETCH_SIZE, missing.size())).toArray();
+            jdbcTemplate.query("SELECT id, embedding FROM chat_history WHERE id = ANY(?)",
+                ps -> ps.setArray(1, ps.getConnection().createArrayOf("bigint", ids)),
+                (RowCallbackHandler) rs -> {
+                    long id = rs.getLong("id");
+                    float[] embedding = EmbeddingCodec.decode(rs.getBytes("embedding"));
+                    segmentStore.append(id, fingerprint(historyById.get(id)), embedding);
+                    vectorIndex.add(id, embedding);
+                });
+        }
+        logger.info("Took {} vectors from segments, {} from the database", indexed.size(), missing.size());
+    }
+    
+    private void addToIndex(ChatHistory history) {
+        if (history.getEmbedding() == null) {
+            return; // Nothing to search on
+        }
+        if (segmentStore != null) {
+            // The vector lives in the segments; the cached row keeps only the text
+            segmentStore.append(history.getId(), fingerprint(history), history.getEmbedding());
+            ChatHistory cached = new ChatHistory(history.getId(), history.getPrompt(), history.getResponse(), null);
+            cached.setSource(history.getSource());
+            historyById.put(history.getId(), cached);
+        } else {
+            historyById.put(history.getId(), history);
+        }
+        vectorIndex.add(history.getId(), history.getEmbedding());
+    }
+    
+    /**
+     * Identifies the row a segment vector was stored for: 64-bit FNV-1a over the
+     * prompt and response. Rows are never updated in place, so a mismatch for
+     * the same id means the id now names a different row.
+     */
+    static long fingerprint(ChatHistory history) {
+        long hash = 0xcbf29ce484222325L;
+        String content = history.getPrompt() + '\0' + history.getResponse();
+        for (int i = 0; i < content.length(); i++) {
+            hash ^= content.charAt(i);
+            hash *= 0x100000001b3L;
+        }
+        return hash;
+    }
+    
+    /**
+     * Embedding of a stored row. With vector segments enabled, cached rows do not
+     * carry their embedding, so use this instead of {@link ChatHistory#getEmbedding()}.
+     */
+    public float[] embeddingOf(ChatHistory history) {
+        if (history.getEmbedding() != null || segmentStore == null) {
+            return history.getEmbedding();
+        }
+        return segmentStore.get(history.getId());
+    }
+    
+    /**
+     * @param indexRecall recall@k of the raw index results (before any re-ranking)
+     * @param searchRecall recall@k of {@link #findNearestNeighbors}, i.e. after re-ranking
+     * @param exactMicros average time of the brute-force search per query
+     * @param searchMicros average time of {@link #findNearestNeighbors} per query
+     */
+    public record RecallReport(int k, int queries, int rows, double indexRecall, double searchRecall,
+                               long exactMicros, long searchMicros) {}
+    
+    /**
+     * @param lastUsed last hit, or creation for rows never used
+     */
+    public record RowUsage(long id, long hitCount, Instant lastUsed) {}
 }
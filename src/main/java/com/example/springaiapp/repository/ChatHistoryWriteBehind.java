@@ -0,0 +1,223 @@
+package com.example.springaiapp.repository;
+
+import com.example.springaiapp.model.ChatHistory;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.OptionalLong;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.ConcurrentSkipListSet;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.Consumer;
+
+/**
+ * Write-behind queue for chat history rows.
+ *
+ * Educational Note:
+ * Saving the Q&A pair is not needed to answer the user, so there is no
+ * reason to make them wait for the database. Rows are queued and a
+ * background thread writes them in batches, either when {@code batchSize}
+ * rows are waiting or {@code flushInterval} after the first one arrived.
+ * One multi-row round trip replaces many single-row ones and keeps the
+ * small connection pool free for queries.
+ *
+ * Durability:
+ * - the queue is bounded; when it is full, callers wait up to
+ *   {@code enqueueTimeout} (backpressure) and then write their row themselves
+ * - failed batches are retried with exponential backoff; rows must carry
+ *   pre-assigned ids so a retried insert is idempotent
+ * - rows still failing after {@code maxRetries} are handed to {@code onGiveUp},
+ *   so the caller can forget rows that will never be in the table
+ * - {@link #shutdown} writes everything still queued before returning
+ *
+ * Ids are reserved before the insert, and a row written on the calling thread
+ * or retried can land after rows with higher ids. {@link #lowestPendingId}
+ * tells readers that walk the table in id order (the compactor) below which id
+ * every row is already written.
+ */
+public class ChatHistoryWriteBehind {
+    private static final Logger logger = LoggerFactory.getLogger(ChatHistoryWriteBehind.class);
+
+    private final Consumer<List<ChatHistory>> batchWriter;
+    private final Consumer<List<ChatHistory>> onGiveUp;
+    private final BlockingQueue<ChatHistory> queue;
+    private final int batchSize;
+    private final long flushIntervalNanos;
+    private final Duration enqueueTimeout;
+    private final int maxRetries;
+    private final Duration retryBackoff;
+    private final Thread flusher;
+    private final ConcurrentSkipListSet<Long> pendingIds = new ConcurrentSkipListSet<>();
+    private volatile boolean running = true;
+
+    private final LongAdder written = new LongAdder();
+    private final LongAdder failed = new LongAdder();
+
+    /**
+     * @param batchWriter writes one batch; throws on failure
+     * @param onGiveUp receives each batch that could not be written
+     */
+    public ChatHistoryWriteBehind(Consumer<List<ChatHistory>> batchWriter, Consumer<List<ChatHistory>> onGiveUp,
+                                  int queueCapacity, int batchSize, Duration flushInterval, Duration enqueueTimeout,
+                                  int maxRetries, Duration retryBackoff) {
+        this.batchWriter = batchWriter;
+        this.onGiveUp = onGiveUp;
+        this.queue = new ArrayBlockingQueue<>(queueCapacity);
+        this.batchSize = Math.max(1, batchSize);
+        this.flushIntervalNanos = flushInterval.toNanos();
+        this.enqueueTimeout = enqueueTimeout;
+        this.maxRetries = maxRetries;
+        this.retryBackoff = retryBackoff;
+        this.flusher = new Thread(this::flushLoop, "chat-history-write-behind");
+        this.flusher.setDaemon(true);
+        this.flusher.start();
+    }
+
+    /**
+     * Announce a row that is about to be enqueued, so its id counts as pending
+     * from the moment it is reserved.
+     */
+    public void register(long id) {
+        pendingIds.add(id);
+    }
+
+    /**
+     * Queue a row for writing. Blocks for up to {@code enqueueTimeout} when the
+     * queue is full, then falls back to writing the row on the calling thread.
+     */
+    public void enqueue(ChatHistory history) {
+        pendingIds.add(history.getId());
+        if (running) {
+            try {
+                if (queue.offer(history, enqueueTimeout.toMillis(), TimeUnit.MILLISECONDS)) {
+                    return;
+                }
+                logger.warn("Write-behind queue full ({} rows), writing on the calling thread", queue.size());
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+        }
+        writeWithRetry(List.of(history));
+    }
+
+    /**
+     * Stop the background thread and write all rows still queued.
+     */
+    public void shutdown() {
+        running = false;
+        try {
+            flusher.join(TimeUnit.SECONDS.toMillis(30));
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+        List<ChatHistory> remaining = new ArrayList<>();
+        queue.drainTo(remaining);
+        for (int start = 0; start < remaining.size(); start += batchSize) {
+            writeWithRetry(remaining.subList(start, Math.min(start + batchSize, remaining.size())));
+        }
+        logger.info("Write-behind queue stopped: {} rows written, {} failed", written.sum(), failed.sum());
+    }
+
+    /**
+     * Smallest id registered or queued but not yet written (or given up on),
+     * empty if nothing is pending.
+     */
+    public OptionalLong lowestPendingId() {
+        Long lowest = pendingIds.ceiling(Long.MIN_VALUE);
+        return lowest != null ? OptionalLong.of(lowest) : OptionalLong.empty();
+    }
+
+    public Stats stats() {
+        return new Stats(queue.size(), written.sum(), failed.sum());
+    }
+
+    private void flushLoop() {
+        while (running || !queue.isEmpty()) {
+            try {
+                ChatHistory first = queue.poll(100, TimeUnit.MILLISECONDS);
+                if (first == null) {
+                    continue;
+                }
+                List<ChatHistory> batch = new ArrayList<>(batchSize);
+                batch.add(first);
+                long deadline = System.nanoTime() + flushIntervalNanos;
+                while (batch.size() < batchSize && running) {
+                    long remaining = deadline - System.nanoTime();
+                    if (remaining <= 0) {
+                        break;
+                    }
+                    ChatHistory next = queue.poll(remaining, TimeUnit.NANOSECONDS);
+                    if (next == null) {
+                        break;
+                    }
+                    batch.add(next);
+                }
+                queue.drainTo(batch, batchSize - batch.size());
+                writeWithRetry(batch);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                return;
+            }
+        }
+    }
+
+    private void writeWithRetry(List<ChatHistory> batch) {
+        try {
+            writeOrGiveUp(batch);
+        } finally {
+            // Written or dropped, these ids will not show up in the table any later
+            for (ChatHistory history : batch) {
+                pendingIds.remove(history.getId());
+            }
+        }
+    }
+
+    private void writeOrGiveUp(List<ChatHistory> batch) {
+        for (int attempt = 0; ; attempt++) {
+            try {
+                batchWriter.accept(batch);
+                written.add(batch.size());
+                logger.debug("Wrote batch of {} chat history rows", batch.size());
+                return;
+            } catch (RuntimeException e) {
+                if (attempt >= maxRetries) {
+                    logger.error("Giving up on {} chat history rows (ids {}) after {} attempts: {}",
+                                batch.size(), batch.stream().map(ChatHistory::getId).toList(),
+                                attempt + 1, e.getMessage(), e);
+                    giveUp(batch);
+                    return;
+                }
+                long delay = retryBackoff.toMillis() << attempt;
+                logger.warn("Writing {} chat history rows failed (attempt {}), retrying in {} ms: {}",
+                           batch.size(), attempt + 1, delay, e.getMessage());
+                try {
+                    Thread.sleep(delay);
+                } catch (InterruptedException ie) {
+                    Thread.currentThread().interrupt();
+                    giveUp(batch);
+                    return;
+                }
+            }
+        }
+    }
+
+    private void giveUp(List<ChatHistory> batch) {
+        failed.add(batch.size());
+        try {
+            onGiveUp.accept(batch);
+        } catch (RuntimeException e) {
+            logger.warn("Handling {} unwritten chat history rows failed: {}", batch.size(), e.getMessage());
+        }
+    }
+
+    /**
+     * @param pending rows waiting in the queue
+     * @param written rows written since startup
+     * @param failed rows dropped after all retries failed
+     */
+    public record Stats(int pending, long written, long failed) {}
+}
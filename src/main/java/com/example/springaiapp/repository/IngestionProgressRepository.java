@@ -0,0 +1,59 @@
+package com.example.springaiapp.repository;
+
+import org.springframework.dao.DuplicateKeyException;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Repository;
+import java.util.List;
+
+/**
+ * Remembers which files the ingest command has fully processed, and the
+ * hash of their content at the time, so an interrupted run can resume and
+ * unchanged files are not embedded twice.
+ */
+@Repository
+public class IngestionProgressRepository {
+    private final JdbcTemplate jdbcTemplate;
+    
+    public IngestionProgressRepository(JdbcTemplate jdbcTemplate) {
+        this.jdbcTemplate = jdbcTemplate;
+    }
+    
+    /**
+     * Content hash recorded when the source was last fully ingested, or null.
+     */
+    public String findCompletedHash(String source) {
+        List<String> hashes = jdbcTemplate.queryForList(
+            "SELECT content_hash FROM ingestion_progress WHERE source = ?", String.class, source);
+        return hashes.isEmpty() ? null : hashes.get(0);
+    }
+    
+    /**
+     * Record a fully ingested source. Update first, insert if there was no row:
+     * {@code ON CONFLICT (source) DO UPDATE} is not understood by H2 (the h2 profile).
+     */
+    public void markCompleted(String source, String contentHash, int chunks) {
+        if (updateCompleted(source, contentHash, chunks) > 0) {
+            return;
+        }
+        try {
+            jdbcTemplate.update("""
+                INSERT INTO ingestion_progress (source, content_hash, chunks, completed_at)
+                VALUES (?, ?, ?, CURRENT_TIMESTAMP)
+                """,
+                source, contentHash, chunks);
+        } catch (DuplicateKeyException e) {
+            // Another run inserted the row in between
+            updateCompleted(source, contentHash, chunks);
+        }
+    }
+    
+    private int updateCompleted(String source, String contentHash, int chunks) {
+        return jdbcTemplate.update(
+            "UPDATE ingestion_progress SET content_hash = ?, chunks = ?, completed_at = CURRENT_TIMESTAMP WHERE source = ?",
+            contentHash, chunks, source);
+    }
+    
+    public void clear(String source) {
+        jdbcTemplate.update("DELETE FROM ingestion_progress WHERE source = ?", source);
+    }
+}
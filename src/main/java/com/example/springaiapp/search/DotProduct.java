@@ -0,0 +1,18 @@
+package com.example.springaiapp.search;
+
+/**
+ * Dot product over a slice of two float arrays.
+ *
+ * Offsets let callers score vectors stored back to back in one flat
+ * matrix without copying them out first.
+ */
+interface DotProduct {
+
+    float dot(float[] a, int aOffset, float[] b, int bOffset, int length);
+
+    /**
+     * Dot product of {@code length} floats with {@code length} signed bytes
+     * starting at {@code bOffset}, e.g. a query against int8-quantized codes.
+     */
+    float dot(float[] a, byte[] b, int bOffset, int length);
+}
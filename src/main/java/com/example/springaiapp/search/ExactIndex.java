@@ -0,0 +1,184 @@
+package com.example.springaiapp.search;
+
+import java.util.Arrays;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveTask;
+
+/**
+ * Brute-force index: scores the query against every stored vector.
+ *
+ * Always returns the true nearest neighbors, at a cost linear in the number
+ * of rows. It is the right choice for small tables and the reference that
+ * approximate indexes are measured against.
+ *
+ * The scan is kept as cheap as possible:
+ * - vectors are normalized once on insert, so cosine similarity is one dot product
+ * - all vectors live back to back in a single float[] for sequential memory access
+ * - dot products use SIMD when available (see {@link VectorMath})
+ * - large scans are split across cores with fork/join; every partition keeps
+ *   a bounded min-heap of k hits and the partial heaps are merged at the end
+ *
+ * Searches never take a lock. Writers append past the end of the published
+ * rows (or into a grown copy of the arrays) and then publish a new immutable
+ * {@link Snapshot}; a search works on whichever snapshot it read first.
+ */
+public class ExactIndex implements VectorIndex {
+    private static final int INITIAL_CAPACITY = 1024;
+
+    private final ForkJoinPool pool;
+    private final int parallelThreshold;
+
+    private volatile Snapshot snapshot = new Snapshot(new float[0], new long[0], 0, -1);
+    private final Set<Long> known = new HashSet<>();
+
+    public ExactIndex() {
+        this(ForkJoinPool.commonPool(), 8192);
+    }
+
+    /**
+     * @param pool pool used for parallel scans
+     * @param parallelThreshold scans over fewer vectors than this stay on the calling thread
+     */
+    public ExactIndex(ForkJoinPool pool, int parallelThreshold) {
+        this.pool = pool;
+        this.parallelThreshold = parallelThreshold;
+    }
+
+    @Override
+    public void add(long id, float[] vector) {
+        append(id, VectorMath.normalize(vector));
+    }
+
+    private synchronized void append(long id, float[] normalized) {
+        if (known.contains(id)) {
+            return;
+        }
+        Snapshot current = snapshot;
+        int dimensions = current.dimensions() < 0 ? normalized.length : current.dimensions();
+        if (normalized.length != dimensions) {
+            throw new IllegalArgumentException(String.format(
+                "Vector has %d dimensions but the index holds %d-dimensional vectors",
+                normalized.length, dimensions));
+        }
+        float[] matrix = current.matrix();
+        long[] ids = current.ids();
+        int count = current.count();
+        if (count == ids.length) {
+            int capacity = Math.max(INITIAL_CAPACITY, ids.length + (ids.length >> 1));
+            ids = Arrays.copyOf(ids, capacity);
+            matrix = Arrays.copyOf(matrix, Math.multiplyExact(capacity, dimensions));
+        }
+        // Rows at or past the published count are never read, so they can be written in place
+        System.arraycopy(normalized, 0, matrix, count * dimensions, dimensions);
+        ids[count] = id;
+        known.add(id);
+        snapshot = new Snapshot(matrix, ids, count + 1, dimensions);
+    }
+
+    /**
+     * Copies the remaining rows into new, smaller arrays: searches may still be
+     * scanning the published ones.
+     */
+    @Override
+    public synchronized int removeAll(Set<Long> ids) {
+        int removed = 0;
+        for (long id : ids) {
+            if (known.remove(id)) {
+                removed++;
+            }
+        }
+        if (removed == 0) {
+            return 0;
+        }
+        Snapshot current = snapshot;
+        int dimensions = current.dimensions();
+        int remaining = current.count() - removed;
+        int capacity = Math.max(INITIAL_CAPACITY, remaining + (remaining >> 1));
+        long[] keptIds = new long[capacity];
+        float[] matrix = new float[Math.multiplyExact(capacity, dimensions)];
+        int kept = 0;
+        for (int row = 0; row < current.count(); row++) {
+            if (!ids.contains(current.ids()[row])) {
+                System.arraycopy(current.matrix(), row * dimensions, matrix, kept * dimensions, dimensions);
+                keptIds[kept++] = current.ids()[row];
+            }
+        }
+        snapshot = new Snapshot(matrix, keptIds, kept, dimensions);
+        return removed;
+    }
+
+    @Override
+    public List<SearchHit> search(float[] query, int k) {
+        float[] q = VectorMath.normalize(query);
+        Snapshot s = snapshot;
+        if (s.count() == 0 || k <= 0) {
+            return List.of();
+        }
+        if (q.length != s.dimensions()) {
+            throw new IllegalArgumentException(String.format(
+                "Query has %d dimensions but the index holds %d-dimensional vectors",
+                q.length, s.dimensions()));
+        }
+        if (s.count() < parallelThreshold || pool.getParallelism() < 2) {
+            return scan(s, q, k, 0, s.count()).toSortedList();
+        }
+        // A few partitions per worker so faster threads can steal remaining work
+        int partitionSize = Math.max(parallelThreshold / 2, s.count() / (pool.getParallelism() * 4) + 1);
+        return pool.invoke(new ScanTask(s, q, k, 0, s.count(), partitionSize)).toSortedList();
+    }
+
+    @Override
+    public int size() {
+        return snapshot.count();
+    }
+
+    private static TopK scan(Snapshot s, float[] query, int k, int from, int to) {
+        TopK topK = new TopK(k);
+        int dimensions = s.dimensions();
+        for (int row = from; row < to; row++) {
+            topK.offer(s.ids()[row], VectorMath.dot(query, 0, s.matrix(), row * dimensions, dimensions));
+        }
+        return topK;
+    }
+
+    /**
+     * Rows {@code [0, count)} of the arrays, as published by the last {@link #add}.
+     */
+    private record Snapshot(float[] matrix, long[] ids, int count, int dimensions) {}
+
+    /**
+     * Splits the row range in halves until it is small enough to scan directly.
+     */
+    private static final class ScanTask extends RecursiveTask<TopK> {
+        private final Snapshot snapshot;
+        private final float[] query;
+        private final int k;
+        private final int from;
+        private final int to;
+        private final int partitionSize;
+
+        ScanTask(Snapshot snapshot, float[] query, int k, int from, int to, int partitionSize) {
+            this.snapshot = snapshot;
+            this.query = query;
+            this.k = k;
+            this.from = from;
+            this.to = to;
+            this.partitionSize = partitionSize;
+        }
+
+        @Override
+        protected TopK compute() {
+            if (to - from <= partitionSize) {
+                return scan(snapshot, query, k, from, to);
+            }
+            int mid = (from + to) >>> 1;
+            ScanTask left = new ScanTask(snapshot, query, k, from, mid, partitionSize);
+            left.fork();
+            TopK right = new ScanTask(snapshot, query, k, mid, to, partitionSize).compute();
+            return right.merge(left.join());
+        }
+    }
+}
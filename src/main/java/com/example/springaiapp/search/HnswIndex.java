@@ -0,0 +1,479 @@
+package com.example.springaiapp.search;
+
+import java.util.ArrayList;
+import java.util.BitSet;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.PriorityQueue;
+import java.util.Random;
+import java.util.Set;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.locks.ReadWriteLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+
+/**
+ * Approximate nearest-neighbor index based on HNSW
+ * (Hierarchical Navigable Small World graphs, Malkov & Yashunin).
+ *
+ * Educational Note:
+ * Every vector becomes a node in a layered graph. The top layers are sparse
+ * "express lanes" that let a search jump across the space quickly; layer 0
+ * contains every node. A query greedily walks towards the closest node on
+ * each layer and then explores a beam of {@code efSearch} candidates on layer 0.
+ * Only a tiny fraction of the vectors is ever compared against the query,
+ * which makes retrieval roughly logarithmic in the number of rows instead of linear.
+ *
+ * Tuning knobs:
+ * - {@code m}: links per node. Higher = better recall, more memory, slower inserts.
+ * - {@code efConstruction}: beam width while inserting. Higher = better graph, slower inserts.
+ * - {@code efSearch}: beam width while querying. This is the recall/latency knob
+ *   and can be changed at runtime with {@link #setEfSearch(int)}.
+ *
+ * While the index holds no more than {@code exactSearchThreshold} vectors,
+ * searches simply scan every vector: for tiny tables that is both exact and fast.
+ *
+ * Removed vectors are first only marked as deleted: other nodes' links run
+ * through them, so they stay in the graph as waypoints but are never returned,
+ * and searches widen their beam by the deleted share to still find k live hits.
+ * Once more than {@code rebuildDeletedFraction} of the nodes are deleted, the
+ * graph is rebuilt from the live vectors and the deleted ones leave the heap.
+ * The new graph is built beside the old one, which keeps serving searches and
+ * inserts meanwhile; changes made during the build are replayed before the swap.
+ */
+public class HnswIndex implements VectorIndex {
+    private static final Comparator<Candidate> BEST_FIRST =
+        Comparator.comparingDouble(Candidate::score).reversed();
+    private static final Comparator<Candidate> WORST_FIRST =
+        Comparator.comparingDouble(Candidate::score);
+    private static final int MAX_LEVEL = 16;
+
+    private final int m;
+    private final int maxM0;
+    private final int efConstruction;
+    private final int exactSearchThreshold;
+    private final double rebuildDeletedFraction;
+    private final double levelMultiplier;
+    private final Random random = new Random(42);
+    private volatile int efSearch;
+
+    // Graph state, replaced as a whole by a rebuild
+    private List<Node> nodes = new ArrayList<>();
+    private Map<Long, Integer> nodeById = new HashMap<>();
+    private BitSet deleted = new BitSet();
+    private int deletedCount = 0;
+    private int entryPoint = -1;
+    private int topLevel = -1;
+    private final ReadWriteLock lock = new ReentrantReadWriteLock();
+    private final AtomicBoolean rebuilding = new AtomicBoolean();
+
+    public HnswIndex(int m, int efConstruction, int efSearch, int exactSearchThreshold) {
+        this(m, efConstruction, efSearch, exactSearchThreshold, 0.2);
+    }
+
+    /**
+     * @param rebuildDeletedFraction share of deleted nodes that triggers a rebuild
+     *        (0 rebuilds on every removal, 1 or more never)
+     */
+    public HnswIndex(int m, int efConstruction, int efSearch, int exactSearchThreshold,
+                     double rebuildDeletedFraction) {
+        if (m < 2) {
+            throw new IllegalArgumentException("HNSW parameter M must be at least 2, got " + m);
+        }
+        this.m = m;
+        this.maxM0 = 2 * m;
+        this.efConstruction = Math.max(efConstruction, m);
+        this.efSearch = Math.max(1, efSearch);
+        this.exactSearchThreshold = exactSearchThreshold;
+        this.rebuildDeletedFraction = Math.max(0, rebuildDeletedFraction);
+        this.levelMultiplier = 1.0 / Math.log(m);
+    }
+
+    public int getEfSearch() { return efSearch; }
+
+    /**
+     * Change the query beam width. Larger values raise recall and latency.
+     */
+    public void setEfSearch(int efSearch) {
+        this.efSearch = Math.max(1, efSearch);
+    }
+
+    @Override
+    public void add(long id, float[] vector) {
+        float[] normalized = VectorMath.normalize(vector);
+        lock.writeLock().lock();
+        try {
+            insert(id, normalized);
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    /**
+     * Link an already normalized vector into the graph. Caller holds the write lock
+     * (or owns the index exclusively, as during a rebuild).
+     */
+    private void insert(long id, float[] normalized) {
+        if (nodeById.containsKey(id)) {
+            return;
+        }
+        checkDimensions(normalized);
+
+        int level = randomLevel();
+        int nodeIndex = nodes.size();
+        nodes.add(new Node(id, normalized, level, m, maxM0));
+        nodeById.put(id, nodeIndex);
+
+        if (entryPoint < 0) {
+            entryPoint = nodeIndex;
+            topLevel = level;
+            return;
+        }
+
+        // Descend through the layers above the new node's level
+        int ep = entryPoint;
+        for (int layer = topLevel; layer > level; layer--) {
+            ep = greedyClosest(normalized, ep, layer);
+        }
+
+        // Link the new node on every layer it belongs to
+        for (int layer = Math.min(level, topLevel); layer >= 0; layer--) {
+            List<Candidate> candidates = searchLayer(normalized, ep, efConstruction, layer);
+            for (Candidate neighbor : selectNeighbors(candidates, m)) {
+                link(nodeIndex, neighbor.node(), neighbor.score(), layer);
+                link(neighbor.node(), nodeIndex, neighbor.score(), layer);
+            }
+            ep = candidates.get(0).node();
+        }
+
+        if (level > topLevel) {
+            topLevel = level;
+            entryPoint = nodeIndex;
+        }
+    }
+
+    @Override
+    public List<SearchHit> search(float[] query, int k) {
+        return search(query, k, efSearch);
+    }
+
+    /**
+     * Search with an explicit beam width, overriding the configured {@code efSearch}.
+     */
+    public List<SearchHit> search(float[] query, int k, int ef) {
+        float[] q = VectorMath.normalize(query);
+        lock.readLock().lock();
+        try {
+            if (nodes.isEmpty() || k <= 0) {
+                return List.of();
+            }
+            checkDimensions(q);
+
+            int live = nodes.size() - deletedCount;
+            if (live <= exactSearchThreshold) {
+                TopK topK = new TopK(k);
+                for (int i = 0; i < nodes.size(); i++) {
+                    if (!deleted.get(i)) {
+                        topK.offer(nodes.get(i).id, VectorMath.dot(q, nodes.get(i).vector));
+                    }
+                }
+                return topK.toSortedList();
+            }
+
+            int ep = entryPoint;
+            for (int layer = topLevel; layer > 0; layer--) {
+                ep = greedyClosest(q, ep, layer);
+            }
+            // Deleted nodes take up beam slots but are dropped from the results,
+            // so the beam grows by their share to still yield k live hits
+            int beam = Math.max(ef, k);
+            if (deletedCount > 0) {
+                beam = (int) Math.ceil((double) beam * nodes.size() / live);
+            }
+            List<Candidate> candidates = searchLayer(q, ep, beam, 0);
+
+            List<SearchHit> hits = new ArrayList<>(Math.min(k, candidates.size()));
+            for (int i = 0; i < candidates.size() && hits.size() < k; i++) {
+                Candidate c = candidates.get(i);
+                if (!deleted.get(c.node())) {
+                    hits.add(new SearchHit(nodes.get(c.node()).id, c.score()));
+                }
+            }
+            return hits;
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    @Override
+    public int size() {
+        lock.readLock().lock();
+        try {
+            return nodes.size() - deletedCount;
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    /**
+     * Nodes in the graph, including deleted ones that a rebuild has not dropped yet.
+     */
+    int nodeCount() {
+        lock.readLock().lock();
+        try {
+            return nodes.size();
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    @Override
+    public int removeAll(Set<Long> ids) {
+        int removed;
+        boolean rebuild;
+        lock.writeLock().lock();
+        try {
+            removed = markDeleted(ids);
+            rebuild = removed > 0 && deletedCount > rebuildDeletedFraction * nodes.size();
+        } finally {
+            lock.writeLock().unlock();
+        }
+        // Runs on the caller's thread (the compactor or retention job), at most one at a time
+        if (rebuild && rebuilding.compareAndSet(false, true)) {
+            try {
+                rebuild();
+            } finally {
+                rebuilding.set(false);
+            }
+        }
+        return removed;
+    }
+
+    private int markDeleted(Iterable<Long> ids) {
+        int removed = 0;
+        for (long id : ids) {
+            Integer node = nodeById.remove(id);
+            if (node != null) {
+                deleted.set(node);
+                removed++;
+            }
+        }
+        deletedCount += removed;
+        return removed;
+    }
+
+    /**
+     * Build a new graph from the live nodes and swap it in.
+     *
+     * Only copying the live nodes holds the read lock; the build itself runs
+     * unlocked. Nodes are only ever appended until the swap, so everything added
+     * during the build sits past the copied range, and a copied node whose id is
+     * gone (or now points past that range) was removed meanwhile.
+     */
+    private void rebuild() {
+        List<Node> live;
+        int copied;
+        lock.readLock().lock();
+        try {
+            copied = nodes.size();
+            live = new ArrayList<>(copied - deletedCount);
+            for (int i = 0; i < copied; i++) {
+                if (!deleted.get(i)) {
+                    live.add(nodes.get(i));
+                }
+            }
+        } finally {
+            lock.readLock().unlock();
+        }
+
+        HnswIndex fresh = new HnswIndex(m, efConstruction, efSearch, exactSearchThreshold, rebuildDeletedFraction);
+        for (Node node : live) {
+            fresh.insert(node.id, node.vector);
+        }
+
+        lock.writeLock().lock();
+        try {
+            List<Long> removedMeanwhile = new ArrayList<>();
+            for (Node node : live) {
+                Integer current = nodeById.get(node.id);
+                if (current == null || current >= copied) {
+                    removedMeanwhile.add(node.id);
+                }
+            }
+            fresh.markDeleted(removedMeanwhile);
+            for (int i = copied; i < nodes.size(); i++) {
+                if (!deleted.get(i)) {
+                    fresh.insert(nodes.get(i).id, nodes.get(i).vector);
+                }
+            }
+            nodes = fresh.nodes;
+            nodeById = fresh.nodeById;
+            deleted = fresh.deleted;
+            deletedCount = fresh.deletedCount;
+            entryPoint = fresh.entryPoint;
+            topLevel = fresh.topLevel;
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    private int randomLevel() {
+        double level = -Math.log(1.0 - random.nextDouble()) * levelMultiplier;
+        return Math.min((int) level, MAX_LEVEL);
+    }
+
+    private void checkDimensions(float[] vector) {
+        if (!nodes.isEmpty() && nodes.get(0).vector.length != vector.length) {
+            throw new IllegalArgumentException(String.format(
+                "Vector has %d dimensions but the index holds %d-dimensional vectors",
+                vector.length, nodes.get(0).vector.length));
+        }
+    }
+
+    /**
+     * Walk to the neighbor closest to the query until no neighbor is closer.
+     */
+    private int greedyClosest(float[] query, int start, int layer) {
+        int current = start;
+        double best = VectorMath.dot(query, nodes.get(current).vector);
+        boolean improved = true;
+        while (improved) {
+            improved = false;
+            Node node = nodes.get(current);
+            for (int i = 0; i < node.linkCounts[layer]; i++) {
+                int neighbor = node.links[layer][i];
+                double score = VectorMath.dot(query, nodes.get(neighbor).vector);
+                if (score > best) {
+                    best = score;
+                    current = neighbor;
+                    improved = true;
+                }
+            }
+        }
+        return current;
+    }
+
+    /**
+     * Beam search on one layer. Returns up to {@code ef} candidates, best first.
+     */
+    private List<Candidate> searchLayer(float[] query, int start, int ef, int layer) {
+        BitSet visited = new BitSet(nodes.size());
+        visited.set(start);
+
+        Candidate first = new Candidate(start, VectorMath.dot(query, nodes.get(start).vector));
+        PriorityQueue<Candidate> toVisit = new PriorityQueue<>(BEST_FIRST);
+        PriorityQueue<Candidate> results = new PriorityQueue<>(WORST_FIRST);
+        toVisit.add(first);
+        results.add(first);
+
+        while (!toVisit.isEmpty()) {
+            Candidate current = toVisit.poll();
+            if (current.score() < results.peek().score()) {
+                break; // every remaining candidate is worse than our worst result
+            }
+            Node node = nodes.get(current.node());
+            for (int i = 0; i < node.linkCounts[layer]; i++) {
+                int neighbor = node.links[layer][i];
+                if (visited.get(neighbor)) {
+                    continue;
+                }
+                visited.set(neighbor);
+                double score = VectorMath.dot(query, nodes.get(neighbor).vector);
+                if (results.size() < ef || score > results.peek().score()) {
+                    Candidate candidate = new Candidate(neighbor, score);
+                    toVisit.add(candidate);
+                    results.add(candidate);
+                    if (results.size() > ef) {
+                        results.poll();
+                    }
+                }
+            }
+        }
+
+        List<Candidate> sorted = new ArrayList<>(results);
+        sorted.sort(BEST_FIRST);
+        return sorted;
+    }
+
+    /**
+     * Neighbor selection heuristic: prefer candidates that are closer to the base
+     * node than to any neighbor already chosen, so links point in diverse directions.
+     * Pruned candidates fill any remaining slots.
+     *
+     * @param candidates candidates sorted best first, scored against the base node
+     */
+    private List<Candidate> selectNeighbors(List<Candidate> candidates, int max) {
+        List<Candidate> selected = new ArrayList<>(max);
+        List<Candidate> pruned = new ArrayList<>();
+        for (Candidate candidate : candidates) {
+            if (selected.size() >= max) {
+                break;
+            }
+            float[] vector = nodes.get(candidate.node()).vector;
+            boolean diverse = true;
+            for (Candidate chosen : selected) {
+                if (VectorMath.dot(vector, nodes.get(chosen.node()).vector) > candidate.score()) {
+                    diverse = false;
+                    break;
+                }
+            }
+            if (diverse) {
+                selected.add(candidate);
+            } else {
+                pruned.add(candidate);
+            }
+        }
+        for (int i = 0; i < pruned.size() && selected.size() < max; i++) {
+            selected.add(pruned.get(i));
+        }
+        return selected;
+    }
+
+    /**
+     * Add a directed link, shrinking the neighbor list with the selection
+     * heuristic when the node already has its maximum number of links.
+     */
+    private void link(int from, int to, double score, int layer) {
+        Node node = nodes.get(from);
+        int[] links = node.links[layer];
+        int count = node.linkCounts[layer];
+        if (count < links.length) {
+            links[count] = to;
+            node.linkCounts[layer] = count + 1;
+            return;
+        }
+
+        List<Candidate> candidates = new ArrayList<>(count + 1);
+        candidates.add(new Candidate(to, score));
+        for (int i = 0; i < count; i++) {
+            candidates.add(new Candidate(links[i],
+                VectorMath.dot(node.vector, nodes.get(links[i]).vector)));
+        }
+        candidates.sort(BEST_FIRST);
+        List<Candidate> kept = selectNeighbors(candidates, links.length);
+        for (int i = 0; i < kept.size(); i++) {
+            links[i] = kept.get(i).node();
+        }
+        node.linkCounts[layer] = kept.size();
+    }
+
+    private record Candidate(int node, double score) {}
+
+    private static final class Node {
+        final long id;
+        final float[] vector;
+        final int[][] links;
+        final int[] linkCounts;
+
+        Node(long id, float[] vector, int level, int m, int maxM0) {
+            this.id = id;
+            this.vector = vector;
+            this.links = new int[level + 1][];
+            this.linkCounts = new int[level + 1];
+            for (int layer = 0; layer <= level; layer++) {
+                links[layer] = new int[layer == 0 ? maxM0 : m];
+            }
+        }
+    }
+}
@@ -0,0 +1,143 @@
+package com.example.springaiapp.search;
+
+import java.util.List;
+import java.util.Random;
+import java.util.stream.IntStream;
+
+/**
+ * Product quantization (Jegou et al.): the vector is cut into
+ * {@code subspaces} equal slices and each slice is replaced by the index of
+ * its nearest centroid from a codebook of 256 entries learned with k-means.
+ * One byte per slice, e.g. 1536 dimensions in 192 slices = 192 bytes
+ * instead of 6 KB (32x smaller).
+ *
+ * Educational Note:
+ * Scoring never decodes a vector. For each query the dot product of every
+ * query slice with every centroid is computed once into a lookup table
+ * ({@code subspaces x 256} floats); the score of a stored code is then the
+ * sum of {@code subspaces} table entries.
+ */
+final class ProductQuantizer implements VectorQuantizer {
+    private static final int CENTROIDS = 256;
+
+    private final int subspaces;
+    private final int subDimensions;
+    private final int centroids;
+    // codebooks[s] holds the centroids of slice s back to back: centroids x subDimensions
+    private final float[][] codebooks;
+
+    private ProductQuantizer(int subspaces, int subDimensions, int centroids, float[][] codebooks) {
+        this.subspaces = subspaces;
+        this.subDimensions = subDimensions;
+        this.centroids = centroids;
+        this.codebooks = codebooks;
+    }
+
+    /**
+     * Learn one codebook per slice with k-means over a sample of normalized vectors.
+     * Slices are trained in parallel.
+     */
+    static ProductQuantizer train(List<float[]> sample, int subspaces, int iterations) {
+        int dimensions = sample.get(0).length;
+        if (subspaces <= 0 || dimensions % subspaces != 0) {
+            throw new IllegalArgumentException(String.format(
+                "Product quantization needs a subspace count that divides %d dimensions, got %d",
+                dimensions, subspaces));
+        }
+        int subDimensions = dimensions / subspaces;
+        int centroids = Math.min(CENTROIDS, sample.size());
+        float[][] codebooks = new float[subspaces][];
+        IntStream.range(0, subspaces).parallel().forEach(s ->
+            codebooks[s] = kMeans(sample, s * subDimensions, subDimensions, centroids, iterations, new Random(s)));
+        return new ProductQuantizer(subspaces, subDimensions, centroids, codebooks);
+    }
+
+    private static float[] kMeans(List<float[]> sample, int offset, int length, int k, int iterations, Random random) {
+        int n = sample.size();
+        float[] centers = new float[k * length];
+        // Start from k distinct sample slices
+        int[] order = IntStream.range(0, n).toArray();
+        for (int i = 0; i < k; i++) {
+            int j = i + random.nextInt(n - i);
+            int swap = order[i];
+            order[i] = order[j];
+            order[j] = swap;
+            System.arraycopy(sample.get(order[i]), offset, centers, i * length, length);
+        }
+
+        int[] assignment = new int[n];
+        for (int iteration = 0; iteration < iterations; iteration++) {
+            for (int v = 0; v < n; v++) {
+                assignment[v] = nearest(sample.get(v), offset, centers, k, length);
+            }
+            float[] sums = new float[k * length];
+            int[] counts = new int[k];
+            for (int v = 0; v < n; v++) {
+                int c = assignment[v];
+                counts[c]++;
+                float[] vector = sample.get(v);
+                for (int d = 0; d < length; d++) {
+                    sums[c * length + d] += vector[offset + d];
+                }
+            }
+            for (int c = 0; c < k; c++) {
+                if (counts[c] == 0) {
+                    // Re-seed an empty cluster with a random sample slice
+                    System.arraycopy(sample.get(random.nextInt(n)), offset, centers, c * length, length);
+                    continue;
+                }
+                for (int d = 0; d < length; d++) {
+                    centers[c * length + d] = sums[c * length + d] / counts[c];
+                }
+            }
+        }
+        return centers;
+    }
+
+    private static int nearest(float[] vector, int offset, float[] centers, int k, int length) {
+        int best = 0;
+        float bestDistance = Float.POSITIVE_INFINITY;
+        for (int c = 0; c < k; c++) {
+            float distance = 0f;
+            for (int d = 0; d < length; d++) {
+                float diff = vector[offset + d] - centers[c * length + d];
+                distance += diff * diff;
+            }
+            if (distance < bestDistance) {
+                bestDistance = distance;
+                best = c;
+            }
+        }
+        return best;
+    }
+
+    @Override
+    public int codeSize() {
+        return subspaces;
+    }
+
+    @Override
+    public void encode(float[] vector, byte[] codes, int offset) {
+        for (int s = 0; s < subspaces; s++) {
+            codes[offset + s] = (byte) nearest(vector, s * subDimensions, codebooks[s], centroids, subDimensions);
+        }
+    }
+
+    @Override
+    public Scorer scorer(float[] query) {
+        float[] table = new float[subspaces * CENTROIDS];
+        for (int s = 0; s < subspaces; s++) {
+            for (int c = 0; c < centroids; c++) {
+                table[s * CENTROIDS + c] = (float) VectorMath.dot(
+                    query, s * subDimensions, codebooks[s], c * subDimensions, subDimensions);
+            }
+        }
+        return (codes, offset) -> {
+            float score = 0f;
+            for (int s = 0; s < subspaces; s++) {
+                score += table[s * CENTROIDS + (codes[offset + s] & 0xFF)];
+            }
+            return score;
+        };
+    }
+}
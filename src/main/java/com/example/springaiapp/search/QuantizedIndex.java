@@ -0,0 +1,394 @@
+package com.example.springaiapp.search;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+import java.util.Set;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.function.LongFunction;
+
+/**
+ * Brute-force index over compressed vectors.
+ *
+ * Educational Note:
+ * A 1536-dimension float32 embedding takes 6 KB, and a full scan has to pull
+ * every one of them through the CPU caches. Storing a compressed code instead
+ * cuts both memory and scan bandwidth:
+ * - {@link Mode#INT8}: one byte per dimension (4x smaller, small score error)
+ * - {@link Mode#PQ}: product quantization, one byte per group of dimensions
+ *   (e.g. 32x smaller, larger score error)
+ *
+ * The compressed scores only need to be good enough to find the right
+ * neighborhood: {@link #rerankCandidates} asks the caller to fetch
+ * {@code k * rerankFactor} candidates and re-score them against the
+ * full-precision vectors, which restores the exact ordering of the top hits.
+ *
+ * Quantizers are trained on the data itself. Until {@code trainingSize}
+ * vectors have been added they are kept uncompressed and scanned exactly.
+ * Training (k-means for PQ can take seconds) then runs on a background
+ * thread, so the insert that crosses the threshold does not wait for it;
+ * searches keep scanning the uncompressed rows until every row has been
+ * encoded. Later vectors are encoded with the trained quantizer.
+ *
+ * The data drifts as new topics come up, and a quantizer fitted to the first
+ * rows loses accuracy on them. Once the index has grown {@code retrainGrowth}
+ * times since the last training, the quantizer is retrained in the background
+ * on a uniform (reservoir) sample of all vectors added so far and every row
+ * is re-encoded from its full-precision vector, read through the
+ * {@link #setVectorSource vector source}. Searches use the old codes until
+ * the new ones are published.
+ *
+ * Memory: the index itself only holds codes once trained, but re-ranking
+ * needs the full-precision vectors, so the heap only shrinks if those live
+ * elsewhere, i.e. with vector segments enabled. Without segments the
+ * chat history mirror keeps every float[] and the codes come on top. The
+ * training sample adds {@code trainingSize} full-precision vectors.
+ *
+ * Searches never take a lock: they scan the last published {@link Snapshot}.
+ */
+public class QuantizedIndex implements VectorIndex {
+    private static final Logger logger = LoggerFactory.getLogger(QuantizedIndex.class);
+    private static final int INITIAL_CAPACITY = 1024;
+    private static final int PQ_TRAINING_ITERATIONS = 10;
+
+    public enum Mode { INT8, PQ }
+
+    private final Mode mode;
+    private final int pqSubspaces;
+    private final int trainingSize;
+    private final int rerankFactor;
+    private final double retrainGrowth;
+
+    private volatile Snapshot snapshot = new Snapshot(null, new float[0], null, new long[0], 0, -1);
+    private final Set<Long> known = new HashSet<>();
+
+    // Uniform sample of every vector added, for (re)training
+    private final List<float[]> reservoir = new ArrayList<>();
+    private final Random random = new Random(42);
+    private long added = 0;
+    // Vectors added while a retraining runs: their codes are from the old quantizer
+    private final Map<Long, float[]> addedWhileTraining = new HashMap<>();
+    private boolean training = false;
+    private boolean trainingFailed = false;
+    private int trainedOnRows = 0;
+    private volatile LongFunction<float[]> vectorSource;
+    private final ExecutorService trainer = Executors.newSingleThreadExecutor(runnable -> {
+        Thread thread = new Thread(runnable, "quantizer-training");
+        thread.setDaemon(true);
+        thread.setPriority(Thread.MIN_PRIORITY);
+        return thread;
+    });
+
+    /**
+     * @param mode compression scheme
+     * @param pqSubspaces slices per vector for {@link Mode#PQ}; must divide the dimension count
+     * @param trainingSize vectors collected before the quantizer is trained
+     * @param rerankFactor candidates fetched per requested hit for re-ranking;
+     *        0 picks a default for the mode (PQ scores are coarser and need more)
+     * @param retrainGrowth retrain once the index has grown this many times since the
+     *        last training; values of 1 or less never retrain
+     */
+    public QuantizedIndex(Mode mode, int pqSubspaces, int trainingSize, int rerankFactor, double retrainGrowth) {
+        this.mode = mode;
+        this.pqSubspaces = pqSubspaces;
+        this.trainingSize = Math.max(1, trainingSize);
+        this.rerankFactor = rerankFactor > 0 ? rerankFactor : (mode == Mode.PQ ? 20 : 4);
+        this.retrainGrowth = retrainGrowth;
+    }
+
+    /**
+     * Where retraining reads the full-precision vector of a row from (it is
+     * only needed once the codes have replaced the index's own copies).
+     * Without a source the quantizer is never retrained.
+     */
+    public void setVectorSource(LongFunction<float[]> vectorSource) {
+        this.vectorSource = vectorSource;
+    }
+
+    /**
+     * Whether searches scan codes (true) or, before the first training has
+     * finished, the uncompressed vectors.
+     */
+    public boolean isTrained() {
+        return snapshot.quantizer() != null;
+    }
+
+    /**
+     * Block until every training started so far has finished (trainings run
+     * one at a time on a single thread). For tests and benchmarks.
+     */
+    void awaitTraining() throws InterruptedException {
+        try {
+            trainer.submit(() -> {}).get();
+        } catch (ExecutionException e) {
+            throw new IllegalStateException(e.getCause());
+        }
+    }
+
+    @Override
+    public void add(long id, float[] vector) {
+        append(id, VectorMath.normalize(vector));
+    }
+
+    @Override
+    public List<SearchHit> search(float[] query, int k) {
+        float[] q = VectorMath.normalize(query);
+        Snapshot s = snapshot;
+        if (s.count() == 0 || k <= 0) {
+            return List.of();
+        }
+        if (q.length != s.dimensions()) {
+            throw new IllegalArgumentException(String.format(
+                "Query has %d dimensions but the index holds %d-dimensional vectors",
+                q.length, s.dimensions()));
+        }
+        TopK topK = new TopK(k);
+        if (s.quantizer() == null) {
+            for (int row = 0; row < s.count(); row++) {
+                topK.offer(s.ids()[row], VectorMath.dot(q, 0, s.raw(), row * s.dimensions(), s.dimensions()));
+            }
+            return topK.toSortedList();
+        }
+        VectorQuantizer.Scorer scorer = s.quantizer().scorer(q);
+        int codeSize = s.quantizer().codeSize();
+        for (int row = 0; row < s.count(); row++) {
+            topK.offer(s.ids()[row], scorer.score(s.codes(), row * codeSize));
+        }
+        return topK.toSortedList();
+    }
+
+    @Override
+    public int size() {
+        return snapshot.count();
+    }
+
+    /**
+     * Copies the remaining rows (raw vectors or codes) into new arrays, as
+     * {@link ExactIndex} does.
+     */
+    @Override
+    public synchronized int removeAll(Set<Long> ids) {
+        int removed = 0;
+        for (long id : ids) {
+            if (known.remove(id)) {
+                removed++;
+            }
+        }
+        if (removed == 0) {
+            return 0;
+        }
+        Snapshot current = snapshot;
+        int rowSize = current.quantizer() == null ? current.dimensions() : current.quantizer().codeSize();
+        int remaining = current.count() - removed;
+        int capacity = Math.max(INITIAL_CAPACITY, remaining + (remaining >> 1));
+        long[] keptIds = new long[capacity];
+        float[] raw = current.quantizer() == null ? new float[Math.multiplyExact(capacity, rowSize)] : null;
+        byte[] codes = current.quantizer() == null ? null : new byte[Math.multiplyExact(capacity, rowSize)];
+        int kept = 0;
+        for (int row = 0; row < current.count(); row++) {
+            if (ids.contains(current.ids()[row])) {
+                continue;
+            }
+            if (raw != null) {
+                System.arraycopy(current.raw(), row * rowSize, raw, kept * rowSize, rowSize);
+            } else {
+                System.arraycopy(current.codes(), row * rowSize, codes, kept * rowSize, rowSize);
+            }
+            keptIds[kept++] = current.ids()[row];
+        }
+        snapshot = new Snapshot(current.quantizer(), raw, codes, keptIds, kept, current.dimensions());
+        return removed;
+    }
+
+    @Override
+    public int rerankCandidates(int k) {
+        return k * rerankFactor;
+    }
+
+    /**
+     * Bytes used by the stored vectors: codes once trained, floats before.
+     */
+    public long vectorBytes() {
+        Snapshot s = snapshot;
+        return s.quantizer() == null
+            ? (long) s.count() * Math.max(s.dimensions(), 0) * Float.BYTES
+            : (long) s.count() * s.quantizer().codeSize();
+    }
+
+    /**
+     * Writers are serialized; searches read the published snapshot without
+     * locking (see {@link ExactIndex} for the same scheme).
+     */
+    private synchronized void append(long id, float[] normalized) {
+        if (known.contains(id)) {
+            return;
+        }
+        Snapshot current = snapshot;
+        int dimensions = current.dimensions() < 0 ? normalized.length : current.dimensions();
+        if (normalized.length != dimensions) {
+            throw new IllegalArgumentException(String.format(
+                "Vector has %d dimensions but the index holds %d-dimensional vectors",
+                normalized.length, dimensions));
+        }
+        known.add(id);
+        sample(normalized);
+        if (training && current.quantizer() != null) {
+            addedWhileTraining.put(id, normalized);
+        }
+        int count = current.count();
+        long[] ids = current.ids();
+        if (count == ids.length) {
+            ids = Arrays.copyOf(ids, Math.max(INITIAL_CAPACITY, ids.length + (ids.length >> 1)));
+        }
+        ids[count] = id;
+
+        VectorQuantizer quantizer = current.quantizer();
+        if (quantizer == null) {
+            float[] raw = current.raw();
+            if (raw.length < ids.length * dimensions) {
+                raw = Arrays.copyOf(raw, Math.multiplyExact(ids.length, dimensions));
+            }
+            System.arraycopy(normalized, 0, raw, count * dimensions, dimensions);
+            snapshot = new Snapshot(null, raw, null, ids, count + 1, dimensions);
+            if (count + 1 >= trainingSize) {
+                startTraining();
+            }
+            return;
+        }
+
+        int codeSize = quantizer.codeSize();
+        byte[] codes = current.codes();
+        if (codes.length < ids.length * codeSize) {
+            codes = Arrays.copyOf(codes, Math.multiplyExact(ids.length, codeSize));
+        }
+        quantizer.encode(normalized, codes, count * codeSize);
+        snapshot = new Snapshot(quantizer, null, codes, ids, count + 1, dimensions);
+        if (retrainGrowth > 1 && count + 1 >= trainedOnRows * retrainGrowth && vectorSource != null) {
+            startTraining();
+        }
+    }
+
+    /**
+     * Reservoir sampling (algorithm R): after n additions every vector added so
+     * far is in the sample with the same probability, trainingSize / n.
+     */
+    private void sample(float[] normalized) {
+        added++;
+        if (reservoir.size() < trainingSize) {
+            reservoir.add(normalized);
+            return;
+        }
+        long slot = (long) (random.nextDouble() * added);
+        if (slot < trainingSize) {
+            reservoir.set((int) slot, normalized);
+        }
+    }
+
+    private void startTraining() {
+        if (training || trainingFailed) {
+            return;
+        }
+        training = true;
+        trainedOnRows = snapshot.count();
+        List<float[]> sample = new ArrayList<>(reservoir);
+        Snapshot base = snapshot;
+        trainer.execute(() -> train(sample, base));
+    }
+
+    /**
+     * Runs on the training thread: fits a quantizer to the sample and encodes
+     * the rows of {@code base} without holding the lock, then publishes codes
+     * for the rows present by then.
+     */
+    private void train(List<float[]> sample, Snapshot base) {
+        long start = System.currentTimeMillis();
+        try {
+            VectorQuantizer quantizer = mode == Mode.PQ
+                ? ProductQuantizer.train(sample, pqSubspaces, PQ_TRAINING_ITERATIONS)
+                : ScalarQuantizer.train(sample);
+            int codeSize = quantizer.codeSize();
+            byte[] codes = new byte[Math.multiplyExact(base.count(), codeSize)];
+            Map<Long, Integer> rowById = new HashMap<>(base.count() * 2);
+            for (int row = 0; row < base.count(); row++) {
+                float[] vector = vectorOf(base, row);
+                if (vector != null) {
+                    quantizer.encode(vector, codes, row * codeSize);
+                    rowById.put(base.ids()[row], row);
+                }
+            }
+            boolean published = publish(quantizer, codes, rowById);
+            if (published) {
+                int dimensions = base.dimensions();
+                logger.info("{} {} quantizer on {} sampled vectors in {} ms: {} bytes per vector instead of {} ({}x smaller)",
+                           base.quantizer() == null ? "Trained" : "Retrained", mode, sample.size(),
+                           System.currentTimeMillis() - start, codeSize, dimensions * Float.BYTES,
+                           dimensions * Float.BYTES / codeSize);
+            }
+        } catch (RuntimeException e) {
+            logger.error("Training the {} quantizer failed, searches keep their current vectors: {}",
+                        mode, e.getMessage());
+            synchronized (this) {
+                trainingFailed = true;
+            }
+        } finally {
+            synchronized (this) {
+                training = false;
+                addedWhileTraining.clear();
+            }
+        }
+    }
+
+    private float[] vectorOf(Snapshot s, int row) {
+        if (s.quantizer() == null) {
+            return Arrays.copyOfRange(s.raw(), row * s.dimensions(), (row + 1) * s.dimensions());
+        }
+        LongFunction<float[]> source = vectorSource;
+        float[] vector = source != null ? source.apply(s.ids()[row]) : null;
+        return vector != null ? VectorMath.normalize(vector) : null;
+    }
+
+    /**
+     * Builds the new snapshot from the rows present now: rows removed since
+     * training started are gone, rows added since are encoded here.
+     *
+     * @return false if a row's full-precision vector was unavailable, in which
+     *         case the current codes are kept
+     */
+    private synchronized boolean publish(VectorQuantizer quantizer, byte[] trainedCodes, Map<Long, Integer> rowById) {
+        Snapshot current = snapshot;
+        int codeSize = quantizer.codeSize();
+        byte[] codes = new byte[Math.multiplyExact(current.ids().length, codeSize)];
+        for (int row = 0; row < current.count(); row++) {
+            long id = current.ids()[row];
+            Integer trainedRow = rowById.get(id);
+            if (trainedRow != null) {
+                System.arraycopy(trainedCodes, trainedRow * codeSize, codes, row * codeSize, codeSize);
+                continue;
+            }
+            float[] vector = current.quantizer() == null ? vectorOf(current, row) : addedWhileTraining.get(id);
+            if (vector == null) {
+                logger.warn("Discarding the retrained {} quantizer: no full-precision vector for row {}", mode, id);
+                return false;
+            }
+            quantizer.encode(vector, codes, row * codeSize);
+        }
+        trainedOnRows = current.count();
+        snapshot = new Snapshot(quantizer, null, codes, current.ids(), current.count(), current.dimensions());
+        return true;
+    }
+
+    /**
+     * Rows {@code [0, count)} of the arrays: full-precision {@code raw} rows
+     * until the quantizer is trained, {@code codes} afterwards.
+     */
+    private record Snapshot(VectorQuantizer quantizer, float[] raw, byte[] codes, long[] ids,
+                            int count, int dimensions) {}
+}
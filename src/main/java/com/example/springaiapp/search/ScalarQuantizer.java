@@ -0,0 +1,73 @@
+package com.example.springaiapp.search;
+
+import java.util.Arrays;
+import java.util.List;
+
+/**
+ * int8 scalar quantization: every dimension is mapped onto 256 levels
+ * between the smallest and largest value seen for that dimension in the
+ * training sample. One byte per dimension instead of four (4x smaller).
+ *
+ * A stored value decodes to {@code center[i] + code * step[i]}, so the score
+ * against a query splits into a constant plus one dot product of the scaled
+ * query with the raw signed bytes, which {@link VectorMath} runs with SIMD.
+ */
+final class ScalarQuantizer implements VectorQuantizer {
+    private final float[] center;
+    private final float[] step;
+
+    private ScalarQuantizer(float[] center, float[] step) {
+        this.center = center;
+        this.step = step;
+    }
+
+    /**
+     * Learn the per-dimension ranges from a sample of normalized vectors.
+     */
+    static ScalarQuantizer train(List<float[]> sample) {
+        int dimensions = sample.get(0).length;
+        float[] min = new float[dimensions];
+        float[] max = new float[dimensions];
+        Arrays.fill(min, Float.POSITIVE_INFINITY);
+        Arrays.fill(max, Float.NEGATIVE_INFINITY);
+        for (float[] vector : sample) {
+            for (int i = 0; i < dimensions; i++) {
+                min[i] = Math.min(min[i], vector[i]);
+                max[i] = Math.max(max[i], vector[i]);
+            }
+        }
+        float[] center = new float[dimensions];
+        float[] step = new float[dimensions];
+        for (int i = 0; i < dimensions; i++) {
+            step[i] = Math.max((max[i] - min[i]) / 255f, Float.MIN_NORMAL);
+            center[i] = min[i] + 128 * step[i];
+        }
+        return new ScalarQuantizer(center, step);
+    }
+
+    @Override
+    public int codeSize() {
+        return center.length;
+    }
+
+    @Override
+    public void encode(float[] vector, byte[] codes, int offset) {
+        for (int i = 0; i < center.length; i++) {
+            // Values outside the trained range are clipped to the nearest level
+            long level = Math.round((vector[i] - center[i]) / step[i]);
+            codes[offset + i] = (byte) Math.max(-128, Math.min(127, level));
+        }
+    }
+
+    @Override
+    public Scorer scorer(float[] query) {
+        float[] scaled = new float[center.length];
+        double constant = 0.0;
+        for (int i = 0; i < center.length; i++) {
+            scaled[i] = query[i] * step[i];
+            constant += (double) query[i] * center[i];
+        }
+        double base = constant;
+        return (codes, offset) -> base + VectorMath.dot(scaled, codes, offset, scaled.length);
+    }
+}
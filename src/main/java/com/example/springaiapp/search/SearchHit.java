@@ -0,0 +1,8 @@
+package com.example.springaiapp.search;
+
+/**
+ * A single result of a vector search: the id of the matching row and its
+ * cosine similarity to the query (1.0 = identical direction).
+ */
+public record SearchHit(long id, double score) {
+}
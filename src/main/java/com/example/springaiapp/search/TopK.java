@@ -0,0 +1,57 @@
+package com.example.springaiapp.search;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.PriorityQueue;
+
+/**
+ * Keeps the {@code k} highest-scoring hits seen so far.
+ *
+ * Backed by a min-heap of size k: the weakest kept hit sits on top, so each
+ * new candidate costs one comparison when it does not qualify and O(log k)
+ * when it does. This replaces sorting the whole corpus (O(n log n)) just to
+ * take the first few results.
+ */
+public final class TopK {
+    private static final Comparator<SearchHit> BY_SCORE = Comparator.comparingDouble(SearchHit::score);
+
+    private final int k;
+    private final PriorityQueue<SearchHit> heap;
+
+    public TopK(int k) {
+        this.k = k;
+        this.heap = new PriorityQueue<>(Math.max(1, k), BY_SCORE);
+    }
+
+    public void offer(long id, double score) {
+        if (k <= 0) {
+            return;
+        }
+        if (heap.size() < k) {
+            heap.add(new SearchHit(id, score));
+        } else if (score > heap.peek().score()) {
+            heap.poll();
+            heap.add(new SearchHit(id, score));
+        }
+    }
+
+    /**
+     * Fold another partial result into this one.
+     */
+    public TopK merge(TopK other) {
+        for (SearchHit hit : other.heap) {
+            offer(hit.id(), hit.score());
+        }
+        return this;
+    }
+
+    /**
+     * Returns the kept hits ordered from most to least similar.
+     */
+    public List<SearchHit> toSortedList() {
+        List<SearchHit> result = new ArrayList<>(heap);
+        result.sort(BY_SCORE.reversed());
+        return result;
+    }
+}
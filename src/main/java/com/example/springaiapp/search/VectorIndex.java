@@ -0,0 +1,58 @@
+package com.example.springaiapp.search;
+
+import java.util.List;
+import java.util.Set;
+
+/**
+ * In-process index over chat history embeddings.
+ *
+ * Implementations trade accuracy for speed in different ways:
+ * - {@link ExactIndex} compares the query against every stored vector
+ * - {@link HnswIndex} walks a navigable small-world graph and only visits
+ *   a small fraction of the vectors (approximate nearest neighbors)
+ * - {@link QuantizedIndex} scans compressed copies of the vectors, so its
+ *   scores are approximate and callers re-rank its candidates
+ *
+ * Vectors are identified by the {@code chat_history.id} they belong to,
+ * so the repository can map hits back to full rows.
+ */
+public interface VectorIndex {
+
+    /**
+     * Add a vector to the index. Adding an id that is already present is a no-op,
+     * since chat history rows are never updated in place.
+     */
+    void add(long id, float[] vector);
+
+    /**
+     * Find the {@code k} vectors most similar (cosine) to the query,
+     * ordered from most to least similar.
+     */
+    List<SearchHit> search(float[] query, int k);
+
+    /**
+     * Remove the vectors of deleted rows. Ids that are not in the index are
+     * ignored; searches running at the same time see the index either before
+     * or after the removal.
+     *
+     * @return number of vectors removed
+     */
+    int removeAll(Set<Long> ids);
+
+    /**
+     * Number of vectors currently held by the index.
+     */
+    int size();
+
+    /**
+     * How many candidates to fetch for a top-{@code k} query when the index
+     * scores are only approximations of cosine similarity (e.g. computed on
+     * compressed vectors). The caller re-scores those candidates against the
+     * full-precision vectors and keeps the best {@code k}.
+     *
+     * @return 0 when the index scores are exact and need no re-ranking
+     */
+    default int rerankCandidates(int k) {
+        return 0;
+    }
+}
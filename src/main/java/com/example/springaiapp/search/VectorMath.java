@@ -0,0 +1,76 @@
+package com.example.springaiapp.search;
+
+/**
+ * Small vector helpers shared by the index implementations.
+ *
+ * Educational Note:
+ * Cosine similarity is dot(a, b) / (|a| * |b|). If every stored vector is
+ * scaled to length 1 once, when it is added, cosine similarity becomes a
+ * plain dot product and the norms never have to be recomputed at query time.
+ *
+ * Dot products use the JDK Vector API (SIMD) when the JVM was started with
+ * {@code --add-modules jdk.incubator.vector}, and a scalar loop otherwise.
+ */
+public final class VectorMath {
+    private static final DotProduct DOT_PRODUCT = loadDotProduct();
+
+    private VectorMath() {}
+
+    /**
+     * Returns a unit-length copy of the vector (or a zero vector if its norm is 0).
+     */
+    public static float[] normalize(float[] vector) {
+        double norm = 0.0;
+        for (float v : vector) {
+            norm += (double) v * v;
+        }
+        norm = Math.sqrt(norm);
+        float[] result = new float[vector.length];
+        if (norm == 0.0) {
+            return result;
+        }
+        for (int i = 0; i < vector.length; i++) {
+            result[i] = (float) (vector[i] / norm);
+        }
+        return result;
+    }
+
+    public static double dot(float[] a, float[] b) {
+        return DOT_PRODUCT.dot(a, 0, b, 0, a.length);
+    }
+
+    /**
+     * Dot product of {@code length} floats starting at the given offsets.
+     */
+    public static double dot(float[] a, int aOffset, float[] b, int bOffset, int length) {
+        return DOT_PRODUCT.dot(a, aOffset, b, bOffset, length);
+    }
+
+    /**
+     * Dot product of a float vector with {@code length} signed bytes starting at {@code bOffset}.
+     */
+    public static double dot(float[] a, byte[] b, int bOffset, int length) {
+        return DOT_PRODUCT.dot(a, b, bOffset, length);
+    }
+
+    /**
+     * Whether dot products run on the SIMD (Vector API) implementation.
+     */
+    public static boolean isSimdEnabled() {
+        return !(DOT_PRODUCT instanceof ScalarDotProduct);
+    }
+
+    private static DotProduct loadDotProduct() {
+        if (ModuleLayer.boot().findModule("jdk.incubator.vector").isEmpty()) {
+            return new ScalarDotProduct();
+        }
+        try {
+            // Loaded reflectively so this class never links against the incubator module
+            return (DotProduct) Class.forName("com.example.springaiapp.search.SimdDotProduct")
+                .getDeclaredConstructor()
+                .newInstance();
+        } catch (ReflectiveOperationException | LinkageError e) {
+            return new ScalarDotProduct();
+        }
+    }
+}
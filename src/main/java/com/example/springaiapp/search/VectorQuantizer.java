@@ -0,0 +1,33 @@
+package com.example.springaiapp.search;
+
+/**
+ * Compresses normalized vectors into compact byte codes.
+ *
+ * Scores are computed asymmetrically: the query stays in full precision and
+ * only the stored vectors are compressed, which loses less accuracy than
+ * quantizing both sides.
+ */
+interface VectorQuantizer {
+
+    /**
+     * Bytes per encoded vector.
+     */
+    int codeSize();
+
+    /**
+     * Write the code for {@code vector} into {@code codes} at {@code offset}.
+     */
+    void encode(float[] vector, byte[] codes, int offset);
+
+    /**
+     * Prepare per-query state (lookup tables, scaled query) for scanning many codes.
+     */
+    Scorer scorer(float[] query);
+
+    /**
+     * Approximate dot product of one query with stored codes.
+     */
+    interface Scorer {
+        double score(byte[] codes, int offset);
+    }
+}
@@ -0,0 +1,165 @@
+package com.example.springaiapp.segment;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.FloatBuffer;
+import java.nio.LongBuffer;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.zip.CRC32C;
+
+/**
+ * Read-only view of one vector segment file, memory-mapped off-heap.
+ *
+ * File layout (little-endian):
+ * <pre>
+ * header (64 bytes)  magic "RAGVSEG1", version, dimensions, count, CRC32C of the body
+ * id table           count x int64, sorted ascending
+ * fingerprint table  count x int64, fingerprint of the row the i-th vector was stored for
+ * matrix             count x dimensions x float32, row i belongs to id i
+ * </pre>
+ *
+ * Ids alone do not identify a row: after a {@code TRUNCATE ... RESTART IDENTITY},
+ * a re-created database or a switch to another one, the same id names a
+ * different row. The fingerprint (a hash of the row's content, computed by
+ * the caller) lets the reader tell a vector of the current row from a stale one.
+ *
+ * Educational Note:
+ * Opening a segment is one {@code mmap} call: no bytes are read or parsed
+ * until a vector is actually used, and the pages live in the OS page cache
+ * rather than on the Java heap. Every row has the same stride, so the offset
+ * of row i is {@code matrixStart + i * dimensions * 4}, and the sorted id
+ * table turns an id lookup into a binary search.
+ */
+public final class VectorSegment {
+    static final long MAGIC = 0x3147455356474152L; // "RAGVSEG1" as little-endian bytes
+    static final int VERSION = 2;
+    static final int HEADER_BYTES = 64;
+
+    private final Path path;
+    private final long generation;
+    private final int dimensions;
+    private final int count;
+    private final long checksum;
+    private final MappedByteBuffer mapped;
+    private final LongBuffer ids;
+    private final LongBuffer fingerprints;
+    private final FloatBuffer matrix;
+
+    private VectorSegment(Path path, long generation, int dimensions, int count, long checksum,
+                          MappedByteBuffer mapped) {
+        this.path = path;
+        this.generation = generation;
+        this.dimensions = dimensions;
+        this.count = count;
+        this.checksum = checksum;
+        this.mapped = mapped;
+        ByteBuffer body = mapped.duplicate().order(ByteOrder.LITTLE_ENDIAN);
+        this.ids = body.position(HEADER_BYTES).slice().order(ByteOrder.LITTLE_ENDIAN)
+            .limit(count * Long.BYTES).asLongBuffer();
+        this.fingerprints = body.position(HEADER_BYTES + count * Long.BYTES).slice().order(ByteOrder.LITTLE_ENDIAN)
+            .limit(count * Long.BYTES).asLongBuffer();
+        this.matrix = body.position(HEADER_BYTES + 2 * count * Long.BYTES).slice().order(ByteOrder.LITTLE_ENDIAN)
+            .asFloatBuffer();
+    }
+
+    /**
+     * Map a segment file and validate its header.
+     *
+     * @throws IOException if the file is not a complete segment
+     */
+    public static VectorSegment open(Path path, long generation) throws IOException {
+        try (FileChannel channel = FileChannel.open(path, StandardOpenOption.READ)) {
+            long size = channel.size();
+            if (size < HEADER_BYTES || size > Integer.MAX_VALUE) {
+                throw new IOException("Not a vector segment (size " + size + "): " + path);
+            }
+            // The mapping stays valid after the channel is closed
+            MappedByteBuffer mapped = channel.map(FileChannel.MapMode.READ_ONLY, 0, size);
+            mapped.order(ByteOrder.LITTLE_ENDIAN);
+            if (mapped.getLong(0) != MAGIC) {
+                throw new IOException("Not a vector segment (bad magic): " + path);
+            }
+            if (mapped.getInt(8) != VERSION) {
+                throw new IOException(String.format("Vector segment %s has format version %d, expected %d",
+                    path, mapped.getInt(8), VERSION));
+            }
+            int dimensions = mapped.getInt(12);
+            long count = mapped.getLong(16);
+            long checksum = mapped.getLong(24);
+            long expected = HEADER_BYTES + 2 * count * Long.BYTES + count * dimensions * (long) Float.BYTES;
+            if (dimensions <= 0 || count < 0 || expected != size) {
+                throw new IOException(String.format(
+                    "Truncated vector segment %s: %d bytes, header says %d vectors of %d dimensions",
+                    path, size, count, dimensions));
+            }
+            return new VectorSegment(path, generation, dimensions, (int) count, checksum, mapped);
+        }
+    }
+
+    public Path path() { return path; }
+    public long generation() { return generation; }
+    public int dimensions() { return dimensions; }
+    public int count() { return count; }
+
+    public long sizeBytes() {
+        return mapped.capacity();
+    }
+
+    public long id(int row) {
+        return ids.get(row);
+    }
+
+    public long fingerprint(int row) {
+        return fingerprints.get(row);
+    }
+
+    /**
+     * Row holding the given id, or -1.
+     */
+    public int rowOf(long id) {
+        int low = 0;
+        int high = count - 1;
+        while (low <= high) {
+            int mid = (low + high) >>> 1;
+            long midId = ids.get(mid);
+            if (midId < id) {
+                low = mid + 1;
+            } else if (midId > id) {
+                high = mid - 1;
+            } else {
+                return mid;
+            }
+        }
+        return -1;
+    }
+
+    /**
+     * Copy one row onto the heap.
+     */
+    public float[] vector(int row) {
+        float[] vector = new float[dimensions];
+        matrix.get(row * dimensions, vector);
+        return vector;
+    }
+
+    /**
+     * Vector stored for the id, or null.
+     */
+    public float[] get(long id) {
+        int row = rowOf(id);
+        return row < 0 ? null : vector(row);
+    }
+
+    /**
+     * Recompute the body checksum. Reads the whole file.
+     */
+    public boolean verifyChecksum() {
+        CRC32C crc = new CRC32C();
+        crc.update(mapped.duplicate().position(HEADER_BYTES));
+        return crc.getValue() == checksum;
+    }
+}
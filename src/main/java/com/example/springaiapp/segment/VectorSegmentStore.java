@@ -0,0 +1,344 @@
+package com.example.springaiapp.segment;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.SortedMap;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.IntFunction;
+import java.util.function.LongPredicate;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+import java.util.stream.Stream;
+
+/**
+ * Directory of append-only, memory-mapped vector segments.
+ *
+ * Educational Note:
+ * This is a cache of the embeddings in PostgreSQL, laid out so a restart does
+ * not have to read and decode every row again:
+ * - new vectors collect in a small in-memory buffer and are written out as a
+ *   new segment once {@code flushRows} have arrived (and on {@link #close})
+ * - existing segment files are never modified; they are only replaced
+ * - when more than {@code maxSegments} files exist, a background compaction
+ *   merges them into one, dropping vectors whose rows no longer exist
+ * - every vector carries the fingerprint of the row it was stored for, so
+ *   the caller can reject vectors of an earlier row with the same id
+ *   ({@link VectorConsumer}); appending the id again supersedes the stale
+ *   vector, since reads and compaction always take the newest copy of an id
+ *
+ * Writes (flushes and compactions) run one at a time on a single background
+ * thread. Readers work on an immutable snapshot of the segment list, so they
+ * never wait for a write. Vectors lost in a crash (still in the buffer) or
+ * from a damaged segment are simply loaded from PostgreSQL again, so damaged
+ * segments and segments in an older format are deleted on open.
+ */
+public class VectorSegmentStore {
+    private static final Logger logger = LoggerFactory.getLogger(VectorSegmentStore.class);
+    private static final Pattern SEGMENT_NAME = Pattern.compile("segment-(\\d+)\\.vec");
+    // A single mapping is limited to 2 GB; stay well below it
+    private static final long MAX_SEGMENT_BYTES = 1L << 30;
+
+    private final Path directory;
+    private final int flushRows;
+    private final int maxSegments;
+    private final boolean verifyChecksums;
+    private final LongPredicate isLive;
+
+    private volatile List<VectorSegment> segments = List.of();
+    private final Map<Long, Buffered> buffer = new ConcurrentHashMap<>();
+    private final AtomicLong nextGeneration = new AtomicLong(1);
+    private final AtomicBoolean flushScheduled = new AtomicBoolean();
+    private final ExecutorService writer = Executors.newSingleThreadExecutor(runnable -> {
+        Thread thread = new Thread(runnable, "vector-segment-writer");
+        thread.setDaemon(true);
+        return thread;
+    });
+
+    /**
+     * @param directory where segment files live
+     * @param flushRows buffered vectors that trigger writing a new segment
+     * @param maxSegments segment count above which all segments are merged
+     * @param verifyChecksums read every segment in full on open to check its CRC
+     * @param isLive whether a vector's row still exists; others are dropped by compaction
+     */
+    public VectorSegmentStore(Path directory, int flushRows, int maxSegments,
+                              boolean verifyChecksums, LongPredicate isLive) {
+        this.directory = directory;
+        this.flushRows = Math.max(1, flushRows);
+        this.maxSegments = Math.max(2, maxSegments);
+        this.verifyChecksums = verifyChecksums;
+        this.isLive = isLive;
+    }
+
+    /**
+     * Map every segment in the directory. Damaged segments are logged and deleted.
+     */
+    public void open() throws IOException {
+        Files.createDirectories(directory);
+        long start = System.currentTimeMillis();
+        List<VectorSegment> opened = new ArrayList<>();
+        try (Stream<Path> files = Files.list(directory)) {
+            for (Path file : (Iterable<Path>) files::iterator) {
+                String name = file.getFileName().toString();
+                if (name.endsWith(".tmp")) {
+                    Files.deleteIfExists(file); // Left over from an interrupted write
+                    continue;
+                }
+                Matcher matcher = SEGMENT_NAME.matcher(name);
+                if (!matcher.matches()) {
+                    continue;
+                }
+                long generation = Long.parseLong(matcher.group(1));
+                nextGeneration.accumulateAndGet(generation + 1, Math::max);
+                try {
+                    VectorSegment segment = VectorSegment.open(file, generation);
+                    if (verifyChecksums && !segment.verifyChecksum()) {
+                        throw new IOException("Checksum mismatch in " + file);
+                    }
+                    opened.add(segment);
+                } catch (IOException e) {
+                    logger.warn("Deleting unusable vector segment {}, its vectors are reloaded from the database: {}",
+                               file, e.getMessage());
+                    Files.deleteIfExists(file);
+                }
+            }
+        }
+        opened.sort(Comparator.comparingLong(VectorSegment::generation));
+        segments = List.copyOf(opened);
+        logger.info("Opened {} vector segments ({} vectors, {} MB) from {} in {} ms",
+                   opened.size(), opened.stream().mapToLong(VectorSegment::count).sum(),
+                   opened.stream().mapToLong(VectorSegment::sizeBytes).sum() >> 20,
+                   directory, System.currentTimeMillis() - start);
+        scheduleCompactionIfNeeded();
+    }
+
+    /**
+     * Vector stored for the id, or null.
+     */
+    public float[] get(long id) {
+        Buffered buffered = buffer.get(id);
+        if (buffered != null) {
+            return buffered.vector();
+        }
+        List<VectorSegment> snapshot = segments;
+        for (int i = snapshot.size() - 1; i >= 0; i--) {
+            float[] vector = snapshot.get(i).get(id);
+            if (vector != null) {
+                return vector;
+            }
+        }
+        return null;
+    }
+
+    /**
+     * Visit the newest vector of every id once, reading each segment sequentially.
+     */
+    public void forEach(VectorConsumer consumer) {
+        Set<Long> seen = new HashSet<>();
+        for (Map.Entry<Long, Buffered> entry : buffer.entrySet()) {
+            if (seen.add(entry.getKey())) {
+                consumer.accept(entry.getKey(), entry.getValue().fingerprint(), entry.getValue().vector());
+            }
+        }
+        List<VectorSegment> snapshot = segments;
+        for (int i = snapshot.size() - 1; i >= 0; i--) {
+            VectorSegment segment = snapshot.get(i);
+            for (int row = 0; row < segment.count(); row++) {
+                long id = segment.id(row);
+                if (seen.add(id)) {
+                    consumer.accept(id, segment.fingerprint(row), segment.vector(row));
+                }
+            }
+        }
+    }
+
+    /**
+     * Add a vector. It is readable right away and written to a segment in the background.
+     * Appending an id that is already stored supersedes the stored vector.
+     *
+     * @param fingerprint identifies the row the vector belongs to, see {@link VectorSegment}
+     */
+    public void append(long id, long fingerprint, float[] vector) {
+        buffer.put(id, new Buffered(fingerprint, vector));
+        if (buffer.size() >= flushRows && flushScheduled.compareAndSet(false, true)) {
+            try {
+                writer.execute(() -> {
+                    flushScheduled.set(false);
+                    flushBuffer();
+                    compactIfNeeded();
+                });
+            } catch (RejectedExecutionException e) {
+                flushScheduled.set(false); // Closing; close() writes the buffer
+            }
+        }
+    }
+
+    /**
+     * Write buffered vectors and stop the background thread.
+     */
+    public void close() {
+        writer.shutdown();
+        try {
+            if (!writer.awaitTermination(30, TimeUnit.SECONDS)) {
+                logger.warn("Vector segment writer did not finish in time");
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+        flushBuffer();
+    }
+
+    public Stats stats() {
+        List<VectorSegment> snapshot = segments;
+        return new Stats(snapshot.size(),
+            snapshot.stream().mapToLong(VectorSegment::count).sum(),
+            buffer.size(),
+            snapshot.stream().mapToLong(VectorSegment::sizeBytes).sum());
+    }
+
+    private synchronized void flushBuffer() {
+        if (buffer.isEmpty()) {
+            return;
+        }
+        SortedMap<Long, Buffered> rows = new TreeMap<>(buffer);
+        long[] ids = rows.keySet().stream().mapToLong(Long::longValue).toArray();
+        List<Buffered> entries = new ArrayList<>(rows.values());
+        long[] fingerprints = entries.stream().mapToLong(Buffered::fingerprint).toArray();
+        try {
+            List<VectorSegment> written = writeSegments(ids, fingerprints, entries.get(0).vector().length,
+                                                        i -> entries.get(i).vector());
+            publish(List.of(), written);
+            // Removed only after publishing, so readers always find the vectors somewhere;
+            // an entry replaced in the meantime stays buffered
+            rows.forEach(buffer::remove);
+            logger.debug("Flushed {} vectors to a new segment", rows.size());
+        } catch (IOException | RuntimeException e) {
+            logger.error("Failed to write vector segment, keeping {} vectors in memory: {}",
+                        rows.size(), e.getMessage(), e);
+        }
+    }
+
+    private void scheduleCompactionIfNeeded() {
+        if (segments.size() > maxSegments) {
+            writer.execute(this::compactIfNeeded);
+        }
+    }
+
+    /**
+     * Merge all segments into as few as possible, dropping vectors of deleted
+     * rows and copies of an id superseded by a newer segment.
+     */
+    private synchronized void compactIfNeeded() {
+        List<VectorSegment> inputs = segments;
+        if (inputs.size() <= maxSegments) {
+            return;
+        }
+        long start = System.currentTimeMillis();
+        // Only (segment, row) references are collected; the vectors stay in the mapped files
+        SortedMap<Long, Long> merged = new TreeMap<>();
+        int dropped = 0;
+        // Newest first, so the first copy of an id seen is the one reads return
+        for (int s = inputs.size() - 1; s >= 0; s--) {
+            VectorSegment segment = inputs.get(s);
+            if (!segment.verifyChecksum()) {
+                // Its vectors are reloaded from PostgreSQL on the next start
+                logger.warn("Dropping vector segment {} during compaction: checksum mismatch", segment.path());
+                continue;
+            }
+            for (int row = 0; row < segment.count(); row++) {
+                long id = segment.id(row);
+                if (isLive.test(id)) {
+                    merged.putIfAbsent(id, ((long) s << 32) | row);
+                } else {
+                    dropped++;
+                }
+            }
+        }
+        long[] ids = merged.keySet().stream().mapToLong(Long::longValue).toArray();
+        long[] refs = merged.values().stream().mapToLong(Long::longValue).toArray();
+        long[] fingerprints = new long[refs.length];
+        for (int i = 0; i < refs.length; i++) {
+            fingerprints[i] = inputs.get((int) (refs[i] >>> 32)).fingerprint((int) refs[i]);
+        }
+        try {
+            List<VectorSegment> outputs = ids.length == 0 ? List.of()
+                : writeSegments(ids, fingerprints, inputs.get(0).dimensions(),
+                                i -> inputs.get((int) (refs[i] >>> 32)).vector((int) refs[i]));
+            publish(inputs, outputs);
+            for (VectorSegment segment : inputs) {
+                Files.deleteIfExists(segment.path());
+            }
+            logger.info("Compacted {} vector segments into {} ({} vectors kept, {} dropped) in {} ms",
+                       inputs.size(), outputs.size(), merged.size(), dropped, System.currentTimeMillis() - start);
+        } catch (IOException | RuntimeException e) {
+            logger.error("Vector segment compaction failed, keeping existing segments: {}", e.getMessage(), e);
+        }
+    }
+
+    /**
+     * Write rows into one or more new segments of at most {@link #MAX_SEGMENT_BYTES}.
+     *
+     * @param ids ids in ascending order
+     * @param fingerprints fingerprint of the row of the i-th id
+     * @param vectors vector of the i-th id
+     */
+    private List<VectorSegment> writeSegments(long[] ids, long[] fingerprints, int dimensions,
+                                              IntFunction<float[]> vectors) throws IOException {
+        List<VectorSegment> written = new ArrayList<>();
+        int rowsPerSegment = (int) Math.max(1, MAX_SEGMENT_BYTES / ((long) dimensions * Float.BYTES + 2 * Long.BYTES));
+        for (int from = 0; from < ids.length; from += rowsPerSegment) {
+            int offset = from;
+            int to = Math.min(from + rowsPerSegment, ids.length);
+            long[] part = Arrays.copyOfRange(ids, from, to);
+            long[] partFingerprints = Arrays.copyOfRange(fingerprints, from, to);
+            long generation = nextGeneration.getAndIncrement();
+            Path file = directory.resolve(String.format("segment-%010d.vec", generation));
+            VectorSegmentWriter.write(file, dimensions, part, partFingerprints, i -> vectors.apply(offset + i));
+            written.add(VectorSegment.open(file, generation));
+        }
+        return written;
+    }
+
+    private synchronized void publish(List<VectorSegment> removed, List<VectorSegment> added) {
+        List<VectorSegment> updated = new ArrayList<>(segments);
+        updated.removeAll(removed);
+        updated.addAll(added);
+        updated.sort(Comparator.comparingLong(VectorSegment::generation));
+        segments = List.copyOf(updated);
+    }
+
+    @FunctionalInterface
+    public interface VectorConsumer {
+        /**
+         * @param fingerprint as passed to {@link #append} for this vector
+         */
+        void accept(long id, long fingerprint, float[] vector);
+    }
+
+    private record Buffered(long fingerprint, float[] vector) {}
+
+    /**
+     * @param segments segment files currently mapped
+     * @param vectors vectors in those files (including superseded duplicates)
+     * @param buffered vectors waiting to be written
+     * @param mappedBytes total size of the mapped files
+     */
+    public record Stats(int segments, long vectors, int buffered, long mappedBytes) {}
+}
@@ -0,0 +1,89 @@
+package com.example.springaiapp.segment;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.util.function.IntFunction;
+import java.util.zip.CRC32C;
+
+/**
+ * Writes vector segment files (see {@link VectorSegment} for the layout).
+ *
+ * The file is written under a temporary name, flushed to disk and then
+ * renamed into place, so a crash never leaves a half-written segment behind
+ * under its final name.
+ */
+final class VectorSegmentWriter {
+    private static final int WRITE_BUFFER_BYTES = 1 << 20;
+
+    private VectorSegmentWriter() {}
+
+    /**
+     * @param ids ids in ascending order
+     * @param fingerprints fingerprint of the row of the i-th id
+     * @param vectors vector of the i-th id; read one at a time, so rows can
+     *        come straight from other mapped segments without being collected on the heap
+     */
+    static void write(Path target, int dimensions, long[] ids, long[] fingerprints, IntFunction<float[]> vectors)
+            throws IOException {
+        if (fingerprints.length != ids.length) {
+            throw new IllegalArgumentException(String.format(
+                "%d ids but %d fingerprints", ids.length, fingerprints.length));
+        }
+        Path temp = target.resolveSibling(target.getFileName() + ".tmp");
+        CRC32C crc = new CRC32C();
+        try (FileChannel channel = FileChannel.open(temp, StandardOpenOption.CREATE,
+                StandardOpenOption.TRUNCATE_EXISTING, StandardOpenOption.WRITE)) {
+            channel.position(VectorSegment.HEADER_BYTES);
+            ByteBuffer buffer = ByteBuffer.allocate(WRITE_BUFFER_BYTES).order(ByteOrder.LITTLE_ENDIAN);
+
+            for (long[] table : new long[][] {ids, fingerprints}) {
+                for (long value : table) {
+                    if (buffer.remaining() < Long.BYTES) {
+                        drain(channel, buffer, crc);
+                    }
+                    buffer.putLong(value);
+                }
+            }
+            for (int i = 0; i < ids.length; i++) {
+                float[] vector = vectors.apply(i);
+                if (vector.length != dimensions) {
+                    throw new IllegalArgumentException(String.format(
+                        "Vector %d has %d dimensions, segment holds %d", ids[i], vector.length, dimensions));
+                }
+                for (float value : vector) {
+                    if (buffer.remaining() < Float.BYTES) {
+                        drain(channel, buffer, crc);
+                    }
+                    buffer.putFloat(value);
+                }
+            }
+            drain(channel, buffer, crc);
+
+            ByteBuffer header = ByteBuffer.allocate(VectorSegment.HEADER_BYTES).order(ByteOrder.LITTLE_ENDIAN);
+            header.putLong(VectorSegment.MAGIC)
+                .putInt(VectorSegment.VERSION)
+                .putInt(dimensions)
+                .putLong(ids.length)
+                .putLong(crc.getValue());
+            header.clear();
+            channel.write(header, 0);
+            channel.force(true);
+        }
+        Files.move(temp, target, StandardCopyOption.ATOMIC_MOVE, StandardCopyOption.REPLACE_EXISTING);
+    }
+
+    private static void drain(FileChannel channel, ByteBuffer buffer, CRC32C crc) throws IOException {
+        buffer.flip();
+        crc.update(buffer.duplicate());
+        while (buffer.hasRemaining()) {
+            channel.write(buffer);
+        }
+        buffer.clear();
+    }
+}
@@ -0,0 +1,244 @@
+package com.example.springaiapp.service;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.HexFormat;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Writes a blog post for every topic in a file, several at a time.
+ *
+ * Educational Note:
+ * One post takes a minute or more, almost all of it waiting for the model.
+ * Running the writer/editor pipelines of several topics at once keeps the
+ * deployment busy instead of idle between calls, so a content calendar of
+ * dozens of topics finishes in a fraction of the sequential time. The pool is
+ * bounded ({@code rag.blog.batch.parallelism}) and every chat call still goes
+ * through the {@link com.example.springaiapp.ratelimit.CallScheduler} as batch
+ * work, so a batch cannot starve interactive questions or exceed the quota.
+ *
+ * Each post is written to the output directory as soon as it is finished (to a
+ * temporary file first, then renamed, so a crash never leaves half a post), and
+ * then recorded in a checkpoint file in the same directory. Running the batch
+ * again skips topics that are in the checkpoint and whose post still exists, so
+ * an interrupted batch resumes where it left off.
+ */
+@Service
+public class BlogBatchService {
+    private static final Logger logger = LoggerFactory.getLogger(BlogBatchService.class);
+    static final String CHECKPOINT_FILE = ".blog-batch-checkpoint";
+    private static final int MAX_SLUG_LENGTH = 60;
+
+    private final BlogWriterService blogWriterService;
+
+    @Value("${rag.blog.batch.parallelism:4}")
+    private int defaultParallelism;
+
+    public BlogBatchService(BlogWriterService blogWriterService) {
+        this.blogWriterService = blogWriterService;
+    }
+
+    /**
+     * Write a post for every topic in {@code topicsFile}: one topic per line,
+     * blank lines and lines starting with {@code #} are ignored. A parallelism
+     * of 0 selects the configured default.
+     */
+    public BatchReport writeAll(Path topicsFile, Path outputDir, int parallelism) throws IOException {
+        parallelism = parallelism > 0 ? parallelism : defaultParallelism;
+        List<String> topics = readTopics(topicsFile);
+        Files.createDirectories(outputDir);
+        Path checkpoint = outputDir.resolve(CHECKPOINT_FILE);
+        Map<String, String> completed = readCheckpoint(checkpoint);
+
+        List<Integer> pending = new ArrayList<>();
+        int skipped = 0;
+        for (int i = 0; i < topics.size(); i++) {
+            String done = completed.get(topicKey(topics.get(i)));
+            if (done != null && Files.exists(outputDir.resolve(done))) {
+                skipped++;
+            } else {
+                pending.add(i);
+            }
+        }
+        logger.info("Writing {} blog posts to {} ({} already done, {} at a time)",
+                   pending.size(), outputDir, skipped, parallelism);
+
+        ExecutorService workers = Executors.newFixedThreadPool(Math.max(1, parallelism), runnable -> {
+            Thread thread = new Thread(runnable, "blog-batch-writer");
+            thread.setDaemon(true);
+            return thread;
+        });
+        AtomicInteger finished = new AtomicInteger();
+        long start = System.nanoTime();
+        List<CompletableFuture<TopicResult>> results = new ArrayList<>();
+        try {
+            for (int index : pending) {
+                String topic = topics.get(index);
+                results.add(CompletableFuture.supplyAsync(() -> {
+                    TopicResult result = writeOne(index, topic, outputDir, checkpoint);
+                    logger.info("Blog batch progress: {}/{} posts ({} in {} ms{})",
+                               finished.incrementAndGet(), pending.size(), topic, result.latencyMs(),
+                               result.error() == null ? "" : ", failed");
+                    return result;
+                }, workers));
+            }
+            CompletableFuture.allOf(results.toArray(new CompletableFuture[0])).get();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException("Blog batch interrupted; finished posts are checkpointed", e);
+        } catch (ExecutionException e) {
+            throw new IllegalStateException("Blog batch failed", e.getCause());
+        } finally {
+            workers.shutdownNow();
+        }
+
+        BatchReport report = new BatchReport(topics.size(), skipped,
+            results.stream().map(CompletableFuture::join).toList(),
+            (System.nanoTime() - start) / 1_000_000);
+        logger.info("Blog batch finished: {}", report);
+        return report;
+    }
+
+    /**
+     * Run one pipeline and store its post. Failures are reported, not thrown,
+     * so one bad topic does not stop the batch.
+     */
+    private TopicResult writeOne(int index, String topic, Path outputDir, Path checkpoint) {
+        long start = System.nanoTime();
+        String fileName = String.format("%03d-%s.md", index + 1, slug(topic));
+        try {
+            String post = blogWriterService.generateBlogPost(topic);
+            Path temp = outputDir.resolve(fileName + ".tmp");
+            Files.writeString(temp, post, StandardCharsets.UTF_8);
+            Files.move(temp, outputDir.resolve(fileName),
+                       StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+            markCompleted(checkpoint, topic, fileName);
+            return new TopicResult(topic, fileName, (System.nanoTime() - start) / 1_000_000, null);
+        } catch (IOException | RuntimeException e) {
+            logger.error("Failed to write blog post for '{}': {}", topic, e.getMessage());
+            return new TopicResult(topic, null, (System.nanoTime() - start) / 1_000_000, e.getMessage());
+        }
+    }
+
+    private static List<String> readTopics(Path topicsFile) throws IOException {
+        // Duplicates would write the same post twice
+        Set<String> topics = new LinkedHashSet<>();
+        for (String line : Files.readAllLines(topicsFile, StandardCharsets.UTF_8)) {
+            String topic = line.strip();
+            if (!topic.isEmpty() && !topic.startsWith("#")) {
+                topics.add(topic);
+            }
+        }
+        return new ArrayList<>(topics);
+    }
+
+    /**
+     * Topic key to post file name, for every post the checkpoint records.
+     */
+    private static Map<String, String> readCheckpoint(Path checkpoint) throws IOException {
+        Map<String, String> completed = new HashMap<>();
+        if (!Files.exists(checkpoint)) {
+            return completed;
+        }
+        for (String line : Files.readAllLines(checkpoint, StandardCharsets.UTF_8)) {
+            String[] fields = line.split("\t");
+            if (fields.length == 2) {
+                completed.put(fields[0], fields[1]);
+            }
+        }
+        return completed;
+    }
+
+    private static synchronized void markCompleted(Path checkpoint, String topic, String fileName) {
+        try {
+            Files.writeString(checkpoint, topicKey(topic) + "\t" + fileName + "\n", StandardCharsets.UTF_8,
+                              StandardOpenOption.CREATE, StandardOpenOption.APPEND, StandardOpenOption.SYNC);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    private static String topicKey(String topic) {
+        try {
+            MessageDigest digest = MessageDigest.getInstance("SHA-256");
+            return HexFormat.of().formatHex(digest.digest(topic.getBytes(StandardCharsets.UTF_8)));
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException("SHA-256 not available", e);
+        }
+    }
+
+    static String slug(String topic) {
+        String slug = topic.toLowerCase(Locale.ROOT).replaceAll("[^a-z0-9]+", "-").replaceAll("^-|-$", "");
+        if (slug.length() > MAX_SLUG_LENGTH) {
+            slug = slug.substring(0, MAX_SLUG_LENGTH).replaceAll("-$", "");
+        }
+        return slug.isEmpty() ? "post" : slug;
+    }
+
+    /**
+     * @param file post file in the output directory, or null if the topic failed
+     * @param error why the topic failed, or null
+     */
+    public record TopicResult(String topic, String file, long latencyMs, String error) {}
+
+    /**
+     * Summary of a batch: throughput over the posts written by this run, and the
+     * latency of each of them.
+     */
+    public record BatchReport(int topicsFound, int topicsSkipped, List<TopicResult> results, long elapsedMs) {
+        public long postsWritten() {
+            return results.stream().filter(result -> result.error() == null).count();
+        }
+
+        public long postsFailed() {
+            return results.size() - postsWritten();
+        }
+
+        public double postsPerMinute() {
+            return elapsedMs == 0 ? 0.0 : postsWritten() * 60_000.0 / elapsedMs;
+        }
+
+        /**
+         * Latency at quantile {@code q} (0..1) of the posts written by this run.
+         */
+        public long latencyPercentileMs(double q) {
+            long[] latencies = results.stream().filter(result -> result.error() == null)
+                .mapToLong(TopicResult::latencyMs).sorted().toArray();
+            if (latencies.length == 0) {
+                return 0;
+            }
+            int index = (int) Math.ceil(q * latencies.length) - 1;
+            return latencies[Math.max(0, Math.min(latencies.length - 1, index))];
+        }
+
+        @Override
+        public String toString() {
+            return String.format("%d topics, %d written, %d already done, %d failed in %.1f s "
+                + "(%.2f posts/min, latency p50 %d ms, max %d ms)",
+                topicsFound, postsWritten(), topicsSkipped, postsFailed(), elapsedMs / 1000.0,
+                postsPerMinute(), latencyPercentileMs(0.5), latencyPercentileMs(1.0));
+        }
+    }
+}
@@ -1,84 +1,151 @@
 package com.example.springaiapp.service;
 
+import com.example.springaiapp.context.TokenEstimator;
+import com.example.springaiapp.metrics.PipelineMetrics;
+import com.example.springaiapp.ratelimit.CallPriority;
+import com.example.springaiapp.ratelimit.CallScheduler;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import org.springframework.ai.chat.ChatClient;
 import org.springframework.ai.chat.prompt.Prompt;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Service;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.TreeSet;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.regex.Pattern;
+import java.util.stream.Collectors;
 
+/**
+ * Writer/editor loop that drafts a blog post and revises it until the editor approves.
+ *
+ * Educational Note:
+ * Revising the whole post every round means re-sending and re-generating
+ * thousands of tokens, even when only one paragraph needs work. Instead the
+ * draft is split into sections at its markdown headings:
+ * 1. The editor sees the whole post (for flow) but only returns a short JSON
+ *    verdict per section, and in later rounds only judges the sections that
+ *    were just rewritten
+ * 2. Only failing sections are rewritten; the writer gets the section, its
+ *    feedback and the outline of the post, not the whole draft
+ * 3. Rewrites of different sections are independent, so they run in parallel
+ *    (up to {@code rag.blog.rewrite-parallelism})
+ * At the end, the estimated tokens used are logged next to what whole-draft
+ * revision would have used.
+ *
+ * Each call is timed by {@link PipelineMetrics} (pipeline {@code blog}): the initial
+ * draft, the editor review and writer revision of every round, each round as a
+ * whole, and the complete post. Chat calls go through the {@link CallScheduler} as
+ * batch work, so interactive questions are served first when quota is short.
+ */
 @Service
 public class BlogWriterService {
     private static final Logger logger = LoggerFactory.getLogger(BlogWriterService.class);
     private static final int MAX_ITERATIONS = 3;
+    private static final Pattern HEADING = Pattern.compile("(?m)^(?=#{1,6}\\s+\\S)");
 
     private final ChatClient chatClient;
+    private final PipelineMetrics metrics;
+    private final CallScheduler callScheduler;
+    private final ObjectMapper objectMapper;
+    private ExecutorService rewriters;
 
-    public BlogWriterService(ChatClient chatClient) {
+    @Value("${spring.ai.azure.openai.chat.options.deployment-name}")
+    private String chatDeploymentName;
+
+    @Value("${rag.blog.rewrite-parallelism:4}")
+    private int rewriteParallelism;
+
+    public BlogWriterService(ChatClient chatClient, PipelineMetrics metrics, CallScheduler callScheduler,
+                             ObjectMapper objectMapper) {
         this.chatClient = chatClient;
+        this.metrics = metrics;
+        this.callScheduler = callScheduler;
+        this.objectMapper = objectMapper;
+    }
+
+    @PostConstruct
+    private void init() {
+        rewriters = Executors.newFixedThreadPool(Math.max(1, rewriteParallelism), runnable -> {
+            Thread thread = new Thread(runnable, "blog-section-writer");
+            thread.setDaemon(true);
+            return thread;
+        });
+    }
+
+    @PreDestroy
+    private void shutdown() {
+        rewriters.shutdownNow();
     }
 
     public String generateBlogPost(String topic) {
         logger.info("Starting blog generation for topic: {}", topic);
+        long start = System.nanoTime();
+        Usage usage = new Usage();
 
         // Writer: Generate initial blog draft
         String initialPrompt = String.format("""
             You are a professional blog writer. Write a well-structured, engaging blog post about "%s".
             The post should have a clear introduction, body paragraphs, and conclusion.
             Include relevant examples and maintain a conversational yet professional tone.
+            Use markdown and start every section, including the introduction, with a "## " heading.
             """, topic);
-        
-        String draft = chatClient.call(new Prompt(initialPrompt)).getResult().getOutput().getContent();
-        logger.info("Initial draft generated");
+
+        String draft = call("draft", initialPrompt, usage);
+        usage.sameForWholeDraft();
+        List<String> sections = splitSections(draft);
+        logger.info("Initial draft generated with {} sections", sections.size());
         logger.debug("Initial draft content:\n{}", draft);
 
-        // Enter evaluator-optimizer loop for refinement
+        // Enter evaluator-optimizer loop for refinement, one section at a time
         boolean approved = false;
         int iteration = 1;
-        
+        Set<Integer> toReview = new TreeSet<>();
+        for (int i = 0; i < sections.size(); i++) {
+            toReview.add(i);
+        }
+
         while (!approved && iteration <= MAX_ITERATIONS) {
-            // Editor: Evaluate the current draft
-            String evalPrompt = String.format("""
-                You are a critical blog editor. Evaluate the following blog draft and respond with either:
-                PASS - if the draft is well-written, engaging, and complete
-                NEEDS_IMPROVEMENT - followed by specific, actionable feedback on what to improve
-                
-                Focus on:
-                - Clarity and flow of ideas
-                - Engagement and reader interest
-                - Professional yet conversational tone
-                - Structure and organization
-                
-                Draft:
-                %s
-                """, draft);
-            
-            String evaluation = chatClient.call(new Prompt(evalPrompt)).getResult().getOutput().getContent();
-            logger.info("Iteration {} - Editor's evaluation:\n{}", iteration, evaluation);
+            long roundStart = System.nanoTime();
+
+            // Editor: Evaluate the sections that are new or were just rewritten
+            Map<Integer, String> failing = review(topic, sections, toReview, usage);
+            logger.info("Iteration {} - Editor reviewed {} sections, {} need improvement",
+                       iteration, toReview.size(), failing.size());
 
-            if (evaluation.toUpperCase().contains("PASS")) {
+            if (failing.isEmpty()) {
                 approved = true;
                 logger.info("Draft approved by editor on iteration {}", iteration);
             } else {
-                // Extract feedback and refine the draft
-                String feedback = extractFeedback(evaluation);
-                logger.info("Editor feedback (iteration {}): {}", iteration, feedback);
-                
-                // Writer: Refine the draft using feedback
-                String refinePrompt = String.format("""
-                    You are a blog writer. Improve the following blog draft based on this editorial feedback:
-                    
-                    Feedback: %s
-                    
-                    Current Draft:
-                    %s
-                    
-                    Provide the complete improved version while maintaining the original topic and structure.
-                    """, feedback, draft);
-                
-                draft = chatClient.call(new Prompt(refinePrompt)).getResult().getOutput().getContent();
-                logger.info("Iteration {} - Draft revised", iteration);
-                logger.debug("Revised draft content:\n{}", draft);
+                for (Map.Entry<Integer, String> entry : failing.entrySet()) {
+                    logger.info("Editor feedback (iteration {}, section {}): {}",
+                               iteration, entry.getKey() + 1, entry.getValue());
+                }
+
+                // Writer: Rewrite only the failing sections, in parallel
+                usage.wholeDraftRevision(TokenEstimator.count(String.join("\n\n", sections)),
+                                         failing.values().stream().mapToInt(TokenEstimator::count).sum());
+                rewrite(topic, sections, failing, usage);
+                toReview = new TreeSet<>(failing.keySet());
+                logger.info("Iteration {} - {} sections revised", iteration, failing.size());
+                logger.debug("Revised draft content:\n{}", String.join("\n\n", sections));
             }
+            long roundNanos = System.nanoTime() - roundStart;
+            metrics.record(PipelineMetrics.BLOG, "round", roundNanos);
+            logger.info("Iteration {} took {} ms", iteration, roundNanos / 1_000_000);
             iteration++;
         }
 
@@ -86,16 +153,191 @@ public class BlogWriterService {
             logger.warn("Maximum iterations ({}) reached without editor approval", MAX_ITERATIONS);
         }
 
-        return draft;
+        long totalNanos = System.nanoTime() - start;
+        metrics.record(PipelineMetrics.BLOG, "total", totalNanos);
+        logger.info("Blog post finished in {} ms with {} chat calls: ~{} prompt and ~{} completion tokens "
+                   + "(whole-draft revision: ~{} prompt and ~{} completion tokens)",
+                   totalNanos / 1_000_000, usage.calls.sum(), usage.promptTokens.sum(),
+                   usage.completionTokens.sum(), usage.wholeDraftPromptTokens.sum(),
+                   usage.wholeDraftCompletionTokens.sum());
+        return String.join("\n\n", sections);
+    }
+
+    /**
+     * Ask the editor for a verdict on the given sections.
+     *
+     * @return feedback per failing section index
+     */
+    private Map<Integer, String> review(String topic, List<String> sections, Set<Integer> toReview, Usage usage) {
+        StringBuilder numbered = new StringBuilder();
+        for (int i = 0; i < sections.size(); i++) {
+            numbered.append("[Section ").append(i + 1).append("]\n").append(sections.get(i)).append("\n\n");
+        }
+        String sectionNumbers = toReview.stream().map(i -> String.valueOf(i + 1)).collect(Collectors.joining(", "));
+        String evalPrompt = String.format("""
+            You are a critical blog editor. The blog draft about "%s" below is split into numbered sections.
+            Evaluate sections %s only; the other sections are already approved but give you context.
+
+            Focus on:
+            - Clarity and flow of ideas
+            - Engagement and reader interest
+            - Professional yet conversational tone
+            - Structure and organization
+
+            Respond with only a JSON array containing one object per evaluated section:
+            [{"section": <number>, "verdict": "PASS" or "NEEDS_IMPROVEMENT", "feedback": "<specific, actionable feedback, empty for PASS>"}]
+
+            Draft:
+            %s""", topic, sectionNumbers, numbered);
+
+        String evaluation = call("review", evalPrompt, usage);
+        usage.wholeDraftReview(TokenEstimator.count(evalPrompt), TokenEstimator.count(String.join("\n\n", sections)));
+        logger.debug("Editor's evaluation:\n{}", evaluation);
+
+        Map<Integer, String> failing = new LinkedHashMap<>();
+        SectionVerdict[] verdicts = parseVerdicts(evaluation);
+        if (verdicts == null) {
+            // Unstructured answer: fall back to a verdict for all reviewed sections at once
+            logger.warn("Editor did not return section verdicts, applying its evaluation to all reviewed sections");
+            if (evaluation.toUpperCase().contains("NEEDS_IMPROVEMENT")) {
+                toReview.forEach(index -> failing.put(index, evaluation.strip()));
+            }
+            return failing;
+        }
+        for (SectionVerdict verdict : verdicts) {
+            int index = verdict.section() - 1;
+            if (toReview.contains(index) && verdict.verdict() != null
+                    && verdict.verdict().toUpperCase().contains("NEEDS_IMPROVEMENT")) {
+                failing.put(index, verdict.feedback() != null ? verdict.feedback().strip() : "");
+            }
+        }
+        return failing;
+    }
+
+    /**
+     * Rewrite the failing sections in parallel, replacing them in {@code sections}.
+     */
+    private void rewrite(String topic, List<String> sections, Map<Integer, String> failing, Usage usage) {
+        String outline = outline(sections);
+        Map<Integer, CompletableFuture<String>> rewrites = new LinkedHashMap<>();
+        failing.forEach((index, feedback) -> {
+            String refinePrompt = String.format("""
+                You are a blog writer working on a blog post about "%s". Its sections are:
+                %s
+
+                Improve section %d based on this editorial feedback:
+
+                Feedback: %s
+
+                Current section:
+                %s
+
+                Provide only the complete improved section, starting with its heading,
+                keeping its topic and its place in the post.
+                """, topic, outline, index + 1, feedback, sections.get(index));
+            rewrites.put(index, CompletableFuture.supplyAsync(() -> call("revise", refinePrompt, usage), rewriters));
+        });
+        try {
+            rewrites.forEach((index, rewrite) -> sections.set(index, rewrite.join().strip()));
+        } catch (CompletionException e) {
+            rewrites.values().forEach(rewrite -> rewrite.cancel(true));
+            Throwable cause = e.getCause() != null ? e.getCause() : e;
+            if (cause instanceof RuntimeException runtimeException) {
+                throw runtimeException;
+            }
+            throw new RuntimeException("Failed to revise blog section: " + cause.getMessage(), cause);
+        }
+    }
+
+    /**
+     * Split a markdown draft before each heading. A heading without text of its
+     * own (such as the post title) is kept with the section after it.
+     */
+    static List<String> splitSections(String draft) {
+        List<String> sections = new ArrayList<>();
+        String carried = "";
+        for (String part : HEADING.split(draft.strip())) {
+            String text = part.strip();
+            if (text.isEmpty()) {
+                continue;
+            }
+            if (text.lines().count() == 1 && HEADING.matcher(text).lookingAt()) {
+                carried += text + "\n\n";
+                continue;
+            }
+            sections.add(carried + text);
+            carried = "";
+        }
+        if (!carried.isEmpty()) {
+            sections.add(carried.strip());
+        }
+        return sections.isEmpty() ? new ArrayList<>(List.of(draft.strip())) : sections;
+    }
+
+    private static String outline(List<String> sections) {
+        StringBuilder outline = new StringBuilder();
+        for (int i = 0; i < sections.size(); i++) {
+            String firstLine = sections.get(i).lines().findFirst().orElse("").strip();
+            outline.append(i + 1).append(". ").append(firstLine.startsWith("#") ? firstLine : "(untitled)").append('\n');
+        }
+        return outline.toString().strip();
+    }
+
+    private SectionVerdict[] parseVerdicts(String evaluation) {
+        int start = evaluation.indexOf('[');
+        int end = evaluation.lastIndexOf(']');
+        if (start < 0 || end <= start) {
+            return null;
+        }
+        try {
+            SectionVerdict[] verdicts = objectMapper.readValue(evaluation.substring(start, end + 1), SectionVerdict[].class);
+            return Arrays.stream(verdicts).anyMatch(verdict -> verdict == null) ? null : verdicts;
+        } catch (JsonProcessingException e) {
+            return null;
+        }
+    }
+
+    private String call(String stage, String prompt, Usage usage) {
+        String content = metrics.time(PipelineMetrics.BLOG, stage,
+            () -> callScheduler.execute(chatDeploymentName, CallPriority.BATCH, callScheduler.estimateChatTokens(prompt),
+                                        () -> chatClient.call(new Prompt(prompt)).getResult().getOutput().getContent()));
+        usage.calls.increment();
+        usage.promptTokens.add(TokenEstimator.count(prompt));
+        usage.completionTokens.add(TokenEstimator.count(content));
+        return content;
     }
 
-    private String extractFeedback(String evaluation) {
-        if (evaluation == null) return "";
-        int idx = evaluation.toUpperCase().indexOf("NEEDS_IMPROVEMENT");
-        if (idx != -1) {
-            // Return text after "NEEDS_IMPROVEMENT"
-            return evaluation.substring(idx + "NEEDS_IMPROVEMENT".length()).trim();
+    private record SectionVerdict(int section, String verdict, String feedback) {}
+
+    /**
+     * Estimated tokens of one post, next to what revising the whole draft would have used.
+     */
+    private static final class Usage {
+        // Instructions around the draft in a whole-draft revision prompt
+        static final int REVISION_INSTRUCTION_TOKENS = 50;
+
+        final LongAdder calls = new LongAdder();
+        final LongAdder promptTokens = new LongAdder();
+        final LongAdder completionTokens = new LongAdder();
+        final LongAdder wholeDraftPromptTokens = new LongAdder();
+        final LongAdder wholeDraftCompletionTokens = new LongAdder();
+
+        /** The initial draft is written the same way in both approaches */
+        void sameForWholeDraft() {
+            wholeDraftPromptTokens.add(promptTokens.sum());
+            wholeDraftCompletionTokens.add(completionTokens.sum());
+        }
+
+        /** Whole-draft review: the same prompt in, a free-form evaluation (about a tenth of the draft) out */
+        void wholeDraftReview(int promptTokens, int draftTokens) {
+            wholeDraftPromptTokens.add(promptTokens);
+            wholeDraftCompletionTokens.add(draftTokens / 10);
+        }
+
+        /** Whole-draft revision: instructions, draft and feedback in, the complete draft out */
+        void wholeDraftRevision(int draftTokens, int feedbackTokens) {
+            wholeDraftPromptTokens.add(REVISION_INSTRUCTION_TOKENS + draftTokens + feedbackTokens);
+            wholeDraftCompletionTokens.add(draftTokens);
         }
-        return evaluation;
     }
-} 
\ No newline at end of file
+}
@@ -0,0 +1,307 @@
+package com.example.springaiapp.service;
+
+import com.example.springaiapp.model.ChatHistory;
+import com.example.springaiapp.model.ScoredChatHistory;
+import com.example.springaiapp.repository.ChatHistoryRepository;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * Background job that keeps the Q&A part of {@code chat_history} from growing without bound.
+ *
+ * Educational Note:
+ * Every answered question is stored, including rephrasings of questions that
+ * were already answered. Those rows add nothing to retrieval (the context
+ * assembler skips near-duplicates anyway) but make every search scan, and the
+ * in-memory mirror hold, more vectors. Each run:
+ * 1. Writes the counted uses of rows ({@code hit_count}, {@code last_hit_at})
+ * 2. Clusters near-duplicates: every row added since the last run (every row,
+ *    on the first run after a start) is searched for with the vector index,
+ *    and the rows above {@code rag.compaction.similarity-threshold} form its
+ *    cluster. The row used most (then the one used most recently) is kept as the canonical
+ *    entry and inherits the hit counts of the others, which are deleted
+ * 3. Applies retention: rows unused for {@code max-age-days} are deleted
+ *    unless they were used at least {@code keep-hits} times, and if more than
+ *    {@code max-rows} remain, the least recently used go first
+ *
+ * Deletes run in batches of {@code batch-size} ids, each a short statement of
+ * its own with a pause in between, so the table is never locked for long and
+ * questions keep being answered while the job runs. Deleted rows disappear
+ * from search results at once; the vector index drops them at the end of the
+ * run. Ingested document chunks are never touched.
+ *
+ * Each run also applies the retention of the persistent embedding cache
+ * (see {@link EmbeddingCache#applyRetention}).
+ */
+@Service
+public class ChatHistoryCompactor {
+    private static final Logger logger = LoggerFactory.getLogger(ChatHistoryCompactor.class);
+    // Prefer the most used row of a cluster, then the most recently used, then the newest
+    private static final Comparator<ChatHistoryRepository.RowUsage> CANONICAL_FIRST =
+        Comparator.comparingLong(ChatHistoryRepository.RowUsage::hitCount)
+            .thenComparing(ChatHistoryRepository.RowUsage::lastUsed)
+            .thenComparingLong(ChatHistoryRepository.RowUsage::id)
+            .reversed();
+
+    private final ChatHistoryRepository repository;
+    private final EmbeddingCache embeddingCache;
+    private final ReentrantLock running = new ReentrantLock();
+    private ScheduledExecutorService scheduler;
+
+    // Rows up to this id have been clustered; later runs only search for newer rows
+    private volatile long clusteredUpToId = 0;
+
+    @Value("${rag.compaction.enabled:true}")
+    private boolean enabled;
+
+    @Value("${rag.compaction.interval-minutes:60}")
+    private long intervalMinutes;
+
+    @Value("${rag.compaction.similarity-threshold:0.95}")
+    private double similarityThreshold;
+
+    @Value("${rag.compaction.neighbors:16}")
+    private int neighbors;
+
+    @Value("${rag.compaction.max-age-days:0}")
+    private int maxAgeDays;
+
+    @Value("${rag.compaction.keep-hits:10}")
+    private long keepHits;
+
+    @Value("${rag.compaction.max-rows:0}")
+    private int maxRows;
+
+    @Value("${rag.compaction.batch-size:500}")
+    private int batchSize;
+
+    @Value("${rag.compaction.batch-pause-ms:100}")
+    private long batchPauseMs;
+
+    public ChatHistoryCompactor(ChatHistoryRepository repository, EmbeddingCache embeddingCache) {
+        this.repository = repository;
+        this.embeddingCache = embeddingCache;
+    }
+
+    @PostConstruct
+    private void init() {
+        logger.info("Chat history compaction enabled: {} (every {} min, similarity threshold {}, "
+                   + "max age {} days, keep-hits {}, max rows {})",
+                   enabled, intervalMinutes, similarityThreshold, maxAgeDays, keepHits, maxRows);
+        if (!enabled || intervalMinutes <= 0) {
+            return;
+        }
+        scheduler = Executors.newSingleThreadScheduledExecutor(runnable -> {
+            Thread thread = new Thread(runnable, "chat-history-compactor");
+            thread.setDaemon(true);
+            thread.setPriority(Thread.MIN_PRIORITY);
+            return thread;
+        });
+        scheduler.scheduleWithFixedDelay(() -> {
+            try {
+                compact();
+            } catch (RuntimeException e) {
+                logger.warn("Chat history compaction failed: {}", e.getMessage());
+            }
+        }, intervalMinutes, intervalMinutes, TimeUnit.MINUTES);
+    }
+
+    @PreDestroy
+    private void shutdown() {
+        if (scheduler != null) {
+            scheduler.shutdownNow();
+        }
+    }
+
+    /**
+     * Run one compaction now.
+     *
+     * @throws IllegalStateException if a compaction is already running
+     */
+    public CompactionReport compact() {
+        if (!running.tryLock()) {
+            throw new IllegalStateException("Compaction is already running");
+        }
+        try {
+            return runCompaction();
+        } finally {
+            running.unlock();
+        }
+    }
+
+    private CompactionReport runCompaction() {
+        long start = System.nanoTime();
+        repository.flushHits();
+        // Read before the rows: everything below it is already in the table
+        long lowestUnwritten = repository.lowestUnwrittenId();
+        Map<Long, ChatHistoryRepository.RowUsage> usage = new LinkedHashMap<>();
+        for (ChatHistoryRepository.RowUsage row : repository.findQaRowUsage()) {
+            usage.put(row.id(), row);
+        }
+
+        Set<Long> removed = new HashSet<>();
+        Map<Long, Long> inheritedHits = new HashMap<>();
+        List<Long> notMirrored = new ArrayList<>();
+        int clusters = clusterDuplicates(usage, removed, inheritedHits, notMirrored);
+        List<Long> duplicates = new ArrayList<>(removed);
+
+        List<Long> expired = new ArrayList<>();
+        List<Long> evicted = new ArrayList<>();
+        applyRetention(usage, removed, inheritedHits, expired, evicted);
+
+        int deleted = 0;
+        boolean interrupted = false;
+        try {
+            deleted += deleteInBatches(duplicates);
+            // Canonical entries that retention removes as well need no update
+            inheritedHits.keySet().removeAll(removed);
+            if (!inheritedHits.isEmpty()) {
+                repository.addHitCounts(inheritedHits);
+            }
+            deleted += deleteInBatches(expired);
+            deleted += deleteInBatches(evicted);
+            // Rows missing from the mirror are searched for again next time
+            long lastId = notMirrored.isEmpty()
+                ? usage.keySet().stream().mapToLong(Long::longValue).max().orElse(0)
+                : notMirrored.get(0) - 1;
+            // Queued rows with lower ids than the ones seen may still be inserted
+            lastId = Math.min(lastId, lowestUnwritten - 1);
+            clusteredUpToId = Math.max(clusteredUpToId, lastId);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            interrupted = true;
+        } finally {
+            repository.purgeDeletedVectors();
+        }
+        int cacheEntriesDeleted = interrupted ? 0 : embeddingCache.applyRetention(batchSize);
+
+        CompactionReport report = new CompactionReport(usage.size(), clusters, duplicates.size(),
+            expired.size(), evicted.size(), deleted, cacheEntriesDeleted, (System.nanoTime() - start) / 1_000_000);
+        logger.info("Chat history compaction {}: {}", interrupted ? "interrupted" : "finished", report);
+        return report;
+    }
+
+    /**
+     * Search for every row added since the last run and merge the rows found
+     * above the threshold into one cluster per search.
+     *
+     * @return clusters that had duplicates
+     */
+    private int clusterDuplicates(Map<Long, ChatHistoryRepository.RowUsage> usage, Set<Long> removed,
+                                  Map<Long, Long> inheritedHits, List<Long> notMirrored) {
+        int clusters = 0;
+        for (ChatHistoryRepository.RowUsage row : usage.values()) {
+            if (row.id() <= clusteredUpToId || removed.contains(row.id())) {
+                continue;
+            }
+            ChatHistory cached = repository.findCached(row.id());
+            float[] embedding = cached != null ? repository.embeddingOf(cached) : null;
+            if (embedding == null) {
+                notMirrored.add(row.id());
+                continue;
+            }
+
+            List<ChatHistoryRepository.RowUsage> cluster = new ArrayList<>();
+            cluster.add(row);
+            for (ScoredChatHistory hit : repository.findNearestNeighborsWithScores(embedding, neighbors)) {
+                long id = hit.history().getId();
+                if (id != row.id() && hit.score() >= similarityThreshold
+                        && usage.containsKey(id) && !removed.contains(id)) {
+                    cluster.add(usage.get(id));
+                }
+            }
+            if (cluster.size() == 1) {
+                continue;
+            }
+
+            clusters++;
+            cluster.sort(CANONICAL_FIRST);
+            long canonical = cluster.get(0).id();
+            for (ChatHistoryRepository.RowUsage duplicate : cluster.subList(1, cluster.size())) {
+                removed.add(duplicate.id());
+                long hits = duplicate.hitCount() + inheritedHits.getOrDefault(duplicate.id(), 0L);
+                inheritedHits.remove(duplicate.id());
+                if (hits > 0) {
+                    inheritedHits.merge(canonical, hits, Long::sum);
+                }
+            }
+        }
+        return clusters;
+    }
+
+    private void applyRetention(Map<Long, ChatHistoryRepository.RowUsage> usage, Set<Long> removed,
+                                Map<Long, Long> inheritedHits, List<Long> expired, List<Long> evicted) {
+        List<ChatHistoryRepository.RowUsage> remaining = new ArrayList<>();
+        Instant cutoff = Instant.now().minus(Duration.ofDays(maxAgeDays));
+        for (ChatHistoryRepository.RowUsage row : usage.values()) {
+            if (removed.contains(row.id())) {
+                continue;
+            }
+            long hits = row.hitCount() + inheritedHits.getOrDefault(row.id(), 0L);
+            if (maxAgeDays > 0 && row.lastUsed().isBefore(cutoff) && (keepHits <= 0 || hits < keepHits)) {
+                expired.add(row.id());
+                removed.add(row.id());
+            } else {
+                remaining.add(row);
+            }
+        }
+
+        if (maxRows > 0 && remaining.size() > maxRows) {
+            // Least recently used first; among rows last used at the same time, the least used
+            remaining.sort(Comparator.comparing(ChatHistoryRepository.RowUsage::lastUsed)
+                .thenComparingLong(row -> row.hitCount() + inheritedHits.getOrDefault(row.id(), 0L)));
+            for (ChatHistoryRepository.RowUsage row : remaining.subList(0, remaining.size() - maxRows)) {
+                evicted.add(row.id());
+                removed.add(row.id());
+            }
+        }
+    }
+
+    private int deleteInBatches(List<Long> ids) throws InterruptedException {
+        int deleted = 0;
+        for (int from = 0; from < ids.size(); from += batchSize) {
+            if (from > 0 && batchPauseMs > 0) {
+                Thread.sleep(batchPauseMs); // Let queries and inserts have the table in between
+            }
+            deleted += repository.deleteByIds(ids.subList(from, Math.min(from + batchSize, ids.size())));
+        }
+        return deleted;
+    }
+
+    /**
+     * @param rows Q&A rows examined
+     * @param clusters clusters of near-duplicates found
+     * @param duplicates rows removed as duplicates of a canonical entry
+     * @param expired rows removed because they were not used for {@code max-age-days}
+     * @param evicted least recently used rows removed to stay within {@code max-rows}
+     * @param deleted rows actually deleted (others may have been deleted concurrently)
+     * @param cacheEntriesDeleted expired or excess entries deleted from the persistent embedding cache
+     */
+    public record CompactionReport(int rows, int clusters, int duplicates, int expired, int evicted,
+                                   int deleted, int cacheEntriesDeleted, long elapsedMs) {
+        @Override
+        public String toString() {
+            return String.format("%d Q&A rows, %d duplicate clusters: %d duplicates, %d expired and %d "
+                + "least recently used rows removed (%d deleted), %d embedding cache entries deleted in %d ms",
+                rows, clusters, duplicates, expired, evicted, deleted, cacheEntriesDeleted, elapsedMs);
+        }
+    }
+}
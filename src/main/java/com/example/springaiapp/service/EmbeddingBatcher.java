@@ -0,0 +1,162 @@
+package com.example.springaiapp.service;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Function;
+
+/**
+ * Coalesces concurrent single-text embedding requests into batched calls.
+ *
+ * Educational Note:
+ * The embedding API accepts many inputs per HTTP request. When several
+ * threads each ask for one embedding at about the same time, sending them
+ * together costs one round trip instead of many and uses up far less of the
+ * provider's request quota (fewer 429 "Too Many Requests" responses).
+ *
+ * How it works:
+ * - callers {@link #submit} a text and get a future back
+ * - a dispatcher thread waits for the first text, then keeps collecting
+ *   until the batch is full ({@code maxBatchSize}) or {@code maxWait} has passed
+ * - the batch is sent on a sender thread, so the next window can open
+ *   while the previous request is in flight
+ * - results (or the failure) are fanned back out to every caller's future
+ */
+public class EmbeddingBatcher {
+    private static final Logger logger = LoggerFactory.getLogger(EmbeddingBatcher.class);
+
+    private final Function<List<String>, List<float[]>> batchEmbedder;
+    private final int maxBatchSize;
+    private final long maxWaitNanos;
+    private final BlockingQueue<Pending> queue = new LinkedBlockingQueue<>();
+    private final ExecutorService senders;
+    private final Thread dispatcher;
+    private volatile boolean running = true;
+
+    /**
+     * @param batchEmbedder embeds a list of texts, returning vectors in the same order
+     * @param maxBatchSize maximum texts per request
+     * @param maxWait how long to wait for more texts after the first one arrives
+     * @param maxConcurrentBatches maximum batch requests in flight at once
+     */
+    public EmbeddingBatcher(Function<List<String>, List<float[]>> batchEmbedder,
+                            int maxBatchSize, Duration maxWait, int maxConcurrentBatches) {
+        this.batchEmbedder = batchEmbedder;
+        this.maxBatchSize = Math.max(1, maxBatchSize);
+        this.maxWaitNanos = maxWait.toNanos();
+        this.senders = Executors.newFixedThreadPool(Math.max(1, maxConcurrentBatches), runnable -> {
+            Thread thread = new Thread(runnable, "embedding-batch-sender");
+            thread.setDaemon(true);
+            return thread;
+        });
+        this.dispatcher = new Thread(this::dispatchLoop, "embedding-batcher");
+        this.dispatcher.setDaemon(true);
+        this.dispatcher.start();
+    }
+
+    /**
+     * Queue a text for embedding. The future completes when its batch returns;
+     * cancelling it before the batch is sent leaves the text out.
+     */
+    public CompletableFuture<float[]> submit(String text) {
+        CompletableFuture<float[]> future = new CompletableFuture<>();
+        if (!running) {
+            future.completeExceptionally(new IllegalStateException("Embedding batcher is shut down"));
+            return future;
+        }
+        queue.add(new Pending(text, future));
+        return future;
+    }
+
+    /**
+     * Stop accepting work. Texts still queued fail with an exception;
+     * batches already in flight are allowed to finish.
+     */
+    public void shutdown() {
+        running = false;
+        dispatcher.interrupt();
+        senders.shutdown();
+        List<Pending> remaining = new ArrayList<>();
+        queue.drainTo(remaining);
+        failAll(remaining, new IllegalStateException("Embedding batcher is shut down"));
+    }
+
+    private void dispatchLoop() {
+        while (running) {
+            try {
+                List<Pending> batch = new ArrayList<>(maxBatchSize);
+                batch.add(queue.take());
+                long deadline = System.nanoTime() + maxWaitNanos;
+                while (batch.size() < maxBatchSize) {
+                    long remaining = deadline - System.nanoTime();
+                    Pending next = remaining > 0 ? queue.poll(remaining, TimeUnit.NANOSECONDS) : queue.poll();
+                    if (next == null) {
+                        break;
+                    }
+                    batch.add(next);
+                }
+                try {
+                    senders.execute(() -> send(batch));
+                } catch (RejectedExecutionException e) {
+                    failAll(batch, new IllegalStateException("Embedding batcher is shut down"));
+                }
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                return;
+            }
+        }
+    }
+
+    private void send(List<Pending> batch) {
+        // Identical texts in one window are embedded once
+        Map<String, List<Pending>> byText = new LinkedHashMap<>();
+        for (Pending pending : batch) {
+            // Callers that stopped waiting (cancelled their future) are left out
+            if (!pending.future().isDone()) {
+                byText.computeIfAbsent(pending.text(), t -> new ArrayList<>()).add(pending);
+            }
+        }
+        if (byText.isEmpty()) {
+            return;
+        }
+        List<String> texts = new ArrayList<>(byText.keySet());
+
+        try {
+            logger.debug("Sending embedding batch of {} texts ({} callers)", texts.size(), batch.size());
+            List<float[]> embeddings = batchEmbedder.apply(texts);
+            if (embeddings.size() != texts.size()) {
+                throw new IllegalStateException(String.format(
+                    "Embedding batch returned %d vectors for %d texts", embeddings.size(), texts.size()));
+            }
+            for (int i = 0; i < texts.size(); i++) {
+                float[] embedding = embeddings.get(i);
+                List<Pending> waiters = byText.get(texts.get(i));
+                for (int w = 0; w < waiters.size(); w++) {
+                    // Every caller gets its own array
+                    waiters.get(w).future().complete(w == 0 ? embedding : embedding.clone());
+                }
+            }
+        } catch (RuntimeException e) {
+            failAll(batch, e);
+        }
+    }
+
+    private static void failAll(List<Pending> batch, Throwable error) {
+        for (Pending pending : batch) {
+            pending.future().completeExceptionally(error);
+        }
+    }
+
+    private record Pending(String text, CompletableFuture<float[]> future) {}
+}
@@ -0,0 +1,299 @@
+package com.example.springaiapp.service;
+
+import com.example.springaiapp.model.EmbeddingCodec;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.dao.DataAccessException;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+import jakarta.annotation.PreDestroy;
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.sql.Timestamp;
+import java.text.Normalizer;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.HexFormat;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Content-addressed cache for embeddings.
+ *
+ * An embedding depends only on the text and the model deployment, so the
+ * cache key is a SHA-256 hash of both. The text is normalized first
+ * (Unicode NFC, trimmed, whitespace collapsed) so trivially different
+ * spellings of the same question share an entry.
+ *
+ * Two tiers:
+ * 1. Memory: a size-bounded LRU map, checked first
+ * 2. Persistent: the {@code embedding_cache} table, which survives restarts;
+ *    hits are promoted into memory
+ *
+ * New entries are written to the table by a background thread in batches, so
+ * a miss costs the request one lookup but no insert. The table is kept bounded
+ * by {@link #applyRetention}, which the chat history compactor runs: entries
+ * older than {@code max-age-days} are deleted, then the oldest ones beyond
+ * {@code max-rows}.
+ *
+ * Educational Note:
+ * A cache hit skips a full network round trip to Azure OpenAI, which is
+ * usually the slowest part of retrieval.
+ */
+@Component
+public class EmbeddingCache {
+    private static final Logger logger = LoggerFactory.getLogger(EmbeddingCache.class);
+    // A full queue drops the persistent write; the entry is still served from memory
+    private static final int WRITE_QUEUE_CAPACITY = 1000;
+    private static final int WRITE_BATCH_SIZE = 100;
+
+    private final JdbcTemplate jdbcTemplate;
+    private final boolean enabled;
+    private final boolean persistent;
+    private final int maxEntries;
+    private final int maxAgeDays;
+    private final long maxRows;
+    private final Map<String, float[]> memory;
+    private final BlockingQueue<PendingWrite> writes = new ArrayBlockingQueue<>(WRITE_QUEUE_CAPACITY);
+    private final Thread writer;
+    private volatile boolean running = true;
+
+    private final LongAdder memoryHits = new LongAdder();
+    private final LongAdder persistentHits = new LongAdder();
+    private final LongAdder misses = new LongAdder();
+    private final LongAdder evictions = new LongAdder();
+
+    public EmbeddingCache(
+            JdbcTemplate jdbcTemplate,
+            @Value("${rag.embedding-cache.enabled:true}") boolean enabled,
+            @Value("${rag.embedding-cache.persistent:true}") boolean persistent,
+            @Value("${rag.embedding-cache.max-entries:10000}") int maxEntries,
+            @Value("${rag.embedding-cache.max-age-days:30}") int maxAgeDays,
+            @Value("${rag.embedding-cache.max-rows:100000}") long maxRows) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.enabled = enabled;
+        this.persistent = persistent;
+        this.maxEntries = maxEntries;
+        this.maxAgeDays = maxAgeDays;
+        this.maxRows = maxRows;
+        // Access-ordered LinkedHashMap = LRU; the eldest entry is dropped once full
+        this.memory = new LinkedHashMap<>(16, 0.75f, true) {
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<String, float[]> eldest) {
+                if (size() > EmbeddingCache.this.maxEntries) {
+                    evictions.increment();
+                    return true;
+                }
+                return false;
+            }
+        };
+        this.writer = new Thread(this::writeLoop, "embedding-cache-writer");
+        this.writer.setDaemon(true);
+        if (enabled && persistent) {
+            this.writer.start();
+        }
+        logger.info("EmbeddingCache enabled: {}, persistent: {} (max age {} days, max rows {}), "
+                   + "max entries in memory: {}", enabled, persistent, maxAgeDays, maxRows, maxEntries);
+    }
+
+    @PreDestroy
+    void shutdown() {
+        running = false;
+        try {
+            writer.join(TimeUnit.SECONDS.toMillis(10));
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    public boolean isEnabled() {
+        return enabled;
+    }
+
+    /**
+     * Cache key for a text embedded with the given deployment.
+     */
+    public String key(String deploymentName, String text) {
+        String normalized = normalize(text);
+        try {
+            MessageDigest digest = MessageDigest.getInstance("SHA-256");
+            digest.update(deploymentName.getBytes(StandardCharsets.UTF_8));
+            digest.update((byte) 0);
+            digest.update(normalized.getBytes(StandardCharsets.UTF_8));
+            return HexFormat.of().formatHex(digest.digest());
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException("SHA-256 not available", e);
+        }
+    }
+
+    /**
+     * Unicode NFC, trimmed, runs of whitespace collapsed to one space.
+     */
+    static String normalize(String text) {
+        return Normalizer.normalize(text, Normalizer.Form.NFC)
+            .strip()
+            .replaceAll("\\s+", " ");
+    }
+
+    /**
+     * Look up an embedding, or return null on a miss.
+     * The returned array is a copy and may be modified by the caller.
+     */
+    public float[] get(String key) {
+        float[] cached;
+        synchronized (memory) {
+            cached = memory.get(key);
+        }
+        if (cached != null) {
+            memoryHits.increment();
+            return cached.clone();
+        }
+
+        if (persistent) {
+            cached = loadPersistent(key);
+            if (cached != null) {
+                persistentHits.increment();
+                synchronized (memory) {
+                    memory.put(key, cached);
+                }
+                return cached.clone();
+            }
+        }
+
+        misses.increment();
+        return null;
+    }
+
+    public void put(String key, float[] embedding) {
+        float[] copy = embedding.clone();
+        synchronized (memory) {
+            memory.put(key, copy);
+        }
+        if (persistent && !writes.offer(new PendingWrite(key, copy))) {
+            logger.debug("Embedding cache write queue full, not persisting {}", key);
+        }
+    }
+
+    /**
+     * Delete persistent entries older than {@code max-age-days}, then the oldest
+     * ones beyond {@code max-rows}, in statements of at most {@code batchSize} rows.
+     *
+     * @return entries deleted
+     */
+    public int applyRetention(int batchSize) {
+        if (!persistent) {
+            return 0;
+        }
+        int deleted = 0;
+        try {
+            if (maxAgeDays > 0) {
+                deleted += deleteCreatedBefore(Instant.now().minus(Duration.ofDays(maxAgeDays)), batchSize);
+            }
+            if (maxRows > 0) {
+                // Creation time of the newest entry that no longer fits
+                List<Timestamp> cutoff = jdbcTemplate.queryForList(
+                    "SELECT created_at FROM embedding_cache ORDER BY created_at DESC LIMIT 1 OFFSET ?",
+                    Timestamp.class, maxRows);
+                if (!cutoff.isEmpty()) {
+                    deleted += deleteCreatedBefore(cutoff.get(0).toInstant().plusNanos(1000), batchSize);
+                }
+            }
+        } catch (DataAccessException e) {
+            logger.warn("Embedding cache retention failed: {}", e.getMessage());
+        }
+        if (deleted > 0) {
+            logger.info("Deleted {} embedding cache entries older than {} days or beyond {} rows",
+                       deleted, maxAgeDays, maxRows);
+        }
+        return deleted;
+    }
+
+    public Stats stats() {
+        int size;
+        synchronized (memory) {
+            size = memory.size();
+        }
+        return new Stats(memoryHits.sum(), persistentHits.sum(), misses.sum(), evictions.sum(), size);
+    }
+
+    private float[] loadPersistent(String key) {
+        try {
+            List<byte[]> rows = jdbcTemplate.query(
+                "SELECT embedding FROM embedding_cache WHERE cache_key = ?",
+                (rs, rowNum) -> rs.getBytes("embedding"),
+                key);
+            return rows.isEmpty() ? null : EmbeddingCodec.decode(rows.get(0));
+        } catch (DataAccessException e) {
+            // The persistent tier is an optimization; never fail a request because of it
+            logger.warn("Embedding cache lookup failed: {}", e.getMessage());
+            return null;
+        }
+    }
+
+    private void writeLoop() {
+        List<PendingWrite> batch = new ArrayList<>(WRITE_BATCH_SIZE);
+        while (running || !writes.isEmpty()) {
+            try {
+                PendingWrite first = writes.poll(100, TimeUnit.MILLISECONDS);
+                if (first == null) {
+                    continue;
+                }
+                batch.add(first);
+                writes.drainTo(batch, WRITE_BATCH_SIZE - 1);
+                storePersistent(batch);
+                batch.clear();
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                return;
+            }
+        }
+    }
+
+    private void storePersistent(List<PendingWrite> batch) {
+        try {
+            jdbcTemplate.batchUpdate(
+                "INSERT INTO embedding_cache (cache_key, embedding) VALUES (?, ?) ON CONFLICT DO NOTHING",
+                batch.stream()
+                    .map(write -> new Object[] {write.key(), EmbeddingCodec.encode(write.embedding())})
+                    .toList());
+        } catch (DataAccessException e) {
+            logger.warn("Embedding cache write of {} entries failed: {}", batch.size(), e.getMessage());
+        }
+    }
+
+    private int deleteCreatedBefore(Instant cutoff, int batchSize) {
+        batchSize = Math.max(1, batchSize);
+        int deleted = 0;
+        int removed;
+        do {
+            // Short statements, so lookups and inserts are not held up by one long delete
+            removed = jdbcTemplate.update(
+                "DELETE FROM embedding_cache WHERE cache_key IN "
+                    + "(SELECT cache_key FROM embedding_cache WHERE created_at < ? LIMIT ?)",
+                Timestamp.from(cutoff), batchSize);
+            deleted += removed;
+        } while (removed >= batchSize);
+        return deleted;
+    }
+
+    private record PendingWrite(String key, float[] embedding) {}
+
+    /**
+     * Cache counters since startup.
+     */
+    public record Stats(long memoryHits, long persistentHits, long misses, long evictions, int memorySize) {
+        public double hitRate() {
+            long hits = memoryHits + persistentHits;
+            long total = hits + misses;
+            return total == 0 ? 0.0 : (double) hits / total;
+        }
+    }
+}
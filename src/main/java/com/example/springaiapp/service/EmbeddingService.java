@@ -1,14 +1,21 @@
 package com.example.springaiapp.service;
 
+import com.example.springaiapp.ratelimit.CallPriority;
+import com.example.springaiapp.ratelimit.CallScheduler;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import org.springframework.ai.embedding.EmbeddingClient;
-import org.springframework.ai.document.Document;
 import org.springframework.stereotype.Service;
 import org.springframework.beans.factory.annotation.Qualifier;
 import org.springframework.beans.factory.annotation.Value;
 import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import java.time.Duration;
+import java.util.ArrayList;
 import java.util.List;
+import java.util.concurrent.CancellationException;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
 
 /**
  * Service for generating text embeddings using Azure OpenAI.
@@ -18,44 +25,205 @@ import java.util.List;
  * - Semantic search
  * - Finding similar documents
  * - Clustering related content
+ * 
+ * Results are cached by content (see {@link EmbeddingCache}), so repeated
+ * texts skip the remote call entirely. Bulk ingestion bypasses the cache: its
+ * chunks are embedded once and stored with their vectors anyway, and would
+ * only push the questions out of it. Texts that do need the remote call
+ * are sent in batches: {@link #generateEmbeddings} batches explicitly, and
+ * concurrent {@link #generateEmbedding} calls are coalesced by an
+ * {@link EmbeddingBatcher}.
+ * 
+ * Remote calls go through the {@link CallScheduler}: single embeddings (a user's
+ * question) as interactive calls, {@link #generateEmbeddings} (bulk ingestion)
+ * as batch calls.
+ * 
+ * Waits for a remote result end when the waiting thread is interrupted (a
+ * {@link CancellationException} is thrown), so a caller whose deadline has
+ * passed does not stay blocked on an embedding nobody needs any more.
  */
 @Service
 public class EmbeddingService {
     private static final Logger logger = LoggerFactory.getLogger(EmbeddingService.class);
     
     private final EmbeddingClient embeddingClient;
+    private final EmbeddingCache embeddingCache;
+    private final CallScheduler callScheduler;
+    private EmbeddingBatcher batcher;
     
     @Value("${spring.ai.azure.openai.embedding.options.deployment-name}")
     private String embeddingDeploymentName;
     
-    public EmbeddingService(@Qualifier("azureOpenAiEmbeddingClient") EmbeddingClient embeddingClient) {
+    @Value("${rag.embedding.batch.enabled:true}")
+    private boolean batchingEnabled;
+    
+    @Value("${rag.embedding.batch.max-size:16}")
+    private int maxBatchSize;
+    
+    @Value("${rag.embedding.batch.max-wait-ms:5}")
+    private long maxWaitMs;
+    
+    @Value("${rag.embedding.batch.max-concurrent:4}")
+    private int maxConcurrentBatches;
+    
+    public EmbeddingService(
+            @Qualifier("azureOpenAiEmbeddingClient") EmbeddingClient embeddingClient,
+            EmbeddingCache embeddingCache,
+            CallScheduler callScheduler) {
         this.embeddingClient = embeddingClient;
+        this.embeddingCache = embeddingCache;
+        this.callScheduler = callScheduler;
     }
     
     @PostConstruct
     private void init() {
-        logger.info("EmbeddingService initialized with deployment: {}", embeddingDeploymentName);
+        if (batchingEnabled) {
+            batcher = new EmbeddingBatcher(texts -> embedBatch(texts, CallPriority.INTERACTIVE), maxBatchSize,
+                                           Duration.ofMillis(maxWaitMs), maxConcurrentBatches);
+        }
+        logger.info("EmbeddingService initialized with deployment: {}, batching: {} (max size {}, max wait {} ms)",
+                   embeddingDeploymentName, batchingEnabled, maxBatchSize, maxWaitMs);
+    }
+    
+    @PreDestroy
+    private void shutdown() {
+        if (batcher != null) {
+            batcher.shutdown();
+        }
+    }
+    
+    /**
+     * Generate an embedding for the given text.
+     * 
+     * The model returns float32 precision, so the vector is kept as float[]:
+     * half the heap of double[] with no loss of information.
+     */
+    public float[] generateEmbedding(String text) {
+        if (!embeddingCache.isEnabled()) {
+            return embedSingle(text);
+        }
+        
+        String key = embeddingCache.key(embeddingDeploymentName, text);
+        float[] cached = embeddingCache.get(key);
+        if (cached != null) {
+            logger.debug("Embedding cache hit for text of length: {}", text.length());
+            return cached;
+        }
+        
+        float[] embedding = embedSingle(text);
+        embeddingCache.put(key, embedding);
+        return embedding;
+    }
+    
+    /**
+     * Generate embeddings for many texts, in the same order.
+     * Cached texts are served locally; the rest are sent in batches of up to
+     * {@code rag.embedding.batch.max-size} texts per request.
+     */
+    public List<float[]> generateEmbeddings(List<String> texts) {
+        return generateEmbeddings(texts, true);
+    }
+    
+    /**
+     * @param useCache look the texts up in the {@link EmbeddingCache} and add new
+     *        embeddings to it; false for one-off texts such as ingested chunks
+     */
+    public List<float[]> generateEmbeddings(List<String> texts, boolean useCache) {
+        boolean cacheable = useCache && embeddingCache.isEnabled();
+        List<float[]> results = new ArrayList<>(texts.size());
+        List<Integer> missing = new ArrayList<>();
+        List<String> keys = new ArrayList<>(texts.size());
+        
+        for (int i = 0; i < texts.size(); i++) {
+            float[] hit = null;
+            if (cacheable) {
+                String key = embeddingCache.key(embeddingDeploymentName, texts.get(i));
+                keys.add(key);
+                hit = embeddingCache.get(key);
+            }
+            results.add(hit);
+            if (hit == null) {
+                missing.add(i);
+            }
+        }
+        logger.debug("Embedding {} texts, {} served from cache", texts.size(), texts.size() - missing.size());
+        
+        for (int start = 0; start < missing.size(); start += maxBatchSize) {
+            List<Integer> chunk = missing.subList(start, Math.min(start + maxBatchSize, missing.size()));
+            List<String> chunkTexts = new ArrayList<>(chunk.size());
+            for (int index : chunk) {
+                chunkTexts.add(texts.get(index));
+            }
+            List<float[]> embeddings = embedBatch(chunkTexts, CallPriority.BATCH);
+            for (int j = 0; j < chunk.size(); j++) {
+                int index = chunk.get(j);
+                results.set(index, embeddings.get(j));
+                if (cacheable) {
+                    embeddingCache.put(keys.get(index), embeddings.get(j));
+                }
+            }
+        }
+        return results;
+    }
+    
+    public EmbeddingCache.Stats getCacheStats() {
+        return embeddingCache.stats();
     }
     
-    public double[] generateEmbedding(String text) {
+    private float[] embedSingle(String text) {
+        if (batcher == null) {
+            return embedBatch(List.of(text), CallPriority.INTERACTIVE).get(0);
+        }
+        CompletableFuture<float[]> pending = batcher.submit(text);
         try {
-            logger.debug("Generating embedding for text of length: {} using deployment: {}", 
-                        text.length(), embeddingDeploymentName);
+            return pending.get();
+        } catch (InterruptedException e) {
+            // Leaves the text out of its batch unless the batch is already on its way
+            pending.cancel(false);
+            Thread.currentThread().interrupt();
+            throw new CancellationException("Interrupted while waiting for an embedding");
+        } catch (ExecutionException e) {
+            Throwable cause = e.getCause() != null ? e.getCause() : e;
+            if (cause instanceof RuntimeException runtimeException) {
+                throw runtimeException;
+            }
+            throw new RuntimeException("Failed to generate embedding: " + cause.getMessage(), cause);
+        }
+    }
+    
+    private List<float[]> embedBatch(List<String> texts, CallPriority priority) {
+        try {
+            logger.debug("Generating embeddings for {} texts using deployment: {}",
+                        texts.size(), embeddingDeploymentName);
             
-            Document document = new Document(text);
-            List<Double> embedding = embeddingClient.embed(document);
+            long tokens = texts.stream().mapToLong(CallScheduler::estimateTokens).sum();
+            List<List<Double>> embeddings = callScheduler.execute(embeddingDeploymentName, priority, tokens,
+                () -> embeddingClient.embed(texts));
             
-            double[] result = new double[embedding.size()];
-            for (int i = 0; i < embedding.size(); i++) {
-                result[i] = embedding.get(i);
+            List<float[]> results = new ArrayList<>(embeddings.size());
+            for (List<Double> embedding : embeddings) {
+                results.add(toFloatArray(embedding));
             }
             
-            logger.debug("Successfully generated embedding of size: {}", result.length);
-            return result;
+            logger.debug("Successfully generated {} embeddings", results.size());
+            return results;
+        } catch (CancellationException e) {
+            throw e;
         } catch (Exception e) {
-            logger.error("Error generating embedding with deployment {}: {}", 
+            logger.error("Error generating embedding with deployment {}: {}",
                         embeddingDeploymentName, e.getMessage(), e);
             throw new RuntimeException("Failed to generate embedding: " + e.getMessage(), e);
         }
     }
+    
+    /**
+     * Unbox the client's {@code List<Double>} into float32, the precision the model returns.
+     */
+    static float[] toFloatArray(List<Double> embedding) {
+        float[] result = new float[embedding.size()];
+        for (int i = 0; i < result.length; i++) {
+            result[i] = embedding.get(i).floatValue();
+        }
+        return result;
+    }
 }
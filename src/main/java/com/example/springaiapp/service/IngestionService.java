@@ -0,0 +1,327 @@
+package com.example.springaiapp.service;
+
+import com.example.springaiapp.ingest.DocumentChunker;
+import com.example.springaiapp.ingest.HtmlText;
+import com.example.springaiapp.ingest.MappedFileReader;
+import com.example.springaiapp.model.ChatHistory;
+import com.example.springaiapp.repository.ChatHistoryRepository;
+import com.example.springaiapp.repository.IngestionProgressRepository;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.Reader;
+import java.io.StringReader;
+import java.io.StringWriter;
+import java.io.UncheckedIOException;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.ArrayList;
+import java.util.HexFormat;
+import java.util.List;
+import java.util.Locale;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
+/**
+ * Bulk ingestion of documents (markdown, text and HTML) into the knowledge base.
+ *
+ * Pipeline:
+ * 1. Walk the directory and pick supported files
+ * 2. Skip files already ingested with the same content hash (resumable runs)
+ * 3. Stream each file through the {@link DocumentChunker}; files above
+ *    {@code rag.ingest.mmap-threshold-bytes} are memory-mapped
+ * 4. Embed chunks in batches on a worker pool via {@link EmbeddingService}
+ * 5. Bulk-insert each batch with one batched JDBC statement
+ * 6. Record the file as completed once all of its batches are stored
+ *
+ * At most {@code rag.ingest.max-in-flight-batches} batches are waiting or
+ * being processed at any time; reading pauses until a batch finishes, which
+ * bounds memory use no matter how large the corpus is.
+ *
+ * Each chunk is stored as a chat_history row: the prompt names the file and
+ * part, the response holds the chunk text, and the source column holds the
+ * file path so an interrupted file can be cleaned up and re-ingested.
+ */
+@Service
+public class IngestionService {
+    private static final Logger logger = LoggerFactory.getLogger(IngestionService.class);
+    private static final Set<String> EXTENSIONS = Set.of("md", "markdown", "txt", "html", "htm");
+    private static final long PROGRESS_LOG_INTERVAL_MS = 5000;
+
+    private final EmbeddingService embeddingService;
+    private final ChatHistoryRepository chatHistoryRepository;
+    private final IngestionProgressRepository progressRepository;
+
+    @Value("${rag.ingest.chunk-size:1000}")
+    private int defaultChunkSize;
+
+    @Value("${rag.ingest.chunk-overlap:200}")
+    private int defaultChunkOverlap;
+
+    @Value("${rag.ingest.batch-size:16}")
+    private int batchSize;
+
+    @Value("${rag.ingest.parallelism:4}")
+    private int parallelism;
+
+    @Value("${rag.ingest.max-in-flight-batches:8}")
+    private int maxInFlightBatches;
+
+    @Value("${rag.ingest.mmap-threshold-bytes:1048576}")
+    private long mmapThresholdBytes;
+
+    public IngestionService(EmbeddingService embeddingService,
+                            ChatHistoryRepository chatHistoryRepository,
+                            IngestionProgressRepository progressRepository) {
+        this.embeddingService = embeddingService;
+        this.chatHistoryRepository = chatHistoryRepository;
+        this.progressRepository = progressRepository;
+    }
+
+    public IngestionReport ingest(Path root) throws IOException {
+        return ingest(root, defaultChunkSize, defaultChunkOverlap);
+    }
+
+    /**
+     * Ingest every supported file below {@code root}. A chunk size of 0 or a
+     * negative overlap selects the configured default; the default overlap is
+     * capped at half the chunk size, so a small chunk size works on its own.
+     *
+     * @throws IllegalArgumentException if the overlap is not smaller than the chunk size
+     */
+    public IngestionReport ingest(Path root, int chunkSize, int chunkOverlap) throws IOException {
+        chunkSize = chunkSize > 0 ? chunkSize : defaultChunkSize;
+        chunkOverlap = chunkOverlap >= 0 ? chunkOverlap : Math.min(defaultChunkOverlap, chunkSize / 2);
+        DocumentChunker chunker = new DocumentChunker(chunkSize, chunkOverlap);
+        List<Path> files = findFiles(root);
+        logger.info("Ingesting {} files from {} (chunk size {}, overlap {})", files.size(), root, chunkSize, chunkOverlap);
+
+        Run run = new Run();
+        ExecutorService workers = Executors.newFixedThreadPool(Math.max(1, parallelism));
+        long start = System.nanoTime();
+        long lastLog = System.currentTimeMillis();
+        try {
+            for (Path file : files) {
+                ingestFile(file, chunker, workers, run);
+                if (System.currentTimeMillis() - lastLog >= PROGRESS_LOG_INTERVAL_MS) {
+                    lastLog = System.currentTimeMillis();
+                    double seconds = (System.nanoTime() - start) / 1e9;
+                    logger.info("Ingestion progress: {}/{} files read, {} documents and {} chunks stored ({} docs/sec)",
+                               run.filesRead.get(), files.size(), run.documentsDone.sum(), run.chunksStored.sum(),
+                               String.format("%.1f", run.documentsDone.sum() / seconds));
+                }
+            }
+            CompletableFuture.allOf(run.fileResults.toArray(new CompletableFuture[0])).join();
+        } finally {
+            workers.shutdown();
+        }
+
+        IngestionReport report = new IngestionReport(files.size(), (int) run.documentsDone.sum(),
+            run.skipped.get(), (int) run.documentsFailed.sum(), run.chunksStored.sum(),
+            (System.nanoTime() - start) / 1_000_000);
+        logger.info("Ingestion finished: {}", report);
+        return report;
+    }
+
+    private List<Path> findFiles(Path root) throws IOException {
+        if (Files.isRegularFile(root)) {
+            return List.of(root);
+        }
+        try (Stream<Path> paths = Files.walk(root)) {
+            return paths
+                .filter(Files::isRegularFile)
+                .filter(path -> EXTENSIONS.contains(extension(path)))
+                .sorted()
+                .collect(Collectors.toList());
+        }
+    }
+
+    private void ingestFile(Path file, DocumentChunker chunker, ExecutorService workers, Run run) {
+        run.filesRead.incrementAndGet();
+        String source = file.toAbsolutePath().normalize().toString();
+        try {
+            String hash = contentHash(file);
+            if (hash.equals(progressRepository.findCompletedHash(source))) {
+                logger.debug("Skipping unchanged file {}", source);
+                run.skipped.incrementAndGet();
+                return;
+            }
+
+            // Remove chunks left by an interrupted run or an older version of the file
+            progressRepository.clear(source);
+            int removed = chatHistoryRepository.deleteBySource(source);
+            if (removed > 0) {
+                logger.info("Removed {} previously stored chunks of {}", removed, source);
+            }
+
+            String name = file.getFileName().toString();
+            List<CompletableFuture<Void>> batches = new ArrayList<>();
+            List<ChatHistory> pending = new ArrayList<>(batchSize);
+            int chunks;
+            try (Reader reader = open(file)) {
+                chunks = chunker.chunk(reader, text -> {
+                    ChatHistory chunk = new ChatHistory(
+                        String.format("%s (part %d)", name, batches.size() * batchSize + pending.size() + 1),
+                        text, null);
+                    chunk.setSource(source);
+                    pending.add(chunk);
+                    if (pending.size() == batchSize) {
+                        batches.add(submitBatch(new ArrayList<>(pending), workers, run));
+                        pending.clear();
+                    }
+                });
+            }
+            if (!pending.isEmpty()) {
+                batches.add(submitBatch(pending, workers, run));
+            }
+
+            int chunkCount = chunks;
+            run.fileResults.add(CompletableFuture.allOf(batches.toArray(new CompletableFuture[0]))
+                .thenRun(() -> progressRepository.markCompleted(source, hash, chunkCount))
+                .handle((ignored, error) -> {
+                    if (error != null) {
+                        run.documentsFailed.increment();
+                        logger.error("Failed to ingest {}: {}", source, error.getMessage());
+                    } else {
+                        run.documentsDone.increment();
+                        logger.debug("Ingested {} ({} chunks)", source, chunkCount);
+                    }
+                    return null;
+                }));
+        } catch (IOException | UncheckedIOException | InterruptedRuntimeException e) {
+            run.documentsFailed.increment();
+            logger.error("Failed to read {}: {}", source, e.getMessage());
+        } catch (RuntimeException e) {
+            run.documentsFailed.increment();
+            logger.error("Failed to ingest {}: {}", source, e.getMessage(), e);
+        }
+    }
+
+    /**
+     * Embed and store one batch on the worker pool. Blocks while the maximum
+     * number of batches is already in flight.
+     */
+    private CompletableFuture<Void> submitBatch(List<ChatHistory> batch, ExecutorService workers, Run run) {
+        try {
+            run.inFlight.acquire();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new InterruptedRuntimeException(e);
+        }
+        return CompletableFuture.runAsync(() -> {
+            try {
+                // Chunks are stored with their vectors; caching them would only evict questions
+                List<float[]> embeddings = embeddingService.generateEmbeddings(
+                    batch.stream().map(ChatHistory::getResponse).collect(Collectors.toList()), false);
+                for (int i = 0; i < batch.size(); i++) {
+                    batch.get(i).setEmbedding(embeddings.get(i));
+                }
+                chatHistoryRepository.saveAll(batch);
+                run.chunksStored.add(batch.size());
+            } finally {
+                run.inFlight.release();
+            }
+        }, workers);
+    }
+
+    private Reader open(Path file) throws IOException {
+        Reader reader = Files.size(file) >= mmapThresholdBytes && Files.size(file) <= Integer.MAX_VALUE
+            ? new MappedFileReader(file)
+            : Files.newBufferedReader(file, StandardCharsets.UTF_8);
+        String extension = extension(file);
+        if (extension.equals("html") || extension.equals("htm")) {
+            try (reader) {
+                StringWriter html = new StringWriter();
+                reader.transferTo(html);
+                return new StringReader(HtmlText.toText(html.toString()));
+            }
+        }
+        return reader;
+    }
+
+    private String contentHash(Path file) throws IOException {
+        MessageDigest digest;
+        try {
+            digest = MessageDigest.getInstance("SHA-256");
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException("SHA-256 not available", e);
+        }
+        long size = Files.size(file);
+        if (size >= mmapThresholdBytes && size <= Integer.MAX_VALUE) {
+            try (FileChannel channel = FileChannel.open(file, StandardOpenOption.READ)) {
+                digest.update(channel.map(FileChannel.MapMode.READ_ONLY, 0, size));
+            }
+        } else {
+            try (InputStream in = Files.newInputStream(file)) {
+                byte[] buffer = new byte[8192];
+                int read;
+                while ((read = in.read(buffer)) != -1) {
+                    digest.update(buffer, 0, read);
+                }
+            }
+        }
+        return HexFormat.of().formatHex(digest.digest());
+    }
+
+    private static String extension(Path path) {
+        String name = path.getFileName().toString();
+        int dot = name.lastIndexOf('.');
+        return dot < 0 ? "" : name.substring(dot + 1).toLowerCase(Locale.ROOT);
+    }
+
+    /**
+     * Mutable counters for one ingestion run.
+     */
+    private final class Run {
+        final AtomicInteger filesRead = new AtomicInteger();
+        final AtomicInteger skipped = new AtomicInteger();
+        final LongAdder documentsDone = new LongAdder();
+        final LongAdder documentsFailed = new LongAdder();
+        final LongAdder chunksStored = new LongAdder();
+        final Semaphore inFlight = new Semaphore(Math.max(1, maxInFlightBatches));
+        final List<CompletableFuture<Void>> fileResults = new ArrayList<>();
+    }
+
+    private static final class InterruptedRuntimeException extends RuntimeException {
+        InterruptedRuntimeException(InterruptedException cause) {
+            super("Ingestion interrupted", cause);
+        }
+    }
+
+    /**
+     * Summary of an ingestion run.
+     */
+    public record IngestionReport(int filesFound, int documentsIngested, int documentsSkipped,
+                                  int documentsFailed, long chunksStored, long elapsedMs) {
+        public double documentsPerSecond() {
+            return elapsedMs == 0 ? 0.0 : documentsIngested * 1000.0 / elapsedMs;
+        }
+
+        public double chunksPerSecond() {
+            return elapsedMs == 0 ? 0.0 : chunksStored * 1000.0 / elapsedMs;
+        }
+
+        @Override
+        public String toString() {
+            return String.format("%d files found, %d ingested, %d unchanged, %d failed, %d chunks in %.1f s "
+                + "(%.1f docs/sec, %.1f chunks/sec)",
+                filesFound, documentsIngested, documentsSkipped, documentsFailed, chunksStored,
+                elapsedMs / 1000.0, documentsPerSecond(), chunksPerSecond());
+        }
+    }
+}
@@ -1,18 +1,28 @@
 package com.example.springaiapp.service;
 
+import com.example.springaiapp.context.ContextAssembler;
+import com.example.springaiapp.metrics.PipelineMetrics;
 import com.example.springaiapp.model.ChatHistory;
+import com.example.springaiapp.model.ScoredChatHistory;
+import com.example.springaiapp.ratelimit.CallPriority;
+import com.example.springaiapp.ratelimit.CallScheduler;
 import com.example.springaiapp.repository.ChatHistoryRepository;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import org.springframework.ai.chat.ChatClient;
 import org.springframework.ai.chat.ChatResponse;
+import org.springframework.ai.chat.Generation;
+import org.springframework.ai.chat.StreamingChatClient;
 import org.springframework.ai.chat.prompt.Prompt;
 import org.springframework.ai.chat.messages.SystemMessage;
 import org.springframework.ai.chat.messages.UserMessage;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.beans.factory.annotation.Qualifier;
 import org.springframework.stereotype.Service;
+import reactor.core.publisher.Flux;
 import java.util.List;
+import java.util.concurrent.CancellationException;
+import java.util.concurrent.atomic.LongAdder;
 import java.util.stream.Collectors;
 import jakarta.annotation.PostConstruct;
 
@@ -36,14 +46,47 @@ import jakarta.annotation.PostConstruct;
  * - Maintaining consistency in responses
  * - Providing domain-specific knowledge
  * - Reducing hallucinations by grounding responses in real data
+ * 
+ * Semantic answer cache:
+ * If the closest stored question is almost identical to the new one
+ * (cosine similarity at or above {@code rag.answer-cache.similarity-threshold}),
+ * its stored answer is returned directly. This skips the chat completion,
+ * which takes seconds, and does not store a duplicate row. Only Q&A pairs
+ * qualify; ingested document chunks are never returned as answers.
+ * 
+ * Streaming:
+ * {@link #processQueryStream} emits the answer token by token as the model
+ * generates it, so users start reading after the first token instead of
+ * waiting for the whole answer (lower time to first token).
+ * 
+ * Metrics:
+ * Every step is timed by {@link PipelineMetrics} (pipeline {@code rag}, stages
+ * embedding, retrieval, prompt, completion, save and total; streaming queries
+ * also record first-token), so the {@code stats} command can show which step
+ * drives the tail latency.
+ * 
+ * Request coalescing:
+ * Identical questions that arrive while the first one is still being answered
+ * (e.g. right after an announcement) wait for that answer instead of repeating
+ * the embedding, retrieval and chat calls and saving duplicate rows. Questions
+ * are compared after the same normalization the embedding cache uses.
+ * 
+ * Context budget:
+ * Retrieval returns more candidates than end up in the prompt; the
+ * {@link ContextAssembler} picks diverse ones and shortens them to fit a token
+ * budget, and each query logs how many prompt tokens that saved.
  */
 @Service
 public class RagService {
     private static final Logger logger = LoggerFactory.getLogger(RagService.class);
     
     private final ChatClient chatClient;
+    private final StreamingChatClient streamingChatClient;
     private final EmbeddingService embeddingService;
     private final ChatHistoryRepository repository;
+    private final PipelineMetrics metrics;
+    private final CallScheduler callScheduler;
+    private final ContextAssembler contextAssembler;
     
     @Value("${spring.ai.azure.openai.chat.options.deployment-name}")
     private String chatDeploymentName;
@@ -51,83 +94,307 @@ public class RagService {
     @Value("${spring.ai.azure.openai.embedding.options.deployment-name}")
     private String embeddingDeploymentName;
     
+    @Value("${rag.answer-cache.enabled:true}")
+    private boolean answerCacheEnabled;
+    
+    @Value("${rag.answer-cache.similarity-threshold:0.97}")
+    private double answerCacheThreshold;
+    
+    @Value("${rag.coalescing.enabled:true}")
+    private boolean coalescingEnabled;
+    
+    private final SingleFlight<String, String> inFlightQueries = new SingleFlight<>();
+    
+    private final LongAdder answerCacheHits = new LongAdder();
+    private final LongAdder answerCacheMisses = new LongAdder();
+    private final LongAdder answerCacheBypasses = new LongAdder();
+    
     public RagService(
             @Qualifier("azureOpenAiChatClient") ChatClient chatClient,
+            @Qualifier("azureOpenAiChatClient") StreamingChatClient streamingChatClient,
             EmbeddingService embeddingService,
-            ChatHistoryRepository repository) {
+            ChatHistoryRepository repository,
+            PipelineMetrics metrics,
+            CallScheduler callScheduler,
+            ContextAssembler contextAssembler) {
         this.chatClient = chatClient;
+        this.streamingChatClient = streamingChatClient;
         this.embeddingService = embeddingService;
         this.repository = repository;
+        this.metrics = metrics;
+        this.callScheduler = callScheduler;
+        this.contextAssembler = contextAssembler;
     }
     
     @PostConstruct
     private void init() {
         logger.info("RagService initialized with chat deployment: {}, embedding deployment: {}", 
                    chatDeploymentName, embeddingDeploymentName);
+        logger.info("Semantic answer cache enabled: {}, similarity threshold: {}",
+                   answerCacheEnabled, answerCacheThreshold);
+        logger.info("Request coalescing enabled: {}", coalescingEnabled);
     }
     
     public String processQuery(String query) {
+        return processQuery(query, false);
+    }
+    
+    /**
+     * @param query The user's question
+     * @param bypassAnswerCache Always generate a fresh answer, even for a repeated question
+     * @throws CancellationException if the thread is interrupted (e.g. its deadline passed);
+     *         other failures are returned as an error message
+     */
+    public String processQuery(String query, boolean bypassAnswerCache) {
         try {
-            logger.debug("Processing query: {}", query);
-            
-            // Step 1: Generate embedding for semantic search
-            logger.debug("Generating embedding using deployment: {}", embeddingDeploymentName);
-            double[] queryEmbedding = embeddingService.generateEmbedding(query);
-            logger.debug("Generated embedding of size: {}", queryEmbedding.length);
+            return answerQuery(query, bypassAnswerCache);
+        } catch (CancellationException e) {
+            throw e;
+        } catch (RuntimeException e) {
+            return errorMessage(e);
+        }
+    }
+    
+    /**
+     * Variant of {@link #processQuery(String, boolean)} that throws failures instead
+     * of returning them as text, so callers such as the HTTP endpoint can tell them
+     * from an answer.
+     *
+     * @throws CancellationException if the thread is interrupted (e.g. its deadline passed)
+     * @throws RuntimeException if embedding, retrieval or the chat call failed
+     */
+    public String answerQuery(String query, boolean bypassAnswerCache) {
+        long start = System.nanoTime();
+        try {
+            String answer;
+            if (coalescingEnabled) {
+                // Fresh answers are only shared with callers that also asked for a fresh answer
+                String key = (bypassAnswerCache ? "fresh:" : "") + EmbeddingCache.normalize(query);
+                answer = inFlightQueries.execute(key, () -> answer(query, bypassAnswerCache), () -> {
+                    metrics.coalesced();
+                    logger.debug("Joining in-flight computation for query: {}", query);
+                });
+            } else {
+                answer = answer(query, bypassAnswerCache);
+            }
+            metrics.record(PipelineMetrics.RAG, "total", System.nanoTime() - start);
+            return answer;
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new CancellationException("Interrupted while waiting for query: " + query);
+        } catch (CancellationException e) {
+            // This caller gave up: stop here instead of reporting an answer nobody reads
+            logger.debug("Query cancelled: {}", query);
+            throw e;
+        } catch (RuntimeException e) {
+            logger.error("Error processing query: {}", query, e);
+            throw e;
+        }
+    }
+    
+    /**
+     * Run the RAG steps for one question. Errors are thrown, so they reach every
+     * caller sharing this computation.
+     */
+    private String answer(String query, boolean bypassAnswerCache) {
+        logger.debug("Processing query: {}", query);
+        
+        // Step 1: Generate embedding for semantic search
+        logger.debug("Generating embedding using deployment: {}", embeddingDeploymentName);
+        float[] queryEmbedding = metrics.time(PipelineMetrics.RAG, PipelineMetrics.EMBEDDING_STAGE,
+            () -> embeddingService.generateEmbedding(query));
+        logger.debug("Generated embedding of size: {}", queryEmbedding.length);
+        
+        // Step 2: Find similar previous Q&As
+        logger.debug("Finding similar contexts");
+        List<ScoredChatHistory> similarContexts = retrieve(queryEmbedding);
+        logger.debug("Found {} similar contexts, similarity scores: {}", similarContexts.size(),
+                    similarContexts.stream().map(ScoredChatHistory::score).collect(Collectors.toList()));
+        
+        // Step 2b: Reuse the stored answer if this question was (almost) asked before
+        String cachedAnswer = findCachedAnswer(similarContexts, bypassAnswerCache);
+        if (cachedAnswer != null) {
+            return cachedAnswer;
+        }
+        
+        // Step 3: Build prompt with context from similar Q&As
+        Prompt prompt = metrics.time(PipelineMetrics.RAG, "prompt", () -> buildPrompt(query, similarContexts));
+        
+        // Step 4: Generate AI response with system context
+        logger.debug("Generating response using chat deployment: {}", chatDeploymentName);
+        logger.debug("Sending prompt to Azure OpenAI");
+        ChatResponse response = metrics.time(PipelineMetrics.RAG, "completion",
+            () -> callScheduler.execute(chatDeploymentName, CallPriority.INTERACTIVE,
+                                        callScheduler.estimateChatTokens(prompt.getContents()),
+                                        () -> chatClient.call(prompt)));
+        String answer = response.getResult().getOutput().getContent();
+        logger.debug("Received response of {} characters", answer.length());
+        
+        // Step 5: Save interaction for future context (written to the database in the background)
+        logger.debug("Saving interaction to repository");
+        metrics.time(PipelineMetrics.RAG, "save",
+            () -> repository.saveAsync(new ChatHistory(query, answer, queryEmbedding)));
+        logger.debug("Successfully queued interaction");
+        
+        return answer;
+    }
+    
+    /**
+     * Streaming variant of {@link #processQuery(String, boolean)}.
+     * 
+     * Embedding and retrieval run when the returned Flux is subscribed to; the
+     * answer is then emitted in pieces as Azure OpenAI generates it. Once the
+     * stream completes, the assembled answer is saved just like in the blocking mode.
+     * Failures end the Flux with an error signal, so callers can tell them from
+     * an answer; {@link #errorMessage} renders them for display.
+     */
+    public Flux<String> processQueryStream(String query, boolean bypassAnswerCache) {
+        return Flux.defer(() -> {
+            long start = System.nanoTime();
+            logger.debug("Processing streaming query: {}", query);
             
-            // Step 2: Find similar previous Q&As
-            logger.debug("Finding similar contexts");
-            List<ChatHistory> similarContexts = repository.findNearestNeighbors(queryEmbedding, 3);
+            // Step 1 & 2: Embed the query and find similar previous Q&As
+            float[] queryEmbedding = metrics.time(PipelineMetrics.RAG, PipelineMetrics.EMBEDDING_STAGE,
+                () -> embeddingService.generateEmbedding(query));
+            List<ScoredChatHistory> similarContexts = retrieve(queryEmbedding);
             logger.debug("Found {} similar contexts", similarContexts.size());
             
-            // Step 3: Build prompt with context from similar Q&As
-            String context = similarContexts.stream()
-                .map(ch -> String.format("Q: %s\nA: %s", ch.getPrompt(), ch.getResponse()))
-                .collect(Collectors.joining("\n\n"));
-                
-            logger.debug("Built context with {} characters", context.length());
-            
-            String promptText = String.format("""
-                Use these previous Q&A pairs as context for answering the new question:
-                
-                Previous interactions:
-                %s
-                
-                New question: %s
-                
-                Please provide a clear and educational response.""",
-                context,
-                query
-            );
-            
-            // Step 4: Generate AI response with system context
-            logger.debug("Generating response using chat deployment: {}", chatDeploymentName);
-            SystemMessage systemMessage = new SystemMessage(
-                "You are a helpful AI assistant that provides clear and educational responses."
-            );
-            UserMessage userMessage = new UserMessage(promptText);
+            String cachedAnswer = findCachedAnswer(similarContexts, bypassAnswerCache);
+            if (cachedAnswer != null) {
+                metrics.record(PipelineMetrics.RAG, "total", System.nanoTime() - start);
+                return Flux.just(cachedAnswer);
+            }
             
-            logger.debug("Sending prompt to Azure OpenAI");
-            ChatResponse response = chatClient.call(new Prompt(List.of(systemMessage, userMessage)));
-            String answer = response.getResult().getOutput().getContent();
-            logger.debug("Received response of {} characters", answer.length());
+            // Step 3 & 4: Build the prompt and stream the AI response
+            Prompt prompt = metrics.time(PipelineMetrics.RAG, "prompt", () -> buildPrompt(query, similarContexts));
+            StringBuilder answer = new StringBuilder();
+            long completionStart = System.nanoTime();
+            return callScheduler.executeStream(chatDeploymentName, CallPriority.INTERACTIVE,
+                                               callScheduler.estimateChatTokens(prompt.getContents()),
+                                               () -> streamingChatClient.stream(prompt))
+                .map(this::contentOf)
+                .filter(token -> !token.isEmpty())
+                .doOnNext(token -> {
+                    if (answer.length() == 0) {
+                        metrics.record(PipelineMetrics.RAG, "first-token", System.nanoTime() - start);
+                        logger.debug("Time to first token: {} ms", (System.nanoTime() - start) / 1_000_000);
+                    }
+                    answer.append(token);
+                })
+                .doOnError(e -> metrics.error(PipelineMetrics.RAG, "completion"))
+                .doOnComplete(() -> {
+                    metrics.record(PipelineMetrics.RAG, "completion", System.nanoTime() - completionStart);
+                    // Step 5: Save the assembled answer for future context
+                    logger.debug("Stream completed with {} characters in {} ms, saving interaction",
+                                answer.length(), (System.nanoTime() - start) / 1_000_000);
+                    metrics.time(PipelineMetrics.RAG, "save",
+                        () -> repository.saveAsync(new ChatHistory(query, answer.toString(), queryEmbedding)));
+                    metrics.record(PipelineMetrics.RAG, "total", System.nanoTime() - start);
+                });
+        }).doOnError(e -> logger.error("Error processing streaming query: {}", query, e));
+    }
+    
+    private List<ScoredChatHistory> retrieve(float[] queryEmbedding) {
+        List<ScoredChatHistory> similarContexts = metrics.time(PipelineMetrics.RAG, "retrieval",
+            () -> repository.findNearestNeighborsWithScores(queryEmbedding, contextAssembler.candidateCount()));
+        metrics.retrievedHits(similarContexts.size());
+        return similarContexts;
+    }
+    
+    /**
+     * Combine the similar Q&As and the new question into the chat prompt.
+     */
+    private Prompt buildPrompt(String query, List<ScoredChatHistory> similarContexts) {
+        ContextAssembler.AssembledContext assembled = contextAssembler.assemble(similarContexts);
+        String context = assembled.text();
+        
+        logger.info("Context: {} of {} candidates, {} characters, ~{} tokens (~{} tokens saved)",
+                   assembled.entries(), assembled.candidates(), context.length(),
+                   assembled.tokens(), assembled.tokensSaved());
+        metrics.contextChars(context.length());
+        metrics.contextTokens(assembled.tokens(), assembled.tokensSaved());
+        repository.recordHits(assembled.ids());
+        
+        String promptText = String.format("""
+            Use these previous Q&A pairs as context for answering the new question:
             
-            // Step 5: Save interaction for future context
-            logger.debug("Saving interaction to repository");
-            repository.save(new ChatHistory(query, answer, queryEmbedding));
-            logger.debug("Successfully saved interaction");
+            Previous interactions:
+            %s
             
-            return answer;
+            New question: %s
             
-        } catch (Exception e) {
-            logger.error("Error processing query: {}", query, e);
-            String errorMessage = String.format(
-                "Error processing query. Deployment info - Chat: %s, Embedding: %s. Error: %s",
-                chatDeploymentName,
-                embeddingDeploymentName,
-                e.getMessage()
-            );
-            return errorMessage;
+            Please provide a clear and educational response.""",
+            context,
+            query
+        );
+        
+        SystemMessage systemMessage = new SystemMessage(
+            "You are a helpful AI assistant that provides clear and educational responses."
+        );
+        UserMessage userMessage = new UserMessage(promptText);
+        return new Prompt(List.of(systemMessage, userMessage));
+    }
+    
+    /**
+     * Text carried by one streamed chunk. Some chunks (e.g. the first one,
+     * which only carries metadata) have no content.
+     */
+    private String contentOf(ChatResponse chunk) {
+        Generation generation = chunk.getResult();
+        if (generation == null || generation.getOutput() == null) {
+            return "";
+        }
+        String content = generation.getOutput().getContent();
+        return content != null ? content : "";
+    }
+    
+    /**
+     * Message shown to a console user in place of an answer when a query fails.
+     */
+    public String errorMessage(Throwable e) {
+        return String.format(
+            "Error processing query. Deployment info - Chat: %s, Embedding: %s. Error: %s",
+            chatDeploymentName,
+            embeddingDeploymentName,
+            e.getMessage()
+        );
+    }
+    
+    public AnswerCacheStats getAnswerCacheStats() {
+        return new AnswerCacheStats(answerCacheHits.sum(), answerCacheMisses.sum(), answerCacheBypasses.sum());
+    }
+    
+    private String findCachedAnswer(List<ScoredChatHistory> similarContexts, boolean bypass) {
+        if (!answerCacheEnabled) {
+            return null;
+        }
+        if (bypass) {
+            answerCacheBypasses.increment();
+            return null;
+        }
+        // Ingested document chunks are context, not answers to a question
+        ScoredChatHistory match = similarContexts.stream()
+            .filter(hit -> hit.history().getSource() == null)
+            .findFirst()
+            .orElse(null);
+        if (match != null && match.score() >= answerCacheThreshold) {
+            answerCacheHits.increment();
+            repository.recordHits(List.of(match.history().getId()));
+            logger.debug("Answer cache hit: similarity {} with stored question id {}",
+                        match.score(), match.history().getId());
+            return match.history().getResponse();
+        }
+        answerCacheMisses.increment();
+        return null;
+    }
+    
+    /**
+     * Semantic answer cache counters since startup.
+     */
+    public record AnswerCacheStats(long hits, long misses, long bypasses) {
+        public double hitRate() {
+            long total = hits + misses;
+            return total == 0 ? 0.0 : (double) hits / total;
         }
     }
 }
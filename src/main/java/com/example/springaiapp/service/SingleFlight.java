@@ -0,0 +1,97 @@
+package com.example.springaiapp.service;
+
+import java.util.concurrent.CancellationException;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.ExecutionException;
+import java.util.function.Supplier;
+
+/**
+ * Runs at most one computation per key at a time; concurrent callers with the
+ * same key wait for it and share its result.
+ *
+ * Educational Note:
+ * This is the "single flight" (request coalescing) pattern. The first caller
+ * for a key becomes the leader and does the work; callers arriving while it is
+ * still running attach to the leader's future instead of repeating the work.
+ * The entry is removed as soon as the computation finishes, so later callers
+ * start a fresh one: nothing is cached, only in-flight work is shared.
+ * If the computation fails, every waiting caller gets the same exception.
+ *
+ * The work runs on the leader's thread, so it ends when the leader is
+ * cancelled (interrupted, e.g. because its deadline passed). That is the
+ * leader's problem only: callers waiting for it do not inherit the
+ * cancellation but start over, and one of them becomes the new leader.
+ */
+public class SingleFlight<K, V> {
+    private final ConcurrentMap<K, CompletableFuture<V>> inFlight = new ConcurrentHashMap<>();
+
+    /**
+     * Run {@code work} for the key, or wait for the run already in progress.
+     *
+     * @param onShared called when this caller joined another caller's computation
+     * @throws CancellationException if this caller is interrupted while running the work
+     */
+    public V execute(K key, Supplier<V> work, Runnable onShared) throws InterruptedException {
+        boolean shared = false;
+        while (true) {
+            CompletableFuture<V> created = new CompletableFuture<>();
+            CompletableFuture<V> existing = inFlight.putIfAbsent(key, created);
+            if (existing == null) {
+                return lead(key, created, work);
+            }
+            if (!shared) {
+                shared = true;
+                onShared.run();
+            }
+            try {
+                return await(existing);
+            } catch (CancellationException e) {
+                // The leader was cancelled, not this caller: try again
+            }
+        }
+    }
+
+    /**
+     * Keys with a computation in progress.
+     */
+    public int inFlight() {
+        return inFlight.size();
+    }
+
+    private V lead(K key, CompletableFuture<V> created, Supplier<V> work) {
+        V value;
+        try {
+            value = work.get();
+        } catch (RuntimeException | Error e) {
+            // Removed first, so callers that start over do not find this run again
+            inFlight.remove(key, created);
+            if (e instanceof CancellationException || Thread.currentThread().isInterrupted()) {
+                // Whatever the work failed with, it was because the leader gave up
+                created.cancel(false);
+            } else {
+                created.completeExceptionally(e);
+            }
+            throw e;
+        }
+        inFlight.remove(key, created);
+        created.complete(value);
+        return value;
+    }
+
+    private V await(CompletableFuture<V> future) throws InterruptedException {
+        try {
+            return future.get();
+        } catch (ExecutionException e) {
+            Throwable cause = e.getCause();
+            if (cause instanceof RuntimeException runtime) {
+                throw runtime;
+            }
+            if (cause instanceof Error error) {
+                throw error;
+            }
+            throw new IllegalStateException(cause);
+        }
+    }
+}
@@ -1,16 +1,22 @@
 package com.example.springaiapp.shell;
 
+import com.example.springaiapp.service.BlogBatchService;
 import com.example.springaiapp.service.BlogWriterService;
 import org.springframework.shell.standard.ShellComponent;
 import org.springframework.shell.standard.ShellMethod;
 import org.springframework.shell.standard.ShellOption;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
 
 @ShellComponent
 public class BlogWriterCommand {
     private final BlogWriterService blogWriterService;
+    private final BlogBatchService blogBatchService;
 
-    public BlogWriterCommand(BlogWriterService blogWriterService) {
+    public BlogWriterCommand(BlogWriterService blogWriterService, BlogBatchService blogBatchService) {
         this.blogWriterService = blogWriterService;
+        this.blogBatchService = blogBatchService;
     }
 
     @ShellMethod(
@@ -21,8 +27,10 @@ public class BlogWriterCommand {
             1. Writer - Generates and refines the blog content
             2. Editor - Evaluates and provides feedback
             
-            The process continues for up to 3 iterations or until the editor approves.
-            Progress and feedback are logged to the console.
+            The editor judges the post section by section; only the sections it
+            rejects are rewritten, in parallel. The process continues for up to
+            3 iterations or until the editor approves every section.
+            Progress, feedback and token usage are logged to the console.
             
             Example: write-blog "Spring AI Integration with Azure OpenAI"
             """
@@ -37,4 +45,44 @@ public class BlogWriterCommand {
     ) {
         return blogWriterService.generateBlogPost(topic);
     }
+
+    @ShellMethod(
+        key = "write-blog-batch",
+        value = """
+            Generate a blog post for every topic in a file, several at a time.
+            The file has one topic per line; blank lines and lines starting with # are ignored.
+            
+            Each post is saved to the output directory as soon as it is finished.
+            Finished topics are checkpointed there, so running the same command
+            again after an interruption only writes the missing posts.
+            
+            Example: write-blog-batch topics.txt --output ./posts --parallelism 4
+            """
+    )
+    public String writeBlogBatch(
+            @ShellOption(help = "File with one topic per line") String topicsFile,
+            @ShellOption(value = "--output", help = "Directory for the finished posts",
+                         defaultValue = "blog-posts") String output,
+            @ShellOption(value = "--parallelism", help = "Posts written at once (0 = configured default)",
+                         defaultValue = "0") int parallelism
+    ) {
+        Path topics = Path.of(topicsFile);
+        if (!Files.isRegularFile(topics)) {
+            return "Topics file not found: " + topics.toAbsolutePath();
+        }
+        BlogBatchService.BatchReport report;
+        try {
+            report = blogBatchService.writeAll(topics, Path.of(output), parallelism);
+        } catch (IOException e) {
+            return "Blog batch failed: " + e.getMessage();
+        }
+
+        StringBuilder sb = new StringBuilder();
+        for (BlogBatchService.TopicResult result : report.results()) {
+            sb.append(String.format("%8d ms  %s%n", result.latencyMs(),
+                result.error() == null ? result.file() : "FAILED " + result.topic() + ": " + result.error()));
+        }
+        sb.append("Blog batch complete: ").append(report);
+        return sb.toString();
+    }
 } 
\ No newline at end of file
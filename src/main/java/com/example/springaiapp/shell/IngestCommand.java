@@ -0,0 +1,56 @@
+package com.example.springaiapp.shell;
+
+import com.example.springaiapp.service.IngestionService;
+import org.springframework.shell.standard.ShellComponent;
+import org.springframework.shell.standard.ShellMethod;
+import org.springframework.shell.standard.ShellOption;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+
+@ShellComponent
+public class IngestCommand {
+    private final IngestionService ingestionService;
+
+    public IngestCommand(IngestionService ingestionService) {
+        this.ingestionService = ingestionService;
+    }
+
+    @ShellMethod(
+        key = "ingest",
+        value = """
+            Load a directory of documents into the knowledge base.
+            Markdown, text and HTML files are split into overlapping chunks,
+            embedded in batches and stored for retrieval by the ask command.
+            
+            Files that were already ingested and have not changed are skipped,
+            so an interrupted run can simply be started again.
+            
+            Example: ingest ./docs
+            """
+    )
+    public String ingest(
+            @ShellOption(help = "Directory (or single file) to ingest") String path,
+            @ShellOption(value = "--chunk-size", help = "Maximum characters per chunk (0 = configured default)",
+                         defaultValue = "0") int chunkSize,
+            @ShellOption(value = "--overlap", help = "Characters shared by consecutive chunks (-1 = configured default)",
+                         defaultValue = "-1") int overlap
+    ) {
+        Path root = Path.of(path);
+        if (!Files.exists(root)) {
+            return "Path not found: " + root.toAbsolutePath();
+        }
+        if (chunkSize < 0) {
+            return "--chunk-size must not be negative";
+        }
+        try {
+            IngestionService.IngestionReport report = ingestionService.ingest(root, chunkSize, overlap);
+            return "Ingestion complete: " + report;
+        } catch (IllegalArgumentException e) {
+            // An --overlap that is not smaller than the chunk size
+            return e.getMessage();
+        } catch (IOException e) {
+            return "Ingestion failed: " + e.getMessage();
+        }
+    }
+}
@@ -0,0 +1,72 @@
+package com.example.springaiapp.shell;
+
+import com.example.springaiapp.local.LoadGenerator;
+import com.example.springaiapp.metrics.PipelineMetrics;
+import org.springframework.context.annotation.Profile;
+import org.springframework.shell.standard.ShellComponent;
+import org.springframework.shell.standard.ShellMethod;
+import org.springframework.shell.standard.ShellOption;
+import java.time.Duration;
+
+@ShellComponent
+@Profile("local")
+public class LoadTestCommand {
+    private final LoadGenerator loadGenerator;
+
+    public LoadTestCommand(LoadGenerator loadGenerator) {
+        this.loadGenerator = loadGenerator;
+    }
+
+    @ShellMethod(
+        key = "load-test",
+        value = """
+            Drive the RAG pipeline at a fixed rate of questions per second and report
+            throughput, end-to-end latency (measured from when each question was due)
+            and p50/p99 latency per pipeline stage.
+
+            Only available with the local profile (stand-in model clients); add the
+            h2 profile to run without a database server:
+              --spring.profiles.active=local,h2
+
+            Example: load-test --qps 20 --duration 60 --distinct 200
+            """
+    )
+    public String loadTest(
+            @ShellOption(value = "--qps", help = "Questions started per second", defaultValue = "10") double qps,
+            @ShellOption(value = "--duration", help = "Seconds to keep starting questions",
+                         defaultValue = "30") int durationSeconds,
+            @ShellOption(value = "--distinct", help = "Distinct questions to draw from (fewer = more cache hits)",
+                         defaultValue = "200") int distinct,
+            @ShellOption(value = "--max-in-flight", help = "Questions running at once before new ones are dropped",
+                         defaultValue = "256") int maxInFlight,
+            @ShellOption(value = "--no-cache", help = "Bypass the semantic answer cache",
+                         defaultValue = "false") boolean noCache
+    ) throws InterruptedException {
+        if (qps <= 0 || durationSeconds <= 0 || maxInFlight <= 0) {
+            return "--qps, --duration and --max-in-flight must be positive";
+        }
+        LoadGenerator.LoadReport report = loadGenerator.run(qps, Duration.ofSeconds(durationSeconds),
+                                                            distinct, maxInFlight, noCache);
+
+        StringBuilder out = new StringBuilder(String.format("%-12s %7s %9s %9s %9s%n",
+            "STAGE", "COUNT", "P50 MS", "P99 MS", "MAX MS"));
+        for (PipelineMetrics.StageStats stage : report.stages()) {
+            out.append(String.format("%-12s %7d %9.1f %9.1f %9.1f%n",
+                stage.stage(), stage.count(), stage.p50Ms(), stage.p99Ms(), stage.maxMs()));
+        }
+        out.append(String.format("""
+
+            Questions sent:       %d
+            Answered:             %d
+            Dropped:              %d
+            Failed stages:        %d
+            Throughput:           %.1f questions/s (target %.1f)
+            Latency p50:          %.1f ms
+            Latency p99:          %.1f ms
+            Latency max:          %.1f ms
+            """,
+            report.sent(), report.completed(), report.dropped(), report.failedStages(),
+            report.throughput(), report.targetQps(), report.p50Ms(), report.p99Ms(), report.maxMs()));
+        return out.toString();
+    }
+}
@@ -1,9 +1,15 @@
 package com.example.springaiapp.shell;
 
+import com.example.springaiapp.metrics.PipelineMetrics;
+import com.example.springaiapp.ratelimit.CallScheduler;
+import com.example.springaiapp.service.EmbeddingCache;
+import com.example.springaiapp.service.EmbeddingService;
 import com.example.springaiapp.service.RagService;
+import org.jline.terminal.Terminal;
 import org.springframework.shell.standard.ShellComponent;
 import org.springframework.shell.standard.ShellMethod;
 import org.springframework.shell.standard.ShellOption;
+import java.io.PrintWriter;
 
 /**
  * Console commands for the RAG (Retrieval Augmented Generation) demo.
@@ -15,9 +21,18 @@ import org.springframework.shell.standard.ShellOption;
 @ShellComponent
 public class RagDemoCommands {
     private final RagService ragService;
+    private final EmbeddingService embeddingService;
+    private final PipelineMetrics metrics;
+    private final CallScheduler callScheduler;
+    private final Terminal terminal;
     
-    public RagDemoCommands(RagService ragService) {
+    public RagDemoCommands(RagService ragService, EmbeddingService embeddingService,
+                           PipelineMetrics metrics, CallScheduler callScheduler, Terminal terminal) {
         this.ragService = ragService;
+        this.embeddingService = embeddingService;
+        this.metrics = metrics;
+        this.callScheduler = callScheduler;
+        this.terminal = terminal;
     }
     
     /**
@@ -29,10 +44,96 @@ public class RagDemoCommands {
      * 2. Find similar previous Q&As
      * 3. Use them as context for generating an answer
      * 4. Store the new Q&A pair for future reference
+     * 
+     * The answer is printed as it is generated; use --no-stream to wait
+     * for the complete answer instead.
      */
     @ShellMethod(key = "ask", value = "Ask a question using RAG")
-    public String ask(@ShellOption(help = "Your question") String question) {
-        return ragService.processQuery(question);
+    public String ask(
+            @ShellOption(help = "Your question") String question,
+            @ShellOption(value = "--no-cache", help = "Generate a fresh answer even for a repeated question",
+                         defaultValue = "false") boolean noCache,
+            @ShellOption(value = "--no-stream", help = "Print the answer only once it is complete",
+                         defaultValue = "false") boolean noStream) {
+        if (noStream) {
+            return ragService.processQuery(question, noCache);
+        }
+        
+        PrintWriter writer = terminal.writer();
+        try {
+            ragService.processQueryStream(question, noCache)
+                .doOnNext(token -> {
+                    writer.print(token);
+                    writer.flush();
+                })
+                .blockLast();
+        } catch (RuntimeException e) {
+            writer.println();
+            writer.flush();
+            return ragService.errorMessage(e);
+        }
+        writer.println();
+        writer.flush();
+        return null; // Already printed
+    }
+    
+    /**
+     * Show how often embeddings and answers were served from cache instead of Azure OpenAI.
+     */
+    @ShellMethod(key = "cache-stats", value = "Show embedding and answer cache statistics")
+    public String cacheStats() {
+        EmbeddingCache.Stats stats = embeddingService.getCacheStats();
+        RagService.AnswerCacheStats answers = ragService.getAnswerCacheStats();
+        return String.format("""
+            Embedding cache
+              Memory hits:     %d
+              Persistent hits: %d
+              Misses:          %d
+              Evictions:       %d
+              Entries:         %d
+              Hit rate:        %.1f%%
+            
+            Semantic answer cache
+              Hits:            %d
+              Misses:          %d
+              Bypassed:        %d
+              Hit rate:        %.1f%%
+            """,
+            stats.memoryHits(), stats.persistentHits(), stats.misses(),
+            stats.evictions(), stats.memorySize(), stats.hitRate() * 100,
+            answers.hits(), answers.misses(), answers.bypasses(), answers.hitRate() * 100);
+    }
+    
+    /**
+     * Show latency percentiles of every pipeline stage, to find the stage behind a slow p99.
+     * The same numbers are served by the actuator endpoint /actuator/pipeline.
+     */
+    @ShellMethod(key = "stats", value = "Show per-stage latency percentiles of the RAG and blog pipelines")
+    public String stats() {
+        StringBuilder out = new StringBuilder(String.format("%-6s %-12s %-24s %7s %9s %9s %9s %9s%n",
+            "PIPE", "STAGE", "DEPLOYMENT", "COUNT", "P50 MS", "P95 MS", "P99 MS", "MAX MS"));
+        for (PipelineMetrics.StageStats stage : metrics.snapshot()) {
+            out.append(String.format("%-6s %-12s %-24s %7d %9.1f %9.1f %9.1f %9.1f%n",
+                stage.pipeline(), stage.stage(), stage.deployment(), stage.count(),
+                stage.p50Ms(), stage.p95Ms(), stage.p99Ms(), stage.maxMs()));
+        }
+        PipelineMetrics.Totals totals = metrics.totals();
+        out.append(String.format("""
+            
+            Context characters:   %d
+            Context tokens:       %d
+            Context tokens saved: %d
+            Retrieved hits:       %d
+            Coalesced queries:    %d
+            Errors:               %d
+            """,
+            totals.contextChars(), totals.contextTokens(), totals.contextTokensSaved(),
+            totals.retrievedHits(), totals.coalescedQueries(), totals.errors()));
+        for (CallScheduler.QueueStats queue : callScheduler.queues()) {
+            out.append(String.format("Waiting for %s (%s): %d%n",
+                queue.deployment(), queue.priority().name().toLowerCase(), queue.queued()));
+        }
+        return out.toString();
     }
     
     /**
@@ -50,6 +151,13 @@ public class RagDemoCommands {
             
             Available commands:
             - ask 'your question'    Ask a question using RAG
+                  --no-cache           Skip the semantic answer cache
+                  --no-stream          Wait for the complete answer
+            - cache-stats            Show embedding and answer cache statistics
+            - stats                  Show per-stage latency percentiles (p50/p95/p99)
+            - ingest <path>          Load markdown, text and HTML documents
+            - search-recall          Compare vector search results with exact search
+            - compact-history        Remove near-duplicate and stale Q&A pairs
             - help                   Show this help message
             - exit                   Exit the application
             
@@ -0,0 +1,68 @@
+package com.example.springaiapp.shell;
+
+import com.example.springaiapp.repository.ChatHistoryRepository;
+import com.example.springaiapp.service.ChatHistoryCompactor;
+import org.springframework.shell.standard.ShellComponent;
+import org.springframework.shell.standard.ShellMethod;
+import org.springframework.shell.standard.ShellOption;
+
+@ShellComponent
+public class SearchCommands {
+    private final ChatHistoryRepository chatHistoryRepository;
+    private final ChatHistoryCompactor compactor;
+
+    public SearchCommands(ChatHistoryRepository chatHistoryRepository, ChatHistoryCompactor compactor) {
+        this.chatHistoryRepository = chatHistoryRepository;
+        this.compactor = compactor;
+    }
+
+    @ShellMethod(
+        key = "search-recall",
+        value = """
+            Measure how well the configured vector index finds the true nearest neighbors.
+            Stored embeddings are used as queries and the results are compared with an
+            exact brute-force cosine similarity search (recall@k: share of the true
+            top-k that was found).
+            
+            Example: search-recall --k 5 --queries 100
+            """
+    )
+    public String searchRecall(
+            @ShellOption(value = "--k", help = "Results per query", defaultValue = "5") int k,
+            @ShellOption(value = "--queries", help = "Number of stored rows used as queries",
+                         defaultValue = "100") int queries
+    ) {
+        ChatHistoryRepository.RecallReport report = chatHistoryRepository.measureRecall(k, queries);
+        if (report.queries() == 0) {
+            return "No chat history rows to measure against.";
+        }
+        return String.format("""
+            Recall@%d over %d queries (%d rows)
+              Index results:          %.3f
+              After re-ranking:       %.3f
+              Exact search latency:   %d us per query
+              Index search latency:   %d us per query
+            """,
+            report.k(), report.queries(), report.rows(), report.indexRecall(), report.searchRecall(),
+            report.exactMicros(), report.searchMicros());
+    }
+
+    @ShellMethod(
+        key = "compact-history",
+        value = """
+            Remove near-duplicate and stale Q&A pairs from the chat history now,
+            instead of waiting for the next scheduled run. Of each cluster of
+            near-duplicate questions the most used pair is kept; retention then
+            removes pairs by age, hit count and the configured maximum row count.
+            
+            Example: compact-history
+            """
+    )
+    public String compactHistory() {
+        try {
+            return "Compaction complete: " + compactor.compact();
+        } catch (IllegalStateException e) {
+            return e.getMessage();
+        }
+    }
+}
@@ -0,0 +1,310 @@
+package com.example.springaiapp.web;
+
+import com.example.springaiapp.ratelimit.RateLimitedException;
+import com.example.springaiapp.service.RagService;
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.core.task.SimpleAsyncTaskExecutor;
+import org.springframework.core.task.support.ExecutorServiceAdapter;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.ExceptionHandler;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.RequestBody;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.context.request.async.DeferredResult;
+import org.springframework.web.server.ResponseStatusException;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+import reactor.core.Disposable;
+import reactor.core.publisher.Mono;
+import reactor.core.scheduler.Scheduler;
+import reactor.core.scheduler.Schedulers;
+import java.io.IOException;
+import java.time.Duration;
+import java.util.concurrent.CancellationException;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Future;
+import java.util.concurrent.FutureTask;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicReference;
+
+/**
+ * HTTP entry point to the RAG pipeline, for serving many users at once.
+ *
+ * - {@code POST /ask} with {@code {"question": "...", "noCache": false}} returns
+ *   {@code {"answer": "..."}} once the answer is complete, or an error status:
+ *   503 if Azure OpenAI is rate limiting us, 502 if another call the answer
+ *   depends on failed
+ * - {@code GET /ask/stream?question=...} streams the answer as Server-Sent Events:
+ *   one {@code message} event per token, then a {@code done} event (or an
+ *   {@code error} event)
+ *
+ * Educational Note:
+ * Each request runs on its own thread. On Java 21+ these are virtual threads, which
+ * cost almost nothing while blocked on the database or Azure OpenAI; on older
+ * Java versions they are ordinary threads. Either way, a {@link ConcurrencyLimiter}
+ * caps how many requests run at once (a 5-connection database pool and a fixed
+ * Azure quota cannot serve more) and answers 429 when a burst exceeds what can be
+ * queued. Queued requests hold no thread at all: the servlet thread returns at
+ * once, and the work is started when a running request frees its slot. Every
+ * request also has a deadline: when it passes, a queued request leaves the queue,
+ * and a running one has its worker thread interrupted or its token stream
+ * cancelled, which ends its wait for Azure OpenAI quota or for a retry, so no
+ * more Azure OpenAI calls are made for a client that has stopped waiting.
+ */
+@RestController
+public class AskController {
+    private static final Logger logger = LoggerFactory.getLogger(AskController.class);
+
+    private final RagService ragService;
+    private final ConcurrencyLimiter limiter;
+    private final SimpleAsyncTaskExecutor executor;
+    private final Scheduler scheduler;
+    private final long queueTimeoutNanos;
+    private final long deadlineNanos;
+
+    public AskController(
+            RagService ragService,
+            MeterRegistry registry,
+            @Value("${rag.web.max-concurrent:4}") int maxConcurrent,
+            @Value("${rag.web.max-queued:100}") int maxQueued,
+            @Value("${rag.web.queue-timeout-ms:2000}") long queueTimeoutMs,
+            @Value("${rag.web.deadline-ms:60000}") long deadlineMs,
+            @Value("${rag.web.virtual-threads:true}") boolean virtualThreads) {
+        this.ragService = ragService;
+        this.limiter = new ConcurrencyLimiter(maxConcurrent, maxQueued);
+        this.queueTimeoutNanos = TimeUnit.MILLISECONDS.toNanos(queueTimeoutMs);
+        this.deadlineNanos = TimeUnit.MILLISECONDS.toNanos(deadlineMs);
+
+        // Virtual threads need Java 21; platform threads are used otherwise
+        boolean useVirtualThreads = virtualThreads && Runtime.version().feature() >= 21;
+        this.executor = new SimpleAsyncTaskExecutor("ask-");
+        this.executor.setVirtualThreads(useVirtualThreads);
+        // Unlike fromExecutor, tasks of this scheduler are interrupted when cancelled
+        this.scheduler = Schedulers.fromExecutorService(new ExecutorServiceAdapter(executor), "ask");
+
+        Gauge.builder("rag.ask.active", limiter, ConcurrencyLimiter::active)
+            .description("Ask requests currently running")
+            .register(registry);
+        Gauge.builder("rag.ask.queued", limiter, ConcurrencyLimiter::queued)
+            .description("Ask requests waiting for a slot")
+            .register(registry);
+        FunctionCounter.builder("rag.ask.rejected", limiter, ConcurrencyLimiter::rejected)
+            .description("Ask requests rejected with 429")
+            .register(registry);
+
+        logger.info("Ask endpoint: {} concurrent, {} queued (max wait {} ms), deadline {} ms, {} threads",
+                   maxConcurrent, maxQueued, queueTimeoutMs, deadlineMs, useVirtualThreads ? "virtual" : "platform");
+    }
+
+    @PostMapping(value = "/ask", produces = MediaType.APPLICATION_JSON_VALUE)
+    public DeferredResult<AskResponse> ask(@RequestBody AskRequest request) {
+        String question = requireQuestion(request.question());
+        long deadline = System.nanoTime() + deadlineNanos;
+        CompletableFuture<ConcurrencyLimiter.Permit> slot =
+            limiter.acquireAsync(Math.min(queueTimeoutNanos, deadlineNanos));
+
+        DeferredResult<AskResponse> result = new DeferredResult<>(remainingMillis(deadline));
+        AtomicBoolean timedOut = new AtomicBoolean();
+        AtomicReference<Future<?>> task = new AtomicReference<>();
+        result.onTimeout(() -> {
+            timedOut.set(true);
+            // Leaves the queue if still waiting, or interrupts the blocked embedding, retrieval or chat call
+            slot.cancel(false);
+            cancel(task.get());
+            result.setErrorResult(deadlineExceeded());
+        });
+        // Runs on the thread that freed the slot (or right here if one was free)
+        slot.whenComplete((permit, error) -> {
+            if (error != null) {
+                if (!(error instanceof CancellationException)) {
+                    result.setErrorResult(error);
+                }
+                return;
+            }
+            if (timedOut.get()) {
+                permit.close();
+                return;
+            }
+            FutureTask<Void> work = new FutureTask<>(() -> {
+                try {
+                    result.setResult(new AskResponse(ragService.answerQuery(question, request.noCache())));
+                } catch (CancellationException e) {
+                    // Deadline passed, the 504 is already sent
+                } catch (RuntimeException e) {
+                    result.setErrorResult(new UpstreamException(e));
+                }
+                return null;
+            });
+            task.set(work);
+            try {
+                // Closing the permit outside the task also covers a task cancelled before it started
+                executor.execute(() -> {
+                    try (permit) {
+                        work.run();
+                    }
+                });
+            } catch (RuntimeException e) {
+                permit.close();
+                result.setErrorResult(e);
+                return;
+            }
+            if (timedOut.get()) {
+                // The deadline passed while the task was being started
+                cancel(work);
+            }
+        });
+        return result;
+    }
+
+    @GetMapping(value = "/ask/stream", produces = MediaType.TEXT_EVENT_STREAM_VALUE)
+    public SseEmitter askStream(
+            @RequestParam String question,
+            @RequestParam(defaultValue = "false") boolean noCache) {
+        requireQuestion(question);
+        long deadline = System.nanoTime() + deadlineNanos;
+        CompletableFuture<ConcurrencyLimiter.Permit> slot =
+            limiter.acquireAsync(Math.min(queueTimeoutNanos, deadlineNanos));
+
+        // The Flux deadline below fires first and reports the error; this is only a safety net
+        SseEmitter emitter = new SseEmitter(remainingMillis(deadline) + 1000);
+        AtomicBoolean gone = new AtomicBoolean();
+        AtomicReference<Disposable> subscription = new AtomicReference<>();
+        Runnable stop = () -> {
+            gone.set(true);
+            slot.cancel(false);
+            Disposable running = subscription.get();
+            if (running != null) {
+                running.dispose();
+            }
+        };
+        // Stop waiting or generating when the client disconnects
+        emitter.onTimeout(() -> {
+            stop.run();
+            sendError(emitter, deadlineExceeded().getReason());
+        });
+        emitter.onError(e -> stop.run());
+
+        slot.whenComplete((permit, error) -> {
+            if (error != null) {
+                if (!(error instanceof CancellationException)) {
+                    // The event stream has already started, so it is too late for a 429 status
+                    sendError(emitter, error.getMessage());
+                }
+                return;
+            }
+            if (gone.get()) {
+                permit.close();
+                return;
+            }
+            // The scheduler interrupts the worker on cancellation, which ends a wait for embedding quota
+            subscription.set(ragService.processQueryStream(question, noCache)
+                .subscribeOn(scheduler)
+                // Each token restarts the timer, so it is set to what is left of the whole deadline
+                .timeout(untilDeadline(deadline), token -> untilDeadline(deadline))
+                .doFinally(signal -> permit.close())
+                .subscribe(
+                    token -> send(emitter, SseEmitter.event().data(token), stop),
+                    failure -> {
+                        String message = failure instanceof TimeoutException
+                            ? deadlineExceeded().getReason() : failure.getMessage();
+                        logger.warn("Streaming ask failed: {}", message);
+                        sendError(emitter, message);
+                    },
+                    () -> {
+                        try {
+                            emitter.send(SseEmitter.event().name("done").data(""));
+                        } catch (IOException | IllegalStateException e) {
+                            // Client already gone
+                        }
+                        emitter.complete();
+                    }));
+            if (gone.get()) {
+                subscription.get().dispose();
+            }
+        });
+        return emitter;
+    }
+
+    @ExceptionHandler(OverloadedException.class)
+    public ResponseEntity<ErrorResponse> overloaded(OverloadedException e) {
+        logger.debug("Shedding ask request: {}", e.getMessage());
+        return ResponseEntity.status(HttpStatus.TOO_MANY_REQUESTS)
+            .header(HttpHeaders.RETRY_AFTER, "1")
+            .body(new ErrorResponse(e.getMessage()));
+    }
+
+    @ExceptionHandler(UpstreamException.class)
+    public ResponseEntity<ErrorResponse> upstreamFailed(UpstreamException e) {
+        RateLimitedException rateLimited = RateLimitedException.find(e.getCause());
+        if (rateLimited != null) {
+            Duration retryAfter = rateLimited.getRetryAfter();
+            long seconds = retryAfter == null ? 1 : Math.max(1, (retryAfter.toMillis() + 999) / 1000);
+            return ResponseEntity.status(HttpStatus.SERVICE_UNAVAILABLE)
+                .header(HttpHeaders.RETRY_AFTER, String.valueOf(seconds))
+                .body(new ErrorResponse("Azure OpenAI rate limit reached: " + e.getMessage()));
+        }
+        return ResponseEntity.status(HttpStatus.BAD_GATEWAY)
+            .body(new ErrorResponse("Answer failed: " + e.getMessage()));
+    }
+
+    private static void sendError(SseEmitter emitter, String message) {
+        try {
+            emitter.send(SseEmitter.event().name("error").data(message));
+        } catch (IOException | IllegalStateException e) {
+            // Client already gone
+        }
+        emitter.complete();
+    }
+
+    private static void cancel(Future<?> task) {
+        if (task != null) {
+            task.cancel(true);
+        }
+    }
+
+    private static void send(SseEmitter emitter, SseEmitter.SseEventBuilder event, Runnable stop) {
+        try {
+            emitter.send(event);
+        } catch (IOException | IllegalStateException e) {
+            // Client gone: cancel the token stream rather than throwing into the subscriber
+            stop.run();
+        }
+    }
+
+    private static String requireQuestion(String question) {
+        if (question == null || question.isBlank()) {
+            throw new ResponseStatusException(HttpStatus.BAD_REQUEST, "question must not be empty");
+        }
+        return question;
+    }
+
+    private long remainingMillis(long deadline) {
+        return Math.max(1, TimeUnit.NANOSECONDS.toMillis(deadline - System.nanoTime()));
+    }
+
+    private Mono<Long> untilDeadline(long deadline) {
+        return Mono.delay(Duration.ofMillis(remainingMillis(deadline)));
+    }
+
+    private ResponseStatusException deadlineExceeded() {
+        return new ResponseStatusException(HttpStatus.GATEWAY_TIMEOUT,
+            "Deadline of " + TimeUnit.NANOSECONDS.toMillis(deadlineNanos) + " ms exceeded");
+    }
+
+    public record AskRequest(String question, boolean noCache) {}
+
+    public record AskResponse(String answer) {}
+
+    public record ErrorResponse(String error) {}
+}
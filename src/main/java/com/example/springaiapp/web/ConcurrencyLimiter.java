@@ -0,0 +1,136 @@
+package com.example.springaiapp.web;
+
+import java.util.ArrayDeque;
+import java.util.Deque;
+import java.util.concurrent.CancellationException;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Caps how many requests run at once and how many may wait for a slot.
+ *
+ * Educational Note:
+ * Every RAG request holds a database connection and Azure OpenAI quota while it
+ * runs. Letting a burst through unchecked exhausts the connection pool and the
+ * quota, and then every request fails or times out. Instead:
+ * - at most {@code maxConcurrent} requests run
+ * - up to {@code maxQueued} more wait, each for at most the queue timeout
+ * - anything beyond that is rejected right away (load shedding), which the
+ *   web layer reports as 429 Too Many Requests so clients back off
+ *
+ * Waiting does not hold a thread: {@link #acquireAsync} returns a future that
+ * the request's finishing predecessor completes when it closes its permit, so a
+ * hundred queued requests cost a hundred small objects, not a hundred blocked
+ * servlet threads. Slots are handed out in arrival order.
+ *
+ * Rejecting early is cheaper for everyone than accepting work that would only
+ * finish after the client has given up.
+ */
+public class ConcurrencyLimiter {
+    private final int maxConcurrent;
+    private final int maxQueued;
+    private final Deque<CompletableFuture<Permit>> waiters = new ArrayDeque<>();
+    private final LongAdder rejected = new LongAdder();
+    private int available;
+
+    public ConcurrencyLimiter(int maxConcurrent, int maxQueued) {
+        this.maxConcurrent = Math.max(1, maxConcurrent);
+        this.maxQueued = Math.max(0, maxQueued);
+        this.available = this.maxConcurrent;
+    }
+
+    /**
+     * Ask for a slot without blocking. The future completes with a permit as soon as
+     * one is free, or fails with {@link OverloadedException} if none frees up within
+     * {@code timeoutNanos}. Cancelling the future gives up the place in the queue.
+     * The permit must be closed when the request finishes.
+     *
+     * @throws OverloadedException if the queue is already full
+     */
+    public CompletableFuture<Permit> acquireAsync(long timeoutNanos) {
+        CompletableFuture<Permit> waiter = new CompletableFuture<>();
+        synchronized (this) {
+            if (available > 0) {
+                available--;
+                waiter.complete(new Permit());
+                return waiter;
+            }
+            if (waiters.size() >= maxQueued) {
+                rejected.increment();
+                throw new OverloadedException("Too many requests waiting (" + maxQueued + ")");
+            }
+            if (timeoutNanos <= 0) {
+                rejected.increment();
+                throw new OverloadedException("No free request slot within 0 ms");
+            }
+            waiters.addLast(waiter);
+        }
+        waiter.whenComplete((permit, error) -> {
+            if (error != null) {
+                // Timed out or cancelled: the waiter may still be queued
+                synchronized (this) {
+                    waiters.remove(waiter);
+                }
+                if (!(error instanceof CancellationException)) {
+                    rejected.increment();
+                }
+            }
+        });
+        CompletableFuture.delayedExecutor(timeoutNanos, TimeUnit.NANOSECONDS).execute(() ->
+            waiter.completeExceptionally(new OverloadedException("No free request slot within "
+                + TimeUnit.NANOSECONDS.toMillis(timeoutNanos) + " ms")));
+        return waiter;
+    }
+
+    public synchronized int active() {
+        return maxConcurrent - available;
+    }
+
+    public synchronized int queued() {
+        return waiters.size();
+    }
+
+    public long rejected() {
+        return rejected.sum();
+    }
+
+    /**
+     * Pass a freed slot to the longest waiting request, or return it to the pool.
+     * Waiters are completed outside the lock, since completing one runs its callbacks.
+     */
+    private void release() {
+        while (true) {
+            CompletableFuture<Permit> next;
+            synchronized (this) {
+                next = waiters.pollFirst();
+                if (next == null) {
+                    available++;
+                    return;
+                }
+            }
+            if (next.complete(new Permit())) {
+                return;
+            }
+            // That waiter timed out or was cancelled in the meantime; try the next one
+        }
+    }
+
+    /**
+     * One running request's slot. Closing it more than once has no further effect.
+     */
+    public final class Permit implements AutoCloseable {
+        private boolean released;
+
+        @Override
+        public void close() {
+            synchronized (this) {
+                if (released) {
+                    return;
+                }
+                released = true;
+            }
+            release();
+        }
+    }
+}
@@ -0,0 +1,10 @@
+package com.example.springaiapp.web;
+
+/**
+ * Thrown when a request is shed because the service is at capacity.
+ */
+public class OverloadedException extends RuntimeException {
+    public OverloadedException(String message) {
+        super(message);
+    }
+}
@@ -0,0 +1,12 @@
+package com.example.springaiapp.web;
+
+/**
+ * Thrown when an answer could not be produced because a call the pipeline depends
+ * on (Azure OpenAI or the database) failed. Answered with 503 if Azure OpenAI
+ * rejected the call with 429, otherwise with 502.
+ */
+public class UpstreamException extends RuntimeException {
+    public UpstreamException(Throwable cause) {
+        super(cause.getMessage(), cause);
+    }
+}
@@ -1,11 +1,12 @@
 -- Sample data for RAG demo
+-- Embeddings are little-endian float32 bytes, written as hex
 INSERT INTO chat_history (prompt, response, embedding) VALUES
 ('Who uses Java in Microsoft?', 
  'At Microsoft, Java is used by various teams and in multiple projects, particularly in areas such as cloud services (e.g., Azure), enterprise applications (e.g., LinkedIn), and cross-platform development (e.g., Minecraft). Developers working on applications that require integration with Java-based solutions or those building on Java ecosystems may utilize Java as part of their technology stack. Additionally, Microsoft provides support for Java developers through tools and services, including Azure SDKs for Java and integration with Visual Studio Code. Java is also prominent in open-source projects and contributions made by Microsoft, reflecting its versatility and importance in the software development landscape.',
-'[-0.016320527, 0.016145742, 0.06912737, 0.0481532, 0.07708008, -0.04172986, 0.018712893, 0.03425781, -0.0005328887, 0.037775356, 0.036442623, -0.0122786295, 0.0010787497, 0.03875852, -0.009208972, 0.04837168, -0.03178898, -0.016615476, -0.030893205, -0.026326954, 0.0019267289, 0.025627814, 0.0011640937, 0.054183275, 0.009039649, -0.036486316, -0.07065674, 0.049027123, -4.0805156e-07, -0.010492547, -0.019280944, -0.024011055, 1.5575301e-06, 0.07244828, 0.023617791, -0.019040614, 0.011218997, -0.038474493, 0.039413963, -0.009263592, -0.032968774, -0.009219896, -0.007488434, 0.051299326, -0.025125308, 0.0349788, -0.02067922, -0.017882666, -0.0034929642, 0.013600439, -0.015315514, -0.0699576, 0.07249198, 0.0024114833, -0.004631796, -0.03458553, 0.012158465, 0.044154998, 0.019794373, -0.0009831643, 0.02291865, 0.0043286537, -0.031373862, 0.051211935, -0.027900016, 0.033602368, 0.0058989855, -0.053178262, 0.017336464, -0.0077943075, -0.05125563, 0.021717006, -0.0072863395, 0.023705183, -0.018396096, 0.0020359694, -0.004683685, 0.054620236, 0.016986893, 0.012693743, -0.0027487634, 0.01989269, 0.002539841, -0.009219896, -0.0133928815, -0.014059248, 0.020384273, -0.0029631478, -0.036420774, 0.032990623, -0.013786147, 0.0028894106, -0.03161419, 0.0140374005, 0.029713409, 0.066243425, -0.026086625, -0.004639989, 0.0049704416, 0.006335947, -0.012628199, 0.015097033, -0.004686416, -0.00655989, 0.040266037, -0.043259226, 0.04631796, -0.04780363, 0.018254083, 0.017347386, -0.07507005, 0.012573578, 0.015774325, -0.021498526, -0.014157565, -0.01479116, -0.017817121, -0.05523198, -0.030325156, 0.0059372196, -0.027572295, 0.017391084, -0.027419358, -0.009389219, 0.010306839, -0.010279529, -0.04963887, -0.00079404167, 0.013021464, 0.06340317, -0.027834473, -0.0009223992, 0.047454063, -0.013775224, 0.0035967426, -0.036792193, -0.018450717, 0.040418975, -0.0006568083, 0.0020018315, 0.053178262, 0.0018611846, -0.018396096, 0.014190338, 0.02156407, -0.05711092, -0.006947694, -0.008061947, 0.0025548616, 0.01060725, -0.0038370716, -0.0052599288, -0.04491968, 0.04413315, -0.006729213, -0.0027951906, -0.012726515, 0.016954122, 0.004071939, -0.019018766, -0.035721634, 0.0047219195, 0.0020919552, 0.019663285, 0.0212145, -0.035809025, 0.01738016, 0.030368851, -0.023246372, 0.016888577, -0.00690946, -0.021585917, 0.0041047106, 0.031089839, 0.05597482, -0.040091254, -0.010388769, -0.04631796, -0.004465204, -0.080969036, -0.047497757, 0.018199462, -0.027266422, -0.031133534, -0.01735831, -0.039413963, -0.0022585467, 0.021345587, -0.036682952, 0.038256012, -0.012016452, 0.018843982, 0.03934842, 0.057242006, 0.03279399, -0.035022497, 0.015293666, -0.023464853, -0.03447629, -0.055100895, 0.042691175, -0.019477576, 0.017664185, 0.010279529, -0.032750294, 0.010896737, 0.03130832, 0.03268475, 0.021585917, -0.016156666, -0.020613678, 2.9251696e-05, -0.023071587, 0.01336011, 0.0068275295, -0.020285957, 0.01565416, -0.06611233, -0.01800283, -0.04976996, -0.013829844, 0.07262307, -0.02855546, 0.0032963313, -0.015337362, -0.0068166056, 0.020449817, -0.037251, 0.08345972, -0.030368851, 0.022416145, -0.018472563, -0.027550448, -0.02637065, 0.042472694, -0.07236089, -0.033886395, 0.0042603784, 0.0018707431, -0.007777922, 0.0033891858, -0.028052954, 0.013076085, 0.023333766, 0.014365122, 0.02613032, -0.028861333, -0.017686032, -0.009520307, -0.039523203, 0.0053473213, 0.034104876, -0.026895003, -0.0008001865, 0.003219863, -0.03106799, -0.009121579, 0.04793472, 0.044439025, 0.0015730629, -0.051998466, -0.021127107, -0.08411516, -0.01473654, -0.047891025, 0.00072508364, -0.019794373, 0.023202676, 0.009837105, 0.027594144, 0.037775356, 0.007204409, 0.022547234, -0.01036692, 0.02156407, -0.060125954, 0.013589514, 0.010427003, -0.027703384, 0.039850924, -0.0041948343, 0.00280748, 0.0022544502, 0.037076216, -0.006942232, -0.03268475, -0.005877137, 0.013141629, -0.06475775, -0.016691944, -0.012158465, 0.06799127, -0.019925462, -0.021443905, 0.016954122, 0.013578591, 0.016724717, -0.02172793, 0.0029549547, 0.038583733, -0.0015676008, -0.038802214, -0.030347003, -0.0026012887, -0.037207305, 0.04893973, 0.033842698, -0.046973404, -0.030740269, 0.008422441, 0.013622287, -0.022962347, 0.023508549, 0.018068373, -0.05330935, -0.028468067, 0.008258579, -0.003916271, 0.0026709295, -0.009465687, 9.268372e-05, -0.025474878, -0.0027282808, -0.035044342, -0.03458553, -0.005142495, -0.009225358, 0.00736827, -0.016724717, -0.010115668, 0.030347003, 0.044875987, -0.019422956, -0.041183658, -0.003894423, -0.02270017, 0.018461639, 0.015512147, -0.05265391, -0.012289553, -0.059077248, -0.050687578, 0.004814774, -0.009498459, 0.018363323, -0.07375917, -0.023989208, -0.02081031, 0.043149985, -0.04170801, -0.0056586564, -0.041795406, 0.00046632026, -0.01600373, 0.036879584, 0.01570878, 0.0229405, -0.035721634, -0.000271565, -0.032619204, -0.02075569, -0.053047173, 0.008236731, 0.006690979, 0.0015484837, 0.015315514, -0.040987026, -0.033755306, 0.0015648698, -0.017281843, -0.011557642, 0.03403933, -0.0063632573, -0.013272718, -0.054489147, 0.040025707, -0.0047983876, 0.04872125, 0.045007076, 0.02798741, -0.0025097998, 0.033536825, 0.010219446, -0.0049130903, -0.023027891, 0.04105257, -0.019259095, -0.025671512, -0.017172603, 0.0013839402, 0.043062594, 0.0057405867, 0.034672927, -0.011797971, 0.021443905, -0.008575377, 0.029713409, -0.011787047, 0.02029688, -0.0058170552, 0.004571714, -0.038977, 0.02097417, -0.015042413, -0.008580839, -0.052828692, -0.0010254949, -0.008679155, 0.0045607896, -0.025365638, 0.00019577942, 0.017259995, 0.019368336, 0.044067606, -0.058552895, -0.012792059, -0.035372064, 0.020220412, 0.053527832, 0.054358058, 0.013076085, 0.008335048, -0.020253183, -0.032051153, 0.037119914, 0.025365638, 0.02477574, -0.018308703, 0.008985029, -0.036508165, 0.003279945, 0.043281075, 0.01301054, -0.021957334, -0.008433364, -0.0063140993, 0.014201261, -0.024863131, -0.021280045, 0.057941146, -0.013545819, 0.012715591, -0.01924817, 0.012224009, -0.06541319, -0.0012528517, -0.058334414, -0.014146641, 0.01071649, 0.01778435, 0.014179413, -0.035044342, 0.04618687, 0.036311533, 0.010831193, 0.018996919, 0.059907474, -0.013283641, -0.012344173, 0.028468067, -0.011830743, 0.04631796, -0.03808123, -0.0075157443, -0.007876238, -0.0016235865, 0.027179029, -0.0015280012, 0.043674342, 0.028140346, 0.007177099, 0.030696573, 0.017281843, -0.022143044, -0.002180713, -0.032488115, 0.023617791, -0.04518186, -0.002335015, -0.024142144, -0.011819819, 0.030652877, -0.06685517, 0.0071934853, 0.0043013436, 0.028730243, -0.028708396, 0.042144973, 0.015566767, 0.025540423, -0.03884591, -0.024513561, 0.03923918, -0.0066964407, 0.008356896, 0.0013996436, -0.02785632, -0.031199079, -0.060956184, -0.012267705, -0.016801184, -0.00888125, -0.024163993, 0.036726646, -0.0017519441, 0.042385302, 0.036617406, -0.021640537, 0.008821168, -0.016768413, 0.0076522953, -0.01759864, 0.05973269, 4.7750036e-05, -0.02248169, 0.012540806, -0.011885364, 0.0139390845, -0.0012426104, -0.010000966, -0.029363839, 0.022055652, -0.032968774, 0.016298678, 0.011011439, -0.034104876, -0.016997818, -0.015665084, -0.00195677, -0.02682946, 0.010995054, -0.00065202906, 0.0016700138, -0.036508165, -0.042494543, 0.017117983, 0.009629548, -0.02218674, -0.017107058, 0.033624217, 0.013338261, 0.035852723, 0.009148889, 0.0384308, -0.019641437, 0.006947694, -0.013676907, -0.03128647, -0.011131604, 0.030805813, 0.0390207, -0.015785249, -0.025627814, 0.028140346, 0.023901815, 0.022317829, -0.019630512, 0.0042330683, -0.013742452, 0.0024128489, -0.010241294, 0.06043183, 0.0045525967, 0.0042112204, 0.025737055, -0.0125517305, -0.018658273, -0.0212145, -0.03624599, 0.0070132385, -0.0040446287, 0.0065380423, -0.011404705, -0.044089455, 0.021990107, 0.0029112585, 0.011339161, -0.040768545, 0.018265007, 0.02923275, -0.011437478, 0.0024906828, -0.02156407, 0.01783897, -0.012016452, -0.020537209, -0.012748363, -0.006297713, -0.023508549, -0.011710579, 0.025693359, -0.029429384, -0.01927002, -0.009159814, 0.060344435, -0.008695542, -0.026458042, 0.0070569343, -0.0037660652, 0.016506236, -0.0037906445, -0.026392499, 0.012234933, -0.034192268, 0.0028675625, -0.0023473047, 0.02556227, -0.03244442, 0.029844496, 0.0044297013, -0.035918266, -0.0054811407, 0.025846295, 0.0059208334, -0.01972883, -0.0027214533, 0.024469865, -0.038212318, 0.026742067, 0.003689597, -0.032269634, -0.024600955, 0.023333766, -0.023290068, 0.06523841, -0.0068166056, 0.008171188, -0.0072481055, -0.018909525, 0.00782708, 0.044504568, 0.018210387, 0.0286647, -0.018767513, 0.022984196, -0.039479505, 0.001489767, 0.007843466, -0.00060013984, -0.039392114, -0.019357411, 0.025955535, 0.0029167207, 0.014135717, 0.03484771, 0.0011982315, 0.013283641, -0.0028621005, 0.026589131, 0.0053910175, -0.020045627, -0.0063195615, 0.029494928, -0.038256012, 0.015566767, -0.0012501207, -0.03382085, -0.033230953, 0.051386718, 0.029189054, -0.009110656, -0.009077883, -0.0303907, -0.027047941, -0.01959774, 0.037294697, 0.0058880616, 0.009487535, -0.00058238825, -0.012486186, -0.07323481, 0.026042929, 0.02070107, -0.03106799, 0.010678256, 0.016407918, -0.018079298, -0.0065653524, 0.006947694, -0.0070733204, -0.012792059, 0.029735256, -0.04623057, 0.007357346, 0.037578724, 0.026414346, 0.016670097, -0.0028839484, 0.002453814, -0.051343024, 0.026676523, -0.027900016, 0.03967614, -0.014408818, -0.010951357, 0.00041033453, 0.0007189389, 0.026195865, -0.023224525, -0.036923278, 0.0009415163, 4.2202668e-05, -0.008750162, 0.03414857, -0.00934006, 0.0017519441, -0.0057132766, -0.013163477, 0.025584118, 0.009438377, 0.004817505, 0.020133018, -0.033733457, -0.01398278, 0.008444289, -0.01778435, -0.012671894, -0.0129231475, 0.002272202, -0.034214117, -0.00253711, -0.009984579, 0.007488434, -0.044067606, -0.013272718, 0.0011750178, -0.005980916, 0.03015037, -0.00485847, 0.021520372, -0.028424371, -0.0009421991, -0.013829844, -0.04146768, 0.03854004, 0.010782035, -0.07987663, -0.0044679353, -0.02672022, -0.037884597, 0.0074283523, -0.02637065, -0.010847579, -0.015479375, -0.005044179, -0.008100181, 0.03268475, -0.005082413, 0.037403937, 0.030543637, 0.02070107, 0.0045225555, 0.0060792323, 0.046842314, 0.0013279545, -0.021345587, -0.02615217, -0.007870776, -0.010962281, -0.013764299, -0.0019881765, 0.031723432, 0.032662902, 0.01147025, 0.011896287, 0.014528983, 0.022547234, 0.0073354975, 0.0146819195, 0.02418584, -0.0045607896, -0.013644135, 0.023202676, -0.014201261, -0.0060792323, 0.0074502, -0.028271435, 0.0286647, 0.01233325, 0.01157949, 0.02137836, -0.0061229286, 0.0042439923, 0.004896704, 0.007608599, -0.008356896, 0.0065817386, 0.033034317, -0.01398278, -0.035481304, 0.036770344, -0.013960932, 0.0044870526, 0.0022653744, -0.009673243, -0.018636424, 0.0481532, -0.050250616, -0.009760636, 0.009372832, -0.01157949, 0.016353298, 0.038474493, 0.009383757, 0.0085863015, 0.06912737, -0.0048229666, 0.0063960296, -0.024448019, 0.02102879, 0.015992805, -0.020056551, -0.049376693, 0.0024934139, 0.014255881, -0.056368083, 0.025737055, 0.025321942, -0.03095875, 0.011382857, 0.040855937, 0.039588746, -0.019280944, 0.008580839, -0.058203325, -0.03178898, -0.006057384, -0.019412031, 0.0073901177, -0.007188023, 0.0122786295, -0.025584118, 0.017259995, 0.007898086, 0.015370134, 0.016691944, -0.0418391, -0.025955535, -0.012966844, 0.036595557, -0.02774708, -0.020362424, -0.0068220673, 0.007357346, -0.0054483684, -0.014561755, -0.0068166056, -0.021127107, -0.034804013, 0.002407387, -0.042013887, 0.018450717, -0.013545819, -0.013600439, 0.016702868, 0.012234933, 0.011339161, -0.020209488, -0.027768929, -0.026174016, 0.0013504854, 0.014758388, 0.032925077, -0.02270017, 0.014201261, -0.035699785, 0.0019048807, -0.018658273, 0.010355997, 0.009837105, 0.027812624, 0.0140374005, -0.014452514, 0.0042248755, -0.00305054, 0.048327986, -0.026916852, -0.0015471182, -0.057810057, 0.025387486, 0.027004246, -0.016691944, -0.012977768, -0.0053882864, -0.012431566, 0.0025930956, 0.019936386, 0.00096131617, -0.009378294, 0.011961832, 0.026392499, 0.029516775, 0.007876238, -0.042144973, 0.022044728, 0.021443905, -0.0020646448, 0.017980982, 0.008132953, 0.06467036, 0.023879968, -0.011273617, 0.003910809, -0.017871741, -0.019412031, -0.022339677, 0.0033072552, 0.012868527, -0.008274966, 0.0038616506, 0.011765199, -0.005800669, 0.017107058, 0.005849827, -0.01924817, -0.011153452, 0.0038316096, 0.015151653, 0.0030887744, -0.0027337428, -0.04540034, 0.011776123, 0.0229405, 0.04561882, 0.0026463505, -0.019575892, 0.010743801, 0.026589131, 0.04518186, -0.0073354975, 0.040418975, -0.015588615, 0.00974425, 0.024710195, 0.04435163, -0.008231269, -0.01023037, 0.032837685, -0.029167207, -0.004159331, -0.015457527, 0.018669197, 0.0049540554, -0.018319627, 0.031242775, -0.003902616, -0.0087337755, 0.039392114, 0.024011055, -0.0015976419, 0.048764948, 0.0054811407, 0.021072486, -0.038015686, -0.033252798, 0.025671512, 0.0042194133, -0.01336011, 0.021356512, -0.027550448, -0.0081657255, -0.018898603, 0.009919035, 0.007723301, 0.007319112, -0.009050573, 0.03587457, 0.03792829, 0.02844622, -0.0038507266, 0.002296781, -0.011896287, 0.0067510614, 0.010050124, -0.022361524, 0.036639255, -0.027179029, 0.010978667, -0.013862616, 0.005014138, 0.03004113, 0.04596839, -0.006456112, 0.0132945655, -0.007843466, -0.03884591, -0.028031105, 0.028009256, -0.012420641, 0.03200746, -0.017576791, -0.023617791, -0.03244442, 0.01422311, -0.0010930875, 0.02040612, 0.0052107708, -0.01028499, -0.0022762984, 0.0037769894, 0.015457527, -0.029604169, -0.0049840966, -0.018800285, 0.024841283, 0.024163993, 0.024579106, 0.008679155, 0.012300477, 0.007685067, 0.02647989, -0.060956184, -0.023530398, -0.041664317, -0.029757105, 0.01387354, -0.009383757, -0.025758903, 0.0006738772, 0.028468067, -0.028184041, -0.022110272, 0.030849509, 0.018833058, -0.014288654, -0.019925462, -0.0039982013, -0.015774325, 0.008449751, 0.026676523, -0.014703767, -0.044657506, -0.036682952, -0.016440691, -0.025387486, 0.008001865, -0.006745599, -0.01583987, 0.0017751576, -0.016648248, -0.004334116, -0.015217198, -0.032706596, 0.036398925, -0.032728445, 0.011104294, -0.018396096, -0.029101662, -0.002343208, 0.06654929, -0.0036185905, -0.0082640415, -0.007641371, 0.006237631, -0.014365122, -0.0021957336, -0.0068657636, 0.04256009, 0.0040309737, 0.015588615, 0.023399308, -0.016833957, 0.031483103, -0.03176713, -0.00083227584, 0.0026135782, 0.0031652427, -0.020591829, 0.039960165, -0.0061447765, 0.014518059, 0.015960032, 0.040091254, -0.017554944, 0.0119072115, -0.0026026543, -0.028642852, -0.016637323, -0.005330935, 0.01311978, 0.04885234, 0.011710579, -0.03460738, -0.0003802934, -0.01892045, 0.0186255, -0.066024944, -0.013545819, 0.027659688, -0.004386005, 0.016560856, 0.0011586318, 0.009853491, -0.016670097, 0.006439726, 0.026807612, 0.00979887, -0.02647989, 0.032946926, 0.0026518125, 0.033340193, 0.0081657255, -0.031352017, -0.025780752, -0.01919355, -0.00871739, 0.0031461257, 0.0056805047, -0.008575377, -0.022099348, 0.039850924, -0.019477576, 0.0031679736, -0.020482589, 0.003708714, 0.0246665, -0.014015553, 0.02785632, -0.03382085, 0.016965045, 0.042035732, 0.001495229, -0.04135844, 0.0040009324, 0.00439966, 0.008761086, -0.0303907, -0.0010220811, -0.01524997, 0.009695092, -0.01616759, 0.011710579, 0.01147025, -0.020417044, -0.009864415, -0.022339677, -0.0021643268, 0.008318662, -0.0028948726, 0.009252668, -0.02304974, 0.02855546, -0.014234033, 0.036442623, 0.004623603, 0.030215915, -0.033864547, 0.014430666, 0.032378875, -0.007149789, -0.016659172, 0.024841283, 0.011218997, -0.003938119, -0.0032854073, -0.0040937867, 0.03543761, -0.0067838333, -0.04666753, -0.012813907, -0.027419358, -0.0073027257, -0.034804013, 0.028489916, 0.03535022, -0.0140374005, 0.0112626925, -0.016047426, 0.015391982, 0.015413831, 0.035131738, 0.0030696574, 0.0120055275, 0.016768413, -0.001119032, 0.0177625, -0.013676907, -0.008619073, 0.019280944, 0.0066582067, 0.0061830105, -0.010006427, -0.0038124926, -0.01943388, -0.031199079, 0.02431693, -0.013032388, 0.01068918, 0.0041292896, 0.0013142994, -0.015162578, -0.029036118, -0.016036501, 0.007685067, -0.008367821, 0.008629997, -0.00024715657, -0.006723751, -0.010432465, 0.018297778, 0.0076632192, -0.005568533, -0.033121713, 0.010432465, 0.023661487, 0.0027460323, -0.00645065, -0.032946926, -0.0072808773, -0.012518958, 0.030718422, 0.0050469097, -0.007723301, -0.016823033, -0.033383887, 0.049245603, -0.0068821497, 0.05309087, 0.022110272, 0.05011953, 0.0014474363, 0.006051922, 0.024032904, 0.005827979, 0.022230437, 0.025671512, -0.023268221, -0.0131962495, 0.025627814, 0.02315898, 0.006723751, 0.0059645297, 0.0097278645, 0.00079472444, -0.015555844, -0.01033961, -0.015643235, -0.0070514726, -0.00029221826, 0.029735256, -0.018527184, 0.014004628, 0.03224779, -0.005363707, 0.020231336, 0.029210903, -0.0065926625, -0.022678321, -0.021400208, -0.007723301, 0.012737439, 0.009187124, -0.016877653, -0.024207689, 0.05641178, -0.0062922514, 0.04103072, -0.026195865, -0.011535794, 0.050600186, -0.014201261, 0.03198561, -0.0077724596, -0.014976868, 0.023027891, -0.04245085, -0.0068002194, 0.0019977351, 0.00958039, 0.01616759, 0.01937926, -0.011939984, -0.0015075185, 0.0050195996, -0.027419358, 0.032990623, -0.0011354182, -0.012857604, 0.03797199, 0.02831513, 0.01811207, -0.008471599, 0.007226257, 0.032422572, -0.015031489, 0.050250616, 0.013272718, 0.0147802355, 0.03635523, -0.0051998463, -0.014343274, 0.008608149, 0.018232236, -0.021290967, 0.018996919, -0.0321167, 0.013862616, -0.0042194133, 0.015075185, 0.021116184, 0.0027473979, -0.007985478, -0.01157949, 0.008307738, 0.010328687, -0.015741551, -0.03106799, 0.010410617, 0.0355687, 0.0096513955, -0.05527568, 0.0029030656, -0.0027241842, 0.012475262, 0.012879452, -0.032488115, -0.030128522, -0.030434396, 0.0017710612, 0.0063250232, 0.015730629, -0.010208522, -0.05195477, -0.017467551, -0.006062846, -0.046623833, -0.011158914, -0.017882666, 0.02545303, 0.0458373, -0.01605835, -0.015402907, 0.027725233, -0.008875788, -0.00091079244, 0.0038398027, 0.0014378778, -0.007876238, 0.053178262, -0.016309602, -0.017369235, -0.022121195, -0.0019007842, 0.02833698, -0.032968774, 0.02429508, -0.009946345, -0.01913893, -0.023027891, -0.017620489, 0.023333766, 0.0155995395, 0.007406504, 0.028009256, 0.009454763, -0.021148955, 0.051168237, 0.0550135, 0.017751576, -0.03224779, 0.0022039264, 0.055057198, -0.009569465, -0.0068166056, 0.00564227, 0.055188287, -0.030565483, -0.016047426, 0.0011593145, -0.00084524817, -0.042472694, 0.020373348, 0.03482586, 0.011027826, -0.014703767, 0.0033072552, -0.02073384, 0.005314549, -0.020307804, 0.0037769894, 0.02091955, 0.012366021, 0.015457527, -0.04229791, -0.02115988, 0.0017806197, 0.022274133, 0.020788461, -0.016320527, 0.0022435263, 0.013174401, 0.025387486, -0.012180313, 0.07555071, -0.0077724596, 0.01233325, -0.0007721936, 0.037906446, 0.0028457143, 0.011721503, 0.002998651, 0.034126725, 0.014113869, 0.0286647, 0.005325473, 0.040375277, -0.020613678, 0.0147802355, 0.039829075, 0.059077248, -0.0010978668, 0.036682952, -0.020078398, 0.00036322456, 0.04837168, -0.022547234, 0.03200746, -0.002696874, 0.023464853, 0.014190338, -0.016888577, -0.023486702, 0.02761599, 0.003006844, 0.022765715, -0.025059765, 0.030106675, 0.0047738086, 0.02934199, -0.01570878, -0.0067783715, -0.017238146, 0.0015375597, -0.015861716, -0.0014870359, 0.034541838, -0.018090222, -0.006707365, 0.0038398027, 0.008509832, -0.004713726, 0.03519728, 0.0074502, 0.004872125, 0.0058935233, -0.0010507568, -0.019805297, 0.015260894, -0.023115285, 0.03268475, -0.017052438, 0.03934842, 0.046143174, 0.023486702, -0.0008609515, -0.039042544, -0.01783897, 0.033427585, 0.0095039215, -0.022153968, -0.01122992, -0.028031105, 0.0019212668, 0.03517543, 0.014376046, 0.001398278, 0.01927002, 0.0026763915, 0.0017109789, -0.022437993, 0.026414346, 0.01713983, -0.030696573, -0.020253183, -0.01978345, -0.026589131, 0.026807612, 0.023377461, 0.007925396, 0.025693359, -0.018833058, 0.013731527, -0.0072481055, -0.018144842, 0.02613032, -0.00049158215, -0.015676009, 0.0035885496, 0.014343274, 0.009307289, -0.006035536, 0.033886395, 0.020788461, 0.0022421607, 0.022612778, -0.009208972, -0.0033400275, -0.0073081874, -0.023858119, -0.010454313, 0.018614577, -0.039982013, 0.00013979367, -0.0033236414, -0.008143878, -0.0064069536, 0.0206246, 0.0131962495, -0.0045771757, -0.040724847, -0.014386971, 0.004216682, 0.008722852, -0.027463054, -0.0007967727, -0.0061502387, -0.03382085, -0.03150495, 0.03495695, 0.050687578, -0.0016072005, 0.012158465, -0.00696408, -0.019291867, 0.0447012, -0.011546718, -0.025824448, 0.03150495, -0.0034328818, 0.0053746314, 0.02545303, -0.06558798, -0.0052053086, -0.016069274, -0.0051397644, 0.024491714]'),
+decode('a0b285bc1344843ca7928d3d4a3c453d29dc9d3deeec2abdc84b993ceb510c3d8eb10bba55ba1a3ddc44153d4e2c49bcd5648d3a41c11e3d3ae116bc6221463d293502bd2e1d88bcbf13fdbca0abd7bc4b8afc3a6cf1d13c8194983a48ef5d3d091b143cad7215bd7bb490bdaad0483d2e12dbb4efe82bbc12f39dbcd5b2c4bc540cd135c45f943d197ac13c10fb9bbce2cf373c6e971dbd8970213d52c617bc440a07bd0c0f17bc8a61f5bb3e1f523d97d3cdbcee450f3d7867a9bcab7e92bc37ea64bb60d45e3ceced7abcee458fbdad76943dfa091e3b52c697bb8fa90dbd4c34473cdfdb343dcf27a23c85dd80bae5bfbb3c61d78d3be18100bd9bc3513d938ee4bca3a2093d474cc13b73d159bd33058e3c6467ffbb6cf151bddde7b13c3fc2eebb5f31c23c69b396bce66d053b997999bb78b95f3d19288b3c6bf94f3c992434bbfff5a23c7673263b0c0f17bcd16d5bbcc35866bcebfca63c5f3142bbf32d15bd2d21073d4bdf61bc445c3d3be27d01bd20fd653c8969f33ca2aa873d9eb3d5bc0d0b98bb16dfa23bc79dcf3b81e64ebc8c59773c829099bb59f4d6bb00ee243d963031bde7b73d3dbdcd43bd9689953c1b1c8e3c54be99bd69014e3c2839813cad1db0bc22f567bc9f5672bc36f591bcee3a62bd766cf8bc028dc23b4bdfe1bcbf778e3c909ee0bc3dd519bc04de283c786b28bc21524bbd3c2750bafb57553c85d9813d1f05e4bc2acd71ba315f423d7ab161bc54b76b3b69b316bdf52597bc5e8e253da92d2cba2931033b73d1593dfef2f33a69b396bc977e683c22a7b03c24ed69bd7ba9e3bb421604bc776f273b08ca2d3c61777bbb7b5bacbbb3fd37bdf6c4343dbb80dcbb842f37bbdf8250bc5fe38a3ce66d853b3ecd9bbcd95012bd55ba9a3b2f19093be614a13c08caad3c7cac12bdd6608e3c19c8f83c2d6fbebcea598a3cc068e2bbf3d4b0bccf80863b1eb0fe3cda45653dba3624bda8352abce7b73dbdd95092bb18d3a5bd028d42bd0a17953cd55ddfbcc10bffbc04338ebc897021bd200414bbf1dcae3cdd4016bd56b21c3da7e044bcb25e9a3ccf2b213d98766a3dfe52063dc0730fbd49927a3c5d39c0bc03370dbd7ab161bdf1dc2e3d708f9fbc7bb4903c786b283c2c2506bd3a88323c273d003d72e0053df3d4b03cfc5a84bc04dea8bc8a61f537a000bdbc5de45a3c78b9df3bbc2ea6bc273d803ce76587bdac7a93bc96db4bbd929662bc67bb943d24ede9bc4307583b8f497bbcd55ddfbb6086a73c819418bdeeecaa3d19c8f8bc10a2b73cc65397bc7ab1e1bc4307d8bcd9f72d3df23194bd76cc0abda59a8b3bb933f53af0ddfebb1a1d5e3b4fcfe5bc133d563c7426bf3cb05b6b3c410fd63c9a6eecbc4ce290bc10fb1bbc15e321bd9538af3b8eb10b3de952dcbc9bc351ba5604533b4c82febcad7215bc3257443db205363d3b2fce3a58fc54bdc112adbc9244acbd877171bc612944bd8a133e3acf27a2bc8a13be3ccf2b213c1d0de23c55ba1a3df712ec3bfab4b83c04da29bc22a7b03ca24676bd8ea65e3c05d62a3c35f2e2bcb93a233dd27489bbb3fd373b66bf133b3bdd173daa7be3bb72e005bd0095c0bbfd4f573cb69f84bd8bbd88bc4c3447bc023f8b3db93aa3bc21abafbc5fe38a3cbd785e3c4602893cc6feb1bceaa7413bfa091e3df477cdba12ef1ebd479af8bc627a2abbb06618bd0775483da49e0a3d2f6740bd04d3fbbc47fe093c03305f3c881bbcbc0095c03c2004943ce85a5abddd35e9bcfe4e073c105480bbc30a2f3bf8151bbc315fc238b1b0d0bcf5cc32bba88a0fbd8fa90dbd6082a8bbf52517bc8771f13b460289bc30bc25bc479af83ce2cf373de41c9fbc32b028bd93397fbbb5f5b9bcdd3c973ca9267e3ca0ab57bd1f5a49bcfcfa71bdc79d4fbd40c59d3b6d9f1bbcae6e963c0c0f97bd0485c4bc627aaabc0abe303d05d62abd406cb9bba9312bbd727cf439411a83bc0c0f173db3af803cb7edbb3cd95012bdd6608eb9b79b05bdd607aabcfe4759bd5bf3063c0040db3b7ef6ca3aeced7a3c03e227bd01430abd511ccd3aa7928dbc445c3dbcd36c0b3ddf82d0bbd07559bc03305fbdfff1233dcb3b9dbbef8f473d5759383dda45e53c747b24bbe95d093d776f273cfdfda0bbfda4bcbcbd26283d40c59dbc104dd2bc8fad8cbc5465b53a6762303d881bbc3b33050e3d474c41bc21abaf3cbd7f0cbc8969f33c751e41bca445a63cff9cbebb51ce953b59a61fbd06d2ab3c747476bca6960cbce66258bde66986ba04330ebcad72953b99cbcfbc234a4d39d5648d3c58aa9e3c3c80343d29d56fbdc99551bc4ce210bd47a5a53c00405b3d8ea65e3d133d563cba8f083c01eaa5bc124803bd0d0b183d99cbcf3c7ef6ca3c22fc95bcf135133c968915bd59f4563b7f47313d292a553cdedfb3bc182c0abc81e6cebb68ac683cc4adcbbc7d53aebcb2536d3d48ef5dbc0e55503c57ae9dbc3647483c5af785bdba36a4ba11f06ebd50c767bc38942f3c7cb0913cc550683ca88a0fbd722e3d3d67bb143d5175313c6d9f9b3c8a61753da1a359bc373f4abcdd35e93cbcd541bce7b73d3d10fb1bbda246f6bb560b01bc86ced4ba8ea6de3c3647c8badee3323d9586e63cdf2deb3b6177fb3ca7928d3c5465b5bc4bea0ebb421205bd197ac13c9d1039bd0d0719bbbfc5c5bceaa741bcbe1bfb3c5deb88bd54b7eb3b49f28c3bb05beb3cdf2debbc35a02c3dc10b7f3c263ad13ce41c1fbdaad0c8bc43b9203dd16ddbbb5deb083c3f74b73af032e4bc3695ffbc31ad79bd7cfe48bca3a289bcaa8211bc91f3c5bcae6e163d7da1e5ba369c2d3d22fc153d7f47b1bca986103ce95d89bc1bc0fa3b062b90bc44aa743d36474838852bb8bcf4774d3cd4ba42bcc260643c16dfa2ba17db23bc6f8cf0bc0eaeb43c440a07bdce84853c5369343c8eb10bbd023f8bbc105480bc273d00bb75c9dbbc9924343ceeec2aba5de4da3a968915bdc20e2ebd033b8c3c40c51d3cf7c0b5bc1a248cbc8cb9093db9885a3c4eda123d39e5153c9d691d3d14e7a0bc7ba9e33b1b1560bc3e2600bd556136bc795cfc3c2bd41f3d115081bc6cf1d1bc9586e63cbdcdc33ce1d3b63c2bd0a0bc8db58a3b052861bce3201e3b1acb27bc5e87773df32d953b47fe893b84d6d23cc6a54dbc3cd998bc08caadbcad7614bd4fcfe53bce8884bb133dd63bcdda3abc259734bd9924b43cd0ca3e3be3c7393cebfc26bd7fa0953c8579ef3c42643bbcb93a233b22a7b0bc0823923ca7e044bca63da8bc83de50bc0c5dcebb0095c0bcbadd3fbce17ad23ce415f1bc29dc9dbc0b1316bcba2b773dbf770ebc89bed8bcdb3de73b17d076bb1638873c766c78bb1535d8bc0775483c310d0cbdb7ed3b3b3dd519bbf767d13c71e404bd727cf43c0727913b081f13bd249bb3bb9cbbd33c8d03c23b5b9ea1bc695a32bb0775c83c85841cbd2e12db3c2acd713b2a2d04bdf187c9bc7426bf3cd0cabebcb79b853dd55ddfbb72e0053c8481edbb26e89abc273d003c6c4a363df32d953c3cd2ea3c54be99bc5a49bc3c43b521bd4944c33ae181003cb4521dbaa05921bd6f939ebcb4a0d43c74263f3b7f99673c79bc0e3dfa0d9d3aa1a3593c14923bbb73d1d93c22a7b03bba36a4bc5314cfbb599ff13c56b21cbdc10b7f3c17dba3babb870abd2e1d08bde17a523de21def3cdc4415bc67bb14bcebf5f8bca593ddbc718ba0bc53c2183da4f0c03b9b711b3c6aab18badc924cbc22fc95bdfb57d53c4a95a93c4c82febcdaf32e3ce669863c091b94bc2b22d7bb7ba9e33b50c7e7bbc99551bc5a97f33c445c3dbde415f13b26ec193de662d83cba8f883ca0003dbb2bd0203b104d52bdb988da3c938ee4bc7383223df7126cbc526d33bc2b22d7392c773c3ab698d63c5c41bebcdd3c17bd17d0763ac5023138d75c0fbc5fdf0b3d0d0719bc7da1e53a7036bbbba0ab57bcc995d13c6ca31a3c29dc9d3b00eea43c182c0abd081865bcea590a3c7cb091bcc79d4fbc9cbb53bc39e9143b1a240cbda44526bb5c9623bc8a61f53b3c8034bdd07559bc0e039a3a8ffbc3bbe9fdf63ccd339fbb7e4bb03c3adae8bce9fd76ba929662bc04da29bd29dc1d3d22a7303c5c96a3bdc26792bb5de4dabce12c1bbd8969f33b4307d8bc0bba31bc349d7dbca449a5bb9fb604bc72e0053d5f8aa6bbdf34193da636fa3c4a95a93cf231943b4c34c73bbadd3f3dc20eae3af1dcaebc133dd6bc6df400bc249b33bca88361bc114c02bb6ef0013d89c9053db7ed3b3ca5e8423cf90a6e3cfab4b83c9d5ef03b6f8c703c6221c63cad7295bba68b5fbc8a13be3c68ac68bc4c34c7bbcf20f43b7f99e7bc3cd2ea3c66114a3ce7b73d3cac21af3cd9a2c8bb30118b3b8874a03b8e51f93b5deb08bca0abd73bfe4e073d081865bcd85411bd809c163d65bc64bc2008933bad76143b867c1ebc6aab98bc4a3c453d97d34dbd13eb1fbc8290193ce7b73dbc5af7853c6e971d3d54be193c8fad0c3ca7928d3dfa099ebbc995d13b3647c8bc9244ac3c5803833ca34da4bc373f4abd8b68233b8091693c38e266bd84d6d23cf66fcf3c349dfdbc2a7f3a3c8e58273dcf27223d12f39dbca6960c3c9c666ebd293502bd057dc6bbfb059fbccd28f23b8289ebbb4e2c493cc995d1bcd5648d3cf966013c04d37b3c8bbd883c7a5f2bbdb4a0d4bce37254bc39e5153dd84de3bc19cfa6bca68bdfbbe415f13b3a88b2bb6d946ebcd55ddfbbc112adbca78e0ebd40c51d3bc1162cbdf525973c48ef5dbc60d45ebc74d4883c0775483ce3c7393c5e8ea5bcaa7be3bce46ad6bcc502b13a2acd713c72dc063db5f5b9bc68ac683cf03912bd31adf93a3cd998bc33ac293ccf2b213c4dd7e33c20fd653c3dca6cbcd3708a3b92eb47bb91f3453dbb80dcbcacc8caba3dca6cbd6bf9cf3c0238dd3c8bbd88bcb4a054bc3990b0bbc4ad4bbcedf0293ba251a33cd6007c3a6ba719bc8ffb433c1535d83c2acdf13c560b013c35a02cbd2597b43c21abaf3cfe4e07bbda4c933c1440053ce571843dec9fc33cfab438bc3e26803bc26792bcfb059fbcb301b7bc89be583b84d6523cb99307bcbf137d3bd2c2403c8a13bebb1a248c3ce8afbf3b57ae9dbcf8bc36bcbe1b7b3ba43e783c096d4a3b982833bbb5f539bda4f0403cb7edbb3ccdda3a3d656e2d3b9f5da0bcc406303c73d1d93c9d10393d9d5ef0bb5e8e253d64677fbc59a61f3c096dca3c0eaa353d72dc06bc489d27bccf80063d11f0eebcff4a88bb91417dbc25f0983ca155a23b0b1396bcd9f0ff3c08c37fbb1c180fbca059213dd5b2c43cf767d1bac1bd473d249bb33b35a0ac3c56b61bbd163408bd104dd23c01438a3b5de45abcdaf3ae3c7ab1e1bc89c905bc3ed19abc7383223cbf13fd3b29d5ef3bdb4814bc37f1123db25a1b3d0c08e93c795c7cbb9785163ba5e842bc0238dd3b46a9243c842fb7bc0b13163d8ea6debcdedf333c072063bca34da43bd118f63c5a493c3dcb8dd3bb73d1593ce18100bce41c1fbd7da1e5bcab73e53cf27f4bbc411a033d34fd8fbc197ac1bc71e404bd0c08693cee458fbabc2aa73c1dbfaa3b608228bcf32d15bb5e87773b91417d3c7184f2bca251a3bb0e039abcf27fcb3c91f3c53c1f5ac93c04330e3cf187493c04d3fb3b5becd83c31ad79bdd2c2c0bc34a82abd2cc5f3bcd84d633c54be19bc5604d3bc22a7303add35e93c38e2e6bc9a20b5bc1cb8fc3cc9479a3cf51a6abcb93aa3bc580383bb283981bcd3700a3cb988da3c12e870bccaea36bddd4016bda1ae86bc6bf9cfbc411a033c300addbb9dc281bc68ace83ae86188bc33058ebb8e5179bc5af705bd0a17153d430e06bdc9ee353c69b396bc9c66eebc829019bbff4a883de0256dbbe76507bc7764fabb0b65cc3bb05b6bbc4ce60fbb33fae0bb7d532e3d4216843b64677f3ce8afbf3c5ee789bc6df4003d401e02bd162d5aba91482b3bf66f4f3b32b0a8bc45ad233d1f5ac9bb27dd6d3c9dbe823cba36243d63cf8fbc7716433c4b912abb6aa4eabcff4a88bc20afaebb59f4563c6419483dbadd3f3c78c00dbd1e62c7b90fff9abc8194983c163887bd48ef5dbc9296e23c7ab88fbba2aa873c3bdd973a8970213cba8f88bc5604d33ba39bdb3c718b203c5becd8bc5bf3063d08ca2d3bba8f083d89c9053cf96a00bd2832d3bccb3b9dbc62d30ebc3b2f4e3b8723ba3bbd7f0cbcb109b5bcb93a233d708f9fbcc79d4f3b1acba7bce50d733b6611ca3c7da165bcf032e43cbb870abd47fa8a3ca92d2c3d8ffbc33a786729bd411a833b062b903ba88a0f3cebf5f8bc5af785ba03db79bc2ad81e3ce57184bcbadd3f3cb7ed3b3ca541a7bc5b9e21bcb301b7bc61d70dbbff4a083ce7b73dbb8198173ccfd2bcbc24ede93cdd3569bcdc44153d9881973b5e87f73c8db50abd9a6e6c3cb69f043dc748eabbd17888bcf27fcb3ce2cf373c560b81bbfd4f57bb2c2586bb0727113deb4adebb74263fbd6cf151bc909ee0bcb44befbba78e0ebdaf63e93c64cb103d20fd65bc2887383ce47583bca72e7c3c4b8a7c3c4ce60f3d4e2c493bd5b2443ce95d893c7cac92baaa82913c1b1560bc03370dbc12f39d3c162dda3bda9aca3bfff123bc03db79bbcd339fbc3695ffbc4c34c73ccc8555bcac212f3cfe4e873b9244ac3a766c78bc27ddedbcfb5e83bc04d3fb3b2f1909bcd5640d3ccb9481b9e952dcbbeeec2abc39e5953cbe1bfb3b3e78b6bba2aa07bdeeec2a3cbcd5c13cc7f6333bf95fd3bb5bf306bd6d94eebb511c4dbc33a5fb3c8c60a53bbf13fdbb75d089bc8bbd08bdc2b5493da883e1bbd075593d9a20b53c234a4d3de7b7bd3a344fc63ba7e0c43ca2f8be3b9b1cb63c104dd23cff9cbebc153558bc6cf1d13ce7b7bd3ce952dc3b1a72c33b9f611f3c0e55503af0dd7ebc786729bc3e2680bc0a10e7bbdf3499b95a97f33c52c697bcab73653c4216043d09c2afbb30bca53cb44bef3c4307d8bbe3c7b9bc7d4fafbcbf13fdbbb1b0503c9785163c01438abc344fc6bc0a10673d3b2fcebbd40f283db698d6bca0003dbc24424f3d68ac68bc5803033d1eb0febb8a6175bcfda4bc3cf1e02dbd60d4debb6fec023b11f71c3ce571843c41c19e3cec9f43bced97c5ba747ba43b909ee0bc2d21073d50d294bab3a852bc84881b3d22f5e73cc45f943c76cc0abc3dcaec3b88cd043da24676bc97d34d3dd075593ccd28723c39e9143d7963aabb0d006bbc32090d3cc55b953c656aaebc6d9f9b3ccd8c03bd0720633c01438abbe9fd763cd9fbac3cb00d343b86d502bce7b73dbc2e1d083ca739293c6df480bc4c82febc4b912a3c7cb0113de3201e3cc06862bd5c413e3b3a8832bb0b654c3c5604533c421205bd17d0f6bc8e51f9bcf422e83a2442cf3b85dd803ca54127bc86ce54bd1c188fbcd7aac6bba2f83ebde1d336bcab7e92bcdf82d03ce5bf3b3dcd8c83bc795c7cbc0720e33cc16b11bc3fc26eba33a57b3b2c77bc3a560b01bc73d1593db79b85bced498ebc8237b5bcbc23f9baf422e83c440a07bd7a06c73cfff522bc3fc99cbcfda4bcbcd85890bc7426bf3c36957f3c42b2f23bab73e53c26e81a3c9340adbcc995513dd655613dc16b913c421604bdc06f103ba883613d3fc91cbcd55ddfbbcbe2b83b1d0d623d7764fabce47583bc24f4973aa5935dbad9f72dbd02e6a63c90a50e3d0eae343c12e870bc89be583b04daa9bcab25ae3b8d5ca6bc5e87773b7a5fab3cda9a4a3c91417d3c93402dbd7c57adbcaf63e93a3e78b63c904caa3ca0b285bc2008133b71d9573c6bf9cf3cef8f47bc55ba9a3d1eb0febb66114a3c096d4abaca431b3d2a7f3a3b8c0b403c0485443b77c80b3ddb3d673c3cd2ea3c4e81ae3b8c60253d04dea8bccd28723cd023233dfcfa713d4ce68fbadd40163d747ba4bc2d6fbe396221463dfab4b8bc411a033d0abe30bb5d39c03c977e683cea598abc2f67c0bcee3ae23c790e453b2a7fba3c234acdbc46a2f63c9c6d9c3b9d5ef03cb3af80bc1a1ddebb03378dbcf187c93a6ef081bca5e8c2babe7b0d3df23194bc75c9dbbb33a57b3bd36c0b3c9a759abb062b103dcf20f43b59a69f3b751ec13b8cb989bab83ea2bcd4087a3c445cbdbc72e0053d8eb18bbccf2b213da0003d3d2f67c03c7ab161ba13eb1fbd082392bc5deb083d56b61b3c3d7cb5bcb3fd37bc7da1e5bc04d3fb3a1d14103d82896b3c6d46b73a29dc9d3c66662f3bed42e03ae2cfb7bce662d83cd4688c3c6177fbbc01eaa5bce710a2bc73d1d9bca39bdb3c1782bf3c85d9013ce17ad23cc9479abc33fa603c8481edbb7ea494bc410fd63c85dd00baf96a80bcdf2d6b3b0d006b3c997d183cbfc5c5bb76cc0a3d904caa3c37f1123b6f3eb93c3ae116bc5de45abb8579efbb1a72c3bc91482bbc997d983c2ec423bd9495123973d159bbe66d05bc6cf1d1bbecf4a83c1535583c22fc95bb19cf26bd54b76bbc182c8a3b4bea0e3c33fae0bc83de50baf187c9bbbb870abd560b01bd052f0f3dc79d4f3db3a8d2ba4c34473cf032e4bbfa099ebc9b18373d722e3dbccb8dd3bc560b013d33fa60bbad1db03bdf82d03cfe5286bd4b91aabbb6a383bc786ba8bbd9a2c83c', 'hex')),
 ('What is a good migration path for ASA customers?',
  'A good migration path for ASA (Azure Spring Apps) customers is to use Azure Container Apps (ACA) as it is a more modern and flexible platform for running Spring Boot applications.',
- '[-0.022992706, 0.0121184, 0.07192708, 0.008190287, 0.061052777, -0.033268, -0.007971419, -0.004051946, 0.040133562, 0.0027876927, 0.0029777626, -0.052943125, -0.008818095, 0.013397052, -0.060453765, 0.012775005, 0.019813353, -0.023614753, -0.0067100455, -0.00053889153, -0.018626856, 0.0042938534, -0.00929039, 0.013385533, -0.004901501, -0.040225714, -0.044257503, -0.026195096, -0.011029817, -0.047736358, 0.020792501, -0.036470395, -0.038198303, 0.05280489, 0.03953455, -0.011640345, -0.011087415, 0.0036775658, 0.035387572, -0.029881302, 0.00983756, 0.029167099, 0.009198234, 0.047321662, 0.03771449, 0.034350827, 0.0016832711, -0.020020703, -0.016242342, 0.024190722, -0.02384514, -0.043243796, 0.035917465, 0.027715657, -0.012141439, -0.00085819466, 0.008962086, -0.0040749847, 0.005437153, 0.07335549, 0.018431026, -0.028130354, -0.02025109, 0.0054976298, 0.013201223, 0.033636622, 0.014595069, 0.013788711, -0.024213761, -0.028429858, -0.02328069, -0.0031102358, -0.00092659105, -0.033383198, -0.036631666, -0.011795857, 0.008103892, 0.049349073, -0.0049907765, 0.025642166, -0.0839994, 0.025665205, -0.0015205597, -0.033198886, 0.0052355635, -0.025273545, -0.028061237, 0.0034730965, -0.038451727, 0.009209754, 0.036240004, 0.047183428, -0.021253277, 0.0012289751, 0.06446251, 0.07183493, -0.016138667, -0.036862053, -0.012613733, -0.008282443, 0.036447354, -0.074553505, 0.029766107, 0.0058000134, -0.0106957555, -0.063540965, 0.039649747, 0.0032052707, -0.022543449, 0.031540096, -0.025872553, -0.03990317, -0.020953773, 0.02478973, -0.0032283096, 0.006393262, 0.0029072065, -0.011427237, 0.036585588, 0.020216532, -0.0045386404, 0.0054256334, -0.040133562, 0.005926727, 0.001987095, 0.00025864635, -0.007844706, -0.03158617, -0.0624351, 0.01533231, 0.010142825, -0.018845724, 0.048381444, -0.041170307, 0.0035825307, -0.04598541, 0.011116213, -0.013742634, 0.004829505, 0.03520326, 0.03483464, -0.0073032943, -0.01797025, -0.0134085715, -8.581047e-05, -0.058334198, -0.013949983, 0.047459893, -0.06377135, 0.063540965, -0.030733736, -0.0054832306, -0.038520847, 0.0017523874, 0.032692034, -0.025457855, -0.0003148034, 0.011179569, 0.024305915, -0.0397419, 0.0012952116, -0.010638158, -0.008023256, -0.014871535, 0.006946193, -0.07248001, -0.021322394, 0.010517204, -0.06294195, 0.012187516, -0.06893204, -0.045386404, -0.008639543, -0.016956544, 0.014088216, -0.03858996, 0.039096814, -0.013996061, 0.030434232, -0.00043845683, -0.008368838, 0.027692618, -0.01648425, 0.03582531, -0.025596088, 0.010073708, 0.0047776676, 0.017670747, -0.024467187, 0.018695973, -0.017693786, 0.026609795, -0.00756824, 0.020516036, 0.022416735, -0.017843537, -0.038613, -0.012037764, 0.0045674387, -0.009422862, 0.0040461863, -0.048980452, 0.024927963, -0.024674537, -0.0017567072, 0.004302493, -0.007838946, 0.010592081, 0.010004591, -0.026172057, 0.026241174, -0.059578292, -0.03428171, 0.04089384, -0.021322394, 0.0033435035, 0.03955759, -0.004489683, 0.018788127, -0.010891585, 0.008697141, -0.0026624193, 0.016369056, -0.028522013, 0.026471563, 0.05202157, 0.0015839164, -0.029074945, 0.0073551317, -0.02214027, -0.023752986, 0.026010785, -0.04957946, 0.0075164028, 0.028245548, -0.028821517, -0.02384514, -0.033636622, 0.015631814, -0.0071132244, -0.04202274, 0.017935693, 0.03234645, -0.01533231, 0.0017207091, 0.0017754262, 0.00090787205, -0.048197135, 0.029812185, 0.022831434, 0.006969232, 0.027531346, 0.044027116, -0.017394282, 0.013742634, -0.04255263, 0.03561796, -0.048888296, 0.034189556, -0.01572397, -0.0010885824, -0.00010430449, 0.04582414, -0.028522013, -0.021495184, 0.0012808123, 0.00681372, -0.0054256334, 0.0019899749, 0.015827645, -0.008288202, 0.0036084494, 0.012924757, -0.016783753, 0.056951873, 0.008662582, 0.012394865, -0.031678326, -0.041585002, 0.05732049, 0.026102941, -0.03372878, 0.024858847, -0.013500727, 0.038313497, 0.0033435035, 0.002332677, -0.020723386, -0.050777476, -0.032461647, -0.03430475, -0.0104596075, -0.03695421, -0.01609259, 0.029443564, 0.025020119, 0.021276316, -0.0038906746, -0.0012851321, -0.011536671, 0.033106733, 0.037737526, -0.042160973, -0.009186715, 0.028130354, -0.020492997, 0.0038762752, -0.004823745, 0.047828514, 0.019824874, -0.059716526, -0.004699912, -0.036654703, 0.008374598, -0.060131222, -0.01722149, -0.010085227, -0.047275584, 0.035525803, -0.010275297, -0.009641731, -0.014836976, -0.0013693677, -0.046699613, -0.014422278, -0.02783085, 0.04411927, -0.023038782, 0.005247083, -0.056905795, -0.021667976, 0.026771067, 0.04331291, -0.012452463, 0.027185764, -0.021921402, -0.013869347, -0.015654853, 0.0024320316, 0.019145228, -0.083170004, -0.035295416, -0.016680079, 0.0015018407, 0.0016199144, 0.016933506, -0.02272776, 0.021126565, 0.04939515, -0.021310875, -0.0019453373, 0.015666373, -0.018315833, -0.0116576245, -0.0015551179, 0.021333912, -0.0019568566, -0.05676756, 0.011283244, -0.0012368946, 0.023660831, 0.0026005027, -0.03195479, -0.0074300077, 0.0013556884, 0.0026149019, -0.015009767, -0.01135236, 0.0476442, -0.052620582, 0.016507288, -0.013039951, 0.02518139, -0.010367452, -0.026609795, 0.027761733, 0.018096965, -0.012406385, 0.04619276, 0.019041555, 0.012314229, 0.065061525, -0.038889468, 0.01684135, 0.0034298988, 0.025020119, 0.007631597, 0.017382761, -0.0075279223, -0.0028265708, 0.0137080755, 0.016023474, 0.009572614, 0.0052413233, 0.0055408273, -0.0062204716, 0.04902653, -0.086810134, 0.029673953, 0.022923589, -0.0046624737, 0.012959315, -0.00984332, -0.013592882, -0.022209387, 0.0032398289, 0.0054457923, -0.009676289, 0.01703718, -0.0128326025, 0.0008977926, -0.026056863, 0.077226, 0.03879731, -0.030319039, -0.03218518, -0.042783022, 0.030825892, 0.00033154248, 0.0408708, 0.024766691, -0.0013376893, -0.0052211643, -0.0677801, -0.0041297018, 0.047229506, 0.054832302, 0.007787109, -0.026817143, -0.015251675, 0.008823854, -0.025319623, -0.031931754, 0.030987164, 0.010897344, 0.024674537, -0.00929039, -0.039718863, 0.023706907, -0.032991536, -0.03801399, -0.0008877131, 0.007746791, 0.007717992, -0.05432545, 0.019041555, -0.044603083, -0.039050736, -0.051146097, 0.033198886, -0.024766691, -0.033152808, -0.0111450115, -0.022313062, -0.010258018, 0.02972003, 0.016230823, -0.01287868, 0.04656138, 0.05814989, 0.037829682, 0.030157767, -0.0004524961, 0.0050253347, 0.034581214, 0.024582382, 0.050685324, -0.030203845, 0.047275584, 0.00057632953, 0.027208803, 0.046837848, -0.0034730965, -0.00812693, -0.021644937, -0.023061821, 0.066305615, -0.017117815, 0.027162725, 0.0044954424, -0.022290023, 0.027969083, -0.022739278, -0.0019914147, 0.036608625, 0.081511214, 0.013189703, 0.025112273, -0.026033824, 0.036055695, 0.009002404, 0.042667825, 0.014860015, -0.009336467, -0.005094451, -0.079437725, -0.052528426, -0.03884339, -0.046814807, 0.004985017, -0.022578007, -0.031701367, 0.011795857, 0.030733736, 0.040617373, -0.03050335, 0.001627114, 0.019099152, 0.01628842, -0.035041988, 0.02955876, -0.03216214, 0.037530176, -0.009203994, -0.0056185834, 0.021990519, -0.025573049, 0.030733736, 0.009543816, 0.011980168, -0.05321959, -0.025457855, -0.008754738, -0.009324947, -0.011767059, 0.013397052, -0.011467555, -0.008190287, 0.0055293078, -0.024582382, 0.013834789, 0.016945025, -0.018027848, -0.012152958, -0.018488623, 0.0073551317, -0.022128752, 0.021840766, -0.037345868, 0.03121755, -0.005831692, -0.0010871426, 0.01173826, 0.027139686, -0.020919215, -0.02667891, 0.004426326, 0.0066409293, -0.018972438, 0.046814807, 0.008616505, -0.03709244, -0.0075452016, 0.027531346, 0.07155846, 0.010885825, 0.0075048837, -0.00038409972, -0.008587707, 0.00017486076, -0.011588508, 0.037368905, 0.02061971, -0.0059728045, -0.0013204103, 0.025895592, -0.004152741, -0.0073551317, 0.005471711, 0.011686423, -0.028959751, 0.028038198, -0.04490259, 0.007401209, -0.006076479, 0.025987748, -0.008916009, -0.041216385, 0.010125545, 0.015677892, -0.029927379, -0.017129336, -0.03144794, 0.0013189703, -0.008132691, -0.039304163, -0.009941235, -0.01590828, 0.017060218, -0.044718277, 0.0042880937, -0.019652082, -0.01855774, -0.007239938, 0.03716156, 0.0039165933, 0.021287836, 0.010569042, 0.008656823, 0.009641731, 0.035318453, -0.04957946, 0.018120002, -0.030779814, -0.009019683, -0.00926159, -0.055154845, -0.022578007, 0.04510994, 0.023660831, 0.021737091, 0.023004225, -0.03174744, -0.03725371, 0.021921402, 0.01589676, -0.015044325, -0.034212593, 0.0028452897, -0.023004225, -0.02293511, -0.024006411, 0.024513265, 0.009209754, -0.008662582, -0.018684452, 0.026955375, -0.0014802418, -0.04769028, -0.043635454, 0.046814807, 0.052528426, 0.004771908, -0.001173538, 0.0045904773, -0.014284045, 0.0025731442, 0.03262292, 0.0060879984, 0.0003182232, -0.029305331, 0.053726442, -0.004506962, -0.011317803, 0.05040886, 0.023637792, 0.0093710255, 0.018880283, 0.01571245, -0.015217116, -0.003804279, -0.018235197, 0.004829505, 0.034373865, 0.012521579, -0.030388154, -0.000794838, -0.04755205, 0.028660245, 0.025365701, -0.025895592, 0.0032254297, -0.03981102, 0.017647708, 0.01854622, 0.008023256, 0.029789146, 0.028429858, 0.022232426, -0.052159805, -0.032392528, -0.014422278, 0.02249737, 0.030203845, 0.0011440195, -0.01344313, -0.022370659, 0.033982206, 0.0118073765, 0.025365701, -0.019168267, 0.055892088, 0.010298336, 0.0060131224, -0.0119571285, -0.011185329, 0.0052154046, 0.025227467, -0.007239938, -0.012728928, 0.0110586155, -0.0033607825, -0.016058031, 0.012901719, 0.025411777, 0.012348788, -0.009906677, 0.01875357, -0.010540243, 0.0033636624, 0.0049360595, -0.004242016, -0.00017549073, -0.003858996, -0.07648876, -0.013915425, -0.032692034, -0.021990519, 0.048289288, -0.009595653, 0.0027848128, -0.03354447, -0.028637208, 0.00529316, -0.024305915, 0.008397636, 0.0170487, 0.012936276, -0.011133492, -0.046446186, 0.01835039, 0.02785389, -0.034627292, -0.03649343, -0.029282294, 0.029190138, 0.021806208, 0.026540678, -0.02232458, 0.021633416, 0.0047373497, -0.061467472, -0.044395734, 0.026010785, 0.006151355, 0.0025112273, -0.048750065, -0.045939334, -0.0242368, -0.053864677, 0.03405132, -0.008069334, -0.02270472, -0.0032311892, -0.004126822, 0.006393262, 0.0003518814, 0.01951385, 0.027370075, 0.0022822795, 0.04653834, 0.006537255, 0.014698744, 0.020331725, -0.005961285, -0.002161326, 0.009394064, -0.0030900768, -0.006761883, 0.012095361, 0.008541629, 0.053634286, -0.0017581471, 0.010344414, -0.019652082, -0.0018834205, -0.029927379, -0.015240155, 0.03384397, 0.045847178, 0.0047575086, -0.0015824764, 0.020677308, -0.021518223, -0.005152048, 0.006969232, -0.0325538, 0.021598859, -0.003879155, 0.012371827, -0.003464457, -0.012199036, -0.024743654, 0.01136388, -0.02914406, 0.00083947566, -0.0019611765, -0.005909448, -0.024467187, -0.004198818, 0.0061916728, 0.031194512, 0.034143478, -0.03407436, 0.012924757, -0.0054457923, 0.008190287, -0.027738694, -0.01893788, 0.012095361, 0.0074069686, -0.03709244, 0.020205013, 0.0019179787, 0.013903906, 0.06791833, 0.0062780683, 0.0035076546, -0.018672934, -0.013178184, 0.03879731, -0.0062607895, -0.013869347, 0.0027689738, -0.015148, 0.02402945, 0.040985994, -0.008501311, -0.011519391, 0.02764654, 0.047874592, 0.0020706106, 0.015055845, -0.008005977, 0.0012376147, 0.012855641, -0.031540096, -0.030296, 0.0050051757, -0.025503933, -0.029097984, 0.0005133329, -0.0024723494, 0.008121171, 0.017912654, 0.024674537, -0.0004316172, -0.029374449, 0.0015032806, 0.038659077, 0.014744821, 0.0018056646, -0.0021670854, -0.008293962, 0.005895049, -0.004846784, -0.01419189, -0.0065948516, -0.0042506554, -0.026448524, 0.026310291, -0.015493582, -0.0042736945, -0.015401427, -0.01836191, 0.020331725, -0.008973606, 0.010476886, 0.0092846295, 0.008812334, 0.00023920737, 0.039073776, -0.012291191, -0.0075048837, 0.022693202, -0.03276115, 0.012936276, -0.008754738, 0.011075895, -0.0028553691, 0.020688828, 0.011133492, -0.02272776, 0.016426653, 0.027692618, 0.05202157, -0.013719595, 0.056951873, 0.012705889, 0.014583549, -0.018085444, 0.024213761, -0.050593168, -0.016207784, 0.013224262, -0.00024136725, 0.0060419207, 0.012728928, 0.017912654, 0.010194661, -0.012291191, 0.009526537, 0.07506035, -0.027876928, 0.04999416, 0.03352143, -0.003942512, 0.008760497, 0.008063574, 0.012106881, 0.03653951, 0.017912654, -0.023776025, 0.0033723018, 0.01078791, -0.02025109, 0.011513632, 0.056076396, -0.0099469945, 0.015194077, -0.0007732392, -0.025434816, 0.010753352, 0.03160921, 0.0015363989, 0.004337051, 0.014940651, 0.0068425187, -0.015677892, -0.017647708, 0.028545052, 0.006761883, 0.013535285, 0.0087029, -0.0408708, 0.0066178907, 0.002728656, -0.015597256, 0.035502765, -0.023660831, 0.028890634, -0.014019099, 0.0036084494, -0.0012980915, 0.007965659, -0.032530762, 0.02591863, -0.017474918, -0.02575736, -0.011029817, 0.0018762209, 0.031378824, -0.011559709, -0.012913238, 0.024766691, 0.029305331, 0.0035105345, 0.027485268, -0.012659811, 0.0029403246, 0.03121755, -0.029305331, 0.04255263, -0.02044692, -0.03953455, -0.0007059227, 0.007360891, 0.0062550297, 0.020320207, -0.039787978, -0.008092373, -0.0036977248, -0.005036854, -0.015689412, 0.02348804, 0.018534701, 0.0034874957, 0.009756925, 0.0043802485, 0.0020850098, -0.034212593, 0.010160103, 0.008823854, 0.042437438, -0.034742486, 0.036009617, 0.047321662, -0.01798177, 0.009129118, -0.012556137, 0.015274713, 0.0048525436, -0.0417002, 0.010338654, -0.007648876, -0.0018143042, -0.040202677, 0.020366285, 0.00851859, 0.013477688, -0.007360891, -0.043059487, -0.0004618556, 0.0024334714, -0.009474699, -0.0021440468, 0.016772235, -0.003464457, 0.019202827, 0.02725488, 0.009209754, 0.014802418, -0.01648425, -0.0048525436, 0.009779964, -0.0035508524, -0.041101187, 0.030319039, -0.00014282245, 0.0242368, -0.0068885963, -0.009808762, -0.033360157, -0.043405067, -0.02764654, -0.0038503567, 0.004501202, -0.043612417, -0.023465, -0.013155146, -0.031263627, -0.0147333015, 0.05437153, -0.0077698296, -0.013661998, -0.001645833, 0.002557305, -0.0014140053, 0.028084276, 0.011075895, -0.026287252, -0.0066006114, 0.012291191, -0.053173512, 0.014410758, 0.017647708, 0.009019683, -0.019963106, 0.006756123, -0.008132691, -0.015159519, -0.035088066, -0.00909456, 0.021356951, -0.006796441, 0.030802853, -0.027715657, -0.028452897, -0.002161326, 0.06524584, 0.012717408, 0.02877544, 0.0004751749, -0.045939334, -0.027692618, 0.0023038783, -0.015804606, 0.005506269, -0.026748028, 0.0011850575, 0.011242926, -0.01212992, -0.014560511, -0.005143408, -0.016069552, -0.0027617742, 0.012394865, 0.005751056, 0.03234645, 0.01984791, 0.015804606, 0.048888296, 0.010741833, -0.005532188, -0.0011605787, -0.037438024, -0.045132976, 0.010511445, -0.003858996, -0.0049821367, -0.018281274, 0.0529892, -0.00039813897, -0.03619393, 0.014468356, 0.004561679, -0.038497806, -0.00089491275, 0.011219887, -0.0061167968, -0.0052557224, -0.013109067, 0.016737675, 0.008795056, -0.029005827, 0.03292242, -0.0238221, -0.0021267678, 0.007787109, 0.019744238, 0.0073954496, 0.04939515, -0.025112273, -0.029028866, 0.0048986212, 0.01570093, 0.012728928, -0.0010007471, 0.009106079, -0.01835039, 0.011300523, -0.020366285, -0.027508307, -0.028683284, 0.024444148, -0.018073926, -0.019721199, -0.035917465, -0.00851859, 0.028637208, 0.03140186, -0.013431611, -0.022393698, 0.0067503634, 0.03352143, -0.028475937, 0.009532296, 0.03405132, -0.01589676, -0.04089384, -0.009515017, 0.0075509613, 0.034926794, -0.020873137, 0.018442545, 0.00028222508, 0.011104694, -0.016173225, -0.022992706, -0.010626638, 0.022025077, 0.018212158, -0.016403614, 0.04561679, 0.015539659, 0.018569259, -0.004126822, 0.032484684, 0.022128752, 0.034558173, -0.0276235, -0.021852287, -0.00435145, -0.038543884, -0.003121755, -0.016046513, 0.023960335, 0.026932338, 0.0029604835, -0.011029817, -0.020769464, -0.021598859, -0.013846309, 0.017382761, 0.043474182, 0.01571245, 0.00044961626, 0.010661197, 0.02005526, 0.006681247, -0.0025803437, -0.009106079, 0.0007480405, 0.0064105415, -0.001002187, -0.018880283, 0.0014932011, -0.06750363, 0.0063702236, -0.006911635, 0.01798177, -0.0067734024, 0.004331291, -0.018914841, -0.025526972, 0.0141573325, 0.011087415, 0.016991103, 0.017716825, 0.00681372, -0.012141439, -0.038659077, -0.0016501528, -0.011196849, -0.044718277, -0.014479876, 0.0049706176, -0.040433064, -0.0264946, -0.006687007, -0.005088691, -0.015770048, 0.0069749914, 0.029097984, -0.03405132, 0.016737675, -0.038405653, 0.010551763, -0.027185764, 0.011029817, 0.010753352, -0.020896176, 0.0013852068, -0.011202608, -0.031724405, -0.014848496, -0.012821083, -0.017474918, 0.038566925, 0.03165529, -0.016945025, 0.010522964, 0.026563717, 0.039235048, -0.007176581, 0.029581798, -0.04510994, -0.010338654, 0.013685037, 0.016691599, 0.023407403, 0.015435984, 0.0013376893, -0.024674537, 0.008317, -0.010764872, 0.017774422, -0.010643918, -0.0027790533, -0.0042132176, 0.005751056, -0.0128326025, 0.009497738, -0.04999416, -0.021644937, 0.00945166, 0.05183726, 0.017244529, -0.04142373, -0.015009767, -0.0031735923, -0.014675705, 0.0074818446, -0.018200638, 0.033751816, 0.019018516, 0.019997664, -0.026563717, -0.013489207, 0.04582414, 0.003559492, 0.005961285, -0.015078884, 0.028153393, 0.021391511, -0.029213177, 0.011202608, -0.043681532, 0.01951385, 0.03499591, -0.017590111, -0.016610963, 0.004316892, 0.026218135, -0.020550594, 0.0065026963, -0.03179352, 0.008800815, 0.0028899272, 0.014042138, -0.0017005502, 0.018235197, -0.0013096108, 0.030319039, -0.011323562, 0.04052522, 0.030802853, -0.023937296, 0.024075529, -0.008720179, -0.008305482, -0.0024478708, -0.02497404, 0.008720179, 0.011427237, -0.0038474768, 0.042944293, -0.012567656, -0.007574, 0.019341059, 0.0009186715, 0.0098202815, -0.025342662, -0.006358704, -0.0069404333, -0.02005526, -0.008357318, 0.040755607, 0.016991103, 0.03543365, -0.006589092, 0.017002622, 0.0022693202, 0.006727325, 0.019836392, -0.009872119, -0.014652666, -0.011450275, 0.00416714, -0.0043428107, 0.022359138, -0.00946894, 0.018995477, -0.016991103, 0.018707491, -0.011467555, -0.02158734, -0.020101339, -0.0010137064, 0.022601046, 0.02499708, -0.0118073765, -0.0046682335, 0.017520994, 0.011864973, 0.024858847, 0.0538186, -0.03329104, 0.0340974, -0.0030382394, -0.003654527, -0.013673518, 0.01248702, -0.011968648, -0.021691015, -0.049855925, 0.039995328, -0.031563133, 0.013915425, 0.0111450115, 0.00025990626, 0.015862202, 0.007159302, -0.001041065, 0.021691015, 0.012659811, 0.052758813, 0.031079318, 0.02442111, 0.0013520885, -0.0131321065, 0.023891218, -0.0066927667, 0.0057452964, 0.015217116, 0.015574218, -0.003994349, 0.017152375, -0.0065545337, 0.007850465, -0.007608558, -0.016945025, 0.04204578, 0.0034097398, 0.0035047748, 0.017071739, -0.0032484685, -0.0137080755, 0.01041929, -0.0058288123, -0.0015882361, 0.02099985, 0.011519391, -0.027231842, -0.010119786, 0.032069985, -0.0060707196, -0.0010734634, -0.016795272, 0.012187516, 0.033774856, 0.021368472, -0.00643934, -0.0006929634, -0.022635605, -0.0005950486, -0.0034874957, 0.027899966, 0.026771067, 0.032645956, 0.015470543, -0.02707057, -0.0009921076, 0.01949081, -0.017682265, 0.06432428, -0.009054242, 0.004941819, 0.03499591, 0.049902003, 0.032738112, -0.04377369, -0.0015781566, 0.015424465, -0.027370075, 0.010557522, -0.0076373564, -0.007349372, 0.009814521, -0.030388154, -0.019421695, -0.058979284, -0.027761733, 0.011001019, -0.00042081779, -0.021852287, -0.024375033, 0.007631597, 0.023165496, -0.0015839164, -0.055247, 0.013512246, 0.013961502, 0.03257684, 0.0013657679, -0.047275584, 6.092678e-05, 0.014652666, -0.008610745, -0.0538186, 0.017705305, 0.017878097, 0.03483464, -0.019963106, 0.017555553, 0.01135236, -0.0084725125, 0.02932837, 0.01913371, -0.0077410312, -0.02044692, 0.034627292, 0.06248118, -0.015977396, 0.045478556, -0.034696408, -0.047459893, -0.0007538002, 0.0033521429, 0.0027185765, -0.04144677, -0.031332746, -0.015735488, -0.024927963, 0.005143408, 0.0084091555, 0.010592081, -0.0013218502, -0.0039482713, 0.007084426, 0.006399022, 0.043842804, 0.022370659, 0.005909448, -0.011945609, 0.007706473, -0.025020119, 0.007873504, 0.0025673844, 0.034535136, -0.008293962, 0.01307451, 0.008132691, -0.010684236, 0.015067364, -0.027208803, -0.0046624737, 0.020896176, 0.00303248, -0.012613733, 0.0067446036, 0.008674102, 0.0047805477, 0.036585588, 0.05229804, -0.05202157, -0.020884657, 0.0045703184, 0.0032398289, -0.0065948516, 0.019053074, -0.04259871, -0.00132545, 0.017106296, -0.013777193, -0.004242016, -0.030249922, 0.0412855, -0.021598859, -0.032484684, -0.023614753, -0.006208952, -0.016495768, 0.0029633634, 0.027347036, -0.04031787, -0.020412361, -0.0049302997, 0.009250072, 0.016933506, 0.0049130204, -0.012798044, -0.041515887, -0.03898162, 0.039281126, -0.033360157, 0.02405249, 0.0026350608, -0.0022621206, 0.017820498, 0.0020158936, -0.05110002, -0.026655871, -0.026333328, -0.03485768, 0.04031787]'),
+ decode('335bbcbc418c463c814e933d8e30063c7a127a3d074408bd8e9a02bc30c684bb1763243db9b1363b9126433be4da58bdc57910bc4f7f5b3c5e9e77bd414e513c9d4fa23cba73c1bcf1dfdbbb66440dba599798bc74b38c3bb83618bcff4e5b3cc59ca0bbb8c324bd5b4735bd1997d6bc68b634bc338743bd0955aa3cfb6115bdd3751cbdf149583dfbee213d25b73ebcfda735bc5103713b8ff2103da2c9f4bcb82d213cd7efee3c31b4163c5cd4413d827a1a3d74b30c3d35a1dc3a7502a4bca90e85bc9f2bc63ce256c3bc682031bd311e133df20be33ce3ec46bc78f860bab7d5123c738785bb252ab23b673b963daafc963ca171e6bc9de5a5bc7625b43bf149583c8ec6093d28206f3c0cea613cf05bc6bcbce5e8bc25b7bebc19d54bbb79e672bad2bc08bd160b16bd694341bc30c6043c41224a3dab89a3bb850fd23ce107acbdd63fd23c844dc7ba8efb07bd178fab3b770acfbcaee0e5bce49c633b8f7f1dbd82e4163c6670143d6943413d5a1baebc9015a13aec04843d311e933d3d3584bcaafc16bdd5a94ebc15b307bcd249153d82af98bd0dd8f33c0a0ebe3b403d2fbcc42182bdc667223d850f523b0aadb8bc3030013dadf2d3bc827123bd3fa7abbcd513cb3c0c9253bb927ed13bd5863e3b4e393bbcc5da153d249da53ce0b894bb83c9b13b176324bdfd34c23bec39023bed9a8739158700bc806001bdf3bb7fbd5f347b3c172e263c59629abc9f2b463d32a228bde4c86a3b335b3cbdc720363cc92861bcd3409e3b4b31103dc4ae0e3d7950efbb593693bca0af5bbc25f5b3b8d7ef6ebd788e64bc4e65423d8e9a82bdc421823d51c5fbbcacacb3bb09c81dbd5db0e53a15e8053dfe8cd0bc320ca5b9832a373c331dc73c67c822bd17c4a93aab4b2ebcfa7303bcbda773bce49ce33b667094bd4dacaebc5a502c3cb6e780bd26ae473c3e2c8dbd18e739bddf8c0dbc73e88abc43d2663c82101ebdfb23203dbc4f65bc3651f93caee0e5b9731d09bca1dbe23cfa0987bc8fbd123de3aed1bc320c253cfb8d9c3b3ec2903c696fc8bc4c28993c8ff290bcc9fcd93c00fff7bb3f11a83c4da3b73c9c2c92bcaa281ebd0b3a45bc74aa953b59621abcdf95843bba9f48bdba35cc3c4122cabc5041e6baedfb8c3bec6e00bc688a2d3c4cea233cc866d6bcbbf7d63c5e0874bdfa6a0cbd4d80273d4dacaebcae1e5b3b2407223d311e93bb8fe9993c9e7232bc747e0e3cfc7b2ebb6618863cffa6e9bce4dad83c9214553d6a9bcf3a942eeebc5103f13b835fb5bc9f95c2bc9214d53cd5134bbd284cf63b3563e73c1a1becbce256c3bc8ec609bd4a0e803c0d16e9bb09202cbde0ed923cb67d043d5f347bbc6b89e13a6bb5e83a43fe6d3a5c6a45bdaf38f43cfd08bb3c285ee43b6b89e13cc755343d747e8ebcc928613cab4b2ebd23e4113d183f48bd590a0c3d8ecf80bcc4ae8eba0cbedab818b23b3dffa6e9bcab16b0bceee0a73aa045df3b83c9b1bb3d6a023bfaa8813c3dcb07bcbc7b6c3b5cc2533c157e89bc5e46693d81ed0d3cd5134b3c22c101bd09552abde4c86a3dd6d5d53c30270abdc8a4cb3c27325dbc9dee1c3dae1e5b3bd3df183b17c4a9bc0bfc4fbd81f604bd23830cbdc65e2bbc4c5d17bd9bd483bca133f13cfef6cc3cab4bae3cb0fa7ebbe171a8ba4e043dbced9a073daa921a3dfcb02cbde08316bca171e63ceee0a7bc1b097e3b82109ebbd5e7433dc667a23c519974bdb8019abb3e2316bd9c35093c284c76bd15148dbc823c25bc0ba441bd8183113db85928bc5af81dbcca1673bc5b7cb3ba18483fbd6b4b6cbc86fde3bc68b6343dd4bbbcbcb9efab3b0d1669bd0a81b1bcff4edb3ce168313d6a054cbcaeb4de3c8394b3bc423c63bc9b3e80bcb8621f3b74d69c3c0955aabded9110bda9a488bc69d9c43a4f53d43a23b88a3c912fbabc9e11ad3c92524a3d2594aebcb0fafebac456803c160b96bc9fff3ebc19d5cbba75c4ae3c9b3e00bb1a8568bd5bdd383c4c1fa2ba5cd4c13c326d2a3b07e302bd6c77f3bb5bb1b13ac65e2b3b87eb75bc40ff39bc9126433dae8857bd4b3a873c85a555bc3449ce3c3fdc29bcc9fcd9bc936ce33c1640943c26444bbc9f343d3d09fd9b3c9fc1493cfa3e853d904a1fbddff6893c27c8603bfef6cc3c7a12fa3b4b668e3ccaacf6bbfd3d39bbd697603ca943833c74d61c3c68bfab3bd48fb53b19d5cbbb0bd0483d83c9b1bdca16f33c40cabb3caac798bb4f53543ce04521bcaeb45ebc76f0b5bc4f53543b9e72b23b4c891ebc8e918b3cd63f52bcd7596b3a3475d5bcaa289e3deee91e3da25ff8bc9bd403bd403d2fbd9586fc3ce1d2ad392468273d84e3ca3c6855afba4d16abbb4bd08abd735287bbba73413dd697603d012bff3ba0afdbbc29e279bced91103c196bcfbcdfca02bdcbd8fd3cc68a323c4122ca3cb83618bc3fb022bdfd34c23c222207bd8fb41bbd6bb568bacbd8fd3b36e7fc3b5d845ebd09fd9b3cb9b136bdaaf31fbd927e51bd8efb073d84e3cabc3dcb07bd919936bce2c9b6bc3f1128bc6c77f33c81f6843c190153bc25b73e3d942e6e3d4cf31a3d6c0df73c003dedb990aba43b08a50d3dfe60c93c6a9b4f3d0e6ef7bc0ba4413dd214173affe4de3c0bd93f3de49c63bbd12605bcb950b1bc25ecbcbc3dcb873da93a8cbc5d84de3c814e933b9199b6bc6b1fe53cb947babc658202bbedf2153d5aefa63da019583c41b8cd3ce344d5bc23af133dd27e133c75c42e3d6c77733cfbf718bc5aefa6bb3fb0a2bd0c2857bd3f1a1fbde2c03fbd5a59a33b83f5b8bc4bd901bd6943413c51c5fb3c675e263d29e2f9bce344d53ad3759c3c4b6f853c30880fbd3625f23c73bc03bd3eb9193d59cc16bc181cb8bb7625b43c927ed1bc51c5fb3caa5d1c3c7748443cc9fc59bdfe8cd0bc08700fbcaac718bc9fca40bc4f7f5b3c69e23bbc8e3006bc322fb53bfe60c9bc50ab623c4bd08a3c23af93bc331d47bc747597bc5103f13b5b47b5bc68ebb23cfbf718bdf3bbff3cc717bfbb747e8ebad551403c0c54de3cc65eabbcbb8ddabcb70a913b279cd93b166c9bbce2c03f3d3e2c0d3c3eee17bdbd3df7bb6b89e13c3e8d923d765a323c87ebf53bfe60c9b974b30cbcd45a3739badd3dbc2310193dabeaa83c84b7c3bb9e11adbafe22d43cb71388bb5103f1bb0a4cb33b69783f3c003dedbc5db0e53cc7eb37bdd785f23b331dc7bb42e4d43c741412bc83d228bd9de5253cec6e803c432af5bcd2528cbc8ecf00bd4de1ac3afa3e05bc67fd20bd90e022bc155282bcdfc18b3c832a37bd23838c3b67fda0bc670698bc003dedbbb836183dc456803bd463ae3cc6292d3c59d50d3c5af81d3c15aa103dd5134bbd6670943cf325fcbc4bc713bcedbd17bc0cea61bd83f5b8bc33c5383d5cd4c13cfc11b23c5b73bc3c9b0902bd599718bd8394b33cec39823c797c76bc81220cbd0a783a3b5b73bcbc69e2bbbc18a9c4bc0bd0c83c82e4163c81ed0dbc231099bc85d1dc3cac04c2bae25643bd17bb32bde2c03f3d0c28573daa5d9c3b67d199bab76b963ba1076abc32a2283b9c9f053dd57dc73b32d7a639bc11f0bc42105c3d23af93bb4e6e39bc85794e3d0ba4c13cee88193cd3aa9a3c65b7803c365179bc365179bbfb6195bcd3409e3b9ccb0c3d4f274d3c94f0f8bcad5c50baf0c542bde4c8ea3cbbcbcf3cfe22d4bcbb61533be11023bded91903c3eee973cfa73033c5e08f43cbce5e83cc720b63c85a555bd07ae04bd6b4b6cbc684cb83c0e6ef73cedf2953a93405cbcac42b7bced300b3dba73413cbbcbcf3cc5069dbc1aef643d5aba283cba09c53bd5e743bcac4237bcfce5aa3bd5a9ce3c003dedbbfe8c50bc322f353c93405cbb228c83bcbb61533c5c2cd03c92524a3c9d4f22bc16a1993cfcb02cbce4705c3babbea13b9c008bbbef0338b936e77cbb24a69cbd86fd63bc15e805bd7625b4bcfdca453d16371dbc6881363bed6509bd9498eabc3f72ad3b331dc7bc3d96093cb7a98b3cadf2533c406936bc5b3e3ebd8f53963cd72de43c59d50dbd237a15bd6ce1efbc2820ef3cefa2b23cd66bd93c0ae2b6bc9038b13cc53b9b3b51c57bbd4dd835bd9214d53c4e91c93b6793243b26ae47bde22a3cbd418cc6bc35a15cbd66790b3d3d3504bc40ffb9bc5cc253bb4b3a87bb927ed13bb97cb83982db9f3c3537e03c4c92153bfd9e3e3d7836d63b00d3703cb88ea63ce256c3bb08a50dbb8fe9193ce3824abbc992ddbb9f2b463c30f20b3ca0af5b3da171e6ba9e7b293c67fda0bc1bddf6ba432af5bcd8b179bcfa9f0a3d40ca3b3de0e49b3b196bcfba7563a93cfc46b0bc83d2a8bb285ee43b225705bd17f0b03c6c397ebb34b34a3cf20b63bb77de47bc34b3cabc912f3a3c86bfeebc42105c3a158700bb0ba4c1bb696fc8bc3d9689bb84e3ca3ba28bff3c08da0b3d8e910bbd5cc2533c9e72b2bb8e30063c423ce3bc9d239bbc9f2b463c28b6f23b3eee17bdfc84a53cb064fb3a35cd633cc4188b3d41b8cd3baee0653bfbf798bc4fe957bceee91e3d4f27cdbb423c63bcac77353b512f78bc69d9c43ceee0273d15490bbcd4bb3cbcff7ae23c2618443d15b3073bcaac763c802b03bc7537a23a77a0523c303001bd512ff8bc7502a43ba0edd0bce55eeebc3091063a240722bba90e053c8fbd923c4122ca3cae4ae2b9afa2f0bcba09c53afb581e3d4394713c0dacec3aa9050ebb66e307bc412bc13bc5d19ebb1a8568bca019d8bb15498bbb93aad8bcae88d73ccbd87dbc590a8cbb44567cbcb76b96bcb88ea63c080613bc3fa72b3c8f1e183c9c61103cbdd37a39d30b203dfe6049bc87ebf5bb18e7b93c8e3006bdadf2533c08700fbcac77353c25213bbb9e7ba93c4069363c912fbabc3091863ca1dbe23c9214553d27c860bc5e46693d5c2c503cd7ef6e3ced2794bcf05bc63cc83a4fbd30c684bc93aa583c87177db94efbc53bfe8c503c8fbd923c8207273cfe6049bc31151c3c3eb9993d285ee4bcadc64c3dc44d093d303081bb30880f3c151d043cf05b463c74aa153d8fbd923cf0c5c2bcd6015d3bc6bf303c9de5a5bcaca33c3c5db0653db8f822bc94f0783c34b34abaad5cd0bcd42e303ca978013dfe60c93ad21d8e3ba2c9743c3537e03bec6e80bced9190bc50d7e93cc992dd3b1ac35d3c9c960e3c246827bde4dad83b40d3323ba28b7fbc596b113d5cd4c1bc0dacec3c5db065bcbc7b6c3bb924aaba6582023cfa3e05bd4f53d43c8f278fbc1901d3bc68b634bc87ebf53a1587003def643dbc0c9253bc84e3ca3cbc11f03cff10663bc928e13c196b4fbc76b2403bf3bbff3cbc11f0bcab4b2e3d4d80a7bcfbee21bdac0d39baa133f13bfef6cc3b9076a63cb8f822bddf9504bc875572bb320ca5bb158780bcfd69c03c16d6973c788e643b82db1f3c30888f3ba9a4083b81220cbd9076263ced91103ce1d22d3d234e0ebdd27e133d5cd4413d814e93bc4c92153c41b84dbcca427a3c16029f3bd4cd2abd7563293c6ca3fabbf2cdedba90ab24bd32d7a63c8e910b3c85d15c3ca133f1bb255f30bd3625f2b9e07a1f3bc53b1bbc23830cbbed65893cf20b63bb3f4f9d3ca045df3c82e4163cd785723cfa0987bc16029fbb243c203c6bb568bbb85928bda25ff83c9cc215b9418cc63cbcb9e1bbeeb420bca9a408bd83c931bdff7ae2bc44567cbbd27e933befa232bdac39c0bcae8857bc4a0e00bdf26371bcaeb45e3d0e9afebb93d65fbcfeb8d7ba7598273b2556b9baff10e63cac77353c5d58d7bcf149d8bbfe60493c78cc59bd1a1b6c3ced91903c4bc7133cab89a3bc7862dd3bfa3e05bca25f78bc81b80fbd590115bcc6f4ae3caeb4debb4456fc3cf20be3bc0d16e9bc08a50dbb9c9f853dad5c503c79baeb3ce520f939e22a3cbda1dbe2bcaafc163ba97881bcef6db43bae1edbbcee539b3a4034383c92bc46bc368f6ebc098aa8bb4ba483bce2fe34bbd5134b3c5b73bc3bb67d043d1698a23ca978813c183f483d83fe2f3c5b47b5bb8f1e98ba9d5819bd5bdd38bd32382c3c36e77cbb3141a3bb9cc295bc340b593d4fbdd0b9164014bdaf0c6d3c237a953be0af1dbd94986aba9ed3373c696fc8bb3238acbb6ac756bc731d893c2319103ca19dedbca9d9063d9126c3bc3e610bbb012bff3babbea13c8755f23b92524a3d41b8cdbcf2cdedbc9d84a03b3d9f803cfe8c503c802b83baaa31153c8f5396bcd425393c32d7a6bc1a59e1bc35f9eabc183fc83cc50f94bc5a8ea1bc311e13bd8e910bbc9498ea3c3d9f003d42105cbcfd72b7bc2732dd3bc44d093d5e46e9bc592d1c3c66790b3dec3982bc4d8027bde0e41bbc0e6ef73b660f0f3d24feaabcd214973c9cf7933976f0353cb67d84bc335bbcbc5a1b2ebcef6db43caa31953cdf6086bcacd83a3d0e9a7e3c8f1e983c4b3a87bba90e053d5b47b53cdf8c0d3dae4ae2bc9103b3bc9c968ebb31e01dbd5c964cbbfa7383bc7748c43c35a1dc3cac04423b68b634bcb924aabc17f0b0bca1db62bc4b668e3cfc11323d65b7803c79baeb394dac2e3cee4aa43c5deeda3bfc1a29bbaa3115bc2618443a850fd23bd15b83bad3aa9abc84b7c33a583f8abd4fbdd03bff7ae2bb814e933c6bf3ddbb81ed8d3b4cf39abcf11dd1bc28f4673cfda7353ced308b3ce022913ca045df3be3ec46bcfb581ebdf149d8bafd7237bc832a37bd003d6dbc90e0a23b249d25bd340bd9bcae1edbbb09bfa6bb303081bc788ee43be55eee3c66790bbd731d893c3f4f1dbd4de12c3caeb4debc68b6343cd42e303c752eabbcd48fb53a258b37bc73f101bd1b4773bc850f52bc8f278fbc5af81d3dfaa8013d4bd08abc83682c3c279cd93ceeb4203d8629ebbb8755f23c33c538bd756329bc3537603cd2bc883ce2c0bf3c36e77c3c6855af3a4122cabc0744083c255f30bcaa9b913cd4632ebcc72036bb080f8abb5b73bc3bd63f52bc679c1b3cadc64cbdb950b1bc23db1a3c4f53543d66448d3ceeab29bd87eb75bc0bfc4fbb5e7270bc432af53b811995bc583f0a3db8cc9b3c24d2a33c279cd9bcd6015dbc18b23b3d5e46693be256c33b6c0d77bcf2a1e63c403daf3c7950efbc258b373c68eb32bd82db9f3cdf570f3d231990bcb71388bcb7748d3b6ac7d63cb859a8bc9214d53bec3902bd4b31103cef643d3bff10663cffe4debafb61953c3fa7abbaa25ff83c768639bcc6fd253d4456fc3c2618c4bc0b3ac53c15df0ebcb71308bc756c20bb5c96ccbc15df0e3c4e393b3cf3257cbb5be62f3d92e84dbc512ff8bb24719e3c00d3703a3fe5203c6a9bcfbcad5cd0bb936ce3bbee4aa4bc22ed08bc5aef263ded308b3ce022113d4fe9d7bb15498b3ce0b8143be470dc3bee7fa23cabbe21bcbc1170bcef993bbc818c883b234e8ebb832ab73c9d231bbc679c9b3ced308bbc7440993c69e23bbcefd7b0bc90aba4bc58de84bad425b93cadc6cc3cba7341bcfbf798bb30888f3c4e65423cc8a4cb3ce4705c3d305c08bdb7a90b3d331d47bbca806fbbe40660bc5c964c3c261844bc5bb1b1bcba354cbd24d2233d584801bd86fd633c9199363c0744883973f1813c9498ea3b587488ba5bb1b13c196b4f3ca019583d0e9afe3cc80ec83c9038b13a0c2857bc84b7c33cff4edbbb0a43bc3b3651793c012b7f3c07e382bb23838c3c6ac7d6bb3d9f003c3651f9bb4bd08abc32382c3df1755f3b5db0653b08da8b3c42e454bbd69760bcabb52a3c9fffbebb5c2cd0bae107ac3cd4bb3c3c5015dfbc75cd25bcd15b033de3ecc6bb74b38cba3d9689bc26ae473c81570a3def0caf3c1901d3bbfda735ba4e6eb9bc09fd1bba788e64bb788ee43cff4edb3cc4b7053d29787d3c1ac3ddbc9b0982ba31ab9f3c66da90bc73bc833d3e5814bcfbeea13bdf570f3d0b664c3d6618063d0a4c33bd26dacebae5b67c3c3537e0bc75f92c3cca42fabb00d3f0bb16cd203c94f0f8bc3f1a9fbc439471bd936ce3bc9e3d343c35a1dcb99103b3bc26aec7bc7a12fa3b91c5bd3c6a9bcfbaae4a62bd78625d3cc9be643c4b6f053d9103b33a0ba441bda28b7f38bc11703c15140dbce4705cbdb70a913c1675923cc4ae0e3dab89a3bcaad08f3c40ff393c4bd00abc0d42f03c4cbe9c3c7aa8fdbb4d80a7bc59d50d3d44ec7f3d07e382bcb9473a3dd21d0ebd4e6542bdad9a45baa0af5b3b252a323b17c429bdc45600bdb6e780bcba35ccbc098aa83b8ec6093c688a2d3cef41adba806081bb7924e83be3aed13b8394333dac42b73c0ba4c13b84b743bc9586fc3bfef6ccbcdfff003c9041283bb7740d3d66e307bc7836563cfa3e053cef0c2fbc1bdd763cffe4debcaac798bb752eab3c92bc463bd5a94ebcd601dd3bd21d0e3c24a69c3bc5da153d7836563d921455bd4d16abbc9cc2953b4f53543ba019d8bb31159c3cfc7b2ebdb9baadba81228c3cbcb961bc9c008bbbafcef7bcfc1a293d17f0b0bca90e05bdba73c1bc7774cbbb222287bcfd34423be406e03c5a2425bdd337a7bc5a8ea1bb9d8d173c23b88a3c67fda03be3ae51bc900c2abd31ab1fbd3fe5203da9a408bdba09c53cfcb02c3b164014bb4bfc913c151d043b414e51bd6a5ddabcfeb8d7bcedc60ebd5a24253d', 'hex')),
 ('What is vector similarity search?',
  'Vector similarity search finds similar items by comparing their vector embeddings using distance metrics like cosine similarity or Euclidean distance. In RAG, it helps find relevant context from previous interactions.',
- '[-0.06450889, -0.030898826, -0.023092315, 0.0053085447, -0.011873377, -0.04216451, 0.018300893, 0.002306602, 0.0071345437, 0.024494682, -0.05464558, -0.010026926, 0.0015820456, -0.008706364, 0.01630252, 0.0068073245, 0.004984247, -0.011762355, -0.03529291, 0.02968344, -0.0017354295, -0.009197192, 0.032394685, 0.01575326, 0.0047125383, -0.03594735, 0.03555001, 0.05791777, 0.027369535, -0.04667546, -0.026224269, -0.021888616, -0.006731363, -0.020649858, 0.0038185292, 0.07011837, -0.003055992, 0.0039412365, -0.0025680852, 0.023618203, 0.003631547, 0.036671907, -0.0077247065, -0.008472635, -0.009401704, -0.04627812, 0.005989277, -0.047914214, -0.007561097, -0.00844342, 0.0023255923, 0.004721303, -0.045670427, -0.025125748, -0.0074500763, 0.0412296, 0.013077075, -0.013988614, 0.017167313, 0.012200596, 0.0013753425, -0.0072864667, -0.009056956, -0.010628776, -0.027042316, 0.04158019, -0.05473907, -0.0032721905, -0.048147943, -0.000789562, 0.03814439, -0.030291134, 0.06890298, -0.027112434, 0.00046453415, 0.020123972, 0.010482696, 0.027883736, 0.02816421, 0.0036140175, 0.04461865, 0.016220715, 0.035830483, -0.0106696775, -0.0449225, -0.04223463, -0.006532694, -0.035783738, 0.0012687042, 0.005472154, -0.043730486, 0.045413326, 0.025780186, 0.008431734, 0.030875454, 0.020334326, -0.035690248, -0.06436866, -0.007794825, 0.049737293, -0.029192613, -0.0012467921, 0.06142369, 0.0014308529, 0.021140687, 0.00813373, 0.01688684, -0.037092615, 0.021175746, 0.0020845605, -0.017529592, 0.008963465, -0.039009184, 0.04443167, 0.008390831, -0.01432752, -0.01802042, -0.0010955995, -0.006223005, 0.04249173, -0.0348722, -0.022952078, 0.0015046232, -0.028187582, 0.024541428, -0.031132555, -0.03814439, -0.054785814, 0.028678412, 0.018429443, 0.046067767, 0.021736693, 0.013334176, 0.037326343, -0.041626938, 0.003064757, -0.02823433, 0.008647932, -0.04459528, 0.04644173, -0.023583144, -0.022063913, -0.010441793, 0.03655504, -0.028725157, -0.020544682, -0.013789945, 0.02615415, -0.012329146, -0.022227522, -0.031389654, -0.049924277, -0.02313906, 0.0054926053, -0.06226511, -0.012960211, 0.006935875, -0.0017836359, -0.006106141, -0.017880183, -0.05221481, 0.01244601, 0.029286103, -0.0072689373, 0.012060359, 0.0032429744, -0.0121304775, 0.025008883, -0.00943092, -0.055720728, -0.018803408, -0.07114677, -0.019259177, -0.014444383, 0.012329146, -0.017541278, 0.004046414, -0.026247641, 0.0015878888, -0.0012066202, -0.036087584, -0.006374928, 0.031132555, -0.002116698, 0.025873676, 0.044829007, -0.0040581003, -0.033399716, -0.00066539407, -0.006041866, 0.013380921, 0.054692324, 0.030781962, 0.026715098, -0.010453479, -0.0035935661, -0.004686244, 0.027813619, -0.024120718, -0.024284327, 0.034591727, -0.033306222, -0.018055478, -0.033563323, -0.083253875, -0.051840845, 0.0060068066, 0.020965392, -0.04702605, 0.035176046, 0.00076618925, -0.0037805485, -0.013252371, 0.021760065, -0.028561547, -0.025920423, -0.017739946, 0.07843908, 0.024775155, 0.017739946, -0.008852444, 0.05146688, 0.018382698, 0.0072221914, -0.03973374, -0.01445607, 0.08432902, -0.09582843, 0.047586996, -0.07694322, 0.052027825, 0.045062736, -0.010932622, -0.014280774, 0.014152223, -0.00970555, -0.055487, -0.0009487891, -0.04284232, 0.021117315, -0.017938616, -0.036929004, 0.059133153, 0.012142164, -0.0028354113, 0.010885877, -0.0072981534, 0.0351293, 0.04450179, -0.018289207, -0.0060944543, -0.009536098, 0.041954156, -0.030150898, 0.02556983, 0.011020269, 0.0012796602, 0.032815393, 0.0026046052, -0.0070761116, -0.01516894, 0.025476338, 0.0030326194, 0.014128851, -0.055487, 0.0013446658, -0.0037513326, -0.009109545, -0.046044394, 0.010061986, 0.014911839, 0.009915905, 0.00057774613, -0.0065735965, -0.068201795, 0.014035359, 0.009880846, 0.045039363, 0.06665919, -0.017108882, -0.006748893, 0.007181289, 0.010932622, 0.023851931, -0.014689798, 0.009857474, -0.00493458, 0.026177524, -0.00826228, 0.007829884, 0.029239358, -0.08302014, 0.019890243, -0.019329296, -0.014152223, 0.019995421, 0.05464558, 0.017038763, -0.0011291979, -0.008723893, 0.024494682, -0.04485238, 0.0412296, 0.040224567, -0.0388222, 0.03604084, -0.026434623, -0.0032429744, -0.014385951, -0.0026674194, -0.0061236704, 0.0092088785, -0.00084726355, -0.009179663, -0.04884913, -0.031529892, 0.056562148, 0.008402517, 0.041299716, -0.022040538, 0.0030296976, -0.04945682, 0.03344646, -0.008303183, -0.02142116, -0.040832262, -0.028187582, -0.030361252, -0.027112434, -0.019820124, 0.024190836, 0.004695009, 0.012165536, 0.01529749, -0.02573344, -0.03905593, -0.021432847, 0.023022197, -0.012527814, -0.024073971, -0.02975356, -0.040131077, 0.0043619466, -0.010920935, 0.017552964, 0.04499262, -0.0591799, 0.010365832, -0.026177524, 0.0143742645, 0.020042166, -0.0517941, -0.020392757, 0.0060360227, 0.009144603, -0.012738169, -0.013392608, 0.00015201443, 0.015940242, -0.016080478, 0.013497786, 0.004119454, 0.019294236, -0.024705037, 0.026200896, 0.012481069, -0.0008618716, 0.012188909, -0.0085895, -0.04113611, -0.031553265, 0.003950001, -0.061937887, -2.8280161e-05, -0.011955181, 0.05043848, -0.01127737, 0.022835214, 0.009092014, 0.08068287, 0.051747352, -0.01484172, -0.030735217, -0.050578713, 0.03562013, 0.011201409, -0.0040785517, -0.0045664585, -0.049830783, 0.044034332, -0.07984144, -0.015239058, -0.012796601, -0.01643107, -0.02715918, -0.007613686, 0.040785514, 0.020135658, 0.02178344, 0.0420009, 0.015005331, -0.050859187, -0.02540622, 0.004803108, 0.0014929369, 0.027205925, 0.0016317128, 0.047586996, 0.031810366, 0.05039173, 0.016875153, 0.007087798, -0.0048732264, -0.022017166, -0.014958585, 0.019925302, 0.007596156, 0.034171015, 0.024073971, 0.008618716, 0.02916924, 0.0048118727, -0.013731513, -0.01341598, -0.0015805848, -0.0011321194, 0.059881084, 0.026387878, 0.037817173, -0.034054153, -0.0020538839, 0.017330922, 0.05992783, -0.004031806, -0.062966295, -0.014280774, 0.033703562, 0.046955932, 0.005764314, -0.024588173, -0.017938616, -0.007233878, -0.061470434, -0.05960061, -0.0063690846, -0.00336276, 0.017097194, 0.02648137, 0.016664797, 0.018487876, 0.0023080627, -0.013217311, -0.027603263, 0.00072090444, 0.040692024, -0.052588772, -0.015344235, -0.030571608, 0.0718947, -0.0035672719, -0.015951928, 0.020965392, -0.01694527, 0.03351658, 0.06782783, -0.0135912765, 0.007788982, -0.023770126, 0.024401192, 0.0065385373, 0.009132917, -0.050017767, 0.031716872, -0.028771902, -0.0053085447, -0.0018800487, 0.033984035, -0.053944394, -0.0005981973, 0.00628728, 0.024938766, -0.010354145, -0.009039426, -0.010523598, 0.0006102489, 0.021608142, 0.019843496, -0.03966362, -0.004621969, 0.003646155, -0.00210209, -0.017880183, 0.0052267397, -0.009927592, -0.012656365, 0.025616577, -0.020346012, -0.0037425677, 0.05188759, -0.043543506, -0.01983181, -0.0042100237, -0.013918496, 0.02472841, 0.022858586, 0.02423758, -0.0018771271, -0.019259177, -0.010716423, 0.03174025, -0.0052208966, 0.021760065, 0.007531881, 0.035082556, 0.02304557, 0.010371675, -0.020310953, 0.042772204, -0.0084258905, -0.019142313, 0.017611396, 0.035386402, 0.002343122, -0.01142345, 0.0017544199, -0.027416281, -0.0141639095, -0.060488775, -0.055533744, -0.040598534, -0.00068767124, -0.018604739, 0.046254747, 0.021117315, -0.019785065, -0.068996474, -0.024681665, 0.016407697, -0.015659768, 0.027953856, -0.012212282, 0.0013300577, 0.010208066, 0.022928705, 0.013170566, 0.009325743, 0.0043502604, -0.008799855, 0.006491792, 0.0055919397, 0.028631665, 0.0058169025, 0.009997711, -0.012387577, -0.0018201559, -0.008799855, 0.0062054754, -0.030407997, -0.030665098, -0.0322077, -0.027509771, 0.022145716, 0.01113129, 0.029286103, 0.0034825455, 0.03176362, 0.016115537, -0.0010495842, 0.020474562, -0.00941339, 0.00802271, -0.0084784785, 0.041533444, -0.023279296, -0.01016132, -0.0030530705, 0.006071082, -0.0528225, -0.026621606, 0.022811841, -0.013789945, 0.02563995, -0.005159543, -0.007181289, -0.026434623, -0.015951928, -0.027766872, 0.0070410524, 0.04987753, 0.023033883, 0.024634918, 0.020439504, 0.060956232, -0.010371675, -0.002416162, 0.021152373, -0.018873526, -0.0054400163, -0.03234794, 0.03302575, -0.016442757, 0.013205625, 0.022344386, -0.018382698, 0.016407697, 0.013135507, -0.015274117, 0.024401192, 0.015320863, 0.0052880934, 0.016162284, -0.048007708, -0.03403078, -0.0038097645, -0.0017529591, -0.004546007, -0.016419385, -0.0060126497, 0.0076312153, -0.020568054, -0.017073821, -0.020170717, 0.00986916, -0.017330922, 0.022239208, 0.0050163846, 0.01211879, -0.038448237, -0.015566277, -0.04667546, -0.0063924575, 0.025032256, 0.023232551, -0.018043792, 0.008975151, 0.04029469, -0.02673847, 0.027930481, 0.01714394, 0.0071929754, -0.010313243, 0.06418168, 0.008496009, -0.07002487, -0.012329146, -0.025032256, -0.029029002, 0.025499713, -0.026995571, 0.028281074, -0.03075859, -0.049830783, 0.017401041, -0.015531218, 0.0076662744, -0.0074968217, 0.02381687, 0.032558296, -0.01876835, -0.017284177, 0.03033788, -0.01834764, -0.03678877, -0.06689292, -0.015472786, 0.043099422, 0.04574055, 0.022063913, 0.014970271, 0.010640462, -0.0004141366, -0.0075494107, -0.0059133153, 0.01840607, -0.021502966, 0.0027828226, -0.03211421, 0.0025505556, 0.0067430492, 0.045997646, 0.006912502, 0.024354445, -0.009179663, -0.021795126, 0.0025476338, 0.0010758786, -0.0052208966, -0.027836991, 0.010079515, -0.032137584, -0.022870274, -0.0009867699, 0.027112434, 0.007923375, 0.0153676085, 0.015274117, 0.028491428, -0.015274117, 0.00031772384, -0.0014841721, 0.051326644, 0.021760065, -0.012177222, -0.038424864, -0.030407997, -0.042374864, -0.007935062, -0.025523085, 0.030080779, 0.045156226, -0.0068540704, -0.0033423088, -0.009641275, 0.014935211, -0.027556518, -0.0023708772, 0.005188759, 0.0029128338, -0.030641725, -0.04527309, -0.037022498, 0.041720428, -0.06904322, -2.9946385e-05, -0.0008085524, -0.006918345, -0.05642191, 0.01876835, -0.011668865, 0.00063252606, 0.017330922, 0.017704887, -0.024775155, 0.031483147, 0.039126046, -0.0013154497, 0.021549711, 0.004426222, -0.04669883, 0.0013972545, 0.0024702116, 0.019352669, 0.020334326, 0.008729736, -0.026200896, 0.006672931, 0.040621907, -0.021222493, 0.012843347, 0.0046190475, 0.00073003443, 0.007385801, 0.016127223, -0.02220415, 0.00157182, -0.028327819, 0.010330772, 0.012177222, 0.015928555, 0.025710067, 0.01626746, 0.008349929, 0.009115388, 0.021549711, 0.037770424, 0.013275743, 0.0029318242, 0.0038886478, -0.028795276, 0.017214058, 0.0025198788, 0.01315888, -0.041323088, 0.010558657, 0.06600475, 0.02333773, 0.019165687, -0.0414867, -0.056188185, 0.021993794, 9.0660855e-05, -0.017693201, 0.0047417544, -0.02556983, 0.00088962674, 0.016629739, 0.025826931, -0.009255624, 0.046044394, -0.025476338, -0.035643503, 0.031646755, -0.011692237, -0.018382698, -0.009810728, 0.020497935, -0.011102075, -0.03646155, 0.031483147, 0.029215986, -0.004408692, 0.02984705, 0.016489502, 0.019305924, -0.021608142, 0.028865393, 0.049737293, -0.008729736, -0.029122494, -0.022507995, 0.00035314824, 0.0019750006, -0.028771902, 0.007911689, -0.00449634, -0.028117465, -0.019177373, -0.007327369, 0.014409324, 0.009577, 0.009588687, -0.024331072, -0.0034007407, -0.010903406, 0.012960211, 0.03580711, 0.018873526, 0.004797265, -0.018663172, -0.015122194, -0.004960874, 0.015239058, -0.0108274445, 0.016360952, 0.029029002, 0.006988464, -0.0072689373, 0.013988614, -0.025780186, -0.017447786, -0.037022498, 0.06142369, -0.023805184, -0.030150898, -0.026224269, 0.041439954, 0.0038097645, -0.013567904, -0.010003554, 0.011686394, -0.005223818, 0.01516894, -0.020942017, 0.043987587, -0.027112434, 0.005968826, 0.007233878, -0.007894159, -0.026598234, 0.019586397, -0.00051967934, 0.008332399, 0.0022467093, -0.0375367, 0.02725267, 0.02423758, -0.035526637, -0.010284027, 0.008723893, -0.035923976, 0.036601786, 0.03209084, 0.0046541067, -0.016068792, -0.032979004, -0.024331072, -0.012434323, 0.04959706, 0.00998018, -0.015075449, 0.043987587, 0.0020188247, -0.0025228004, 0.033960663, -0.021935362, -0.07053907, -0.011750669, 0.033399716, -0.012761543, 0.02288196, 0.02423758, 0.003470859, 0.0053903493, 0.034358, -0.0023562692, 0.016769975, -0.001557212, 0.056047946, 0.008910876, 0.002161983, 0.018511249, -0.013532844, -0.0003571654, 0.01617397, -0.008694678, 0.038681965, -0.0067722653, -0.00022258928, 0.0046044393, -0.042374864, -0.021958735, -0.019154, 0.038518354, 0.016898526, -0.009974337, -0.011616276, -0.019165687, 0.0125979325, -0.02907575, 0.022484623, -0.01601036, -0.0011445362, -0.0042480044, -0.007999336, 0.028795276, 0.019399414, 0.023022197, 0.021351041, 0.004323966, 0.02388699, -0.027182553, -0.034334626, 0.047750607, 0.017903555, 0.003982139, -0.031249419, 0.014689798, 0.011680551, 0.01834764, 0.035923976, 0.004779735, 0.0073390556, 0.031062435, -0.0034328783, -0.005130327, -0.02865504, 0.0065677534, 0.004803108, -0.019224118, 0.005787687, 0.024073971, 0.018978704, 0.026247641, -0.0088991895, 0.00816879, 0.014701484, 0.039990842, 0.012399265, 0.06581777, -0.009828257, -0.021105628, 0.019329296, 0.03898581, -0.014958585, 0.0037162732, 0.0025359476, 0.027790245, 0.04737664, -0.057450313, -0.029029002, 0.018487876, -0.023033883, 0.020696605, 0.0029654226, -0.027205925, 0.00013201973, -0.019527964, -0.0245648, -0.025710067, -0.039873976, 0.008700521, -0.00051967934, 0.02025252, -0.029379595, -0.05843197, -0.016512875, 0.0076312153, 0.012001927, 0.012971898, 0.034544982, 0.04141658, 0.0027258515, 0.021058882, -0.061657414, 0.0039412365, 0.0026031444, 0.00943092, -0.020731663, 0.021339355, 0.031483147, 0.0064508896, -0.030361252, 0.02641125, 0.005320231, 0.0028470978, 0.026504742, -0.0245648, -0.021888616, 0.003494232, -0.0044642026, 0.0056357635, -0.0055510374, 0.01646613, 0.027065689, -0.0132289985, -0.054598834, 0.020638172, -0.0028397937, -0.022274267, 0.008174633, 0.008361615, -0.011885063, 0.0098341005, 0.0021152373, 0.028538175, -0.023770126, -0.011657178, -0.021269238, -0.014993643, 0.0074676056, -0.0005291745, -0.0019691575, 0.01953965, 0.01089172, 0.008122044, 0.042631965, -0.023957107, -0.038027525, -0.02028758, -0.012095418, 0.0058344323, -0.014607993, -0.03286214, 0.03328285, 0.003602331, 0.020135658, 0.0047271466, 0.013310803, -0.009214722, 0.02573344, -0.011067015, 0.009092014, -0.017155627, -0.016162284, 0.024050599, 0.044127826, -0.023641575, 0.00042582297, -0.050765697, 0.006532694, -0.0022350228, 0.0061587295, -0.005364055, 0.004557694, -0.023536397, -0.017821752, 0.014280774, 0.014128851, 0.00955947, -0.017202372, 0.015764946, -0.008238908, 0.030875454, 0.00048242896, 0.008513538, -0.00471546, -0.012492755, 0.02326761, -0.012013613, -0.0134860985, 0.0019910694, 0.020790095, -0.028678412, 0.02949646, 0.009477666, 0.01672323, -0.020860214, -0.025710067, 0.006351555, -0.019598084, -0.011265684, 0.028304446, 0.011955181, -0.0026542724, 0.00816879, 0.03244143, -0.019177373, 0.009763982, 0.0412296, 0.009921748, -0.017354295, 0.044712145, 0.005784765, -0.015519531, 0.015472786, 0.0030443056, -0.0675941, 0.020077225, -0.003602331, 0.026271014, 0.021795126, -0.0037571758, 0.00014471043, -0.028818648, 0.010208066, -0.019504592, -0.00030877645, -0.00913876, 0.00716376, 0.0021123157, 0.01429246, -0.005530586, -0.0110845445, 0.011493568, 0.009693864, -0.02129261, 0.030150898, -0.0012073506, 0.022811841, -0.040715396, 0.016138911, -0.046862442, -0.0122824, 0.021596456, -0.00045613458, -0.008852444, -0.0245648, 0.010114574, 0.006737206, -0.008449263, 0.021070568, 0.044338178, -0.024354445, 0.018593052, 0.02615415, 0.032324567, 0.020895272, 0.042117763, 0.012247341, -0.011224781, 0.006959248, -1.8636603e-05, -0.010687208, -0.023735067, 0.010026926, -0.02372338, 0.005028071, -0.0037162732, 0.028070718, 0.015437727, -0.019925302, -0.014140537, 0.019434473, 0.014304146, 0.03849498, 0.006959248, 0.00028796005, 0.004011355, -0.054271616, 0.027276045, 0.047960963, 0.0042742984, -0.0136964535, 0.0035351343, 0.00913876, 0.009004367, 0.005115719, 0.03059498, -0.009226408, -0.006258064, 0.0223327, -0.017997047, -0.0021327669, -0.0041223755, -0.017775005, 0.0061996323, -0.0040084333, 0.029940542, -0.025546458, -0.023279296, 0.019130627, 0.043450013, -0.010552814, 0.03688226, -0.011616276, 0.004534321, -0.037863918, -0.01089172, 0.0523083, 0.013474412, 0.003958766, -0.0057263332, -0.016255774, 0.010371675, 0.013439354, 0.028094092, -0.029192613, 0.022531368, 0.0024629075, -0.04475889, -0.00584904, 0.01016132, -0.0037893134, -0.03363344, -0.0053377603, -0.025756814, -0.03639143, -0.010453479, 0.0016112616, 0.011189722, -0.011838317, 0.026644979, 0.011738983, 0.005705882, 0.042772204, -0.026972197, -0.033493206, -0.0011226243, 0.02330267, -0.034591727, 0.012773229, -0.03639143, 0.0091562895, 0.005553959, 0.014222342, 0.0048294025, 0.030781962, -0.0047709704, -0.010681365, 0.015928555, 0.01299527, -0.010955995, -0.0009239555, 0.020053852, -0.019761693, 0.022671605, 0.016582994, -0.004119454, 0.033469833, 0.025686694, -0.0010897563, 0.02271835, 0.0020261286, -0.01792693, -0.004706695, 0.016933585, 0.013462726, 0.011242311, 0.009214722, 0.041112736, 0.012714797, -0.042258002, 0.027533144, -0.035526637, 0.01772826, -0.008887502, -0.013509472, 0.016840095, 0.009810728, -0.010675521, 0.012621306, 0.04702605, -0.00032849723, 0.015659768, -0.002597301, -0.007263094, 0.055673983, 0.0036549198, -0.006351555, -0.00022313709, -0.0020611878, 0.038658593, -0.025055628, 0.012422637, -0.017471159, 0.02556983, -0.010371675, 0.007923375, -0.014935211, -0.023536397, -0.035012435, -0.023746753, -0.039289657, 0.007169603, 0.031833738, 0.0068657566, 0.0036432333, -0.034942318, -0.013123821, 0.0059366883, 0.010944308, 0.019574711, 0.01516894, -0.03127279, -0.009489352, 0.007917532, 0.003020933, -0.0051537, -0.0015411433, 0.0025724676, -0.022472937, 0.049269836, -0.010494382, 0.0052997796, -0.017681515, -0.015858436, 0.03377368, -0.07011837, -0.02599054, 0.014514501, -0.003231288, -0.025359476, -0.025780186, -0.010243124, 0.010546971, 0.021187432, 0.012364205, -0.022636546, -0.0086362455, -0.023454593, -0.0099392785, 0.009232251, -0.019785065, -0.0021327669, -0.026341133, -0.0032196017, -0.03363344, 0.0002174765, -0.016150597, -0.0014257401, 0.01604542, -0.016606366, 0.0414867, 0.018032106, -0.03470859, 0.003578958, 0.025452966, -0.017739946, -0.011750669, -0.023022197, -0.00024377088, 0.02657486, 0.007181289, -0.004665793, 0.027650008, 0.028094092, -0.00471546, 0.03342309, -0.016676484, 0.005384506, 0.025242612, -0.0055276644, 0.00048133335, -0.007993493, 0.006275594, 0.048101198, -0.0056007043, -0.004557694, -0.008881659, -0.008548597, -0.020088911, -0.019890243, 0.0043035145, -0.024705037, -0.01187922, -0.00868299, 0.014269087, -0.028958885, 0.045576937, -0.0072864667, -0.025336102, 0.017120568, 0.001270165, -0.061049722, 0.0051916805, 0.0016317128, 0.038868945, 0.0101496335, 0.014339206, 0.044782262, 0.0017661063, -0.0141639095, 0.0073682717, 0.023828557, 0.023080628, -0.014222342, -0.024097344, -0.023185806, 0.045974273, -0.08428227, -0.047236405, -0.0018975782, 0.013544531, 0.00584904, 0.01970326, -0.01646613, 0.017588023, -0.025523085, 0.014385951, 0.034100898, -0.04115948, 0.008437577, 0.024027226, -0.008285654, 0.018078852, -0.022321014, -0.0039558443, -0.00028412545, 0.0011050947, -0.012060359, 0.018850153, -0.038611848, 0.0059133153, -0.002037815, 0.008116201, -0.005422487, -0.0105645005, 0.0009663187, -0.012492755, -0.02381687, 0.0018610583, 0.01458462, 0.024284327, 0.0006548033, 0.01040089, 0.034474865, -0.003172856, -0.0045898315, 0.035316285, -0.014432697, 0.027135808, -0.058572207, 0.00013877593, -0.026855335, -0.0027930483, -0.018254148, -0.00053538295, 0.006503478, -0.0054195654, 0.023150748, -0.018125597, 0.012364205, 0.011049486, -0.023863617, 0.016185656, -0.023232551, 0.022274267, 0.021105628, -0.05431836, -0.010184692, 0.014958585, 0.011172193, 0.01970326, -0.00813373, 0.014304146, -0.020953706, 0.029800305, -0.051092915, -0.03756007, 0.015986986, -0.005819824, 0.023104, -0.0014228185, -0.0020860215, -0.015274117, 0.019352669, 0.012843347, 0.01802042, 0.06245209, 0.008460949, 0.008501852, -0.014035359, 0.003993825, 0.0011102074, -0.00857197, 0.0075085084, -0.018417757, -0.016793348, 0.02926273, 0.018487876, 0.005559802, 0.015788319, 0.01983181, -0.020532994, -0.02142116, 0.005104033, -0.01730755, -0.020766722, 0.012551188, 0.022998823, -0.018032106, 0.013649709, -0.007864944, -0.02414409, -0.020264208, 0.00657944, -0.004262612, -0.027299417, 0.0008582196, 0.0016492424, -0.004119454, 0.008501852, -0.0023080627, -0.037700307, -0.014152223, -0.017494531, -0.054598834, 0.020906959, 0.02641125, 0.0047622058, 0.015437727, -0.039757114, -0.040949125, -0.01736598, 0.0094718225, -0.006351555, -0.037583444, 0.009401704, -0.00899268, -0.00043349218, -0.0093140565, -0.014537875, 0.0052296612, 0.033703562, 0.006223005, -0.0020363543]');
+ decode('3d1d84bd891ffdbc182cbdbc4df3ad3b8d8842bcb1b42cbdc1eb953c5c2a173be4c8e93b12a9c83c0bd45fbdfa4724bca45ccf3a23a50ebcdd8c853cfa0fdf3be552a33be5b640bc4c8f10bdb02af33c5a77e3bad2af16bc4ab0043dfb0c813ca36b9a3b873d13bde39c113d2f3b6d3d1336e03cc42e3fbd47d4d6bcc14fb3bcc492dcbbe429a9bc4a407a3b389a8f3d0a4748bb7d25813b524d28bbf67ac13c40ff6d3b4835163d891ffdbbcfd00abc9b091abc208e3dbdb241c43bb24144bd14c3f7bb45560abcf768183b29b59a3bea103bbd83d4cdbcc51ff4bb5ee0283d3a41563c803065bc77a28c3c02e5473cd644b43a50c3eebba06314bc51242ebcd987ddbcfd4f2a3d133660bd3f7256bbc73645bd9cfa4eba4b3d1c3d1d25f8bc011d8d3de51adebcb88cf33907dba43c9dbf2b3c6f6ce43ca1b8e63c27d96c3b0cc2363d4ee1843cfcc2123ddfcf2ebca80038bd38fe2cbd3610d6bbf89112bda64aa63ac14fb33bbd1e33bd53033a3df830d33c41250a3c85eefc3c2c94a63cf02f12bdb7d383bdbb6bffbb55b94b3d5925efbc676ba3ba68977b3d758bbb3a3c2fad3c5643053c45568a3c6dee17bdc278ad3c1f9d083b389a8fbc7fdb123c18c81fbdfcfd353db279093cf9bd6abc8f9f93bc389a8fba59eacbbbcf0b2e3d27d60ebdff05bcbcc736c53aa5e9e6bc1b0bc93cb309ffbc4b3d1cbd176760bdfdeeea3c58f9963c8eb13c3d2611b23c96775a3c82e3183d02812abd17da483bae4be7bc0eb00d3c8aa936bdaf393e3d7031c1bc61bfb4bc0e142bbcbdba153d0551ebbc524da8bc39ef61bc3a41d63c30004abc7e16b6bc709200bd667d4cbd208ebdbc50fbb33bb3097fbd115754bc5646e33be4c8e9ba0616c8bb767992bc32df55bd59ea4b3c69e9ef3c4430eebbd098453c1588543be9be46bc6edfcc3c25841abc6b3b64bd9b099abc66b591bd6cc59dbc22a86cbc30004a3cbab28fbcc897843b4b05d7bcb520d03a75279eba93d013bdc6e4d0bbb309ff3c4db80abb08f5d33c9f9e373dd0f984bb24ce08bdd76d2ebad8fac5bba73b5b3c0f05603d742afc3c9fd9da3c12452bbc09826bbb108f99bb63d9e33cd098c5bcedefc6bc0eb00d3d1b6c08bd15e993bcb27909bd0281aabd115754bdbfd4c43b9dbfab3c639e40bdc214103d17da483a14c377bb792059bc2a42b23ce8f9e9bc1157d4bc5d5391bcaba4a03d44f5ca3c5d53913cd70911bcefce523d5097963c22a8ec3bd9bf22bd27d96cbcb1b4ac3db241c4bd95ea423d68949dbd211b553db493383dbd1e33bce8f969bcbade673c07041fbc564663bd29b878ba6e7b2fbd38feac3c01f492bcde4217bd9b35723dedef463c4fd239bbad5a323c5925efbbbee30f3d8247363d3fd395bcfdb3c7bb4b3d1cbc1fd82b3d04fff6bcd277d13c5c8e343c45baa73a6f69063d06b22a3bbadee7bb258778bcc1b3d03ce9be463bb27c673c564663bd7f3fb03aebd875bb334015bc0c993cbd07db243cc950743c5276223ce373173a5367d7bb62ad8bbd90f4653c46e3213c327b383d9d84883ded278cbcd125ddbb0551eb3bbd1e333c2065c33c7aad70bc3e81213c42b2a1bb3f72d63c845e07bcea48003c6187ef3c7706aabdddf0a23c79589ebcbade67bc70cda33c0bd45f3de0948b3c980194baa9ee0ebc12a9c83c21b737bd5ee0283d84c2243d07041fbd8f9f133d6c8dd8bc158854bb0db36bbcdfcf2ebb12a9c8bbd6e0163ce51a5eba4c6616bc061648bd7d2501bdb6ad673db6aa093ce429293d5c8eb4bce48d463b3c934abd28ff083d130a08bc6e7bafbcbb3f27bda5e9e6bc29b8f8bce51adebcd05da2bcdc2bc63c97d8993bf551473c53a27a3cefced2bc1cf91fbdf093afbc0c99bc3c76414dbcc736c5bcbdbdf3bc7c6024bda9ee8e3bb9ed32bc3ccb8f3c2e4a383d9f6672bd73d5293c3f72d6bc09826b3c782fa43c0d2654bdb60ea7bcd4c9c53b3fd3153cc1b350bcab6c5bbc10661f391c95823c35bb83bcd1255d3c7cfc863bf20e9e3c3862cabc43a3d63c667d4c3c39ef61bafdb3473cf9ba0cbc567e28bdff3d01bd036f813b95b27dbd2f3bedb7aadf43bc94984e3db8c438bcea10bb3cacf6143c0f3da53d08f5533db02a73bc6cc8fbbca02b4fbd6ae6113d1d86373c5fa585bb3ba295bb5d1b4cbd585d343de983a3bd3ead79bcd6a851bc749a86bcee7cdebc3a7cf9bbb60e273d89f3a43c2f73b23c23092c3debd8753cb95150bdb520d0bc64639d3ba6aec33af6dede3c32dfd53a95ea423d964b023d8f674e3dc33d8a3cc240e83b96af9fbb585db4bcda1475bc633aa33c2de9f83be8f60b3dc736c53c84350d3c54f4ee3ceaac9d3b24fa60bcb3ce5bbca02bcfbaa06394bade45753d642bd83c2ee61a3d5e7c0bbd749a06bb94f98d3ce276753d3d1d84bb79f480bde8f969bcbf0c0a3ddd54403d92e2bc3b236dc9bc01f492bc2b0aedbb6cc87bbdc51f74bdc1b3d0bbc0615cbb6a0f8c3c75efd83c9d84883ce373973cde42173b6c8d58bc3d20e2bc14fb3c3aaeac263d536757bd63667bbc4f71fabc873d933de4c869bb9ead82bc9dbfab3ccfd08abcae48093d51e98a3df2ad5ebcb73aff3b91b9c2bc02e5c73c3a41d63b3ba2153c6edf4cbd8de9013d0db3ebbc4df3adbbf76bf6bad8320b3dccf45cbd57d01cba8705ce3b624ccc3c6fa429bc1a1a14bc2b6b2cbc1cf91f3a8f03b13cd48ea23c527622bde37397bb54f46e3b38c309bb767992bc1245ab3b57a722bca45c4fbcdbd9d13caeaca6bcde4575bb1588543dad5a32bd5276a2bc3df489bb670a64bc3c93ca3cee41bb3ce48dc63cef09f6ba6cc59dbcf0932fbc1002023d0e14abbb2a42b23cffcdf63bbab20f3d10cabc3cf5ed293c2863a6bce8312f3dbf0c0abc57d09cbcc645903c55f1103d108f193b6c293bbc90f4e53a1c98e0bcbe0f68bc14c377bd5a7763bda64a26bdd64434baf76898bc9e753d3d38feac3c4a14a2bc064e8dbd3431cabc6f69863cea4880bc7cffe43c061648bc5555ae3abb3f273cfbd4bb3c5cc9573c00cb183ca18c8e3b442d10bc19b9d43b973cb73bf48cea3cb79bbe3b70cd233c44f54abc4c92eeba442d10bc4d57cb3b311af9bc5f35fbbc39ec03bd2c5ce1bcef6ab53c0460363c69e9ef3c6b3b643b921a023dbb04843c349289ba45baa73c9f3a1abcaf71033c51e90abcf91e2a3d39b4bebcaa7b26bc061648bbedefc63b685c58bd8e15dabce6dfba3c39ef61bcdf0ad23c6211a9bb0551ebbb6c8dd8bc9ead82bc5a77e3bca1b8e63b624c4c3d8eb1bc3c2bcfc93cbf70a73c3ead793df5ed29bc79581ebbbe47ad3ca79c9abc2a42b2bb467f04bd0246073df6b286bc685c583c930bb73c509796bc6f69863c4f36573c4a407abc02e5c73c5b047b3cbe47ad3bc466843cbba344bddc630bbd3ead79bb8cc3e5baacf694bbf28186bcc305c5bb460ffa3b567ea8bc66de8bbc0f3da5bc42b2213c94f98dbc002fb63c7c60a43be48d463ce67b1dbdb3097fbcc42e3fbdd277d1bb7210cd3c3152be3c93d093bc830c133c0b0c253da30adbbc77cee43c73718c3c0db3eb3be0f828bcaf71833dd8320b3c33698fbd30004abc7210cdbc3bceedbcc6e4d03cd125ddbcb6ade73c70f9fbbc5d1b4cbda18c8e3ca6767ebc5f35fb3be6a7f5bb991bc33cd95b053d15c099bc8c978dbc2587f83cca4d96bcd2af16bd28ff88bd91817dbc0589303d715a3b3d61bfb43cde45753c55552e3c7920d9b90c61f7bb7cc4c1bb54c8963cfd26b0bc0460363b318a03bd3927273bccf4dc3b07683c3d4582e23bf982c73c4c6616bcb18bb2bc34f6263b7f048d3a0e14abbb670ae4bc8d24253cb3a203bd715abbbc815681bae51ade3c0bd1013c6cc87b3c4a407a3cdb66e93c4a407abc2c94a6398d88c2bae33b523d2a42b23cf98247bc64631dbd311af9bc44912dbd100202bcca15d1bcf76bf63cbcf5383d1c98e0bba30a5bbb70f61dbcd1b2743c35bee1bcb8601bbb7706aa3b3ee53e3b5b04fbbc477039bde7a417bd0ae32a3d88668dbd5f35fbb708f553ba49b3e2bba91a67bd15c0993cc42e3fbc1bd0253a94f98d3cd709913c44f5cabc79f4003da242203d2b6bacba0589b03cd709913b46473fbd1524b73a46e3213b7d899e3c2c94a63c2b070f3c43a3d6bc9aa8da3b2863263dcbdaadbce76c523c615b973bc85f3f3a9704f23b3d1d843c7ae5b5bc8705ce3abe0fe8bc6642293cf982473c9a7c823ceb9dd23c5643853c24ce083cb558153c0589b03c29b51a3d8182593cd923403bafd87e3b12e4ebbc7f048d3c8d24253b5898573c664229bd38fe2c3c802d873dc42ebf3c5c019d3cf5ed29bd952566bd542cb43c2d21be3855f190bcb8609b3bd277d1bcd735693a173b883c0093d33ce7a417bc0c993c3dc1b3d0bcecfe11bd07a0013dcc903fbc509796bc2dbd20bc49eba73c7ae535bcb55815bd79f4003d5d56ef3cca7690bbcd81f43cfe14873c75279e3c8f03b1bc1e77ec3c55b94b3d2b070fbc4c92eebcb062b8bcc126b939036f013b0db3ebbc07a0013c095693bb9956e6bcde199dbc6d1af0bb16156c3cd9e81c3cde191d3cf551c7bcf6de5ebb33a432bc1157543c7aaa123da79c9a3c60329d3b82e398bc14c377bcd48ea2bb3ead793c986531bc6707863c3bceed3c7cffe43b4430eebb8030653cf830d3bca9ee8ebce7a417bd68977b3d1703c3bc04fff6bc47d4d6bcf1bc293d3ead793bea4b5ebcf2e523bc4a783f3c902cabbb2587783c988eabbc542c343de51adebc2496c33b2b0aed3b815601bc8ae4d9bca773a03c173b08ba9d84083c873d133b15c019bdfe40df3ce48dc63c618411bd567e28bca9ee0e3c052513bdc1eb153daf71033d7a81983bb3a283bcfe1407bdf551c7bc55b94bbc49264b3de983233c04ff76bc542c343d424e043b915525bb561a0b3dcab1b3bcca7690bde18540bc24ce083dca1551bcf372bb3ce48dc63c5a77633b87a1b03bf9ba0c3da36b1abb3061893c5d1bccba8892653decfe113c0eb00d3be7a4973cddb85dbcee41bbb9467f843c1f740ebcfb701e3de1e9ddbbdb6669b9d6e0963b44912dbdcee2b3bcd9e89cbc6cc51d3dc76e8a3c676b23bc31523ebc5c019dbc8f674e3c4430eebcac31b83c292883bc430496bad8328bbba60f03bc12e4eb3c85eb9e3c0c99bc3c61e8ae3c0eb08d3ba6aec33cf2addebc77a20cbd2496433d7aaa923c9a7c823bc8feffbc7aad703cc85f3f3cca4d963c0525133d539f9c3b767cf03ba676fe3c24fa60bb4d1ca8bbf9bdeabc4f36d73b64639d3be67b9dbca3a6bd3bc736c53c3a799b3c4b05d73ce8cd11bc63d6053c7ede703c70cd233d49264b3c78cb863db30621bcb6e5acbc79589e3c96af1f3dda1475bcb88c733b2432263b5ea8e33c020e423d05516bbd3bceedbce373973c8eb1bcbced8ba93c8957423bf6dedebcc76e0a391cf99fbc1f3cc9bceb9dd2bce55223bda18c0e3c173b08ba9de8a53c7aadf0bc5d566fbd024687bc460ffa3bbba3443c1588543c0a7f0d3d6fa4293d33a4323bad83ac3c7c8c7cbd7d25813b84992a3b25841a3c73d5a9bcdfcfae3c79f4003dfc61d33b29b8f8bc685cd83c5555ae3b60963a3b7920d93c1f3cc9bcc14fb3bc7cff643b724892bb36acb83b7ae5b5bbfae3863cddb8dd3c71be58bc07a35fbd6211a93cd51b3abb8678b6bce5ee053c28ff083c91b942bc351f213ccb9f0a3be4c8e93c91b9c2bcc0fd3ebcd33caebce6a775bcd1b2f43b4db80abafb0c01bb9e11a03c2f73323c5212053cdb9e2e3db241c4bcc0c21bbd2432a6bcdc2b46bcc42ebf3b5d566fbc749a06bd9953083d16156c3b89f3a43c2ee69a3b8e155a3c58f916bcefced23c6d5235bcacf6143cf5898cbcc46684bcc305c53c61bf343dfaabc1bcfe40df39b1ef4fbd3610d63b767912bb2bcfc93bf4c4afbbb558953b67cfc0bcecfe91bce8f9693cb27c673c539f1c3cfdeb8cbc7d25813c7cfc06bc85eefc3c85eefc395e7c0b3c25849abb6aae4cbcb79bbe3cbfd444bcccf45cbc9a7c023bfd4faa3cfdeeeabc8fa2f13c36481b3c28ff883c0ae3aabceb9dd2bcb520d03b298ca0bcb49338bcbadee73caadf433c4df32dbb63d6053c4ee1043dde199dbc1cf91f3c5ee0283dd48e223c982a8ebc1524373d208ebd3ba2457ebc91817d3cf982473bc76e8abdfe78a43c16156cbb4f36d73cb18bb23cf33a76bb69bd17391615ecbcbb3f273c18c89fbc46e3a1b9bdba15bcf9bdea3bc76e0a3bec2a6a3ceb39b5bbf39b35bc854f3c3c03d31e3cd76daebc04fff63cf73f9ebae6dfba3c30c526bdc035843cd5f23fbd1f3c49bc0debb03c5925efb9d70911bc1f3cc9bc99b7253cc8c3dc3bc76e0abc2f9cac3cf39b353df982c7bc7550983c3a41d63cc466043d902cab3cad832c3d12a9483c25e837bc670ae43bcd559cb766192fbc0b70c2bcfa47243c8957c2bc84c2a43bb88c73bb90f4e53c85ee7c3c633aa3bcb6ad67bc0b359f3cf05b6a3ceaac1d3d670ae43b58f99639af71833bea4b5ebd0372df3cb772443d6a0f8c3b176760bcb6ad673bbdba153c0d87133cc3a1a73b53a2fa3c5c2a17bc7210cdbb11f3b63c8b6e93bce4c50bbbfe1487bbe39c91bc4926cb3b2d5983bbde45f53cce46d1bc39b4bebcd5b79c3ca4f8313db6e52cbcda11173d31523ebca494943b32171bbd2f7332bc3a41563dc8c35c3c89b8813bf7a3bbbbd42a85bcf5ed293cbc305c3c9525e63c5925efbcb493b83cbb68213b195537bd4ea9bfbbaa7b263c215678bb38c309bd61e8aebbf4ffd2bc2e0f15bd12452bbcf830d33a1955373c80f541bc9246da3cdd54403c68f8ba3be8312f3dccf4dcbc2c3009bd052593ba3ee5be3c0eb00dbdce46513c2e0f15bd4304163cfcfdb53bd304693cf73f9e3b742afc3ccd559cbbe4002fbc9a7c823c1dea543cc68033bc9b3572bafa47a43c46e3a1bccdb9b93c0fd9873c7cfc86bbaa17093de76cd23c27d68ebad51bba3cccc8043b7fdb92bc9f3a9abb4db88a3cc4925c3cac31383c58f9163cd465283db951503cba162dbd308de13c618411bddb3a913ce39c11bcd5565dbc3df4893c2dbd203c61e82ebc98c94e3c639e403d273aacb9ea48803c7b372abb40ffedbb670a643d61876f3bb520d0bbe8f969b9fe1407bb79581e3d7641cdbc51884b3cad1f8fbcd277d13cf5ed29bc0bd1013cd1b274bc67cfc0bc33690fbd8d88c2bc31ee20bdfdeeea3b1864023d24fae03b50c36e3bad1f0fbd4b0557bc8d88c23bc14f333c255ba03c2587783ce61700bd3a791bbc89b8013cd8fa453b5ee0a8bb3000cabad896283b2a19b8bc2bcf493da1f02bbcc6a9ad3bd3d890bc8de981bc45560a3d389a8fbd1dead4bc3bce6d3c04c453bbadbecfbcf830d3bcc7d227bc34cd2c3c4491ad3c3c934a3c4770b9bc0a7f0dbcd923c0bc5bd822bcde42173c4a14a2bce4c50bbb5cc9d7bcf4ff52bb38c309bd670a6439424e84bce6dfbabaaf71833c130a88bcf5ed293d11b8933c982a0ebdf48c6a3bbd82d03c5d5391bce18540bc0c99bcbcbf9c7fb985b3d93c0551eb3b82e398bb4582e23c9525e63c25849abba6e6083d1f9d88bc8370b03b98c9ce3c6921b5bb785bfc3924f702bc7fa3cd3bc305453d1d86b7bbb55895bb618411bc6a0f0cbc8091a4bcddf0a2bc7f048d3b3862cabc0fa142bc1a430ebce4c8693c2f3bedbce2ae3a3d50c3eebba88dcfbc6f408c3caa7ba63a460f7abdf91eaa3b32dfd53a0b351f3da64a263cfdee6a3c9b6d373db27ce73abe0f68bc8b71f13b1b34c33c9613bd3cd30469bccb67c5bc29f0bdbc854f3c3d2f9cacbdf67a41bd29b8f8bae1e95d3c4ea9bf3bbb68a13cfae386bcc214903cca15d1bc0db36b3c62ad0b3dd89628bdc33d0a3cbfd4c43c8dc007bc1a1a943c8fdab6bc07a081bbacf694b9d3d8903ad09845bca36b9a3c75271ebd7cc4c13bdd8c05bbd0f9043c1eafb1bbba162dbc8d507d3a6aae4cbc991bc3bcc1eef33a54f46e3cedefc63c1ba72b3a7f682a3c84350d3db1ef4fbb4c6696bbcfa7103d1e776cbcea4bde3c69e96fbd61841139b8ffdbbc930b37bbb98995bcf1580cba211bd53b9c96b1bba3a6bd3c227c94bc3c934a3ce708353ca27dc3bcc897843c3152bebc8678b63cb6e5ac3cee7c5ebdb2dd26bcda14753c930b373cbb68a13c564305bcf05b6a3c1ba7abbcc51ff43cce4651bd97d819bd24f7823c39b4bebb9a44bd3cde7dbabaa2b508bb4a407abc7d899e3ce76c523c8f9f933cc3cd7f3dcb9f0a3c5a4b0b3c90f465bca2de823b6184913a73710cbcef09f63bd6e096bc349289bc65b8ef3ce373973c002fb63b8156813c5276a23ccf34a8bc6e7bafbcbb3fa73b90c88dbcf91eaabc7fa34d3c0768bc3c11b893bc07a35f3cf7db00bcd4c9c5bc2001a6bc5898d73b62ad8bbb07a3dfbc24fa603a642bd83a7cfc86bb5a4b0b3cde4217bba36b1abdbade67bcb1508fbc07a35fbd1245ab3c685cd83c470c9c3b85ee7c3c5bd822bd45ba27bd1a438ebcb42f1b3cb520d0bb19f119bd9b091a3c095613bc5646e3b9fc9918bc44306ebc945dab3bbf0c0a3d59eacb3b5b7405bb', 'hex'));
@@ -0,0 +1,34 @@
+-- Schema for the in-memory H2 database of the h2 profile (PostgreSQL compatibility mode).
+-- Same tables as schema.sql; there is nothing to migrate in a fresh database.
+
+-- Serial ids come from a sequence named the way PostgreSQL names it, so
+-- nextval(pg_get_serial_sequence('chat_history', 'id')) works unchanged
+CREATE SEQUENCE IF NOT EXISTS chat_history_id_seq;
+CREATE ALIAS IF NOT EXISTS pg_get_serial_sequence FOR 'com.example.springaiapp.local.H2Functions.serialSequence';
+
+CREATE TABLE IF NOT EXISTS chat_history (
+    id BIGINT DEFAULT NEXT VALUE FOR chat_history_id_seq PRIMARY KEY,
+    prompt TEXT NOT NULL,
+    response TEXT NOT NULL,
+    embedding BYTEA NOT NULL, -- Little-endian float32 values (4 bytes per dimension)
+    source TEXT,
+    created_at TIMESTAMP WITH TIME ZONE DEFAULT CURRENT_TIMESTAMP,
+    hit_count INTEGER NOT NULL DEFAULT 0,
+    last_hit_at TIMESTAMP WITH TIME ZONE
+);
+CREATE INDEX IF NOT EXISTS chat_history_source_idx ON chat_history (source);
+CREATE INDEX IF NOT EXISTS chat_history_created_at_idx ON chat_history (created_at);
+
+CREATE TABLE IF NOT EXISTS embedding_cache (
+    cache_key CHAR(64) PRIMARY KEY,
+    embedding BYTEA NOT NULL,
+    created_at TIMESTAMP WITH TIME ZONE DEFAULT CURRENT_TIMESTAMP
+);
+CREATE INDEX IF NOT EXISTS embedding_cache_created_at_idx ON embedding_cache (created_at);
+
+CREATE TABLE IF NOT EXISTS ingestion_progress (
+    source TEXT PRIMARY KEY,
+    content_hash CHAR(64) NOT NULL,
+    chunks INTEGER NOT NULL,
+    completed_at TIMESTAMP WITH TIME ZONE DEFAULT CURRENT_TIMESTAMP
+);
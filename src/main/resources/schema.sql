@@ -3,6 +3,61 @@ CREATE TABLE IF NOT EXISTS chat_history (
     id SERIAL PRIMARY KEY,
     prompt TEXT NOT NULL,
     response TEXT NOT NULL,
-    embedding TEXT NOT NULL, -- Store embedding as JSON array string
+    embedding BYTEA NOT NULL, -- Store embedding as little-endian float32 values (4 bytes per dimension)
+    source TEXT, -- File an ingested document chunk came from (NULL for Q&A pairs)
+    created_at TIMESTAMP WITH TIME ZONE DEFAULT CURRENT_TIMESTAMP,
+    hit_count INTEGER NOT NULL DEFAULT 0, -- Times the row was used as context or as a cached answer
+    last_hit_at TIMESTAMP WITH TIME ZONE
+);
+
+-- Migrate tables created by earlier versions, which stored the embedding as a
+-- JSON array string: each element becomes 4 little-endian float32 bytes
+-- (float4send is big-endian, so the bytes of every value are reversed).
+DO '
+BEGIN
+    IF EXISTS (SELECT 1 FROM information_schema.columns
+               WHERE table_name = ''chat_history''
+                 AND column_name = ''embedding''
+                 AND data_type = ''text'') THEN
+        ALTER TABLE chat_history RENAME COLUMN embedding TO embedding_json;
+        ALTER TABLE chat_history ADD COLUMN embedding BYTEA;
+        UPDATE chat_history SET embedding = (
+            SELECT string_agg(
+                       substring(b FROM 4 FOR 1) || substring(b FROM 3 FOR 1) ||
+                       substring(b FROM 2 FOR 1) || substring(b FROM 1 FOR 1),
+                       ''''::bytea ORDER BY ord)
+            FROM (SELECT float4send(v::float4) AS b, ord
+                  FROM json_array_elements_text(embedding_json::json) WITH ORDINALITY AS e(v, ord)) AS parts
+        );
+        ALTER TABLE chat_history ALTER COLUMN embedding SET NOT NULL;
+        ALTER TABLE chat_history DROP COLUMN embedding_json;
+    END IF;
+END';
+
+-- Tables created before document ingestion have no source column
+ALTER TABLE chat_history ADD COLUMN IF NOT EXISTS source TEXT;
+CREATE INDEX IF NOT EXISTS chat_history_source_idx ON chat_history (source);
+
+-- Lets the in-memory mirror pull only rows inserted since its last refresh
+CREATE INDEX IF NOT EXISTS chat_history_created_at_idx ON chat_history (created_at);
+
+-- Tables created before compaction have no usage columns
+ALTER TABLE chat_history ADD COLUMN IF NOT EXISTS hit_count INTEGER NOT NULL DEFAULT 0;
+ALTER TABLE chat_history ADD COLUMN IF NOT EXISTS last_hit_at TIMESTAMP WITH TIME ZONE;
+
+-- Persistent tier of the embedding cache, keyed by SHA-256 of deployment + normalized text
+CREATE TABLE IF NOT EXISTS embedding_cache (
+    cache_key CHAR(64) PRIMARY KEY,
+    embedding BYTEA NOT NULL, -- Little-endian float32 values, same format as chat_history.embedding
     created_at TIMESTAMP WITH TIME ZONE DEFAULT CURRENT_TIMESTAMP
 );
+-- Lets retention delete the oldest entries without a full scan
+CREATE INDEX IF NOT EXISTS embedding_cache_created_at_idx ON embedding_cache (created_at);
+
+-- Files fully ingested by the ingest command; unchanged files are skipped on later runs
+CREATE TABLE IF NOT EXISTS ingestion_progress (
+    source TEXT PRIMARY KEY,
+    content_hash CHAR(64) NOT NULL,
+    chunks INTEGER NOT NULL,
+    completed_at TIMESTAMP WITH TIME ZONE DEFAULT CURRENT_TIMESTAMP
+);
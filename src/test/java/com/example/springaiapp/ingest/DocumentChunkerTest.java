@@ -0,0 +1,130 @@
+package com.example.springaiapp.ingest;
+
+import org.junit.jupiter.api.Test;
+import java.io.IOException;
+import java.io.Reader;
+import java.io.StringReader;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class DocumentChunkerTest {
+
+    @Test
+    void chunksEndAtSentencesAndStayWithinTheSize() throws IOException {
+        String text = "One sentence here. Another follows it. " .repeat(40);
+        List<String> chunks = chunk(new DocumentChunker(100, 20), new StringReader(text));
+
+        assertTrue(chunks.size() > 1);
+        for (String chunk : chunks) {
+            assertTrue(chunk.length() <= 100, "chunk of " + chunk.length() + " characters");
+        }
+        for (String chunk : chunks.subList(0, chunks.size() - 1)) {
+            assertTrue(chunk.endsWith("."), "chunk does not end at a sentence: " + chunk);
+        }
+    }
+
+    @Test
+    void paragraphBreaksArePreferred() throws IOException {
+        String first = "word ".repeat(14).strip() + ".";
+        String text = first + "\n\n" + "next paragraph words go on and on. ".repeat(5);
+        List<String> chunks = chunk(new DocumentChunker(100, 0), new StringReader(text));
+
+        assertEquals(first, chunks.get(0));
+    }
+
+    @Test
+    void consecutiveChunksOverlapAtWordBoundaries() throws IOException {
+        StringBuilder text = new StringBuilder();
+        for (int i = 0; i < 200; i++) {
+            text.append("w").append(i).append(' ');
+        }
+        List<String> chunks = chunk(new DocumentChunker(60, 15), new StringReader(text.toString()));
+
+        for (int i = 1; i < chunks.size(); i++) {
+            String previous = chunks.get(i - 1);
+            String firstWord = chunks.get(i).split(" ")[0];
+            // The next chunk starts with a whole word from the end of the previous one
+            assertTrue(previous.endsWith(" " + firstWord) || previous.contains(" " + firstWord + " "),
+                       "chunk " + i + " does not start inside the previous chunk");
+            assertTrue(previous.length() - previous.lastIndexOf(" " + firstWord + " ") <= 16 + firstWord.length());
+        }
+        // Every word is in some chunk, in order
+        List<String> words = new ArrayList<>();
+        for (String chunk : chunks) {
+            for (String word : chunk.split(" ")) {
+                if (words.isEmpty() || Integer.parseInt(word.substring(1))
+                        > Integer.parseInt(words.get(words.size() - 1).substring(1))) {
+                    words.add(word);
+                }
+            }
+        }
+        assertEquals(200, words.size());
+    }
+
+    @Test
+    void smallReadsGiveTheSameChunks() throws IOException {
+        String text = "Short sentences. They end often! Do they? Yes.\n\n".repeat(30);
+        DocumentChunker chunker = new DocumentChunker(120, 30);
+
+        assertEquals(chunk(chunker, new StringReader(text)), chunk(chunker, new TrickleReader(text, 7)));
+    }
+
+    @Test
+    void surrogatePairsAreNeverSplit() throws IOException {
+        String text = "\ud83d\ude00".repeat(100); // No whitespace, so every chunk is a hard cut
+        List<String> chunks = chunk(new DocumentChunker(51, 0), new StringReader(text));
+
+        for (String chunk : chunks) {
+            assertFalse(Character.isLowSurrogate(chunk.charAt(0)));
+            assertFalse(Character.isHighSurrogate(chunk.charAt(chunk.length() - 1)));
+        }
+        assertEquals(text, String.join("", chunks));
+    }
+
+    @Test
+    void overlapMustBeSmallerThanTheChunk() {
+        assertThrows(IllegalArgumentException.class, () -> new DocumentChunker(150, 200));
+        assertThrows(IllegalArgumentException.class, () -> new DocumentChunker(0, 0));
+    }
+
+    private static List<String> chunk(DocumentChunker chunker, Reader reader) throws IOException {
+        List<String> chunks = new ArrayList<>();
+        int count = chunker.chunk(reader, chunks::add);
+        assertEquals(chunks.size(), count);
+        return chunks;
+    }
+
+    /**
+     * Returns at most {@code step} characters per read, like a slow stream.
+     */
+    private static final class TrickleReader extends Reader {
+        private final String text;
+        private final int step;
+        private int position;
+
+        TrickleReader(String text, int step) {
+            this.text = text;
+            this.step = step;
+        }
+
+        @Override
+        public int read(char[] buffer, int offset, int length) {
+            if (position == text.length()) {
+                return -1;
+            }
+            int count = Math.min(Math.min(length, step), text.length() - position);
+            text.getChars(position, position + count, buffer, offset);
+            position += count;
+            return count;
+        }
+
+        @Override
+        public void close() {
+        }
+    }
+}
@@ -0,0 +1,23 @@
+package com.example.springaiapp.ingest;
+
+import org.junit.jupiter.api.Test;
+import java.util.Arrays;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+class HtmlTextTest {
+
+    @Test
+    void keepsTextWithBlockElementsOnLinesOfTheirOwn() {
+        String html = """
+            <html><head><style>p { color: red }</style><script>alert('x')</script></head>
+            <body><h1>Title</h1><!-- note --><p>Fish &amp; <b>chips</b> &lt;tag&gt;</p><p>Next</p></body></html>""";
+
+        List<String> lines = Arrays.stream(HtmlText.toText(html).split("\n"))
+            .map(String::strip)
+            .filter(line -> !line.isEmpty())
+            .toList();
+        assertEquals(List.of("Title", "Fish & chips <tag>", "Next"), lines);
+    }
+}
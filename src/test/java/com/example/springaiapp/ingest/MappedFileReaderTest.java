@@ -0,0 +1,55 @@
+package com.example.springaiapp.ingest;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import java.io.IOException;
+import java.io.Reader;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+class MappedFileReaderTest {
+    // 1-, 2-, 3- and 4-byte UTF-8 sequences; the last is a surrogate pair in Java
+    private static final String TEXT = "a\u00e4\u20ac\ud83d\ude00 ".repeat(500);
+
+    @TempDir
+    Path directory;
+
+    @Test
+    void decodesMultiByteCharactersWithAnyBufferSize() throws IOException {
+        Path file = directory.resolve("text.md");
+        Files.writeString(file, TEXT, StandardCharsets.UTF_8);
+
+        for (int bufferSize : new int[] {1, 2, 3, 5, 8192}) {
+            assertEquals(TEXT, readAll(new MappedFileReader(file), bufferSize), "buffer of " + bufferSize);
+        }
+    }
+
+    @Test
+    void malformedBytesBecomeReplacementCharacters() throws IOException {
+        Path file = directory.resolve("broken.txt");
+        Files.write(file, new byte[] {'o', 'k', (byte) 0xC3});
+
+        assertEquals("ok\ufffd", readAll(new MappedFileReader(file), 16));
+    }
+
+    @Test
+    void emptyFileIsAtEndRightAway() throws IOException {
+        Path file = directory.resolve("empty.txt");
+        Files.createFile(file);
+
+        assertEquals(-1, new MappedFileReader(file).read(new char[4], 0, 4));
+    }
+
+    private static String readAll(Reader reader, int bufferSize) throws IOException {
+        StringBuilder text = new StringBuilder();
+        char[] buffer = new char[bufferSize];
+        int read;
+        while ((read = reader.read(buffer, 0, bufferSize)) != -1) {
+            text.append(buffer, 0, read);
+        }
+        return text.toString();
+    }
+}
@@ -0,0 +1,309 @@
+package com.example.springaiapp.ratelimit;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.core.env.StandardEnvironment;
+import java.time.Duration;
+import java.time.ZoneOffset;
+import java.time.ZonedDateTime;
+import java.time.format.DateTimeFormatter;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.locks.Condition;
+import java.util.function.Supplier;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class CallSchedulerTest {
+    private static final String DEPLOYMENT = "chat";
+
+    private final FakeClock clock = new FakeClock();
+    private final ExecutorService callers = Executors.newCachedThreadPool();
+
+    @AfterEach
+    void stopCallers() {
+        callers.shutdownNow();
+    }
+
+    @Test
+    void callsRunOnTheCallersThread() {
+        CallScheduler scheduler = scheduler(0, 0);
+
+        assertSame(Thread.currentThread(),
+            scheduler.execute(DEPLOYMENT, CallPriority.INTERACTIVE, 1, Thread::currentThread));
+    }
+
+    @Test
+    void requestsArePacedByTheRequestBucket() throws Exception {
+        // 12 per minute: a burst of 2, then one every 5 seconds
+        CallScheduler scheduler = scheduler(12, 0);
+        scheduler.execute(DEPLOYMENT, CallPriority.INTERACTIVE, 1, () -> "first");
+        scheduler.execute(DEPLOYMENT, CallPriority.INTERACTIVE, 1, () -> "second");
+
+        Future<String> third = call(scheduler, CallPriority.INTERACTIVE, 1, () -> "third");
+        awaitQueued(scheduler, CallPriority.INTERACTIVE, 1);
+        clock.advance(Duration.ofMillis(4900));
+        assertStillWaiting(third);
+
+        clock.advance(Duration.ofMillis(100));
+        assertEquals("third", third.get(5, TimeUnit.SECONDS));
+    }
+
+    @Test
+    void largeCallsArePacedByTheTokenBucket() throws Exception {
+        // 600 per minute: a burst of 100, then 10 per second
+        CallScheduler scheduler = scheduler(0, 600);
+        scheduler.execute(DEPLOYMENT, CallPriority.INTERACTIVE, 100, () -> "first");
+
+        Future<String> second = call(scheduler, CallPriority.INTERACTIVE, 50, () -> "second");
+        awaitQueued(scheduler, CallPriority.INTERACTIVE, 1);
+        clock.advance(Duration.ofMillis(4900));
+        assertStillWaiting(second);
+
+        clock.advance(Duration.ofMillis(100));
+        assertEquals("second", second.get(5, TimeUnit.SECONDS));
+    }
+
+    @Test
+    void interactiveCallsGoBeforeEarlierBatchCalls() throws Exception {
+        // 6 per minute: one call, then one every 10 seconds
+        CallScheduler scheduler = scheduler(6, 0);
+        scheduler.execute(DEPLOYMENT, CallPriority.BATCH, 1, () -> "first");
+        List<String> order = new CopyOnWriteArrayList<>();
+
+        Future<Boolean> batch = call(scheduler, CallPriority.BATCH, 1, () -> order.add("batch"));
+        awaitQueued(scheduler, CallPriority.BATCH, 1);
+        Future<Boolean> interactive = call(scheduler, CallPriority.INTERACTIVE, 1, () -> order.add("interactive"));
+        awaitQueued(scheduler, CallPriority.INTERACTIVE, 1);
+
+        clock.advance(Duration.ofSeconds(10));
+        interactive.get(5, TimeUnit.SECONDS);
+        assertStillWaiting(batch);
+
+        clock.advance(Duration.ofSeconds(10));
+        batch.get(5, TimeUnit.SECONDS);
+        assertEquals(List.of("interactive", "batch"), order);
+    }
+
+    @Test
+    void rateLimitedCallsAreRetriedWithJitteredBackoff() {
+        Set<Long> firstWaits = new HashSet<>();
+        for (int run = 0; run < 20; run++) {
+            clock.sleeps.clear();
+            AtomicInteger attempts = new AtomicInteger();
+
+            String answer = scheduler(0, 0).execute(DEPLOYMENT, CallPriority.INTERACTIVE, 1, () -> {
+                if (attempts.incrementAndGet() < 3) {
+                    throw new RateLimitedException("Too many requests", null);
+                }
+                return "answer";
+            });
+
+            assertEquals("answer", answer);
+            assertEquals(2, clock.sleeps.size());
+            // Initial backoff 1000 ms, doubled per attempt, randomized between half and all of it
+            assertBetween(500, 1000, clock.sleeps.get(0).toMillis());
+            assertBetween(1000, 2000, clock.sleeps.get(1).toMillis());
+            firstWaits.add(clock.sleeps.get(0).toMillis());
+        }
+        assertTrue(firstWaits.size() > 1, "retry waits should not all be the same");
+    }
+
+    @Test
+    void retryAfterIsWaitedBeforeRetrying() {
+        AtomicInteger attempts = new AtomicInteger();
+
+        String answer = scheduler(0, 0).execute(DEPLOYMENT, CallPriority.INTERACTIVE, 1, () -> {
+            if (attempts.incrementAndGet() == 1) {
+                throw new RateLimitedException("Too many requests", Duration.ofSeconds(3));
+            }
+            return "answer";
+        });
+
+        assertEquals("answer", answer);
+        assertEquals(1, clock.sleeps.size());
+        // Retry-After plus up to one initial backoff of jitter
+        assertBetween(3000, 3999, clock.sleeps.get(0).toMillis());
+    }
+
+    @Test
+    void retryAfterPausesTheWholeDeployment() throws Exception {
+        CallScheduler scheduler = scheduler(0, 0);
+        clock.sleepsAdvanceTime = false;
+        AtomicInteger attempts = new AtomicInteger();
+
+        Future<String> rateLimited = call(scheduler, CallPriority.BATCH, 1, () -> {
+            if (attempts.incrementAndGet() == 1) {
+                throw new RateLimitedException("Too many requests", Duration.ofSeconds(30));
+            }
+            return "retried";
+        });
+        awaitSleeping(1);
+        Future<String> other = call(scheduler, CallPriority.INTERACTIVE, 1, () -> "other");
+        awaitQueued(scheduler, CallPriority.INTERACTIVE, 1);
+        clock.advance(Duration.ofSeconds(29));
+        assertStillWaiting(other);
+
+        clock.advance(Duration.ofSeconds(2));
+        assertEquals("other", other.get(5, TimeUnit.SECONDS));
+        assertEquals("retried", rateLimited.get(5, TimeUnit.SECONDS));
+    }
+
+    @Test
+    void givesUpAfterMaxAttempts() {
+        CallScheduler scheduler = scheduler(0, 0);
+        RateLimitedException failure = new RateLimitedException("Too many requests", null);
+        AtomicInteger attempts = new AtomicInteger();
+
+        RateLimitedException thrown = assertThrows(RateLimitedException.class, () ->
+            scheduler.execute(DEPLOYMENT, CallPriority.INTERACTIVE, 1, () -> {
+                attempts.incrementAndGet();
+                throw failure;
+            }));
+
+        assertSame(failure, thrown);
+        assertEquals(4, attempts.get());
+        assertEquals(3, clock.sleeps.size());
+    }
+
+    @Test
+    void otherFailuresAreNotRetried() {
+        CallScheduler scheduler = scheduler(0, 0);
+        AtomicInteger attempts = new AtomicInteger();
+
+        assertThrows(IllegalArgumentException.class, () ->
+            scheduler.execute(DEPLOYMENT, CallPriority.INTERACTIVE, 1, () -> {
+                attempts.incrementAndGet();
+                throw new IllegalArgumentException("bad request");
+            }));
+
+        assertEquals(1, attempts.get());
+        assertTrue(clock.sleeps.isEmpty());
+    }
+
+    @Test
+    void readsRetryAfterHeaders() {
+        ZonedDateTime now = clock.now();
+
+        assertEquals(Duration.ofMillis(1500),
+            CallScheduler.retryAfterOf(Map.of("retry-after-ms", "1500", "retry-after", "9")::get, now));
+        assertEquals(Duration.ofMillis(250),
+            CallScheduler.retryAfterOf(Map.of("x-ms-retry-after-ms", "250")::get, now));
+        assertEquals(Duration.ofSeconds(7),
+            CallScheduler.retryAfterOf(Map.of("retry-after", " 7 ")::get, now));
+        assertEquals(Duration.ofSeconds(2),
+            CallScheduler.retryAfterOf(Map.of("retry-after-ms", "soon", "retry-after", "2")::get, now));
+        assertNull(CallScheduler.retryAfterOf(Map.of("retry-after", "later")::get, now));
+        assertNull(CallScheduler.retryAfterOf(Map.<String, String>of()::get, now));
+    }
+
+    @Test
+    void readsRetryAfterDates() {
+        ZonedDateTime now = clock.now();
+        String inThirtySeconds = DateTimeFormatter.RFC_1123_DATE_TIME.format(now.plusSeconds(30));
+        String aMinuteAgo = DateTimeFormatter.RFC_1123_DATE_TIME.format(now.minusMinutes(1));
+
+        assertEquals(Duration.ofSeconds(30), CallScheduler.retryAfterOf(Map.of("retry-after", inThirtySeconds)::get, now));
+        assertEquals(Duration.ZERO, CallScheduler.retryAfterOf(Map.of("retry-after", aMinuteAgo)::get, now));
+    }
+
+    private CallScheduler scheduler(long requestsPerMinute, long tokensPerMinute) {
+        return new CallScheduler(new StandardEnvironment(), new SimpleMeterRegistry(), requestsPerMinute,
+            tokensPerMinute, 4, 1000, 30000, 0, clock);
+    }
+
+    private <T> Future<T> call(CallScheduler scheduler, CallPriority priority, long tokens, Supplier<T> work) {
+        return callers.submit(() -> scheduler.execute(DEPLOYMENT, priority, tokens, work));
+    }
+
+    private static void awaitQueued(CallScheduler scheduler, CallPriority priority, int expected)
+            throws InterruptedException {
+        for (int i = 0; i < 500 && queued(scheduler, priority) != expected; i++) {
+            Thread.sleep(10);
+        }
+        assertEquals(expected, queued(scheduler, priority));
+    }
+
+    private static int queued(CallScheduler scheduler, CallPriority priority) {
+        return scheduler.queues().stream()
+            .filter(queue -> queue.priority() == priority)
+            .mapToInt(CallScheduler.QueueStats::queued)
+            .sum();
+    }
+
+    private void awaitSleeping(int expected) throws InterruptedException {
+        for (int i = 0; i < 500 && clock.sleeps.size() != expected; i++) {
+            Thread.sleep(10);
+        }
+        assertEquals(expected, clock.sleeps.size());
+    }
+
+    private static void assertStillWaiting(Future<?> call) throws InterruptedException {
+        Thread.sleep(50);
+        assertFalse(call.isDone());
+    }
+
+    private static void assertBetween(long min, long max, long actual) {
+        assertTrue(actual >= min && actual <= max, actual + " not in [" + min + ", " + max + "]");
+    }
+
+    /**
+     * Time stands still until the test advances it; sleeping advances it by the
+     * sleep, or waits for the test to do so.
+     */
+    private static final class FakeClock implements SchedulerClock {
+        private static final ZonedDateTime START = ZonedDateTime.of(2024, 1, 1, 12, 0, 0, 0, ZoneOffset.UTC);
+
+        private final AtomicLong nanos = new AtomicLong();
+        final List<Duration> sleeps = new CopyOnWriteArrayList<>();
+        volatile boolean sleepsAdvanceTime = true;
+
+        void advance(Duration duration) {
+            nanos.addAndGet(duration.toNanos());
+        }
+
+        @Override
+        public long nanoTime() {
+            return nanos.get();
+        }
+
+        @Override
+        public ZonedDateTime now() {
+            return START.plusNanos(nanos.get());
+        }
+
+        @Override
+        public void awaitNanos(Condition condition, long waitNanos) throws InterruptedException {
+            // Wake up often to see whether the test has advanced the clock
+            condition.await(1, TimeUnit.MILLISECONDS);
+        }
+
+        @Override
+        public void sleep(Duration duration) throws InterruptedException {
+            sleeps.add(duration);
+            if (sleepsAdvanceTime) {
+                advance(duration);
+                return;
+            }
+            long until = nanos.get() + duration.toNanos();
+            while (nanos.get() - until < 0) {
+                Thread.sleep(1);
+            }
+        }
+    }
+}
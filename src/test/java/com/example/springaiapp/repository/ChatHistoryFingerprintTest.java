@@ -0,0 +1,29 @@
+package com.example.springaiapp.repository;
+
+import com.example.springaiapp.model.ChatHistory;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotEquals;
+
+class ChatHistoryFingerprintTest {
+
+    @Test
+    void dependsOnContentNotOnIdOrEmbedding() {
+        ChatHistory row = new ChatHistory(1L, "What is RAG?", "Retrieval augmented generation.", new float[] {1});
+        ChatHistory sameContent = new ChatHistory(2L, "What is RAG?", "Retrieval augmented generation.", null);
+
+        assertEquals(ChatHistoryRepository.fingerprint(row), ChatHistoryRepository.fingerprint(sameContent));
+    }
+
+    @Test
+    void differsForAnotherRowWithTheSameId() {
+        ChatHistory before = new ChatHistory(1L, "What is RAG?", "Retrieval augmented generation.", null);
+        ChatHistory after = new ChatHistory(1L, "What is HNSW?", "A graph index.", null);
+        // The separator keeps prompt and response boundaries apart
+        ChatHistory shifted = new ChatHistory(1L, "What is RAG?Retrieval", " augmented generation.", null);
+
+        assertNotEquals(ChatHistoryRepository.fingerprint(before), ChatHistoryRepository.fingerprint(after));
+        assertNotEquals(ChatHistoryRepository.fingerprint(before), ChatHistoryRepository.fingerprint(shifted));
+    }
+}
@@ -0,0 +1,64 @@
+package com.example.springaiapp.repository;
+
+import com.example.springaiapp.model.ChatHistory;
+import org.junit.jupiter.api.Test;
+import java.time.Duration;
+import java.util.List;
+import java.util.OptionalLong;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class ChatHistoryWriteBehindTest {
+
+    @Test
+    void idsStayPendingUntilTheirBatchIsWritten() throws InterruptedException {
+        CountDownLatch release = new CountDownLatch(1);
+        ChatHistoryWriteBehind writeBehind = new ChatHistoryWriteBehind(batch -> await(release), batch -> {},
+            100, 10, Duration.ofMillis(1), Duration.ofMillis(100), 0, Duration.ofMillis(1));
+
+        writeBehind.register(5);
+        assertEquals(OptionalLong.of(5), writeBehind.lowestPendingId());
+        writeBehind.enqueue(row(5));
+        writeBehind.enqueue(row(7));
+        // The flusher is blocked writing: the ids are no longer queued but still pending
+        assertEquals(OptionalLong.of(5), writeBehind.lowestPendingId());
+
+        release.countDown();
+        writeBehind.shutdown();
+        assertEquals(OptionalLong.empty(), writeBehind.lowestPendingId());
+        assertEquals(2, writeBehind.stats().written());
+    }
+
+    @Test
+    void rowsGivenUpOnAreHandedBackAndNoLongerPending() {
+        List<Long> givenUp = new CopyOnWriteArrayList<>();
+        ChatHistoryWriteBehind writeBehind = new ChatHistoryWriteBehind(batch -> {
+            throw new IllegalStateException("database down");
+        }, batch -> batch.forEach(row -> givenUp.add(row.getId())),
+            100, 10, Duration.ofMillis(1), Duration.ofMillis(100), 1, Duration.ofMillis(1));
+
+        writeBehind.enqueue(row(3));
+        writeBehind.shutdown();
+
+        assertEquals(List.of(3L), givenUp);
+        assertTrue(writeBehind.lowestPendingId().isEmpty());
+        assertEquals(1, writeBehind.stats().failed());
+    }
+
+    private static ChatHistory row(long id) {
+        return new ChatHistory(id, "question " + id, "answer " + id, null);
+    }
+
+    private static void await(CountDownLatch latch) {
+        try {
+            assertTrue(latch.await(10, TimeUnit.SECONDS));
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException(e);
+        }
+    }
+}
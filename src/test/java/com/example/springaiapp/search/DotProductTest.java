@@ -0,0 +1,57 @@
+package com.example.springaiapp.search;
+
+import org.junit.jupiter.api.Test;
+import java.util.Random;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assumptions.assumeTrue;
+
+class DotProductTest {
+    private final Random random = new Random(5);
+
+    @Test
+    void scalarMatchesDoublePrecisionReference() {
+        DotProduct scalar = new ScalarDotProduct();
+        // Lengths around the 4-way unrolling, so the tail loop is exercised too
+        for (int length : new int[] {0, 1, 3, 4, 5, 7, 64, 1535, 1536}) {
+            float[] a = randomFloats(length + 3);
+            float[] b = randomFloats(length + 5);
+            assertEquals(reference(a, 3, b, 5, length), scalar.dot(a, 3, b, 5, length), 1e-4);
+        }
+    }
+
+    @Test
+    void simdMatchesScalar() {
+        assumeTrue(VectorMath.isSimdEnabled(), "JVM started without --add-modules jdk.incubator.vector");
+        DotProduct scalar = new ScalarDotProduct();
+        DotProduct simd = new SimdDotProduct();
+        for (int length : new int[] {0, 1, 7, 8, 9, 15, 16, 17, 33, 128, 1535, 1536}) {
+            float[] a = randomFloats(length + 2);
+            float[] b = randomFloats(length + 9);
+            assertEquals(scalar.dot(a, 2, b, 9, length), simd.dot(a, 2, b, 9, length), 1e-4,
+                         "float dot product of length " + length);
+
+            byte[] codes = new byte[length + 6];
+            random.nextBytes(codes);
+            float[] query = randomFloats(length);
+            assertEquals(scalar.dot(query, codes, 6, length), simd.dot(query, codes, 6, length), 1e-2,
+                         "byte dot product of length " + length);
+        }
+    }
+
+    private float[] randomFloats(int length) {
+        float[] values = new float[length];
+        for (int i = 0; i < length; i++) {
+            values[i] = (float) random.nextGaussian();
+        }
+        return values;
+    }
+
+    private static double reference(float[] a, int aOffset, float[] b, int bOffset, int length) {
+        double sum = 0;
+        for (int i = 0; i < length; i++) {
+            sum += (double) a[aOffset + i] * b[bOffset + i];
+        }
+        return sum;
+    }
+}
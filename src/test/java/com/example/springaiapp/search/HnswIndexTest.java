@@ -0,0 +1,156 @@
+package com.example.springaiapp.search;
+
+import org.junit.jupiter.api.Test;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class HnswIndexTest {
+    private static final int DIMENSIONS = 128;
+
+    @Test
+    void recallAgainstExactIndexIsHigh() {
+        TestVectors vectors = new TestVectors(1, DIMENSIONS, 32, 0.8f);
+        ExactIndex exact = new ExactIndex();
+        HnswIndex hnsw = new HnswIndex(16, 100, 64, 0);
+        for (long id = 0; id < 3000; id++) {
+            float[] vector = vectors.next();
+            exact.add(id, vector);
+            hnsw.add(id, vector);
+        }
+
+        double recall = TestVectors.recall(exact, hnsw, vectors.list(100), 10);
+
+        assertTrue(recall > 0.95, "recall@10 was " + recall);
+    }
+
+    @Test
+    void scoresAreCosineSimilaritiesBestFirst() {
+        TestVectors vectors = new TestVectors(2, DIMENSIONS, 8, 0.5f);
+        HnswIndex hnsw = new HnswIndex(8, 50, 32, 0);
+        List<float[]> stored = vectors.list(500);
+        for (int id = 0; id < stored.size(); id++) {
+            hnsw.add(id, stored.get(id));
+        }
+        float[] query = vectors.next();
+
+        List<SearchHit> hits = hnsw.search(query, 5);
+
+        assertEquals(5, hits.size());
+        for (int i = 0; i < hits.size(); i++) {
+            SearchHit hit = hits.get(i);
+            assertEquals(VectorMath.dot(query, stored.get((int) hit.id())), hit.score(), 1e-5);
+            if (i > 0) {
+                assertTrue(hit.score() <= hits.get(i - 1).score());
+            }
+        }
+    }
+
+    @Test
+    void smallIndexIsScannedExactly() {
+        TestVectors vectors = new TestVectors(3, DIMENSIONS, 4, 1.0f);
+        ExactIndex exact = new ExactIndex();
+        HnswIndex hnsw = new HnswIndex(4, 8, 1, 1000);
+        for (long id = 0; id < 300; id++) {
+            float[] vector = vectors.next();
+            exact.add(id, vector);
+            hnsw.add(id, vector);
+        }
+
+        assertEquals(1.0, TestVectors.recall(exact, hnsw, vectors.list(20), 10));
+    }
+
+    @Test
+    void smallEnoughAfterRemovalsIsScannedExactly() {
+        TestVectors vectors = new TestVectors(5, DIMENSIONS, 4, 1.0f);
+        ExactIndex exact = new ExactIndex();
+        // Never rebuilt, so the deleted nodes stay in the graph
+        HnswIndex hnsw = new HnswIndex(4, 8, 1, 100, 1.0);
+        for (long id = 0; id < 150; id++) {
+            float[] vector = vectors.next();
+            exact.add(id, vector);
+            hnsw.add(id, vector);
+        }
+        Set<Long> removed = new HashSet<>();
+        for (long id = 0; id < 60; id++) {
+            removed.add(id);
+        }
+        hnsw.removeAll(removed);
+        exact.removeAll(removed);
+
+        assertEquals(150, hnsw.nodeCount());
+        assertEquals(1.0, TestVectors.recall(exact, hnsw, vectors.list(20), 10));
+    }
+
+    @Test
+    void removedVectorsAreNeverReturnedAndLeaveTheGraphPastTheFraction() {
+        TestVectors vectors = new TestVectors(6, DIMENSIONS, 32, 0.8f);
+        ExactIndex exact = new ExactIndex();
+        HnswIndex hnsw = new HnswIndex(16, 100, 64, 0, 0.2);
+        for (long id = 0; id < 2000; id++) {
+            float[] vector = vectors.next();
+            exact.add(id, vector);
+            hnsw.add(id, vector);
+        }
+
+        // 15% deleted: only marked, and the wider beam still finds k live hits
+        Set<Long> firstBatch = removeRange(hnsw, exact, 0, 300);
+        assertEquals(2000, hnsw.nodeCount());
+        assertEquals(1700, hnsw.size());
+        List<float[]> queries = vectors.list(50);
+        for (float[] query : queries) {
+            Set<Long> hits = TestVectors.ids(hnsw.search(query, 10));
+            assertEquals(10, hits.size());
+            hits.retainAll(firstBatch);
+            assertTrue(hits.isEmpty(), "removed ids returned: " + hits);
+        }
+        assertTrue(TestVectors.recall(exact, hnsw, queries, 10) > 0.95);
+
+        // 25% deleted: the graph is rebuilt from the live nodes only
+        removeRange(hnsw, exact, 300, 500);
+        assertEquals(1500, hnsw.nodeCount());
+        assertEquals(1500, hnsw.size());
+        double recall = TestVectors.recall(exact, hnsw, queries, 10);
+        assertTrue(recall > 0.95, "recall@10 after the rebuild was " + recall);
+
+        // The rebuilt graph keeps taking inserts
+        float[] added = vectors.next();
+        hnsw.add(5000, added);
+        assertEquals(5000, hnsw.search(added, 1).get(0).id());
+    }
+
+    @Test
+    void addingAnExistingIdIsANoOp() {
+        TestVectors vectors = new TestVectors(4, DIMENSIONS, 4, 0.5f);
+        HnswIndex hnsw = new HnswIndex(8, 50, 32, 0);
+        float[] first = vectors.next();
+        hnsw.add(7, first);
+        hnsw.add(7, vectors.next());
+
+        assertEquals(1, hnsw.size());
+        assertEquals(1.0, hnsw.search(first, 1).get(0).score(), 1e-5);
+    }
+
+    @Test
+    void rejectsVectorsOfAnotherDimension() {
+        HnswIndex hnsw = new HnswIndex(8, 50, 32, 0);
+        hnsw.add(1, new float[DIMENSIONS]);
+
+        assertThrows(IllegalArgumentException.class, () -> hnsw.add(2, new float[DIMENSIONS + 1]));
+        assertThrows(IllegalArgumentException.class, () -> hnsw.search(new float[DIMENSIONS - 1], 1));
+    }
+
+    private static Set<Long> removeRange(HnswIndex hnsw, ExactIndex exact, long from, long to) {
+        Set<Long> removed = new HashSet<>();
+        for (long id = from; id < to; id++) {
+            removed.add(id);
+        }
+        assertEquals(removed.size(), hnsw.removeAll(removed));
+        exact.removeAll(removed);
+        return removed;
+    }
+}
@@ -0,0 +1,156 @@
+package com.example.springaiapp.search;
+
+import org.junit.jupiter.api.Test;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class QuantizedIndexTest {
+    private static final int DIMENSIONS = 128;
+
+    @Test
+    void int8ScoresAreCloseToExactScores() {
+        TestVectors vectors = new TestVectors(11, DIMENSIONS, 16, 0.8f);
+        List<float[]> sample = vectors.list(1000);
+        ScalarQuantizer quantizer = ScalarQuantizer.train(sample);
+
+        assertEquals(DIMENSIONS, quantizer.codeSize());
+        double maxError = maxScoreError(quantizer, sample, vectors.list(20));
+        assertTrue(maxError < 0.01, "largest int8 score error was " + maxError);
+    }
+
+    @Test
+    void productQuantizedScoresAreCloseToExactScores() {
+        TestVectors vectors = new TestVectors(12, DIMENSIONS, 16, 0.8f);
+        List<float[]> sample = vectors.list(1000);
+        ProductQuantizer quantizer = ProductQuantizer.train(sample, 16, 10);
+
+        assertEquals(16, quantizer.codeSize());
+        double maxError = maxScoreError(quantizer, sample, vectors.list(20));
+        assertTrue(maxError < 0.15, "largest PQ score error was " + maxError);
+    }
+
+    @Test
+    void productQuantizerNeedsSubspacesDividingTheDimensions() {
+        List<float[]> sample = new TestVectors(13, DIMENSIONS, 2, 0.5f).list(10);
+
+        assertThrows(IllegalArgumentException.class, () -> ProductQuantizer.train(sample, 7, 1));
+    }
+
+    @Test
+    void rerankedCandidatesContainTheExactTopK() throws InterruptedException {
+        for (QuantizedIndex.Mode mode : QuantizedIndex.Mode.values()) {
+            TestVectors vectors = new TestVectors(14, DIMENSIONS, 32, 0.8f);
+            ExactIndex exact = new ExactIndex();
+            QuantizedIndex quantized = new QuantizedIndex(mode, 16, 500, 0, 1.0);
+            for (long id = 0; id < 2000; id++) {
+                float[] vector = vectors.next();
+                exact.add(id, vector);
+                quantized.add(id, vector);
+            }
+            quantized.awaitTraining();
+
+            // Fetching rerankCandidates(k) and re-scoring them is what the repository does
+            double recall = 0;
+            List<float[]> queries = vectors.list(50);
+            for (float[] query : queries) {
+                var expected = TestVectors.ids(exact.search(query, 10));
+                var candidates = TestVectors.ids(quantized.search(query, quantized.rerankCandidates(10)));
+                candidates.retainAll(expected);
+                recall += candidates.size() / 10.0;
+            }
+            recall /= queries.size();
+            assertTrue(recall > 0.95, mode + " recall of the re-rank candidates was " + recall);
+        }
+    }
+
+    @Test
+    void trainingDoesNotBlockInsertsAndSearchesStayExactUntilDone() throws InterruptedException {
+        TestVectors vectors = new TestVectors(15, DIMENSIONS, 16, 0.8f);
+        QuantizedIndex quantized = new QuantizedIndex(QuantizedIndex.Mode.PQ, 16, 300, 0, 1.0);
+        ExactIndex exact = new ExactIndex();
+        for (long id = 0; id < 1000; id++) {
+            float[] vector = vectors.next();
+            exact.add(id, vector);
+            quantized.add(id, vector);
+            if (!quantized.isTrained()) {
+                // Before the codes are published the uncompressed rows are scanned
+                float[] query = vectors.next();
+                assertEquals(exact.search(query, 1).get(0).id(), quantized.search(query, 1).get(0).id());
+            }
+        }
+
+        quantized.awaitTraining();
+        assertTrue(quantized.isTrained());
+        assertEquals(1000, quantized.size());
+        assertEquals(1000L * 16, quantized.vectorBytes());
+    }
+
+    @Test
+    void retrainsAsTheIndexGrowsAndKeepsRemovalsAndLaterRows() throws InterruptedException {
+        TestVectors early = new TestVectors(16, DIMENSIONS, 4, 0.5f);
+        // Later rows come from other topics, which the first quantizer never saw
+        TestVectors late = new TestVectors(17, DIMENSIONS, 4, 0.5f);
+        Map<Long, float[]> stored = new HashMap<>();
+        QuantizedIndex retrained = new QuantizedIndex(QuantizedIndex.Mode.INT8, 0, 200, 0, 2.0);
+        QuantizedIndex trainedOnce = new QuantizedIndex(QuantizedIndex.Mode.INT8, 0, 200, 0, 1.0);
+        retrained.setVectorSource(stored::get);
+        for (long id = 0; id < 2000; id++) {
+            stored.put(id, id < 200 ? early.next() : late.next());
+            retrained.add(id, stored.get(id));
+            trainedOnce.add(id, stored.get(id));
+            if (id == 199) {
+                retrained.awaitTraining();
+                trainedOnce.awaitTraining();
+            }
+        }
+        retrained.removeAll(Set.of(0L, 1L, 1999L));
+        stored.keySet().removeAll(Set.of(0L, 1L, 1999L));
+        retrained.awaitTraining();
+
+        assertEquals(1997, retrained.size());
+        assertTrue(TestVectors.ids(retrained.search(stored.get(1998L), 1997)).containsAll(stored.keySet()));
+        List<float[]> queries = late.list(20);
+        double errorRetrained = maxIndexError(retrained, stored, queries);
+        double errorTrainedOnce = maxIndexError(trainedOnce, stored, queries);
+        assertTrue(errorRetrained < errorTrainedOnce / 2,
+                   "score error " + errorRetrained + " retrained, " + errorTrainedOnce + " trained once");
+    }
+
+    /**
+     * Largest difference between the index's score and the exact cosine similarity
+     * over the top hits of each query.
+     */
+    private static double maxIndexError(QuantizedIndex index, Map<Long, float[]> stored, List<float[]> queries) {
+        double maxError = 0;
+        for (float[] query : queries) {
+            for (SearchHit hit : index.search(query, 50)) {
+                double exact = VectorMath.dot(query, VectorMath.normalize(stored.get(hit.id())));
+                maxError = Math.max(maxError, Math.abs(hit.score() - exact));
+            }
+        }
+        return maxError;
+    }
+
+    private static double maxScoreError(VectorQuantizer quantizer, List<float[]> stored, List<float[]> queries) {
+        byte[] codes = new byte[stored.size() * quantizer.codeSize()];
+        for (int row = 0; row < stored.size(); row++) {
+            quantizer.encode(stored.get(row), codes, row * quantizer.codeSize());
+        }
+        double maxError = 0;
+        for (float[] query : queries) {
+            VectorQuantizer.Scorer scorer = quantizer.scorer(query);
+            for (int row = 0; row < stored.size(); row++) {
+                double error = Math.abs(scorer.score(codes, row * quantizer.codeSize())
+                    - VectorMath.dot(query, stored.get(row)));
+                maxError = Math.max(maxError, error);
+            }
+        }
+        return maxError;
+    }
+}
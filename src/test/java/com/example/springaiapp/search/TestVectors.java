@@ -0,0 +1,76 @@
+package com.example.springaiapp.search;
+
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Random;
+import java.util.Set;
+
+/**
+ * Clustered unit-length vectors, like real embeddings: every vector is one of
+ * a few random topic centers plus Gaussian noise. Seeded, so every run tests
+ * the same data.
+ */
+final class TestVectors {
+    private final Random random;
+    private final int dimensions;
+    private final float[][] topics;
+    private final float noise;
+
+    TestVectors(long seed, int dimensions, int topicCount, float noise) {
+        this.random = new Random(seed);
+        this.dimensions = dimensions;
+        this.noise = noise;
+        this.topics = new float[topicCount][];
+        for (int t = 0; t < topicCount; t++) {
+            topics[t] = gaussian(1.0f);
+        }
+    }
+
+    float[] next() {
+        float[] topic = topics[random.nextInt(topics.length)];
+        float[] vector = gaussian(noise);
+        for (int i = 0; i < dimensions; i++) {
+            vector[i] += topic[i];
+        }
+        return VectorMath.normalize(vector);
+    }
+
+    List<float[]> list(int count) {
+        List<float[]> vectors = new ArrayList<>(count);
+        for (int i = 0; i < count; i++) {
+            vectors.add(next());
+        }
+        return vectors;
+    }
+
+    /**
+     * Average share of the exact top-k ids that the index under test also returned.
+     */
+    static double recall(VectorIndex reference, VectorIndex index, List<float[]> queries, int k) {
+        double found = 0;
+        for (float[] query : queries) {
+            Set<Long> expected = ids(reference.search(query, k));
+            Set<Long> actual = ids(index.search(query, k));
+            actual.retainAll(expected);
+            found += (double) actual.size() / expected.size();
+        }
+        return found / queries.size();
+    }
+
+    static Set<Long> ids(List<SearchHit> hits) {
+        Set<Long> ids = new HashSet<>();
+        for (SearchHit hit : hits) {
+            ids.add(hit.id());
+        }
+        return ids;
+    }
+
+    private float[] gaussian(float scale) {
+        float[] vector = new float[dimensions];
+        for (int i = 0; i < dimensions; i++) {
+            vector[i] = (float) random.nextGaussian() * scale;
+        }
+        return vector;
+    }
+}
@@ -0,0 +1,22 @@
+package com.example.springaiapp.search;
+
+import org.junit.jupiter.api.Test;
+import java.util.Random;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+class VectorMathTest {
+    private final Random random = new Random(5);
+
+    @Test
+    void normalizesToUnitLength() {
+        float[] vector = new float[100];
+        for (int i = 0; i < vector.length; i++) {
+            vector[i] = (float) random.nextGaussian();
+        }
+        float[] unit = VectorMath.normalize(vector);
+
+        assertEquals(1.0, VectorMath.dot(unit, unit), 1e-5);
+        assertEquals(0.0, VectorMath.dot(VectorMath.normalize(new float[4]), new float[] {1, 1, 1, 1}));
+    }
+}
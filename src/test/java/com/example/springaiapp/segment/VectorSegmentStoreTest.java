@@ -0,0 +1,70 @@
+package com.example.springaiapp.segment;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import java.io.IOException;
+import java.nio.file.Path;
+import java.util.HashMap;
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+
+class VectorSegmentStoreTest {
+    @TempDir
+    Path directory;
+
+    @Test
+    void vectorsAndFingerprintsSurviveAReopen() throws IOException {
+        VectorSegmentStore store = new VectorSegmentStore(directory, 2, 8, false, id -> true);
+        store.open();
+        for (long id = 1; id <= 5; id++) {
+            store.append(id, id * 100, new float[] {id, -id});
+        }
+        store.close();
+
+        VectorSegmentStore reopened = new VectorSegmentStore(directory, 2, 8, true, id -> true);
+        reopened.open();
+        Map<Long, Long> fingerprints = new HashMap<>();
+        reopened.forEach((id, fingerprint, vector) -> {
+            fingerprints.put(id, fingerprint);
+            assertArrayEquals(new float[] {id, -id}, vector);
+        });
+
+        assertEquals(Map.of(1L, 100L, 2L, 200L, 3L, 300L, 4L, 400L, 5L, 500L), fingerprints);
+        assertArrayEquals(new float[] {3, -3}, reopened.get(3));
+        assertNull(reopened.get(6));
+        reopened.close();
+    }
+
+    @Test
+    void newestCopyOfAnIdWinsInReadsAndCompaction() throws IOException {
+        // Every close writes one segment; more than two are compacted
+        appendAndClose(1, 11, new float[] {1, 1});
+        appendAndClose(9, 99, new float[] {9, 9});
+        // The id now belongs to another row, e.g. after TRUNCATE ... RESTART IDENTITY
+        appendAndClose(1, 12, new float[] {2, 2});
+        // Three segments: opening compacts them in the background, closing waits for it
+        VectorSegmentStore compacting = new VectorSegmentStore(directory, 100, 2, false, live -> live != 9);
+        compacting.open();
+        compacting.close();
+
+        VectorSegmentStore result = new VectorSegmentStore(directory, 1, 2, false, id -> true);
+        result.open();
+        Map<Long, Long> fingerprints = new HashMap<>();
+        result.forEach((id, fingerprint, vector) -> fingerprints.put(id, fingerprint));
+
+        assertEquals(1, result.stats().segments());
+        assertEquals(Map.of(1L, 12L), fingerprints); // Row 9 was deleted
+        assertArrayEquals(new float[] {2, 2}, result.get(1));
+        result.close();
+    }
+
+    private void appendAndClose(long id, long fingerprint, float[] vector) throws IOException {
+        VectorSegmentStore store = new VectorSegmentStore(directory, 100, 2, false, live -> live != 9);
+        store.open();
+        store.append(id, fingerprint, vector);
+        store.close();
+    }
+}
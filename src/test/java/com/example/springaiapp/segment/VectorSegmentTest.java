@@ -0,0 +1,118 @@
+package com.example.springaiapp.segment;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class VectorSegmentTest {
+    private static final long[] IDS = {3, 7, 11, 42};
+    private static final long[] FINGERPRINTS = {-1L, 0L, 123456789L, Long.MAX_VALUE};
+    private static final int DIMENSIONS = 5;
+
+    @TempDir
+    Path directory;
+
+    @Test
+    void roundTrip() throws IOException {
+        Path file = write("segment-0000000001.vec");
+
+        VectorSegment segment = VectorSegment.open(file, 1);
+
+        assertEquals(IDS.length, segment.count());
+        assertEquals(DIMENSIONS, segment.dimensions());
+        assertEquals(64 + IDS.length * 16L + IDS.length * DIMENSIONS * 4L, segment.sizeBytes());
+        for (int row = 0; row < IDS.length; row++) {
+            assertEquals(IDS[row], segment.id(row));
+            assertEquals(row, segment.rowOf(IDS[row]));
+            assertEquals(FINGERPRINTS[row], segment.fingerprint(row));
+            assertArrayEquals(vector(row), segment.vector(row));
+            assertArrayEquals(vector(row), segment.get(IDS[row]));
+        }
+        assertEquals(-1, segment.rowOf(8));
+        assertNull(segment.get(100));
+        assertTrue(segment.verifyChecksum());
+    }
+
+    @Test
+    void corruptedBodyFailsTheChecksum() throws IOException {
+        Path file = write("segment-0000000001.vec");
+        // Flip one byte of the last vector
+        try (FileChannel channel = FileChannel.open(file, StandardOpenOption.READ, StandardOpenOption.WRITE)) {
+            long position = channel.size() - 3;
+            ByteBuffer value = ByteBuffer.allocate(1);
+            channel.read(value, position);
+            value.put(0, (byte) (value.get(0) ^ 0x5A)).rewind();
+            channel.write(value, position);
+        }
+
+        VectorSegment segment = VectorSegment.open(file, 1);
+
+        assertFalse(segment.verifyChecksum());
+    }
+
+    @Test
+    void storeDeletesCorruptedSegmentsWhenVerifyingChecksums() throws IOException {
+        Path file = write("segment-0000000001.vec");
+        byte[] bytes = Files.readAllBytes(file);
+        bytes[70] ^= 1; // Inside the id table
+        Files.write(file, bytes);
+
+        VectorSegmentStore store = new VectorSegmentStore(directory, 100, 8, true, id -> true);
+        store.open();
+
+        assertEquals(0, store.stats().segments());
+        assertFalse(Files.exists(file));
+        store.close();
+    }
+
+    @Test
+    void rejectsTruncatedFilesAndOtherVersions() throws IOException {
+        Path file = write("segment-0000000001.vec");
+        byte[] bytes = Files.readAllBytes(file);
+
+        Path truncated = directory.resolve("truncated.vec");
+        Files.write(truncated, java.util.Arrays.copyOf(bytes, bytes.length - 4));
+        assertThrows(IOException.class, () -> VectorSegment.open(truncated, 2));
+
+        Path oldVersion = directory.resolve("old.vec");
+        bytes[8] = 1; // Version 1 segments had no fingerprint table
+        Files.write(oldVersion, bytes);
+        assertThrows(IOException.class, () -> VectorSegment.open(oldVersion, 3));
+    }
+
+    @Test
+    void writerRejectsMismatchedInput() {
+        Path file = directory.resolve("segment-0000000001.vec");
+
+        assertThrows(IllegalArgumentException.class, () ->
+            VectorSegmentWriter.write(file, DIMENSIONS, IDS, new long[] {1}, VectorSegmentTest::vector));
+        assertThrows(IllegalArgumentException.class, () ->
+            VectorSegmentWriter.write(file, DIMENSIONS + 1, IDS, FINGERPRINTS, VectorSegmentTest::vector));
+    }
+
+    private Path write(String name) throws IOException {
+        Path file = directory.resolve(name);
+        VectorSegmentWriter.write(file, DIMENSIONS, IDS, FINGERPRINTS, VectorSegmentTest::vector);
+        return file;
+    }
+
+    private static float[] vector(int row) {
+        float[] vector = new float[DIMENSIONS];
+        for (int i = 0; i < DIMENSIONS; i++) {
+            vector[i] = row * 10 + i + 0.5f;
+        }
+        return vector;
+    }
+}
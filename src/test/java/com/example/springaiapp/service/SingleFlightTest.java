@@ -0,0 +1,129 @@
+package com.example.springaiapp.service;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import java.util.concurrent.CancellationException;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Supplier;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class SingleFlightTest {
+    private final SingleFlight<String, String> singleFlight = new SingleFlight<>();
+    private final ExecutorService callers = Executors.newCachedThreadPool();
+
+    @AfterEach
+    void stopCallers() {
+        callers.shutdownNow();
+    }
+
+    @Test
+    void concurrentCallersShareOneComputation() throws Exception {
+        CountDownLatch release = new CountDownLatch(1);
+        CountDownLatch joined = new CountDownLatch(2);
+        AtomicInteger runs = new AtomicInteger();
+
+        Future<String> leader = call(() -> {
+            runs.incrementAndGet();
+            await(release);
+            return "answer";
+        }, () -> {});
+        awaitInFlight();
+        Future<String> second = call(() -> "not run", joined::countDown);
+        Future<String> third = call(() -> "not run", joined::countDown);
+        assertTrue(joined.await(5, TimeUnit.SECONDS));
+        release.countDown();
+
+        assertEquals("answer", leader.get(5, TimeUnit.SECONDS));
+        assertEquals("answer", second.get(5, TimeUnit.SECONDS));
+        assertEquals("answer", third.get(5, TimeUnit.SECONDS));
+        assertEquals(1, runs.get());
+        assertEquals(0, singleFlight.inFlight());
+    }
+
+    @Test
+    void finishedComputationsAreNotReused() throws InterruptedException {
+        AtomicInteger runs = new AtomicInteger();
+
+        singleFlight.execute("q", () -> "run " + runs.incrementAndGet(), () -> {});
+
+        assertEquals("run 2", singleFlight.execute("q", () -> "run " + runs.incrementAndGet(), () -> {}));
+    }
+
+    @Test
+    void failureReachesEveryWaitingCaller() throws Exception {
+        CountDownLatch release = new CountDownLatch(1);
+        CountDownLatch joined = new CountDownLatch(1);
+        IllegalStateException failure = new IllegalStateException("model unavailable");
+
+        Future<String> leader = call(() -> {
+            await(release);
+            throw failure;
+        }, () -> {});
+        awaitInFlight();
+        Future<String> follower = call(() -> "not run", joined::countDown);
+        assertTrue(joined.await(5, TimeUnit.SECONDS));
+        release.countDown();
+
+        assertSame(failure, causeOf(leader));
+        assertSame(failure, causeOf(follower));
+    }
+
+    @Test
+    void callersOfACancelledLeaderStartOver() throws Exception {
+        CountDownLatch joined = new CountDownLatch(1);
+        AtomicInteger runs = new AtomicInteger();
+
+        Future<String> leader = call(() -> {
+            runs.incrementAndGet();
+            try {
+                new CountDownLatch(1).await(); // Until the deadline interrupts it
+                return "never";
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                throw new CancellationException("deadline passed");
+            }
+        }, () -> {});
+        awaitInFlight();
+        Future<String> follower = call(() -> "run " + runs.incrementAndGet(), joined::countDown);
+        assertTrue(joined.await(5, TimeUnit.SECONDS));
+        leader.cancel(true);
+
+        // The follower still had time, so it computed the answer itself
+        assertEquals("run 2", follower.get(5, TimeUnit.SECONDS));
+        assertEquals(0, singleFlight.inFlight());
+    }
+
+    private Future<String> call(Supplier<String> work, Runnable onShared) {
+        return callers.submit(() -> singleFlight.execute("q", work, onShared));
+    }
+
+    private void awaitInFlight() throws InterruptedException {
+        for (int i = 0; i < 500 && singleFlight.inFlight() == 0; i++) {
+            Thread.sleep(10);
+        }
+        assertEquals(1, singleFlight.inFlight());
+    }
+
+    private static Throwable causeOf(Future<String> future) {
+        return assertThrows(ExecutionException.class, () -> future.get(5, TimeUnit.SECONDS)).getCause();
+    }
+
+    private static void await(CountDownLatch latch) {
+        try {
+            assertTrue(latch.await(10, TimeUnit.SECONDS));
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new CancellationException("interrupted");
+        }
+    }
+}
@@ -0,0 +1,137 @@
+package com.example.springaiapp.web;
+
+import com.example.springaiapp.ratelimit.RateLimitedException;
+import com.example.springaiapp.service.RagService;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.Test;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.context.request.async.DeferredResult;
+import reactor.core.publisher.Flux;
+import java.time.Duration;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Function;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertInstanceOf;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class AskControllerTest {
+    private static final long DEADLINE_MS = 300;
+
+    private final SimpleMeterRegistry registry = new SimpleMeterRegistry();
+
+    @Test
+    void answersAreReturned() throws InterruptedException {
+        AskController controller = answering(question -> "answer to " + question);
+
+        DeferredResult<AskController.AskResponse> result = controller.ask(new AskController.AskRequest("q", false));
+
+        assertEquals(new AskController.AskResponse("answer to q"), awaitResult(result));
+    }
+
+    @Test
+    void rateLimitedAnswersAreServiceUnavailable() throws InterruptedException {
+        AskController controller = answering(question -> {
+            throw new IllegalStateException("chat failed",
+                new RateLimitedException("Too many requests", Duration.ofMillis(1500)));
+        });
+
+        ResponseEntity<AskController.ErrorResponse> response = failure(controller);
+
+        assertEquals(HttpStatus.SERVICE_UNAVAILABLE, response.getStatusCode());
+        assertEquals("2", response.getHeaders().getFirst(HttpHeaders.RETRY_AFTER));
+    }
+
+    @Test
+    void otherFailuresAreBadGateway() throws InterruptedException {
+        AskController controller = answering(question -> {
+            throw new IllegalStateException("connection refused");
+        });
+
+        ResponseEntity<AskController.ErrorResponse> response = failure(controller);
+
+        assertEquals(HttpStatus.BAD_GATEWAY, response.getStatusCode());
+        assertTrue(response.getBody().error().contains("connection refused"));
+    }
+
+    @Test
+    void slowStreamsAreCutOffAtTheDeadline() throws InterruptedException {
+        CountDownLatch cancelled = new CountDownLatch(1);
+        AtomicInteger tokens = new AtomicInteger();
+        // Each token arrives well within the deadline, but the whole answer takes forever
+        AskController controller = streaming(question -> Flux.interval(Duration.ofMillis(50))
+            .map(i -> "token ")
+            .doOnNext(token -> tokens.incrementAndGet())
+            .doOnCancel(cancelled::countDown));
+
+        long start = System.nanoTime();
+        controller.askStream("q", false);
+
+        assertTrue(cancelled.await(5, TimeUnit.SECONDS), "stream was not cut off");
+        long elapsedMs = TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - start);
+        assertTrue(elapsedMs >= DEADLINE_MS - 50 && elapsedMs < DEADLINE_MS + 1000, "cut off after " + elapsedMs + " ms");
+        assertTrue(tokens.get() > 0);
+        awaitIdle();
+    }
+
+    private ResponseEntity<AskController.ErrorResponse> failure(AskController controller) throws InterruptedException {
+        Object error = awaitResult(controller.ask(new AskController.AskRequest("q", false)));
+        return controller.upstreamFailed(assertInstanceOf(UpstreamException.class, error));
+    }
+
+    private AskController answering(Function<String, String> answers) {
+        return controller(new StubRagService(answers, question -> Flux.empty()));
+    }
+
+    private AskController streaming(Function<String, Flux<String>> stream) {
+        return controller(new StubRagService(question -> "", stream));
+    }
+
+    private AskController controller(RagService ragService) {
+        return new AskController(ragService, registry, 1, 10, 1000, DEADLINE_MS, false);
+    }
+
+    private static Object awaitResult(DeferredResult<?> result) throws InterruptedException {
+        for (int i = 0; i < 500 && !result.hasResult(); i++) {
+            Thread.sleep(10);
+        }
+        assertTrue(result.hasResult());
+        return result.getResult();
+    }
+
+    private void awaitIdle() throws InterruptedException {
+        for (int i = 0; i < 500 && active() != 0; i++) {
+            Thread.sleep(10);
+        }
+        assertEquals(0, active(), "the stream's slot was not released");
+    }
+
+    private double active() {
+        return registry.get("rag.ask.active").gauge().value();
+    }
+
+    private static final class StubRagService extends RagService {
+        private final Function<String, String> answers;
+        private final Function<String, Flux<String>> stream;
+
+        StubRagService(Function<String, String> answers, Function<String, Flux<String>> stream) {
+            super(null, null, null, null, null, null, null);
+            this.answers = answers;
+            this.stream = stream;
+        }
+
+        @Override
+        public String answerQuery(String query, boolean bypassAnswerCache) {
+            return answers.apply(query);
+        }
+
+        @Override
+        public Flux<String> processQueryStream(String query, boolean bypassAnswerCache) {
+            return stream.apply(query);
+        }
+    }
+}
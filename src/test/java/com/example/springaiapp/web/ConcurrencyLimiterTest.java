@@ -0,0 +1,82 @@
+package com.example.springaiapp.web;
+
+import org.junit.jupiter.api.Test;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertInstanceOf;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class ConcurrencyLimiterTest {
+    private static final long LONG_WAIT = TimeUnit.SECONDS.toNanos(30);
+
+    @Test
+    void queuedRequestsGetFreedSlotsInArrivalOrder() throws Exception {
+        ConcurrencyLimiter limiter = new ConcurrencyLimiter(1, 2);
+        CompletableFuture<ConcurrencyLimiter.Permit> first = limiter.acquireAsync(LONG_WAIT);
+        CompletableFuture<ConcurrencyLimiter.Permit> second = limiter.acquireAsync(LONG_WAIT);
+        CompletableFuture<ConcurrencyLimiter.Permit> third = limiter.acquireAsync(LONG_WAIT);
+
+        assertTrue(first.isDone());
+        assertFalse(second.isDone());
+        assertEquals(1, limiter.active());
+        assertEquals(2, limiter.queued());
+
+        first.get().close();
+        first.get().close(); // A second close releases nothing more
+        assertTrue(second.isDone());
+        assertFalse(third.isDone());
+
+        second.get().close();
+        third.get().close();
+        assertEquals(0, limiter.active());
+        assertEquals(0, limiter.queued());
+    }
+
+    @Test
+    void rejectsWhenTheQueueIsFull() {
+        ConcurrencyLimiter limiter = new ConcurrencyLimiter(1, 1);
+        limiter.acquireAsync(LONG_WAIT);
+        limiter.acquireAsync(LONG_WAIT);
+
+        assertThrows(OverloadedException.class, () -> limiter.acquireAsync(LONG_WAIT));
+        assertEquals(1, limiter.rejected());
+    }
+
+    @Test
+    void waitersTimeOutAndLeaveTheQueue() throws Exception {
+        ConcurrencyLimiter limiter = new ConcurrencyLimiter(1, 1);
+        CompletableFuture<ConcurrencyLimiter.Permit> running = limiter.acquireAsync(LONG_WAIT);
+        CompletableFuture<ConcurrencyLimiter.Permit> waiting = limiter.acquireAsync(TimeUnit.MILLISECONDS.toNanos(20));
+
+        ExecutionException failure = assertThrows(ExecutionException.class, () -> waiting.get(5, TimeUnit.SECONDS));
+        assertInstanceOf(OverloadedException.class, failure.getCause());
+        assertEquals(0, limiter.queued());
+        assertEquals(1, limiter.rejected());
+
+        // The freed slot is not handed to the waiter that gave up
+        running.get().close();
+        assertEquals(0, limiter.active());
+    }
+
+    @Test
+    void cancelledWaitersGiveUpTheirPlace() throws Exception {
+        ConcurrencyLimiter limiter = new ConcurrencyLimiter(1, 2);
+        CompletableFuture<ConcurrencyLimiter.Permit> running = limiter.acquireAsync(LONG_WAIT);
+        CompletableFuture<ConcurrencyLimiter.Permit> cancelled = limiter.acquireAsync(LONG_WAIT);
+        CompletableFuture<ConcurrencyLimiter.Permit> next = limiter.acquireAsync(LONG_WAIT);
+
+        cancelled.cancel(false);
+        assertEquals(1, limiter.queued());
+        running.get().close();
+
+        assertTrue(next.isDone());
+        assertEquals(1, limiter.active());
+        assertEquals(0, limiter.rejected());
+        next.get().close();
+    }
+}